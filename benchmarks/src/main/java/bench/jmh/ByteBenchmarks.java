@@ -0,0 +1,67 @@
+package bench.jmh;
+
+import algorithms.Cipher;
+import algorithms.ParallelCipher;
+import exceptions.InvalidKeyException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encrypts and decrypts raw bytes (binary mode) with every length-preserving
+ * cipher, on one thread and on the parallel engine, from 64 B to 1 GB
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Thread)
+public class ByteBenchmarks {
+
+    @Param({ "caesar", "xor", "repeating-xor", "substitution", "chain" })
+    public String cipher;
+
+    @Param({ "64", "1024", "65536", "1048576", "67108864", "1073741824" })
+    public int size;
+
+    private Cipher engine;
+    private Cipher parallel;
+    private byte[] src;
+    private byte[] dst;
+
+    @Setup
+    public void setUp() throws InvalidKeyException {
+        engine = Payloads.cipher(cipher);
+        parallel = new ParallelCipher(engine);
+        src = Payloads.bytes(size);
+        dst = new byte[size];
+    }
+
+    @Benchmark
+    public byte[] encryptInto() throws InvalidKeyException {
+        engine.encryptInto(src, 0, src.length, dst, 0, Payloads.KEY);
+        return dst;
+    }
+
+    @Benchmark
+    public byte[] decryptInto() throws InvalidKeyException {
+        engine.decryptInto(src, 0, src.length, dst, 0, Payloads.KEY);
+        return dst;
+    }
+
+    @Benchmark
+    public byte[] encryptParallel() throws InvalidKeyException {
+        parallel.encryptInto(src, 0, src.length, dst, 0, Payloads.KEY);
+        return dst;
+    }
+}
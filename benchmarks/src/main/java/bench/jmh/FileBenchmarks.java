@@ -0,0 +1,110 @@
+package bench.jmh;
+
+import algorithms.Cipher;
+import algorithms.ParallelCipher;
+import io.FileHandler;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * File I/O through FileHandler with the Caesar cipher: whole-file reads and
+ * writes, streamed, binary and memory-mapped processing, and the chunked
+ * container with a range decrypt from its middle.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FileBenchmarks {
+
+    @Param({ "1024", "1048576", "67108864" })
+    public int size;
+
+    private Path workDir;
+    private String input;
+    private String output;
+    private String container;
+    private String content;
+    private Cipher cipher;
+    private Cipher parallel;
+
+    @Setup
+    public void setUp() throws Exception {
+        workDir = Files.createTempDirectory("cipherguard-jmh");
+        input = workDir.resolve("input.txt").toString();
+        output = workDir.resolve("output.txt").toString();
+        container = workDir.resolve("container.cgc").toString();
+        content = Payloads.text(size, true);
+        FileHandler.writeFile(input, content);
+        cipher = Payloads.cipher("caesar");
+        parallel = new ParallelCipher(cipher);
+        FileHandler.encryptToContainer(input, container, parallel, Payloads.KEY);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(workDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(workDir);
+    }
+
+    @Benchmark
+    public String readFile() throws IOException {
+        return FileHandler.readFile(input);
+    }
+
+    @Benchmark
+    public void writeFile() throws IOException {
+        FileHandler.writeFile(output, content);
+    }
+
+    @Benchmark
+    public void processFile() throws Exception {
+        FileHandler.processFile(input, output, cipher, Payloads.KEY, true);
+    }
+
+    @Benchmark
+    public void processFileParallel() throws Exception {
+        FileHandler.processFile(input, output, parallel, Payloads.KEY, true);
+    }
+
+    @Benchmark
+    public void processBinaryFile() throws Exception {
+        FileHandler.processBinaryFile(input, output, cipher, Payloads.KEY, true);
+    }
+
+    @Benchmark
+    public void mapFile() throws Exception {
+        FileHandler.mapFile(input, output, cipher, Payloads.KEY, true);
+    }
+
+    @Benchmark
+    public void containerWrite() throws Exception {
+        FileHandler.encryptToContainer(input, output, parallel, Payloads.KEY);
+    }
+
+    @Benchmark
+    public byte[] containerRange() throws Exception {
+        return FileHandler.decryptRange(container, size / 2, Math.min(4096, size / 2), parallel, Payloads.KEY);
+    }
+}
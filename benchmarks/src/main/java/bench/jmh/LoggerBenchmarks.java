@@ -0,0 +1,47 @@
+package bench.jmh;
+
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import util.Logger;
+
+/**
+ * Cost of Logger.log to the caller, which only enqueues; the log file goes to
+ * the temp directory so runs do not grow activity.log.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggerBenchmarks {
+
+    @Setup
+    public void setUp() {
+        // Read once, when Logger is first loaded by the benchmark below
+        System.setProperty("cipherguard.log",
+                Paths.get(System.getProperty("java.io.tmpdir"), "cipherguard-jmh.log").toString());
+    }
+
+    @Benchmark
+    public void log() {
+        Logger.log("Caesar Cipher encrypted file to /tmp/benchmark.txt");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void logContended() {
+        Logger.log("Caesar Cipher encrypted file to /tmp/benchmark.txt");
+    }
+}
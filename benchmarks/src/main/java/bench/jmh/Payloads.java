@@ -0,0 +1,73 @@
+package bench.jmh;
+
+import algorithms.Cipher;
+import algorithms.CipherRegistry;
+import exceptions.InvalidKeyException;
+import java.util.Random;
+
+/**
+ * Inputs shared by the JMH benchmarks: the same sample text and keys as
+ * bench.CipherBenchmark, so the two sets of numbers can be compared.
+ */
+final class Payloads {
+
+    /** Numeric key of the classical ciphers */
+    static final int KEY = 7;
+
+    private static final String MAPPING = "QWERTYUIOPASDFGHJKLZXCVBNM";
+    private static final String XOR_KEY = "a 23-byte benchmark key";
+    private static final String PASSWORD = "benchmark password";
+
+    private Payloads() {
+    }
+
+    /**
+     * @param id cipher id from the registry
+     * @return the cipher, with the benchmark text key where it takes one
+     */
+    static Cipher cipher(String id) throws InvalidKeyException {
+        switch (id) {
+            case "substitution":
+                return CipherRegistry.get(id, MAPPING);
+            case "repeating-xor":
+                return CipherRegistry.get(id, XOR_KEY);
+            case "chain":
+                return CipherRegistry.get(id, "caesar:3,substitution:" + MAPPING + ",xor:7");
+            case "aes-gcm":
+            case "chacha20-poly1305":
+                return CipherRegistry.get(id, PASSWORD);
+            default:
+                return CipherRegistry.get(id, null);
+        }
+    }
+
+    /**
+     * @param size  number of characters
+     * @param ascii true for English text, false for mixed European and Asian scripts
+     */
+    static String text(int size, boolean ascii) {
+        String words = ascii
+                ? "The quick brown fox jumps over the lazy dog. 0123456789\n"
+                : "Grüße aus Köln, naïve café — Ωμέγα, "
+                        + "Привет, 東京へようこそ。\n";
+        StringBuilder text = new StringBuilder(size);
+        Random random = new Random(42);
+        while (text.length() < size) {
+            text.append(words.charAt(random.nextInt(words.length())));
+        }
+        return text.toString();
+    }
+
+    /**
+     * @return {@code size} bytes of ASCII sample text
+     */
+    static byte[] bytes(int size) {
+        byte[] bytes = new byte[size];
+        String words = "The quick brown fox jumps over the lazy dog. 0123456789\n";
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) words.charAt(random.nextInt(words.length()));
+        }
+        return bytes;
+    }
+}
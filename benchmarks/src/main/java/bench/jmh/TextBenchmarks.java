@@ -0,0 +1,86 @@
+package bench.jmh;
+
+import algorithms.Cipher;
+import algorithms.ParallelCipher;
+import exceptions.InvalidKeyException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encrypts and decrypts text with every length-preserving cipher, through the
+ * String methods, the allocation-free char[] methods and the parallel engine.
+ * A 1 GB payload needs about 7 GB of heap:
+ * {@code -p size=1073741824 -jvmArgsAppend -Xmx8g}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TextBenchmarks {
+
+    @Param({ "caesar", "xor", "repeating-xor", "substitution", "chain" })
+    public String cipher;
+
+    @Param({ "64", "1024", "65536", "1048576", "67108864" })
+    public int size;
+
+    @Param({ "ascii", "unicode" })
+    public String charset;
+
+    private Cipher engine;
+    private Cipher parallel;
+    private String plain;
+    private String encrypted;
+    private char[] src;
+    private char[] dst;
+
+    @Setup
+    public void setUp() throws InvalidKeyException {
+        engine = Payloads.cipher(cipher);
+        parallel = new ParallelCipher(engine);
+        plain = Payloads.text(size, charset.equals("ascii"));
+        encrypted = engine.encrypt(plain, Payloads.KEY);
+        src = plain.toCharArray();
+        dst = new char[src.length];
+    }
+
+    @Benchmark
+    public String encryptString() throws InvalidKeyException {
+        return engine.encrypt(plain, Payloads.KEY);
+    }
+
+    @Benchmark
+    public String decryptString() throws InvalidKeyException {
+        return engine.decrypt(encrypted, Payloads.KEY);
+    }
+
+    @Benchmark
+    public char[] encryptInto() throws InvalidKeyException {
+        engine.encryptInto(src, 0, src.length, dst, 0, Payloads.KEY);
+        return dst;
+    }
+
+    @Benchmark
+    public char[] decryptInto() throws InvalidKeyException {
+        engine.decryptInto(src, 0, src.length, dst, 0, Payloads.KEY);
+        return dst;
+    }
+
+    @Benchmark
+    public char[] encryptParallel() throws InvalidKeyException {
+        parallel.encryptInto(src, 0, src.length, dst, 0, Payloads.KEY);
+        return dst;
+    }
+}
@@ -0,0 +1,69 @@
+package bench.jmh;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs every benchmark method once on the smallest payloads, so a broken
+ * setup or a failing cipher shows up in the build rather than after a long JMH run
+ */
+class BenchmarkSmokeTest {
+
+    private static final String[] CIPHERS = { "caesar", "xor", "repeating-xor", "substitution", "chain" };
+
+    @Test
+    void textBenchmarksRoundTrip() throws Exception {
+        for (String cipher : CIPHERS) {
+            for (String charset : new String[] { "ascii", "unicode" }) {
+                TextBenchmarks bench = new TextBenchmarks();
+                bench.cipher = cipher;
+                bench.size = 1024;
+                bench.charset = charset;
+                bench.setUp();
+                String encrypted = bench.encryptString();
+                assertEquals(1024, encrypted.length());
+                assertEquals(Payloads.text(1024, charset.equals("ascii")), bench.decryptString());
+                char[] into = bench.encryptInto().clone();
+                assertArrayEquals(into, bench.encryptParallel(), cipher);
+                assertEquals(encrypted, new String(into), cipher);
+                bench.decryptInto();
+            }
+        }
+    }
+
+    @Test
+    void byteBenchmarksAgree() throws Exception {
+        for (String cipher : CIPHERS) {
+            ByteBenchmarks bench = new ByteBenchmarks();
+            bench.cipher = cipher;
+            bench.size = 65536;
+            bench.setUp();
+            byte[] into = bench.encryptInto().clone();
+            assertArrayEquals(into, bench.encryptParallel(), cipher);
+            bench.decryptInto();
+        }
+    }
+
+    @Test
+    void fileBenchmarksRunAndCleanUp() throws Exception {
+        FileBenchmarks bench = new FileBenchmarks();
+        bench.size = 1024;
+        bench.setUp();
+        try {
+            assertEquals(1024, bench.readFile().length());
+            bench.writeFile();
+            bench.processFile();
+            bench.processFileParallel();
+            bench.processBinaryFile();
+            bench.mapFile();
+            bench.containerWrite();
+            assertEquals(Payloads.text(1024, true).substring(512),
+                    new String(bench.containerRange(), StandardCharsets.US_ASCII));
+        } finally {
+            bench.tearDown();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package algorithms;
+
+import exceptions.InvalidKeyException;
+import java.security.spec.AlgorithmParameterSpec;
+import javax.crypto.spec.GCMParameterSpec;
+
+/**
+ * AES-256 in Galois/Counter Mode with a password-derived key. HotSpot runs the
+ * JDK's AES and GHASH code on the AES-NI and carry-less multiply instructions
+ * of the CPU, so this is the fastest authenticated cipher on most x86 and ARM
+ * machines. See {@link AuthenticatedCipher} for the format.
+ */
+public class AesGcmCipher extends AuthenticatedCipher {
+
+    public AesGcmCipher(String password) throws InvalidKeyException {
+        this(password, DEFAULT_ITERATIONS);
+    }
+
+    public AesGcmCipher(String password, int iterations) throws InvalidKeyException {
+        super(password, iterations);
+    }
+
+    @Override
+    protected int getAlgorithmId() {
+        return 1;
+    }
+
+    @Override
+    protected String getTransformation() {
+        return "AES/GCM/NoPadding";
+    }
+
+    @Override
+    protected String getKeyAlgorithm() {
+        return "AES";
+    }
+
+    @Override
+    protected AlgorithmParameterSpec parameters(byte[] nonce) {
+        return new GCMParameterSpec(TAG_SIZE * 8, nonce);
+    }
+
+    @Override
+    public String getName() {
+        return "AES-GCM Cipher";
+    }
+
+    @Override
+    public String toString() {
+        return "Cipher: AES-GCM Cipher";
+    }
+}
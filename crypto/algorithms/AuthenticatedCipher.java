@@ -0,0 +1,854 @@
+package algorithms;
+
+import exceptions.InvalidKeyException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Mac;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import util.Metrics;
+import util.OperationStats;
+
+/**
+ * Base class of the authenticated ciphers, which encrypt with a key derived
+ * from a password and detect any change to the cipher text. The work is done
+ * by the JDK's JCE provider, which uses the CPU's AES and carry-less multiply
+ * instructions where it has them.
+ *
+ * Cipher text is binary and longer than the plain text (see
+ * {@link #isLengthPreserving()}). The character methods (String, Reader and
+ * Writer, char arrays and buffers) encrypt the UTF-8 bytes of the text and
+ * write the cipher text Base64 encoded; the byte methods write it as is. The
+ * array and buffer methods need room for the whole output and always start at
+ * the beginning of the stream. The stream format is a header followed by segments:
+ *
+ * <pre>
+ * header   "CGAE", version 1, algorithm id, log2 of the segment size, 0,
+ *          PBKDF2 iterations (int), PBKDF2 salt (16 bytes), file salt (16 bytes)
+ * segment  up to {@link #SEGMENT_SIZE} bytes of cipher text, then a 16-byte tag
+ * </pre>
+ *
+ * The password goes through PBKDF2-HMAC-SHA256 once per salt, and each stream
+ * gets its own key, the HMAC of the header under the password key. Segment
+ * {@code i} uses the nonce {@code 0^7 || i || last}, with the header as
+ * associated data, so segments are authenticated independently and can be
+ * processed on all cores, yet cannot be reordered, dropped or cut off
+ * without detection. Only whole segments are released, and only once their
+ * tag has been checked.
+ *
+ * The PBKDF2 salt is chosen once per instance, so files encrypted by the same
+ * instance, such as all files of a batch, share the slow derivation. Derived keys are cached, which
+ * keeps instances safe to share but means they hold key material in memory.
+ */
+public abstract class AuthenticatedCipher extends Cipher {
+
+    /** Bytes of plain text per segment */
+    public static final int SEGMENT_SIZE = 64 * 1024;
+
+    /** PBKDF2 iterations for new cipher text, set with {@code -Dcipherguard.pbkdf2.iterations} */
+    public static final int DEFAULT_ITERATIONS = Integer.getInteger("cipherguard.pbkdf2.iterations", 600000);
+
+    /** Size of the stream header */
+    public static final int HEADER_SIZE = 44;
+
+    /** Size of the authentication tag after every segment */
+    public static final int TAG_SIZE = 16;
+
+    private static final byte[] MAGIC = { 'C', 'G', 'A', 'E' };
+    private static final int VERSION = 1;
+    private static final int SALT_SIZE = 16;
+    private static final int NONCE_SIZE = 12;
+    private static final int KEY_BITS = 256;
+    private static final int MAX_ITERATIONS = 10000000; // bounds the work a crafted header can cause
+    private static final int SEGMENTS_PER_WORKER = 4;
+    private static final int KEY_CACHE_SIZE = 16;
+    private static final int SEGMENT_SHIFT = Integer.numberOfTrailingZeros(SEGMENT_SIZE);
+    private static final int TEXT_BUFFER_SIZE = 8192;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final char[] password;
+    private final int iterations;
+    private final byte[] salt; // PBKDF2 salt of everything this instance encrypts
+    private final ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    // Password keys by PBKDF2 salt; guarded by itself, least recently used first
+    private final Map<String, byte[]> passwordKeys = new LinkedHashMap<String, byte[]>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+            return size() > KEY_CACHE_SIZE;
+        }
+    };
+
+    /**
+     * @param password   password the keys are derived from
+     * @param iterations PBKDF2 iterations for cipher text written by this instance
+     * @throws InvalidKeyException      if the password is empty
+     * @throws IllegalArgumentException if the iteration count is out of range, or
+     *                                  this Java runtime lacks the algorithm
+     */
+    protected AuthenticatedCipher(String password, int iterations) throws InvalidKeyException {
+        if (password == null || password.isEmpty()) {
+            throw new InvalidKeyException("Password must not be empty");
+        }
+        if (iterations < 1 || iterations > MAX_ITERATIONS) {
+            throw new IllegalArgumentException("PBKDF2 iterations must be between 1 and " + MAX_ITERATIONS);
+        }
+        try {
+            javax.crypto.Cipher.getInstance(getTransformation());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException(getName() + " is not supported by this Java runtime");
+        }
+        this.password = password.toCharArray();
+        this.iterations = iterations;
+        salt = new byte[SALT_SIZE];
+        RANDOM.nextBytes(salt);
+    }
+
+    /**
+     * @return algorithm id stored in the header
+     */
+    protected abstract int getAlgorithmId();
+
+    /**
+     * @return JCE transformation, e.g. "AES/GCM/NoPadding"
+     */
+    protected abstract String getTransformation();
+
+    /**
+     * @return JCE key algorithm, e.g. "AES"
+     */
+    protected abstract String getKeyAlgorithm();
+
+    /**
+     * @return the JCE parameters for one segment's 12-byte nonce and 16-byte tag
+     */
+    protected abstract AlgorithmParameterSpec parameters(byte[] nonce);
+
+    @Override
+    public boolean isLengthPreserving() {
+        return false;
+    }
+
+    /**
+     * Encrypts the UTF-8 bytes of the text
+     *
+     * @return the cipher text, Base64 encoded
+     */
+    @Override
+    public String encrypt(String text, int key) throws InvalidKeyException {
+        byte[] plain = text.getBytes(StandardCharsets.UTF_8);
+        return Base64.getEncoder().encodeToString(transform(plain, 0, plain.length, key, true));
+    }
+
+    /**
+     * Decrypts Base64 cipher text made by {@link #encrypt(String, int)}; line
+     * breaks and other characters outside the Base64 alphabet are skipped
+     *
+     * @throws InvalidKeyException      if the password is wrong or the text was changed
+     * @throws IllegalArgumentException if the text is not cipher text of this cipher
+     */
+    @Override
+    public String decrypt(String text, int key) throws InvalidKeyException {
+        byte[] sealed = Base64.getMimeDecoder().decode(text);
+        return new String(transform(sealed, 0, sealed.length, key, false), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Encrypts the UTF-8 bytes of the text read from {@code in} and writes the
+     * cipher text to {@code out} Base64 encoded, as {@link #encrypt(String, int)}
+     * does, without holding the text in memory
+     */
+    @Override
+    public void encrypt(Reader in, Writer out, int key) throws InvalidKeyException, IOException {
+        OutputStream base64 = Base64.getEncoder().wrap(new AsciiOutputStream(out));
+        encrypt(new Utf8Channel(in), Channels.newChannel(base64), key);
+        base64.close(); // writes the final padding; out stays open
+        out.flush();
+    }
+
+    /**
+     * Decrypts Base64 cipher text read from {@code in}, as made by
+     * {@link #encrypt(Reader, Writer, int)}, and writes the plain text to {@code out}
+     *
+     * @throws InvalidKeyException if the password is wrong or the text was changed
+     * @throws IOException         if the input is not cipher text of this cipher, or reading or writing fails
+     */
+    @Override
+    public void decrypt(Reader in, Writer out, int key) throws InvalidKeyException, IOException {
+        InputStream sealed = Base64.getMimeDecoder().wrap(new AsciiInputStream(in));
+        Utf8Sink plain = new Utf8Sink(out);
+        decrypt(Channels.newChannel(sealed), plain, key);
+        plain.finish();
+        out.flush();
+    }
+
+    /**
+     * Encrypts {@code len} characters as {@link #encrypt(String, int)} does and
+     * writes the Base64 cipher text, which is longer than the input, to {@code dst}
+     *
+     * @return the number of characters written
+     * @throws IndexOutOfBoundsException if the cipher text does not fit in {@code dst}
+     */
+    @Override
+    public int encryptInto(char[] src, int srcOff, int len, char[] dst, int dstOff, int key)
+            throws InvalidKeyException {
+        return copyInto(encrypt(new String(src, srcOff, len), key), dst, dstOff);
+    }
+
+    /**
+     * Decrypts {@code len} characters of Base64 cipher text as
+     * {@link #decrypt(String, int)} does and writes the plain text to {@code dst}
+     *
+     * @return the number of characters written
+     * @throws IndexOutOfBoundsException if the plain text does not fit in {@code dst}
+     */
+    @Override
+    public int decryptInto(char[] src, int srcOff, int len, char[] dst, int dstOff, int key)
+            throws InvalidKeyException {
+        return copyInto(decrypt(new String(src, srcOff, len), key), dst, dstOff);
+    }
+
+    /**
+     * Encrypts the remaining characters of {@code src} as {@link #encrypt(String, int)}
+     * does and puts the Base64 cipher text into {@code dst}
+     *
+     * @return the number of characters written
+     * @throws BufferOverflowException if the cipher text does not fit; neither buffer is changed
+     */
+    @Override
+    public int encryptInto(CharBuffer src, CharBuffer dst, int key) throws InvalidKeyException {
+        return putInto(encrypt(src.toString(), key), src, dst);
+    }
+
+    /**
+     * Decrypts the remaining Base64 cipher text of {@code src} as
+     * {@link #decrypt(String, int)} does and puts the plain text into {@code dst}
+     *
+     * @return the number of characters written
+     * @throws BufferOverflowException if the plain text does not fit; neither buffer is changed
+     */
+    @Override
+    public int decryptInto(CharBuffer src, CharBuffer dst, int key) throws InvalidKeyException {
+        return putInto(decrypt(src.toString(), key), src, dst);
+    }
+
+    /**
+     * Encrypts {@code len} bytes into a whole stream (header, segments and tags)
+     * written to {@code dst}
+     *
+     * @return the number of bytes written, {@link #HEADER_SIZE} and a tag per segment more than {@code len}
+     * @throws IndexOutOfBoundsException if the cipher text does not fit in {@code dst}
+     */
+    @Override
+    public int encryptInto(byte[] src, int srcOff, int len, byte[] dst, int dstOff, int key)
+            throws InvalidKeyException {
+        return copyInto(transform(src, srcOff, len, key, true), dst, dstOff);
+    }
+
+    /**
+     * Decrypts and verifies a whole stream of {@code len} bytes, as written by
+     * {@link #encryptInto(byte[], int, int, byte[], int, int)}, into {@code dst}
+     *
+     * @return the number of bytes written
+     * @throws InvalidKeyException       if the password is wrong or the data was changed
+     * @throws IllegalArgumentException  if the bytes are not cipher text of this cipher
+     * @throws IndexOutOfBoundsException if the plain text does not fit in {@code dst}
+     */
+    @Override
+    public int decryptInto(byte[] src, int srcOff, int len, byte[] dst, int dstOff, int key)
+            throws InvalidKeyException {
+        return copyInto(transform(src, srcOff, len, key, false), dst, dstOff);
+    }
+
+    /**
+     * Encrypts the remaining bytes of {@code src} into a whole stream put into {@code dst}
+     *
+     * @param position must be 0: a stream cannot be encrypted in parts
+     * @throws BufferOverflowException if the cipher text does not fit; neither buffer is changed
+     */
+    @Override
+    public int encryptInto(ByteBuffer src, ByteBuffer dst, int key, long position) throws InvalidKeyException {
+        return putInto(src, dst, key, position, true);
+    }
+
+    /**
+     * Decrypts and verifies the whole stream remaining in {@code src} into {@code dst}
+     *
+     * @param position must be 0: a stream cannot be decrypted in parts
+     * @throws BufferOverflowException if the plain text does not fit; neither buffer is changed
+     */
+    @Override
+    public int decryptInto(ByteBuffer src, ByteBuffer dst, int key, long position) throws InvalidKeyException {
+        return putInto(src, dst, key, position, false);
+    }
+
+    // Encrypts or decrypts a whole stream held in memory
+    private byte[] transform(byte[] src, int off, int len, int key, boolean encrypt) throws InvalidKeyException {
+        ReadableByteChannel in = Channels.newChannel(new ByteArrayInputStream(src, off, len));
+        ByteArrayOutputStream out = new ByteArrayOutputStream(
+                encrypt ? HEADER_SIZE + len + (len / SEGMENT_SIZE + 1) * TAG_SIZE : len);
+        try {
+            if (encrypt) {
+                encrypt(in, Channels.newChannel(out), key);
+            } else {
+                decrypt(in, Channels.newChannel(out), key);
+            }
+        } catch (IOException e) {
+            // In-memory streams only fail on input that is not cipher text
+            throw new IllegalArgumentException(e.getMessage());
+        }
+        return out.toByteArray();
+    }
+
+    private int putInto(ByteBuffer src, ByteBuffer dst, int key, long position, boolean encrypt)
+            throws InvalidKeyException {
+        if (position != 0) {
+            throw new IllegalArgumentException(getName() + " cannot start part way into a stream");
+        }
+        byte[] bytes = new byte[src.remaining()];
+        src.duplicate().get(bytes);
+        byte[] result = transform(bytes, 0, bytes.length, key, encrypt);
+        if (dst.remaining() < result.length) {
+            throw new BufferOverflowException();
+        }
+        src.position(src.limit());
+        dst.put(result);
+        return result.length;
+    }
+
+    private static int putInto(String result, CharBuffer src, CharBuffer dst) {
+        if (dst.remaining() < result.length()) {
+            throw new BufferOverflowException();
+        }
+        src.position(src.limit());
+        dst.put(result);
+        return result.length();
+    }
+
+    private static int copyInto(String result, char[] dst, int dstOff) {
+        checkRoom(dst.length, dstOff, result.length());
+        result.getChars(0, result.length(), dst, dstOff);
+        return result.length();
+    }
+
+    private static int copyInto(byte[] result, byte[] dst, int dstOff) {
+        checkRoom(dst.length, dstOff, result.length);
+        System.arraycopy(result, 0, dst, dstOff, result.length);
+        return result.length;
+    }
+
+    private static void checkRoom(int length, int off, int needed) {
+        if (off < 0 || off > length - needed) {
+            throw new IndexOutOfBoundsException("Output of " + needed + " at " + off
+                    + " out of bounds for length " + length);
+        }
+    }
+
+    /**
+     * Encrypts every byte readable from {@code in} into {@code out}, segment by
+     * segment on all cores
+     *
+     * @param key not used; the key comes from the password
+     */
+    @Override
+    public void encrypt(ReadableByteChannel in, WritableByteChannel out, int key)
+            throws InvalidKeyException, IOException {
+        OperationStats metrics = Metrics.cipher(getName());
+        long start = System.nanoTime();
+        try {
+            byte[] header = new byte[HEADER_SIZE];
+            byte[] fileSalt = new byte[SALT_SIZE];
+            RANDOM.nextBytes(fileSalt);
+            writeHeader(header, SEGMENT_SHIFT, iterations, salt, fileSalt);
+            SecretKeySpec fileKey = fileKey(header, passwordKey(salt, iterations));
+            writeFully(out, header, HEADER_SIZE);
+            long[] totals = transformSegments(in, out, fileKey, header, SEGMENT_SIZE, true);
+            metrics.record(totals[0], totals[1] + HEADER_SIZE, start);
+        } catch (InvalidKeyException | IOException | RuntimeException e) {
+            metrics.recordFailure();
+            throw e;
+        }
+    }
+
+    /**
+     * Decrypts and verifies a stream written by
+     * {@link #encrypt(ReadableByteChannel, WritableByteChannel, int)}. Plain text
+     * is written one verified batch of segments at a time, so when an error is
+     * thrown the output holds only a prefix of the plain text.
+     *
+     * @param key not used; the key comes from the password
+     * @throws InvalidKeyException if the password is wrong or the data was changed
+     * @throws IOException         if the input is not cipher text of this cipher, or reading or writing fails
+     */
+    @Override
+    public void decrypt(ReadableByteChannel in, WritableByteChannel out, int key)
+            throws InvalidKeyException, IOException {
+        OperationStats metrics = Metrics.cipher(getName());
+        long start = System.nanoTime();
+        try {
+            byte[] header = new byte[HEADER_SIZE];
+            if (readFully(in, header) < HEADER_SIZE || !startsWithMagic(header)) {
+                throw new IOException("Not " + getName() + " data: the header is missing");
+            }
+            if (header[4] != VERSION) {
+                throw new IOException("Unsupported " + getName() + " format version " + header[4]);
+            }
+            if (header[5] != getAlgorithmId()) {
+                throw new IOException("The data was not encrypted with " + getName());
+            }
+            int shift = header[6];
+            int rounds = ByteBuffer.wrap(header, 8, 4).getInt();
+            // Only the segment size written here is accepted, so a crafted header cannot size the buffers
+            if (shift != SEGMENT_SHIFT || rounds < 1 || rounds > MAX_ITERATIONS) {
+                throw new IOException("Not " + getName() + " data: the header is damaged");
+            }
+            byte[] headerSalt = new byte[SALT_SIZE];
+            System.arraycopy(header, 12, headerSalt, 0, SALT_SIZE);
+            SecretKeySpec fileKey = fileKey(header, passwordKey(headerSalt, rounds));
+            long[] totals = transformSegments(in, out, fileKey, header, SEGMENT_SIZE, false);
+            metrics.record(totals[0] + HEADER_SIZE, totals[1], start);
+        } catch (InvalidKeyException | IOException | RuntimeException e) {
+            metrics.recordFailure();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the input in batches of segments, transforms each batch in parallel
+     * and writes it out. One batch is read ahead so the last segment is known
+     * when it is sealed or opened.
+     *
+     * @return bytes read and bytes written
+     */
+    private long[] transformSegments(ReadableByteChannel in, WritableByteChannel out, SecretKeySpec key,
+            byte[] header, int segmentSize, boolean encrypt) throws InvalidKeyException, IOException {
+        int inSegment = encrypt ? segmentSize : segmentSize + TAG_SIZE;
+        int outSegment = encrypt ? segmentSize + TAG_SIZE : segmentSize;
+        int batch = pool.getParallelism() * SEGMENTS_PER_WORKER;
+        // Engines of this stream, one per worker: within a stream every segment has its own nonce, so the
+        // provider's check against reusing a key and nonce only fires if that really happens
+        ThreadLocal<javax.crypto.Cipher> engines = new ThreadLocal<javax.crypto.Cipher>() {
+            @Override
+            protected javax.crypto.Cipher initialValue() {
+                try {
+                    return javax.crypto.Cipher.getInstance(getTransformation());
+                } catch (GeneralSecurityException e) {
+                    throw new IllegalStateException(e); // checked in the constructor
+                }
+            }
+        };
+        byte[] current = new byte[batch * inSegment];
+        byte[] next = new byte[current.length];
+        byte[] output = new byte[batch * outSegment];
+
+        int length = readFully(in, current);
+        if (!encrypt && length == 0) {
+            throw new IOException(getName() + " data is truncated: no segments follow the header");
+        }
+        long index = 0;
+        long read = 0;
+        long written = 0;
+        while (true) {
+            int nextLength = length == current.length ? readFully(in, next) : 0;
+            boolean last = nextLength == 0;
+            int segments = Math.max(1, (length + inSegment - 1) / inSegment); // empty input has one empty segment
+            if (!encrypt && last && length - (segments - 1) * inSegment < TAG_SIZE) {
+                throw new IOException(getName() + " data is truncated in its last segment");
+            }
+            if (index + segments > 0xFFFFFFFFL) {
+                throw new IOException("Input too large for " + getName());
+            }
+            int produced = transformBatch(engines, key, header, index, segments, last, current, length,
+                    inSegment, output, outSegment, encrypt);
+            writeFully(out, output, produced);
+            read += length;
+            written += produced;
+            if (last) {
+                return new long[] { read, written };
+            }
+            byte[] swap = current;
+            current = next;
+            next = swap;
+            length = nextLength;
+            index += segments;
+        }
+    }
+
+    // Transforms the segments of one batch, in parallel when there are several; returns the bytes produced
+    private int transformBatch(final ThreadLocal<javax.crypto.Cipher> engines, final SecretKeySpec key,
+            final byte[] header, long firstIndex, int segments, boolean last, final byte[] src, int length,
+            int inSegment, final byte[] dst, int outSegment, final boolean encrypt)
+            throws InvalidKeyException, IOException {
+        try {
+            if (segments == 1 || pool.getParallelism() == 1) {
+                for (int i = 0; i < segments; i++) {
+                    int srcOff = i * inSegment;
+                    transformSegment(engines.get(), key, header, firstIndex + i, last && i == segments - 1, src, srcOff,
+                            Math.min(inSegment, length - srcOff), dst, i * outSegment, encrypt);
+                }
+            } else {
+                // Tasks hand back their failure: invokeAll may rethrow exceptions unwrapped on the calling thread
+                List<Callable<GeneralSecurityException>> tasks = new ArrayList<>(segments);
+                for (int i = 0; i < segments; i++) {
+                    final int srcOff = i * inSegment;
+                    final int len = Math.min(inSegment, length - srcOff);
+                    final int dstOff = i * outSegment;
+                    final long index = firstIndex + i;
+                    final boolean lastSegment = last && i == segments - 1;
+                    tasks.add(new Callable<GeneralSecurityException>() {
+                        @Override
+                        public GeneralSecurityException call() {
+                            try {
+                                transformSegment(engines.get(), key, header, index, lastSegment, src, srcOff, len,
+                                        dst, dstOff, encrypt);
+                                return null;
+                            } catch (GeneralSecurityException e) {
+                                return e;
+                            }
+                        }
+                    });
+                }
+                for (Future<GeneralSecurityException> future : pool.invokeAll(tasks)) {
+                    GeneralSecurityException failure = future.get();
+                    if (failure != null) {
+                        throw failure;
+                    }
+                }
+            }
+        } catch (GeneralSecurityException e) {
+            throw failure(e);
+        } catch (ExecutionException e) {
+            throw failure(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(getName() + " was interrupted");
+        }
+        // Every segment but the last is full, so the output is contiguous
+        return encrypt ? length + segments * TAG_SIZE : length - segments * TAG_SIZE;
+    }
+
+    // Turns the failure of a segment into the exception reported to the caller
+    private static InvalidKeyException failure(Throwable cause) {
+        if (cause instanceof AEADBadTagException) {
+            return new InvalidKeyException("Authentication failed: the password is wrong or the data was changed");
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        throw new IllegalStateException(cause);
+    }
+
+    private int transformSegment(javax.crypto.Cipher engine, SecretKeySpec key, byte[] header, long index,
+            boolean last, byte[] src, int srcOff, int len, byte[] dst, int dstOff, boolean encrypt)
+            throws GeneralSecurityException {
+        byte[] nonce = new byte[NONCE_SIZE];
+        nonce[7] = (byte) (index >>> 24);
+        nonce[8] = (byte) (index >>> 16);
+        nonce[9] = (byte) (index >>> 8);
+        nonce[10] = (byte) index;
+        nonce[11] = (byte) (last ? 1 : 0);
+        engine.init(encrypt ? javax.crypto.Cipher.ENCRYPT_MODE : javax.crypto.Cipher.DECRYPT_MODE, key,
+                parameters(nonce));
+        engine.updateAAD(header);
+        return engine.doFinal(src, srcOff, len, dst, dstOff);
+    }
+
+    /**
+     * Keyed with the PBKDF2 key of {@code salt}, so checking a password against
+     * a stored fingerprint costs as much as decrypting with it. Text and binary
+     * mode seal the same bytes, so both give the same fingerprint.
+     */
+    @Override
+    public byte[] fingerprint(byte[] salt, int key, boolean binary) {
+        return fingerprintMac(passwordKey(salt, iterations)).doFinal(getName().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Runs PBKDF2 once per salt and iteration count
+    private byte[] passwordKey(byte[] salt, int rounds) {
+        String id = Base64.getEncoder().encodeToString(salt) + ':' + rounds;
+        synchronized (passwordKeys) {
+            byte[] cached = passwordKeys.get(id);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        byte[] derived;
+        try {
+            SecretKeyFactory factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256");
+            derived = factory.generateSecret(new PBEKeySpec(password, salt, rounds, KEY_BITS)).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e); // PBKDF2WithHmacSHA256 is in every Java 8+ runtime
+        }
+        synchronized (passwordKeys) {
+            passwordKeys.put(id, derived);
+        }
+        return derived;
+    }
+
+    // Key of one stream: the HMAC of its header, including the random file salt
+    private SecretKeySpec fileKey(byte[] header, byte[] passwordKey) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(passwordKey, "HmacSHA256"));
+            return new SecretKeySpec(mac.doFinal(header), getKeyAlgorithm());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e); // HmacSHA256 is in every Java 8+ runtime
+        }
+    }
+
+    private void writeHeader(byte[] header, int shift, int rounds, byte[] salt, byte[] fileSalt) {
+        ByteBuffer buffer = ByteBuffer.wrap(header);
+        buffer.put(MAGIC).put((byte) VERSION).put((byte) getAlgorithmId()).put((byte) shift).put((byte) 0);
+        buffer.putInt(rounds).put(salt).put(fileSalt);
+    }
+
+    private static boolean startsWithMagic(byte[] header) {
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (header[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Reads until the array is full or the input ends; returns the bytes read
+    private static int readFully(ReadableByteChannel in, byte[] array) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(array);
+        while (buffer.hasRemaining() && in.read(buffer) != -1) {
+            // keep reading until the buffer is full
+        }
+        return buffer.position();
+    }
+
+    private static void writeFully(WritableByteChannel out, byte[] array, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(array, 0, length);
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    @Override
+    protected void encryptChars(char[] src, int srcOff, char[] dst, int dstOff, int len, int key) {
+        throw unsupported();
+    }
+
+    @Override
+    protected void decryptChars(char[] src, int srcOff, char[] dst, int dstOff, int len, int key) {
+        throw unsupported();
+    }
+
+    @Override
+    protected void encryptBytes(ByteBuffer src, ByteBuffer dst, int key) {
+        throw unsupported();
+    }
+
+    @Override
+    protected void decryptBytes(ByteBuffer src, ByteBuffer dst, int key) {
+        throw unsupported();
+    }
+
+    // The public methods are all overridden, so only code that bypasses them gets here
+    private UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException(getName() + " does not transform character by character");
+    }
+
+    // Encodes the text of a Reader as UTF-8 bytes, for encryption
+    private static final class Utf8Channel implements ReadableByteChannel {
+        private final Reader in;
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final CharBuffer chars = CharBuffer.allocate(TEXT_BUFFER_SIZE);
+        private final ByteBuffer bytes = ByteBuffer.allocate(TEXT_BUFFER_SIZE * 3); // at most 3 bytes per char
+        private boolean ended;
+
+        Utf8Channel(Reader in) {
+            this.in = in;
+            bytes.flip();
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            while (!bytes.hasRemaining()) {
+                if (ended) {
+                    return -1;
+                }
+                ended = in.read(chars) == -1;
+                chars.flip();
+                bytes.clear();
+                encoder.encode(chars, bytes, ended);
+                if (ended) {
+                    encoder.flush(bytes);
+                }
+                chars.compact(); // keeps the high half of a surrogate pair split between reads
+                bytes.flip();
+            }
+            int n = Math.min(dst.remaining(), bytes.remaining());
+            ByteBuffer slice = bytes.duplicate();
+            slice.limit(slice.position() + n);
+            dst.put(slice);
+            bytes.position(bytes.position() + n);
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            // the Reader belongs to the caller
+        }
+    }
+
+    // Decodes UTF-8 bytes of decrypted text to a Writer
+    private static final class Utf8Sink implements WritableByteChannel {
+        private final Writer out;
+        private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final ByteBuffer pending = ByteBuffer.allocate(TEXT_BUFFER_SIZE);
+        private final CharBuffer chars = CharBuffer.allocate(TEXT_BUFFER_SIZE);
+
+        Utf8Sink(Writer out) {
+            this.out = out;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            int n = src.remaining();
+            while (src.hasRemaining()) {
+                ByteBuffer slice = src.duplicate();
+                slice.limit(slice.position() + Math.min(src.remaining(), pending.remaining()));
+                src.position(slice.limit());
+                pending.put(slice);
+                pending.flip();
+                decode(false);
+                pending.compact(); // keeps a sequence split between writes
+            }
+            return n;
+        }
+
+        // Decodes what is left at the end of the text
+        void finish() throws IOException {
+            pending.flip();
+            decode(true);
+            while (decoder.flush(chars).isOverflow()) {
+                drain();
+            }
+            drain();
+        }
+
+        private void decode(boolean endOfInput) throws IOException {
+            while (decoder.decode(pending, chars, endOfInput).isOverflow()) {
+                drain();
+            }
+            drain();
+        }
+
+        private void drain() throws IOException {
+            out.write(chars.array(), 0, chars.position());
+            chars.clear();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            // the Writer belongs to the caller
+        }
+    }
+
+    // Writes the ASCII bytes of Base64 text to a Writer
+    private static final class AsciiOutputStream extends OutputStream {
+        private final Writer out;
+        private final char[] chars = new char[TEXT_BUFFER_SIZE];
+
+        AsciiOutputStream(Writer out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b & 0xFF);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                int n = Math.min(len, chars.length);
+                for (int i = 0; i < n; i++) {
+                    chars[i] = (char) (b[off + i] & 0xFF);
+                }
+                out.write(chars, 0, n);
+                off += n;
+                len -= n;
+            }
+        }
+
+        @Override
+        public void close() {
+            // the Writer belongs to the caller
+        }
+    }
+
+    // Reads Base64 text from a Reader as bytes; characters beyond ASCII become spaces, which Base64 skips
+    private static final class AsciiInputStream extends InputStream {
+        private final Reader in;
+        private final char[] chars = new char[TEXT_BUFFER_SIZE];
+
+        AsciiInputStream(Reader in) {
+            this.in = in;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int c = in.read();
+            return c < 0x80 ? c : ' ';
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = in.read(chars, 0, Math.min(len, chars.length));
+            for (int i = 0; i < n; i++) {
+                b[off + i] = (byte) (chars[i] < 0x80 ? chars[i] : ' ');
+            }
+            return n;
+        }
+    }
+}
@@ -1,43 +1,70 @@
 package algorithms;
 
 import exceptions.InvalidKeyException;
+import java.nio.ByteBuffer;
 
 public class CaesarCipher extends Cipher {
 
+    // One table per shift, built once and shared by every instance
+    private static final LookupTable[] SHIFTS = new LookupTable[26];
+
+    static {
+        for (int shift = 0; shift < 26; shift++) {
+            SHIFTS[shift] = LookupTable.forShift(shift);
+        }
+    }
+
+    @Override
+    protected void encryptChars(char[] src, int srcOff, char[] dst, int dstOff, int len, int key)
+            throws InvalidKeyException {
+        encryptTable(key).apply(src, srcOff, dst, dstOff, len);
+    }
+
     @Override
-    public String encrypt(String text, int key) throws InvalidKeyException {
+    protected void decryptChars(char[] src, int srcOff, char[] dst, int dstOff, int len, int key)
+            throws InvalidKeyException {
+        decryptTable(key).apply(src, srcOff, dst, dstOff, len);
+    }
+
+    @Override
+    protected void encryptBytes(ByteBuffer src, ByteBuffer dst, int key) throws InvalidKeyException {
+        encryptTable(key).apply(src, dst);
+    }
+
+    @Override
+    protected void decryptBytes(ByteBuffer src, ByteBuffer dst, int key) throws InvalidKeyException {
+        decryptTable(key).apply(src, dst);
+    }
+
+    @Override
+    protected void encryptBytes(byte[] src, int srcOff, byte[] dst, int dstOff, int len, int key)
+            throws InvalidKeyException {
+        encryptTable(key).apply(src, srcOff, dst, dstOff, len);
+    }
+
+    @Override
+    protected void decryptBytes(byte[] src, int srcOff, byte[] dst, int dstOff, int len, int key)
+            throws InvalidKeyException {
+        decryptTable(key).apply(src, srcOff, dst, dstOff, len);
+    }
+
+    private static LookupTable encryptTable(int key) throws InvalidKeyException {
         if (key < 0) {
             throw new InvalidKeyException("Key must be positive for Caesar Cipher");
         }
-        key = key % 26;
-        StringBuilder result = new StringBuilder();
-        for (char ch : text.toCharArray()) {
-            if (Character.isUpperCase(ch))
-                result.append((char) (((ch - 'A' + key) % 26) + 'A'));
-            else if (Character.isLowerCase(ch))
-                result.append((char) (((ch - 'a' + key) % 26) + 'a'));
-            else
-                result.append(ch);
-        }
-        return result.toString();
+        return SHIFTS[key % 26];
     }
 
-    @Override
-    public String decrypt(String text, int key) throws InvalidKeyException {
+    private static LookupTable decryptTable(int key) throws InvalidKeyException {
         if (key < 0) {
             throw new InvalidKeyException("Key must be positive for Caesar Cipher");
         }
-        key = key % 26;
-        StringBuilder result = new StringBuilder();
-        for (char ch : text.toCharArray()) {
-            if (Character.isUpperCase(ch))
-                result.append((char) (((ch - 'A' - key + 26) % 26) + 'A'));
-            else if (Character.isLowerCase(ch))
-                result.append((char) (((ch - 'a' - key + 26) % 26) + 'a'));
-            else
-                result.append(ch);
-        }
-        return result.toString();
+        return SHIFTS[(26 - key % 26) % 26];
+    }
+
+    @Override
+    public boolean isCharacterMap() {
+        return true;
     }
 
     @Override
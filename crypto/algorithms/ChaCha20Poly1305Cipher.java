@@ -0,0 +1,52 @@
+package algorithms;
+
+import exceptions.InvalidKeyException;
+import java.security.spec.AlgorithmParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+
+/**
+ * ChaCha20 stream cipher with a Poly1305 tag and a password-derived key. It
+ * needs no special instructions, so it is the better choice on CPUs without
+ * AES support. Requires Java 11 or later. See {@link AuthenticatedCipher} for
+ * the format.
+ */
+public class ChaCha20Poly1305Cipher extends AuthenticatedCipher {
+
+    public ChaCha20Poly1305Cipher(String password) throws InvalidKeyException {
+        this(password, DEFAULT_ITERATIONS);
+    }
+
+    public ChaCha20Poly1305Cipher(String password, int iterations) throws InvalidKeyException {
+        super(password, iterations);
+    }
+
+    @Override
+    protected int getAlgorithmId() {
+        return 2;
+    }
+
+    @Override
+    protected String getTransformation() {
+        return "ChaCha20-Poly1305";
+    }
+
+    @Override
+    protected String getKeyAlgorithm() {
+        return "ChaCha20";
+    }
+
+    @Override
+    protected AlgorithmParameterSpec parameters(byte[] nonce) {
+        return new IvParameterSpec(nonce);
+    }
+
+    @Override
+    public String getName() {
+        return "ChaCha20-Poly1305 Cipher";
+    }
+
+    @Override
+    public String toString() {
+        return "Cipher: ChaCha20-Poly1305 Cipher";
+    }
+}
@@ -0,0 +1,379 @@
+package algorithms;
+
+import exceptions.InvalidKeyException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.crypto.Mac;
+
+/**
+ * Applies several ciphers one after another, each with its own key, in a
+ * single pass over the data. Consecutive stages that are character maps
+ * ({@link Cipher#isCharacterMap()}) are compiled when the chain is built: every
+ * character and byte is run through them once, and the results form one
+ * {@link LookupTable}, so Caesar, then Substitution, then XOR costs the same
+ * single table load per character as any one of them. Decryption applies the
+ * compiled inverse, built the same way from the stages' own decryption in
+ * reverse order. Stages that depend on the position, such as
+ * {@link RepeatingKeyXorCipher}, run in between on the same chunk while it is
+ * still in cache.
+ *
+ * The numeric key passed with each call is not used; every stage carries its
+ * own. Only length-preserving ciphers can be chained. Instances are immutable
+ * and safe to share between threads.
+ */
+public class ChainCipher extends Cipher {
+
+    /** Separates the stages of a chain key, e.g. "caesar:3,substitution:QWERTYUIOPASDFGHJKLZXCVBNM,xor:7" */
+    public static final String STAGE_SEPARATOR = ",";
+
+    private static final int CHARS = 65536;
+    private static final int BYTES = 256;
+
+    private final List<Stage> stages;
+    private final List<Segment> segments; // in encryption order
+    private final boolean characterMap;
+
+    /**
+     * Compiles the stages, so invalid keys are reported here rather than on first use
+     *
+     * @param stages ciphers with their keys, in the order they encrypt
+     * @throws IllegalArgumentException if there are no stages, or one of them is
+     *                                  not length-preserving
+     * @throws InvalidKeyException      if a key is not valid for its cipher
+     */
+    public ChainCipher(List<Stage> stages) throws InvalidKeyException {
+        if (stages.isEmpty()) {
+            throw new IllegalArgumentException("A cipher chain needs at least one stage");
+        }
+        for (Stage stage : stages) {
+            if (!stage.cipher.isLengthPreserving()) {
+                throw new IllegalArgumentException(stage.cipher.getName()
+                        + " adds a header and tags, so it cannot be part of a chain");
+            }
+        }
+        this.stages = Collections.unmodifiableList(new ArrayList<>(stages));
+
+        List<Segment> compiled = new ArrayList<>();
+        int i = 0;
+        while (i < stages.size()) {
+            if (!stages.get(i).cipher.isCharacterMap()) {
+                compiled.add(new Segment(stages.get(i)));
+                i++;
+                continue;
+            }
+            int end = i;
+            while (end < stages.size() && stages.get(end).cipher.isCharacterMap()) {
+                end++;
+            }
+            List<Stage> run = stages.subList(i, end);
+            compiled.add(new Segment(compile(run, true), compile(run, false)));
+            i = end;
+        }
+        segments = Collections.unmodifiableList(compiled);
+        characterMap = segments.size() == 1 && segments.get(0).stage == null;
+    }
+
+    /**
+     * Parses a chain key such as "caesar:3,substitution:QWERTYUIOPASDFGHJKLZXCVBNM,xor:7":
+     * stages separated by {@value #STAGE_SEPARATOR}, each a cipher id or name from
+     * {@link CipherRegistry}, a colon and its key (a number, or the text key of
+     * ciphers that take one). Text keys containing the separator can be given in
+     * hex where the cipher accepts it.
+     *
+     * @param keyText the chain key
+     * @return the stages, in the order they encrypt
+     * @throws InvalidKeyException if a stage is malformed, names an unknown cipher
+     *                             or has an invalid key
+     */
+    public static List<Stage> parseStages(String keyText) throws InvalidKeyException {
+        if (keyText == null || keyText.trim().isEmpty()) {
+            throw new InvalidKeyException("Chain must list at least one cipher:key stage");
+        }
+        List<Stage> stages = new ArrayList<>();
+        for (String part : keyText.split(STAGE_SEPARATOR)) {
+            int colon = part.indexOf(':');
+            if (colon < 0) {
+                throw new InvalidKeyException("Chain stage needs cipher:key, got \"" + part.trim() + "\"");
+            }
+            String id = part.substring(0, colon).trim();
+            String key = part.substring(colon + 1).trim();
+            CipherProvider provider = CipherRegistry.find(id);
+            if (provider == null) {
+                throw new InvalidKeyException("Unknown cipher in chain: " + id);
+            }
+            if (provider.getId().equals("chain")) {
+                throw new InvalidKeyException("A chain cannot contain another chain");
+            }
+            if (provider.usesKeyText()) {
+                Cipher cipher = CipherRegistry.get(provider.getId(), key);
+                if (!cipher.isLengthPreserving()) {
+                    throw new InvalidKeyException(provider.getName() + " cannot be part of a chain");
+                }
+                stages.add(new Stage(cipher, 0));
+                continue;
+            }
+            int numeric;
+            try {
+                numeric = Integer.parseInt(key);
+            } catch (NumberFormatException e) {
+                throw new InvalidKeyException("Key of " + provider.getName() + " in chain must be a number: " + key);
+            }
+            if (numeric < 0) {
+                throw new InvalidKeyException("Key must be positive for " + provider.getName());
+            }
+            stages.add(new Stage(CipherRegistry.get(provider.getId(), null), numeric));
+        }
+        return stages;
+    }
+
+    // Runs every character and byte through the stages: the images form the fused table
+    private static LookupTable compile(List<Stage> run, boolean encrypt) throws InvalidKeyException {
+        char[] chars = new char[CHARS];
+        for (int c = 0; c < CHARS; c++) {
+            chars[c] = (char) c;
+        }
+        byte[] bytes = new byte[BYTES];
+        for (int b = 0; b < BYTES; b++) {
+            bytes[b] = (byte) b;
+        }
+        for (int i = 0; i < run.size(); i++) {
+            Stage stage = run.get(encrypt ? i : run.size() - 1 - i);
+            if (encrypt) {
+                stage.cipher.encryptChars(chars, 0, chars, 0, CHARS, stage.key, 0);
+                stage.cipher.encryptBytes(bytes, 0, bytes, 0, BYTES, stage.key, 0);
+            } else {
+                stage.cipher.decryptChars(chars, 0, chars, 0, CHARS, stage.key, 0);
+                stage.cipher.decryptBytes(bytes, 0, bytes, 0, BYTES, stage.key, 0);
+            }
+        }
+        return LookupTable.of(chars, bytes);
+    }
+
+    /**
+     * @return the stages, in the order they encrypt
+     */
+    public List<Stage> getStages() {
+        return stages;
+    }
+
+    /**
+     * @return number of passes over each chunk: one per compiled table or positional stage
+     */
+    public int getPassCount() {
+        return segments.size();
+    }
+
+    @Override
+    public boolean isCharacterMap() {
+        return characterMap;
+    }
+
+    @Override
+    protected void encryptChars(char[] src, int srcOff, char[] dst, int dstOff, int len, int key)
+            throws InvalidKeyException {
+        encryptChars(src, srcOff, dst, dstOff, len, key, 0);
+    }
+
+    @Override
+    protected void decryptChars(char[] src, int srcOff, char[] dst, int dstOff, int len, int key)
+            throws InvalidKeyException {
+        decryptChars(src, srcOff, dst, dstOff, len, key, 0);
+    }
+
+    @Override
+    protected void encryptBytes(ByteBuffer src, ByteBuffer dst, int key) throws InvalidKeyException {
+        encryptBytes(src, dst, key, 0);
+    }
+
+    @Override
+    protected void decryptBytes(ByteBuffer src, ByteBuffer dst, int key) throws InvalidKeyException {
+        decryptBytes(src, dst, key, 0);
+    }
+
+    @Override
+    protected void encryptBytes(byte[] src, int srcOff, byte[] dst, int dstOff, int len, int key)
+            throws InvalidKeyException {
+        encryptBytes(src, srcOff, dst, dstOff, len, key, 0);
+    }
+
+    @Override
+    protected void decryptBytes(byte[] src, int srcOff, byte[] dst, int dstOff, int len, int key)
+            throws InvalidKeyException {
+        decryptBytes(src, srcOff, dst, dstOff, len, key, 0);
+    }
+
+    // After the first pass every segment works in place on dst
+
+    @Override
+    protected void encryptChars(char[] src, int srcOff, char[] dst, int dstOff, int len, int key, long position)
+            throws InvalidKeyException {
+        for (int i = 0; i < segments.size(); i++) {
+            Segment segment = segments.get(i);
+            char[] from = i == 0 ? src : dst;
+            int fromOff = i == 0 ? srcOff : dstOff;
+            if (segment.stage == null) {
+                segment.encryptTable.apply(from, fromOff, dst, dstOff, len);
+            } else {
+                segment.stage.cipher.encryptChars(from, fromOff, dst, dstOff, len, segment.stage.key, position);
+            }
+        }
+    }
+
+    @Override
+    protected void decryptChars(char[] src, int srcOff, char[] dst, int dstOff, int len, int key, long position)
+            throws InvalidKeyException {
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            Segment segment = segments.get(i);
+            char[] from = i == segments.size() - 1 ? src : dst;
+            int fromOff = i == segments.size() - 1 ? srcOff : dstOff;
+            if (segment.stage == null) {
+                segment.decryptTable.apply(from, fromOff, dst, dstOff, len);
+            } else {
+                segment.stage.cipher.decryptChars(from, fromOff, dst, dstOff, len, segment.stage.key, position);
+            }
+        }
+    }
+
+    @Override
+    protected void encryptBytes(byte[] src, int srcOff, byte[] dst, int dstOff, int len, int key, long position)
+            throws InvalidKeyException {
+        for (int i = 0; i < segments.size(); i++) {
+            Segment segment = segments.get(i);
+            byte[] from = i == 0 ? src : dst;
+            int fromOff = i == 0 ? srcOff : dstOff;
+            if (segment.stage == null) {
+                segment.encryptTable.apply(from, fromOff, dst, dstOff, len);
+            } else {
+                segment.stage.cipher.encryptBytes(from, fromOff, dst, dstOff, len, segment.stage.key, position);
+            }
+        }
+    }
+
+    @Override
+    protected void decryptBytes(byte[] src, int srcOff, byte[] dst, int dstOff, int len, int key, long position)
+            throws InvalidKeyException {
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            Segment segment = segments.get(i);
+            byte[] from = i == segments.size() - 1 ? src : dst;
+            int fromOff = i == segments.size() - 1 ? srcOff : dstOff;
+            if (segment.stage == null) {
+                segment.decryptTable.apply(from, fromOff, dst, dstOff, len);
+            } else {
+                segment.stage.cipher.decryptBytes(from, fromOff, dst, dstOff, len, segment.stage.key, position);
+            }
+        }
+    }
+
+    @Override
+    protected void encryptBytes(ByteBuffer src, ByteBuffer dst, int key, long position) throws InvalidKeyException {
+        transformBuffer(src, dst, position, true);
+    }
+
+    @Override
+    protected void decryptBytes(ByteBuffer src, ByteBuffer dst, int key, long position) throws InvalidKeyException {
+        transformBuffer(src, dst, position, false);
+    }
+
+    private void transformBuffer(ByteBuffer src, ByteBuffer dst, long position, boolean encrypt)
+            throws InvalidKeyException {
+        int len = src.remaining();
+        int dp = dst.position();
+        for (int n = 0; n < segments.size(); n++) {
+            Segment segment = segments.get(encrypt ? n : segments.size() - 1 - n);
+            ByteBuffer from = src;
+            ByteBuffer to = dst;
+            if (n > 0) {
+                // The bytes written by the previous pass, transformed in place
+                to = dst.duplicate();
+                to.position(dp).limit(dp + len);
+                from = to.duplicate();
+            }
+            if (segment.stage == null) {
+                (encrypt ? segment.encryptTable : segment.decryptTable).apply(from, to);
+            } else if (encrypt) {
+                segment.stage.cipher.encryptBytes(from, to, segment.stage.key, position);
+            } else {
+                segment.stage.cipher.decryptBytes(from, to, segment.stage.key, position);
+            }
+        }
+        dst.position(dp + len);
+    }
+
+    /**
+     * Made of the fingerprint of every stage in order, so positional stages are
+     * covered by their whole key
+     */
+    @Override
+    public byte[] fingerprint(byte[] salt, int key, boolean binary) throws InvalidKeyException {
+        Mac mac = fingerprintMac(salt);
+        mac.update(getName().getBytes(StandardCharsets.UTF_8));
+        for (Stage stage : stages) {
+            mac.update(stage.cipher.fingerprint(salt, stage.key, binary));
+        }
+        return mac.doFinal();
+    }
+
+    @Override
+    public String getName() {
+        return "Cipher Chain";
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("Cipher: Cipher Chain (");
+        for (int i = 0; i < stages.size(); i++) {
+            text.append(i == 0 ? "" : ", ").append(stages.get(i).cipher.getName());
+        }
+        return text.append(')').toString();
+    }
+
+    /**
+     * One cipher of a chain with the key it is used with
+     */
+    public static final class Stage {
+        private final Cipher cipher;
+        private final int key;
+
+        /**
+         * @param cipher the cipher
+         * @param key    its numeric key; ignored by ciphers prepared from a text key
+         */
+        public Stage(Cipher cipher, int key) {
+            if (cipher instanceof ParallelCipher) {
+                cipher = ((ParallelCipher) cipher).getCipher(); // the chain is split as a whole
+            }
+            this.cipher = cipher;
+            this.key = key;
+        }
+
+        public Cipher getCipher() {
+            return cipher;
+        }
+
+        public int getKey() {
+            return key;
+        }
+    }
+
+    // Either a compiled run of character maps or one positional stage
+    private static final class Segment {
+        private final LookupTable encryptTable;
+        private final LookupTable decryptTable;
+        private final Stage stage;
+
+        Segment(LookupTable encryptTable, LookupTable decryptTable) {
+            this.encryptTable = encryptTable;
+            this.decryptTable = decryptTable;
+            this.stage = null;
+        }
+
+        Segment(Stage stage) {
+            this.encryptTable = null;
+            this.decryptTable = null;
+            this.stage = stage;
+        }
+    }
+}
@@ -1,11 +1,622 @@
 package algorithms;
 
 import exceptions.InvalidKeyException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import util.Metrics;
+import util.OperationStats;
 
+/**
+ * Base class of all ciphers. Keys are passed with every call, and any key state
+ * an implementation prepares is fixed when it is constructed, so instances are
+ * immutable and can be shared between threads (see {@link CipherRegistry}).
+ *
+ * Most ciphers map each character (or byte) on its own. Ciphers whose output
+ * also depends on the position in the text, such as {@link RepeatingKeyXorCipher},
+ * override the hooks taking a {@code position}; every path that splits its
+ * input into chunks passes the position of each chunk down.
+ */
 public abstract class Cipher {
-    public abstract String encrypt(String text, int key) throws InvalidKeyException;
 
-    public abstract String decrypt(String text, int key) throws InvalidKeyException;
+    /** Number of characters transformed per chunk in streaming mode */
+    public static final int STREAM_CHUNK_SIZE = 64 * 1024;
+
+    // Per-thread scratch space for CharBuffers that are not backed by an array
+    private static final ThreadLocal<char[]> SCRATCH = new ThreadLocal<char[]>() {
+        @Override
+        protected char[] initialValue() {
+            return new char[4096];
+        }
+    };
+
+    // Metrics for this cipher, looked up on first use since getName() is abstract
+    private OperationStats stats;
+
+    public String encrypt(String text, int key) throws InvalidKeyException {
+        char[] chars = text.toCharArray();
+        transformChars(chars, 0, chars, 0, chars.length, key, 0, true);
+        return new String(chars);
+    }
+
+    public String decrypt(String text, int key) throws InvalidKeyException {
+        char[] chars = text.toCharArray();
+        transformChars(chars, 0, chars, 0, chars.length, key, 0, false);
+        return new String(chars);
+    }
+
+    /**
+     * Encrypts everything readable from {@code in} into {@code out} in fixed-size
+     * chunks, so the input never has to fit in memory
+     *
+     * @param in  source of plain text
+     * @param out destination for the cipher text (flushed, not closed)
+     * @param key cipher key
+     * @throws InvalidKeyException if the key is not valid for this cipher
+     * @throws IOException         if reading or writing fails
+     */
+    public void encrypt(Reader in, Writer out, int key) throws InvalidKeyException, IOException {
+        transform(in, out, key, true);
+    }
+
+    /**
+     * Decrypts everything readable from {@code in} into {@code out} in fixed-size
+     * chunks, so the input never has to fit in memory
+     *
+     * @param in  source of cipher text
+     * @param out destination for the plain text (flushed, not closed)
+     * @param key cipher key
+     * @throws InvalidKeyException if the key is not valid for this cipher
+     * @throws IOException         if reading or writing fails
+     */
+    public void decrypt(Reader in, Writer out, int key) throws InvalidKeyException, IOException {
+        transform(in, out, key, false);
+    }
+
+    private void transform(Reader in, Writer out, int key, boolean encrypt)
+            throws InvalidKeyException, IOException {
+        OperationStats metrics = stats();
+        long start = System.nanoTime();
+        long total = 0;
+        try {
+            char[] buffer = new char[streamChunkSize()];
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                if (encrypt) {
+                    encryptChars(buffer, 0, buffer, 0, n, key, total);
+                } else {
+                    decryptChars(buffer, 0, buffer, 0, n, key, total);
+                }
+                out.write(buffer, 0, n);
+                total += n;
+            }
+            out.flush();
+        } catch (InvalidKeyException | IOException e) {
+            metrics.recordFailure();
+            throw e;
+        }
+        metrics.record(total, total, start);
+    }
+
+    /**
+     * Encrypts every byte readable from {@code in} into {@code out} in fixed-size
+     * chunks. The bytes are never decoded as characters, so binary data and text
+     * in any encoding go through losslessly.
+     *
+     * @param in  source of plain bytes
+     * @param out destination for the cipher bytes (not closed)
+     * @param key cipher key
+     * @throws InvalidKeyException if the key is not valid for this cipher
+     * @throws IOException         if reading or writing fails
+     */
+    public void encrypt(ReadableByteChannel in, WritableByteChannel out, int key)
+            throws InvalidKeyException, IOException {
+        transform(in, out, key, true);
+    }
+
+    /**
+     * Decrypts every byte readable from {@code in} into {@code out} in fixed-size
+     * chunks, without decoding them as characters
+     *
+     * @param in  source of cipher bytes
+     * @param out destination for the plain bytes (not closed)
+     * @param key cipher key
+     * @throws InvalidKeyException if the key is not valid for this cipher
+     * @throws IOException         if reading or writing fails
+     */
+    public void decrypt(ReadableByteChannel in, WritableByteChannel out, int key)
+            throws InvalidKeyException, IOException {
+        transform(in, out, key, false);
+    }
+
+    private void transform(ReadableByteChannel in, WritableByteChannel out, int key, boolean encrypt)
+            throws InvalidKeyException, IOException {
+        OperationStats metrics = stats();
+        long start = System.nanoTime();
+        long total = 0;
+        try {
+            int chunk = streamChunkSize();
+            if (in instanceof FileChannel) {
+                // No point in a buffer bigger than a small file
+                chunk = (int) Math.min(chunk, Math.max(8192, ((FileChannel) in).size()));
+            }
+            ByteBuffer buffer = ByteBuffer.allocateDirect(chunk);
+            while (in.read(buffer) != -1) {
+                buffer.flip();
+                // Transformed in place: source and destination are views of the same bytes
+                if (encrypt) {
+                    encryptBytes(buffer.duplicate(), buffer.duplicate(), key, total);
+                } else {
+                    decryptBytes(buffer.duplicate(), buffer.duplicate(), key, total);
+                }
+                total += buffer.remaining();
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                buffer.clear();
+            }
+        } catch (InvalidKeyException | IOException e) {
+            metrics.recordFailure();
+            throw e;
+        }
+        metrics.record(total, total, start);
+    }
+
+    /**
+     * @return true if the output has exactly one character (or byte) for every
+     *         input one, which the array, buffer, Reader and memory-mapped methods
+     *         rely on. Ciphers that add a header and authentication tags return
+     *         false; their array and buffer methods need room for the longer
+     *         output, and FileHandler streams them instead of mapping files.
+     */
+    public boolean isLengthPreserving() {
+        return true;
+    }
+
+    /**
+     * @return true if every character (or byte) is replaced by one that depends
+     *         only on it and the key, never on its position or neighbours, so the
+     *         cipher is fully described by a lookup table and a {@link ChainCipher}
+     *         can fold it into its neighbours
+     */
+    public boolean isCharacterMap() {
+        return false;
+    }
+
+    /**
+     * Fingerprint of this cipher with {@code key}, for checking later whether data
+     * was written with the same cipher and key without storing the key. The default
+     * is an HMAC, keyed with {@code salt}, of the name and the encryption of every
+     * character (or, in binary mode, every byte) value, which describes a
+     * {@linkplain #isCharacterMap() character map} completely. Ciphers whose output
+     * also depends on the position must override this and include all of their key.
+     *
+     * @param salt   random bytes kept with the fingerprint
+     * @param binary true for the byte transform, false for the character transform
+     * @return 32 bytes
+     * @throws InvalidKeyException if the key is not valid for this cipher
+     */
+    public byte[] fingerprint(byte[] salt, int key, boolean binary) throws InvalidKeyException {
+        Mac mac = fingerprintMac(salt);
+        mac.update(getName().getBytes(StandardCharsets.UTF_8));
+        if (binary) {
+            byte[] probe = new byte[256];
+            for (int i = 0; i < probe.length; i++) {
+                probe[i] = (byte) i;
+            }
+            encryptBytes(probe, 0, probe, 0, probe.length, key, 0);
+            return mac.doFinal(probe);
+        }
+        char[] probe = new char[Character.MAX_VALUE + 1];
+        for (int i = 0; i < probe.length; i++) {
+            probe[i] = (char) i;
+        }
+        encryptChars(probe, 0, probe, 0, probe.length, key, 0);
+        ByteBuffer bytes = ByteBuffer.allocate(probe.length * 2);
+        bytes.asCharBuffer().put(probe);
+        return mac.doFinal(bytes.array());
+    }
+
+    /**
+     * @return an HMAC-SHA256 keyed with {@code salt}, for {@link #fingerprint}
+     */
+    protected static Mac fingerprintMac(byte[] salt) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(salt, "HmacSHA256"));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e); // HmacSHA256 is in every Java 8+ runtime
+        }
+    }
+
+    /**
+     * Number of characters (or bytes) read and transformed at a time in streaming mode
+     */
+    protected int streamChunkSize() {
+        return STREAM_CHUNK_SIZE;
+    }
+
+    /**
+     * Encrypts {@code len} characters of {@code src} into {@code dst} without
+     * allocating. Passing the same array and offset for both encrypts in place.
+     *
+     * @return the number of characters written
+     * @throws InvalidKeyException if the key is not valid for this cipher
+     */
+    public int encryptInto(char[] src, int srcOff, int len, char[] dst, int dstOff, int key)
+            throws InvalidKeyException {
+        checkRange(src.length, srcOff, len);
+        checkRange(dst.length, dstOff, len);
+        transformChars(src, srcOff, dst, dstOff, len, key, 0, true);
+        return len;
+    }
+
+    /**
+     * Decrypts {@code len} characters of {@code src} into {@code dst} without
+     * allocating. Passing the same array and offset for both decrypts in place.
+     *
+     * @return the number of characters written
+     * @throws InvalidKeyException if the key is not valid for this cipher
+     */
+    public int decryptInto(char[] src, int srcOff, int len, char[] dst, int dstOff, int key)
+            throws InvalidKeyException {
+        checkRange(src.length, srcOff, len);
+        checkRange(dst.length, dstOff, len);
+        transformChars(src, srcOff, dst, dstOff, len, key, 0, false);
+        return len;
+    }
+
+    /**
+     * Encrypts {@code len} raw bytes of {@code src} into {@code dst} without
+     * allocating. Passing the same array and offset for both encrypts in place.
+     *
+     * @return the number of bytes written
+     * @throws InvalidKeyException if the key is not valid for this cipher
+     */
+    public int encryptInto(byte[] src, int srcOff, int len, byte[] dst, int dstOff, int key)
+            throws InvalidKeyException {
+        checkRange(src.length, srcOff, len);
+        checkRange(dst.length, dstOff, len);
+        OperationStats metrics = stats();
+        long start = System.nanoTime();
+        try {
+            encryptBytes(src, srcOff, dst, dstOff, len, key, 0);
+        } catch (InvalidKeyException e) {
+            metrics.recordFailure();
+            throw e;
+        }
+        metrics.record(len, len, start);
+        return len;
+    }
+
+    /**
+     * Decrypts {@code len} raw bytes of {@code src} into {@code dst} without
+     * allocating. Passing the same array and offset for both decrypts in place.
+     *
+     * @return the number of bytes written
+     * @throws InvalidKeyException if the key is not valid for this cipher
+     */
+    public int decryptInto(byte[] src, int srcOff, int len, byte[] dst, int dstOff, int key)
+            throws InvalidKeyException {
+        checkRange(src.length, srcOff, len);
+        checkRange(dst.length, dstOff, len);
+        OperationStats metrics = stats();
+        long start = System.nanoTime();
+        try {
+            decryptBytes(src, srcOff, dst, dstOff, len, key, 0);
+        } catch (InvalidKeyException e) {
+            metrics.recordFailure();
+            throw e;
+        }
+        metrics.record(len, len, start);
+        return len;
+    }
+
+    /**
+     * Encrypts the remaining characters of {@code src} into {@code dst}, advancing
+     * both positions. Array-backed buffers are transformed directly; other
+     * buffers go through a small per-thread scratch array.
+     *
+     * @return the number of characters written
+     * @throws InvalidKeyException if the key is not valid for this cipher
+     */
+    public int encryptInto(CharBuffer src, CharBuffer dst, int key) throws InvalidKeyException {
+        return transformInto(src, dst, key, true);
+    }
+
+    /**
+     * Decrypts the remaining characters of {@code src} into {@code dst}, advancing
+     * both positions. Array-backed buffers are transformed directly; other
+     * buffers go through a small per-thread scratch array.
+     *
+     * @return the number of characters written
+     * @throws InvalidKeyException if the key is not valid for this cipher
+     */
+    public int decryptInto(CharBuffer src, CharBuffer dst, int key) throws InvalidKeyException {
+        return transformInto(src, dst, key, false);
+    }
+
+    /**
+     * Encrypts the remaining bytes of {@code src} into {@code dst}, advancing the
+     * position of both buffers. This works on raw bytes rather than decoded
+     * characters, so it can run directly over memory-mapped file regions.
+     *
+     * @param src plain bytes
+     * @param dst destination with at least {@code src.remaining()} bytes of room;
+     *            may be the same region as {@code src} to work in place
+     * @param key cipher key
+     * @return the number of bytes written
+     * @throws InvalidKeyException if the key is not valid for this cipher
+     */
+    public int encryptInto(ByteBuffer src, ByteBuffer dst, int key) throws InvalidKeyException {
+        return encryptInto(src, dst, key, 0);
+    }
+
+    /**
+     * Encrypts the remaining bytes of {@code src} into {@code dst} as the part of
+     * a longer input that starts {@code position} bytes in, so a large file can be
+     * processed region by region with the same result as in one piece
+     *
+     * @param src      plain bytes
+     * @param dst      destination with at least {@code src.remaining()} bytes of room
+     * @param key      cipher key
+     * @param position offset of the first remaining byte of {@code src} in the whole input
+     * @return the number of bytes written
+     * @throws InvalidKeyException if the key is not valid for this cipher
+     */
+    public int encryptInto(ByteBuffer src, ByteBuffer dst, int key, long position) throws InvalidKeyException {
+        int len = src.remaining();
+        if (dst.remaining() < len) {
+            throw new BufferOverflowException();
+        }
+        checkPosition(position);
+        OperationStats metrics = stats();
+        long start = System.nanoTime();
+        try {
+            encryptBytes(src, dst, key, position);
+        } catch (InvalidKeyException e) {
+            metrics.recordFailure();
+            throw e;
+        }
+        metrics.record(len, len, start);
+        return len;
+    }
+
+    /**
+     * Decrypts the remaining bytes of {@code src} into {@code dst}, advancing the
+     * position of both buffers. This is the raw-byte counterpart of
+     * {@link #decrypt(String, int)}.
+     *
+     * @param src cipher bytes
+     * @param dst destination with at least {@code src.remaining()} bytes of room;
+     *            may be the same region as {@code src} to work in place
+     * @param key cipher key
+     * @return the number of bytes written
+     * @throws InvalidKeyException if the key is not valid for this cipher
+     */
+    public int decryptInto(ByteBuffer src, ByteBuffer dst, int key) throws InvalidKeyException {
+        return decryptInto(src, dst, key, 0);
+    }
+
+    /**
+     * Decrypts the remaining bytes of {@code src} into {@code dst} as the part of
+     * a longer input that starts {@code position} bytes in
+     *
+     * @param src      cipher bytes
+     * @param dst      destination with at least {@code src.remaining()} bytes of room
+     * @param key      cipher key
+     * @param position offset of the first remaining byte of {@code src} in the whole input
+     * @return the number of bytes written
+     * @throws InvalidKeyException if the key is not valid for this cipher
+     * @see #encryptInto(ByteBuffer, ByteBuffer, int, long)
+     */
+    public int decryptInto(ByteBuffer src, ByteBuffer dst, int key, long position) throws InvalidKeyException {
+        int len = src.remaining();
+        if (dst.remaining() < len) {
+            throw new BufferOverflowException();
+        }
+        checkPosition(position);
+        OperationStats metrics = stats();
+        long start = System.nanoTime();
+        try {
+            decryptBytes(src, dst, key, position);
+        } catch (InvalidKeyException e) {
+            metrics.recordFailure();
+            throw e;
+        }
+        metrics.record(len, len, start);
+        return len;
+    }
+
+    private int transformInto(CharBuffer src, CharBuffer dst, int key, boolean encrypt)
+            throws InvalidKeyException {
+        int len = src.remaining();
+        if (dst.remaining() < len) {
+            throw new BufferOverflowException();
+        }
+
+        if (src.hasArray() && dst.hasArray() && !dst.isReadOnly()) {
+            transformChars(src.array(), src.arrayOffset() + src.position(), dst.array(),
+                    dst.arrayOffset() + dst.position(), len, key, 0, encrypt);
+            src.position(src.position() + len);
+            dst.position(dst.position() + len);
+            return len;
+        }
+
+        OperationStats metrics = stats();
+
+        long start = System.nanoTime();
+        char[] scratch = SCRATCH.get();
+        int remaining = len;
+        try {
+            while (remaining > 0) {
+                int n = Math.min(remaining, scratch.length);
+                src.get(scratch, 0, n);
+                if (encrypt) {
+                    encryptChars(scratch, 0, scratch, 0, n, key, len - remaining);
+                } else {
+                    decryptChars(scratch, 0, scratch, 0, n, key, len - remaining);
+                }
+                dst.put(scratch, 0, n);
+                remaining -= n;
+            }
+        } catch (InvalidKeyException e) {
+            metrics.recordFailure();
+            throw e;
+        }
+        metrics.record(len, len, start);
+        return len;
+    }
+
+    // Runs the char hooks and records the call in this cipher's metrics
+    private void transformChars(char[] src, int srcOff, char[] dst, int dstOff, int len, int key, long position,
+            boolean encrypt) throws InvalidKeyException {
+        OperationStats metrics = stats();
+        long start = System.nanoTime();
+        try {
+            if (encrypt) {
+                encryptChars(src, srcOff, dst, dstOff, len, key, position);
+            } else {
+                decryptChars(src, srcOff, dst, dstOff, len, key, position);
+            }
+        } catch (InvalidKeyException e) {
+            metrics.recordFailure();
+            throw e;
+        }
+        metrics.record(len, len, start);
+    }
+
+    private OperationStats stats() {
+        OperationStats current = stats;
+        if (current == null) {
+            current = Metrics.cipher(getName());
+            stats = current;
+        }
+        return current;
+    }
+
+    private static void checkPosition(long position) {
+        if (position < 0) {
+            throw new IllegalArgumentException("Position must not be negative: " + position);
+        }
+    }
+
+    private static void checkRange(int length, int off, int len) {
+        if (off < 0 || len < 0 || off > length - len) {
+            throw new IndexOutOfBoundsException("Range [" + off + ", " + off + " + " + len
+                    + ") out of bounds for length " + length);
+        }
+    }
+
+    /**
+     * Encrypts {@code len} characters of {@code src} into {@code dst}. The two
+     * ranges may be the same array region, in which case the work is done in place.
+     */
+    protected abstract void encryptChars(char[] src, int srcOff, char[] dst, int dstOff, int len, int key)
+            throws InvalidKeyException;
+
+    /**
+     * Decrypts {@code len} characters of {@code src} into {@code dst}. The two
+     * ranges may be the same array region, in which case the work is done in place.
+     */
+    protected abstract void decryptChars(char[] src, int srcOff, char[] dst, int dstOff, int len, int key)
+            throws InvalidKeyException;
+
+    /**
+     * Encrypts the remaining bytes of {@code src} into {@code dst}, one byte at a
+     * time and independently of position.
+     */
+    protected abstract void encryptBytes(ByteBuffer src, ByteBuffer dst, int key) throws InvalidKeyException;
+
+    /**
+     * Decrypts the remaining bytes of {@code src} into {@code dst}, one byte at a
+     * time and independently of position.
+     */
+    protected abstract void decryptBytes(ByteBuffer src, ByteBuffer dst, int key) throws InvalidKeyException;
+
+    /**
+     * Encrypts {@code len} bytes of {@code src} into {@code dst}, one byte at a
+     * time and independently of position. The default wraps the arrays in
+     * buffers; ciphers override it to avoid that allocation.
+     */
+    protected void encryptBytes(byte[] src, int srcOff, byte[] dst, int dstOff, int len, int key)
+            throws InvalidKeyException {
+        encryptBytes(ByteBuffer.wrap(src, srcOff, len), ByteBuffer.wrap(dst, dstOff, len), key);
+    }
+
+    /**
+     * Decrypts {@code len} bytes of {@code src} into {@code dst}, one byte at a
+     * time and independently of position. The default wraps the arrays in
+     * buffers; ciphers override it to avoid that allocation.
+     */
+    protected void decryptBytes(byte[] src, int srcOff, byte[] dst, int dstOff, int len, int key)
+            throws InvalidKeyException {
+        decryptBytes(ByteBuffer.wrap(src, srcOff, len), ByteBuffer.wrap(dst, dstOff, len), key);
+    }
+
+    /**
+     * Encrypts {@code len} characters of {@code src} that start {@code position}
+     * characters into the whole text. The default ignores the position; ciphers
+     * whose output depends on it override this.
+     */
+    protected void encryptChars(char[] src, int srcOff, char[] dst, int dstOff, int len, int key, long position)
+            throws InvalidKeyException {
+        encryptChars(src, srcOff, dst, dstOff, len, key);
+    }
+
+    /**
+     * Decrypts {@code len} characters of {@code src} that start {@code position}
+     * characters into the whole text. The default ignores the position.
+     */
+    protected void decryptChars(char[] src, int srcOff, char[] dst, int dstOff, int len, int key, long position)
+            throws InvalidKeyException {
+        decryptChars(src, srcOff, dst, dstOff, len, key);
+    }
+
+    /**
+     * Encrypts the remaining bytes of {@code src}, which start {@code position}
+     * bytes into the whole input. The default ignores the position.
+     */
+    protected void encryptBytes(ByteBuffer src, ByteBuffer dst, int key, long position) throws InvalidKeyException {
+        encryptBytes(src, dst, key);
+    }
+
+    /**
+     * Decrypts the remaining bytes of {@code src}, which start {@code position}
+     * bytes into the whole input. The default ignores the position.
+     */
+    protected void decryptBytes(ByteBuffer src, ByteBuffer dst, int key, long position) throws InvalidKeyException {
+        decryptBytes(src, dst, key);
+    }
+
+    /**
+     * Encrypts {@code len} bytes of {@code src} that start {@code position} bytes
+     * into the whole input. The default ignores the position.
+     */
+    protected void encryptBytes(byte[] src, int srcOff, byte[] dst, int dstOff, int len, int key, long position)
+            throws InvalidKeyException {
+        encryptBytes(src, srcOff, dst, dstOff, len, key);
+    }
+
+    /**
+     * Decrypts {@code len} bytes of {@code src} that start {@code position} bytes
+     * into the whole input. The default ignores the position.
+     */
+    protected void decryptBytes(byte[] src, int srcOff, byte[] dst, int dstOff, int len, int key, long position)
+            throws InvalidKeyException {
+        decryptBytes(src, srcOff, dst, dstOff, len, key);
+    }
 
     public abstract String getName();
 }
@@ -0,0 +1,43 @@
+package algorithms;
+
+import exceptions.InvalidKeyException;
+
+/**
+ * Service interface for plugging ciphers into {@link CipherRegistry}. Third
+ * party ciphers are found with {@link java.util.ServiceLoader}: list the
+ * implementing class in {@code META-INF/services/algorithms.CipherProvider}
+ * on the class path. Implementations need a public no-argument constructor.
+ */
+public interface CipherProvider {
+
+    /**
+     * @return short lower-case identifier used on the command line, e.g. "caesar"
+     */
+    String getId();
+
+    /**
+     * @return name shown to users; must match {@link Cipher#getName()} of the created ciphers
+     */
+    String getName();
+
+    /**
+     * @return true if the cipher is prepared from a text key (such as a letter
+     *         mapping) instead of taking a numeric key on every call
+     */
+    boolean usesKeyText();
+
+    /**
+     * @return what the text key is, e.g. "26-letter mapping (A-Z)"; only used when {@link #usesKeyText()}
+     */
+    String getKeyTextLabel();
+
+    /**
+     * Creates a cipher with its key state prepared. The result must be immutable
+     * and safe to share between threads, since the registry caches and reuses it.
+     *
+     * @param keyText text key, ignored unless {@link #usesKeyText()}
+     * @return the prepared cipher
+     * @throws InvalidKeyException if the text key is not valid
+     */
+    Cipher create(String keyText) throws InvalidKeyException;
+}
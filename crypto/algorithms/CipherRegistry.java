@@ -0,0 +1,214 @@
+package algorithms;
+
+import exceptions.InvalidKeyException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Looks up ciphers by id or name and hands out prepared, shareable instances.
+ *
+ * Providers found through {@link ServiceLoader} come first and may replace a
+ * built-in cipher by using its id; the built-in Caesar, XOR, Substitution,
+ * Repeating-Key XOR, AES-GCM and ChaCha20-Poly1305 ciphers and the cipher chain
+ * fill in whatever is not provided, in that order, so the original three keep
+ * their menu numbers. Prepared instances are kept in a
+ * bounded LRU cache keyed by cipher id and text key, so repeated requests with
+ * the same mapping reuse its tables instead of rebuilding them. The cache size
+ * is set with {@code -Dcipherguard.cipherCache} (default 64). Ciphers keyed
+ * with a password ({@link AuthenticatedCipher}) are never cached, so neither
+ * the password nor its derived keys outlive the caller's use of the cipher.
+ */
+public final class CipherRegistry {
+
+    private static final int CACHE_SIZE = Math.max(1, Integer.getInteger("cipherguard.cipherCache", 64));
+
+    private static final List<CipherProvider> PROVIDERS = loadProviders();
+
+    // Guarded by itself; access order makes it least-recently-used first
+    private static final Map<String, Cipher> CACHE = new LinkedHashMap<String, Cipher>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Cipher> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private CipherRegistry() {
+    }
+
+    /**
+     * @return every available cipher, plug-ins first, then the built-in ones
+     */
+    public static List<CipherProvider> providers() {
+        return PROVIDERS;
+    }
+
+    /**
+     * @param idOrName cipher id ("caesar") or name ("Caesar Cipher"), ignoring case
+     * @return the matching provider, or null if there is none
+     */
+    public static CipherProvider find(String idOrName) {
+        for (CipherProvider provider : PROVIDERS) {
+            if (provider.getId().equalsIgnoreCase(idOrName) || provider.getName().equalsIgnoreCase(idOrName)) {
+                return provider;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a prepared cipher, reusing a cached instance when the same cipher
+     * and text key were requested before. Password-keyed ciphers are created
+     * anew on every call.
+     *
+     * @param idOrName cipher id or name
+     * @param keyText  text key, ignored by ciphers that take a numeric key
+     * @return an immutable cipher that can be shared between threads
+     * @throws IllegalArgumentException if no cipher has that id or name
+     * @throws InvalidKeyException      if the text key is not valid for the cipher
+     */
+    public static Cipher get(String idOrName, String keyText) throws InvalidKeyException {
+        CipherProvider provider = find(idOrName);
+        if (provider == null) {
+            throw new IllegalArgumentException("Unknown cipher: " + idOrName);
+        }
+        String key = provider.usesKeyText() ? provider.getId() + '\0' + keyText : provider.getId();
+        synchronized (CACHE) {
+            Cipher cipher = CACHE.get(key);
+            if (cipher != null) {
+                return cipher;
+            }
+        }
+        // Built outside the lock; two threads racing here just build the same immutable cipher twice
+        Cipher cipher = provider.create(keyText);
+        if (cipher instanceof AuthenticatedCipher) {
+            return cipher;
+        }
+        synchronized (CACHE) {
+            Cipher existing = CACHE.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            CACHE.put(key, cipher);
+        }
+        return cipher;
+    }
+
+    private static List<CipherProvider> loadProviders() {
+        List<CipherProvider> providers = new ArrayList<>();
+        try {
+            for (CipherProvider provider : ServiceLoader.load(CipherProvider.class)) {
+                if (!contains(providers, provider.getId())) {
+                    providers.add(provider);
+                }
+            }
+        } catch (ServiceConfigurationError e) {
+            // A broken plug-in must not take the built-in ciphers down with it
+            System.err.println("Cipher plug-ins could not be loaded: " + e.getMessage());
+        }
+        for (CipherProvider provider : builtIns()) {
+            if (!contains(providers, provider.getId())) {
+                providers.add(provider);
+            }
+        }
+        return Collections.unmodifiableList(providers);
+    }
+
+    private static boolean contains(List<CipherProvider> providers, String id) {
+        for (CipherProvider provider : providers) {
+            if (provider.getId().equalsIgnoreCase(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<CipherProvider> builtIns() {
+        List<CipherProvider> builtIns = new ArrayList<>();
+        builtIns.add(new BuiltIn("caesar", "Caesar Cipher", null) {
+            @Override
+            public Cipher create(String keyText) {
+                return new CaesarCipher();
+            }
+        });
+        builtIns.add(new BuiltIn("xor", "XOR Cipher", null) {
+            @Override
+            public Cipher create(String keyText) {
+                return new XORCipher();
+            }
+        });
+        builtIns.add(new BuiltIn("substitution", "Substitution Cipher", "26-letter mapping (A-Z)") {
+            @Override
+            public Cipher create(String keyText) throws InvalidKeyException {
+                SubstitutionCipher cipher = new SubstitutionCipher(keyText == null ? null : keyText.trim());
+                if (!cipher.isValid()) {
+                    throw new InvalidKeyException(cipher.getErrorMessage());
+                }
+                return cipher;
+            }
+        });
+        builtIns.add(new BuiltIn("repeating-xor", "Repeating-Key XOR Cipher",
+                "text key, or hex: followed by hex byte pairs") {
+            @Override
+            public Cipher create(String keyText) throws InvalidKeyException {
+                return new RepeatingKeyXorCipher(RepeatingKeyXorCipher.parseKey(keyText));
+            }
+        });
+        builtIns.add(new BuiltIn("aes-gcm", "AES-GCM Cipher", "password") {
+            @Override
+            public Cipher create(String keyText) throws InvalidKeyException {
+                return new AesGcmCipher(keyText);
+            }
+        });
+        builtIns.add(new BuiltIn("chacha20-poly1305", "ChaCha20-Poly1305 Cipher", "password") {
+            @Override
+            public Cipher create(String keyText) throws InvalidKeyException {
+                return new ChaCha20Poly1305Cipher(keyText);
+            }
+        });
+        builtIns.add(new BuiltIn("chain", "Cipher Chain", "list of cipher:key stages, e.g. caesar:3,xor:7") {
+            @Override
+            public Cipher create(String keyText) throws InvalidKeyException {
+                return new ChainCipher(ChainCipher.parseStages(keyText));
+            }
+        });
+        return builtIns;
+    }
+
+    /** Provider of one of the ciphers shipped with the application */
+    private abstract static class BuiltIn implements CipherProvider {
+        private final String id;
+        private final String name;
+        private final String keyTextLabel; // null for ciphers taking a numeric key
+
+        BuiltIn(String id, String name, String keyTextLabel) {
+            this.id = id;
+            this.name = name;
+            this.keyTextLabel = keyTextLabel;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public boolean usesKeyText() {
+            return keyTextLabel != null;
+        }
+
+        @Override
+        public String getKeyTextLabel() {
+            return keyTextLabel;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package algorithms;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Precomputed per-character translation table shared by the table-driven
+ * ciphers. The letter tables translate only the ASCII range; every other
+ * character or byte passes through unchanged, so the hot loop is a single
+ * array load with no branching on letter case and no allocation. Tables
+ * compiled from a {@link ChainCipher} may cover every character.
+ *
+ * Tables are immutable once built and safe to share between threads.
+ */
+public final class LookupTable {
+
+    private static final int ASCII = 128;
+
+    private final char[] chars; // 128 or 65536 entries, indexed by character; the rest pass through
+    private final byte[] bytes; // 256 entries, indexed by unsigned byte
+
+    private LookupTable(char[] ascii) {
+        this.chars = ascii;
+        this.bytes = new byte[256];
+        for (int i = 0; i < 256; i++) {
+            bytes[i] = (byte) (i < ASCII ? ascii[i] : i);
+        }
+    }
+
+    private LookupTable(char[] chars, byte[] bytes) {
+        this.chars = chars;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Builds a table from the images of every character and every byte. The
+     * character table is cut down to the ASCII range when nothing above it
+     * changes, which keeps it within a few cache lines.
+     *
+     * @param chars 65536 entries: the character each character becomes
+     * @param bytes 256 entries: the byte each unsigned byte becomes
+     * @return the translation table
+     */
+    static LookupTable of(char[] chars, byte[] bytes) {
+        int end = chars.length;
+        while (end > ASCII && chars[end - 1] == end - 1) {
+            end--;
+        }
+        return new LookupTable(end == ASCII ? Arrays.copyOf(chars, ASCII) : chars.clone(), bytes.clone());
+    }
+
+    /**
+     * Builds a table that maps A-Z (and a-z, keeping case) onto the given
+     * 26-letter mapping
+     *
+     * @param mapping 26 upper-case letters; the letter at index i replaces 'A' + i
+     * @return the translation table
+     */
+    public static LookupTable forLetters(String mapping) {
+        char[] ascii = identity();
+        for (int i = 0; i < 26; i++) {
+            char mapped = mapping.charAt(i);
+            ascii['A' + i] = mapped;
+            ascii['a' + i] = Character.toLowerCase(mapped);
+        }
+        return new LookupTable(ascii);
+    }
+
+    /**
+     * Builds a table that rotates A-Z and a-z by the given number of places
+     *
+     * @param shift rotation in the range 0-25
+     * @return the translation table
+     */
+    public static LookupTable forShift(int shift) {
+        char[] ascii = identity();
+        for (int i = 0; i < 26; i++) {
+            ascii['A' + i] = (char) ('A' + (i + shift) % 26);
+            ascii['a' + i] = (char) ('a' + (i + shift) % 26);
+        }
+        return new LookupTable(ascii);
+    }
+
+    private static char[] identity() {
+        char[] ascii = new char[ASCII];
+        for (int i = 0; i < ASCII; i++) {
+            ascii[i] = (char) i;
+        }
+        return ascii;
+    }
+
+    /**
+     * @return the table that undoes this one; only meaningful for one-to-one tables
+     */
+    public LookupTable inverse() {
+        char[] inverseChars = new char[chars.length];
+        for (int i = 0; i < chars.length; i++) {
+            inverseChars[chars[i]] = (char) i;
+        }
+        byte[] inverseBytes = new byte[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            inverseBytes[bytes[i] & 0xFF] = (byte) i;
+        }
+        return new LookupTable(inverseChars, inverseBytes);
+    }
+
+    /**
+     * Translates {@code len} chars of {@code src} into {@code dst}. Source and
+     * destination may be the same region.
+     */
+    public void apply(char[] src, int srcOff, char[] dst, int dstOff, int len) {
+        final char[] table = chars;
+        final int size = table.length;
+        for (int i = 0; i < len; i++) {
+            char ch = src[srcOff + i];
+            dst[dstOff + i] = ch < size ? table[ch] : ch;
+        }
+    }
+
+    /**
+     * Translates {@code len} bytes of {@code src} into {@code dst}. Source and
+     * destination may be the same region.
+     */
+    public void apply(byte[] src, int srcOff, byte[] dst, int dstOff, int len) {
+        final byte[] table = bytes;
+        for (int i = 0; i < len; i++) {
+            dst[dstOff + i] = table[src[srcOff + i] & 0xFF];
+        }
+    }
+
+    /**
+     * Translates the remaining bytes of {@code src} into {@code dst}, advancing
+     * both positions
+     */
+    public void apply(ByteBuffer src, ByteBuffer dst) {
+        int len = src.remaining();
+        int sp = src.position();
+        int dp = dst.position();
+        if (dst.remaining() < len) {
+            throw new BufferOverflowException();
+        }
+
+        if (src.hasArray() && dst.hasArray() && !dst.isReadOnly()) {
+            apply(src.array(), src.arrayOffset() + sp, dst.array(), dst.arrayOffset() + dp, len);
+        } else {
+            final byte[] table = bytes;
+            for (int i = 0; i < len; i++) {
+                dst.put(dp + i, table[src.get(sp + i) & 0xFF]);
+            }
+        }
+        src.position(sp + len);
+        dst.position(dp + len);
+    }
+}
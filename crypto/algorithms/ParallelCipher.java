@@ -0,0 +1,406 @@
+package algorithms;
+
+import exceptions.InvalidKeyException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs another cipher over large inputs in parallel. The input is split into
+ * chunks that are transformed on a ForkJoinPool and written back at their
+ * original positions, which is valid because every cipher here maps each
+ * character (or byte) independently of its neighbours. Each chunk is handed
+ * its position in the input, for ciphers whose key depends on it.
+ *
+ * A ParallelCipher created with its own pool (see
+ * {@link #ParallelCipher(Cipher, int)}) owns that pool and shuts it down when
+ * closed; closing one that runs on a shared pool does nothing.
+ */
+public class ParallelCipher extends Cipher implements AutoCloseable {
+
+    /** Inputs smaller than this are not split any further */
+    public static final int MIN_CHUNK_SIZE = 64 * 1024;
+
+    private final Cipher cipher;
+    private final ForkJoinPool pool;
+    private final boolean ownsPool;
+
+    /**
+     * Wraps a cipher so it runs on the common ForkJoinPool
+     *
+     * @param cipher the cipher doing the actual work
+     */
+    public ParallelCipher(Cipher cipher) {
+        this(cipher, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Wraps a cipher so it runs on a dedicated pool of the given size, which is
+     * shut down by {@link #close()}
+     *
+     * @param cipher      the cipher doing the actual work
+     * @param parallelism number of worker threads
+     */
+    public ParallelCipher(Cipher cipher, int parallelism) {
+        this(cipher, new ForkJoinPool(parallelism), true);
+    }
+
+    /**
+     * Wraps a cipher so it runs on the given pool
+     *
+     * @param cipher the cipher doing the actual work
+     * @param pool   pool to run the chunks on
+     */
+    public ParallelCipher(Cipher cipher, ForkJoinPool pool) {
+        this(cipher, pool, false);
+    }
+
+    private ParallelCipher(Cipher cipher, ForkJoinPool pool, boolean ownsPool) {
+        if (cipher instanceof ParallelCipher) {
+            cipher = ((ParallelCipher) cipher).cipher;
+        }
+        this.cipher = cipher;
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+    }
+
+    /**
+     * Shuts down the pool if this instance created it; work already submitted
+     * is finished first. The common pool and pools passed in are left running.
+     */
+    @Override
+    public void close() {
+        if (ownsPool) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * @return the wrapped cipher
+     */
+    public Cipher getCipher() {
+        return cipher;
+    }
+
+    @Override
+    public boolean isLengthPreserving() {
+        return cipher.isLengthPreserving();
+    }
+
+    @Override
+    public boolean isCharacterMap() {
+        return cipher.isCharacterMap();
+    }
+
+    // Ciphers that change the length do their own segmenting and parallelism
+
+    @Override
+    public String encrypt(String text, int key) throws InvalidKeyException {
+        return cipher.isLengthPreserving() ? super.encrypt(text, key) : cipher.encrypt(text, key);
+    }
+
+    @Override
+    public String decrypt(String text, int key) throws InvalidKeyException {
+        return cipher.isLengthPreserving() ? super.decrypt(text, key) : cipher.decrypt(text, key);
+    }
+
+    @Override
+    public void encrypt(ReadableByteChannel in, WritableByteChannel out, int key)
+            throws InvalidKeyException, IOException {
+        if (cipher.isLengthPreserving()) {
+            super.encrypt(in, out, key);
+        } else {
+            cipher.encrypt(in, out, key);
+        }
+    }
+
+    @Override
+    public void decrypt(ReadableByteChannel in, WritableByteChannel out, int key)
+            throws InvalidKeyException, IOException {
+        if (cipher.isLengthPreserving()) {
+            super.decrypt(in, out, key);
+        } else {
+            cipher.decrypt(in, out, key);
+        }
+    }
+
+    @Override
+    public void encrypt(Reader in, Writer out, int key) throws InvalidKeyException, IOException {
+        if (cipher.isLengthPreserving()) {
+            super.encrypt(in, out, key);
+        } else {
+            cipher.encrypt(in, out, key);
+        }
+    }
+
+    @Override
+    public void decrypt(Reader in, Writer out, int key) throws InvalidKeyException, IOException {
+        if (cipher.isLengthPreserving()) {
+            super.decrypt(in, out, key);
+        } else {
+            cipher.decrypt(in, out, key);
+        }
+    }
+
+    @Override
+    public int encryptInto(char[] src, int srcOff, int len, char[] dst, int dstOff, int key)
+            throws InvalidKeyException {
+        return cipher.isLengthPreserving() ? super.encryptInto(src, srcOff, len, dst, dstOff, key)
+                : cipher.encryptInto(src, srcOff, len, dst, dstOff, key);
+    }
+
+    @Override
+    public int decryptInto(char[] src, int srcOff, int len, char[] dst, int dstOff, int key)
+            throws InvalidKeyException {
+        return cipher.isLengthPreserving() ? super.decryptInto(src, srcOff, len, dst, dstOff, key)
+                : cipher.decryptInto(src, srcOff, len, dst, dstOff, key);
+    }
+
+    @Override
+    public int encryptInto(byte[] src, int srcOff, int len, byte[] dst, int dstOff, int key)
+            throws InvalidKeyException {
+        return cipher.isLengthPreserving() ? super.encryptInto(src, srcOff, len, dst, dstOff, key)
+                : cipher.encryptInto(src, srcOff, len, dst, dstOff, key);
+    }
+
+    @Override
+    public int decryptInto(byte[] src, int srcOff, int len, byte[] dst, int dstOff, int key)
+            throws InvalidKeyException {
+        return cipher.isLengthPreserving() ? super.decryptInto(src, srcOff, len, dst, dstOff, key)
+                : cipher.decryptInto(src, srcOff, len, dst, dstOff, key);
+    }
+
+    @Override
+    public int encryptInto(CharBuffer src, CharBuffer dst, int key) throws InvalidKeyException {
+        return cipher.isLengthPreserving() ? super.encryptInto(src, dst, key) : cipher.encryptInto(src, dst, key);
+    }
+
+    @Override
+    public int decryptInto(CharBuffer src, CharBuffer dst, int key) throws InvalidKeyException {
+        return cipher.isLengthPreserving() ? super.decryptInto(src, dst, key) : cipher.decryptInto(src, dst, key);
+    }
+
+    @Override
+    public int encryptInto(ByteBuffer src, ByteBuffer dst, int key, long position) throws InvalidKeyException {
+        return cipher.isLengthPreserving() ? super.encryptInto(src, dst, key, position)
+                : cipher.encryptInto(src, dst, key, position);
+    }
+
+    @Override
+    public int decryptInto(ByteBuffer src, ByteBuffer dst, int key, long position) throws InvalidKeyException {
+        return cipher.isLengthPreserving() ? super.decryptInto(src, dst, key, position)
+                : cipher.decryptInto(src, dst, key, position);
+    }
+
+    @Override
+    protected int streamChunkSize() {
+        // Read enough per chunk to keep every worker busy
+        return MIN_CHUNK_SIZE * pool.getParallelism();
+    }
+
+    @Override
+    protected void encryptChars(char[] src, int srcOff, char[] dst, int dstOff, int len, int key)
+            throws InvalidKeyException {
+        encryptChars(src, srcOff, dst, dstOff, len, key, 0);
+    }
+
+    @Override
+    protected void decryptChars(char[] src, int srcOff, char[] dst, int dstOff, int len, int key)
+            throws InvalidKeyException {
+        decryptChars(src, srcOff, dst, dstOff, len, key, 0);
+    }
+
+    @Override
+    protected void encryptChars(char[] src, int srcOff, char[] dst, int dstOff, int len, int key, long position)
+            throws InvalidKeyException {
+        cipher.encryptChars(src, srcOff, dst, dstOff, 0, key, position); // validates the key up front
+        pool.invoke(new CharTask(src, srcOff, dst, dstOff, len, key, position, true, threshold(len)));
+    }
+
+    @Override
+    protected void decryptChars(char[] src, int srcOff, char[] dst, int dstOff, int len, int key, long position)
+            throws InvalidKeyException {
+        cipher.decryptChars(src, srcOff, dst, dstOff, 0, key, position);
+        pool.invoke(new CharTask(src, srcOff, dst, dstOff, len, key, position, false, threshold(len)));
+    }
+
+    @Override
+    protected void encryptBytes(ByteBuffer src, ByteBuffer dst, int key) throws InvalidKeyException {
+        transformBytes(src, dst, key, 0, true);
+    }
+
+    @Override
+    protected void decryptBytes(ByteBuffer src, ByteBuffer dst, int key) throws InvalidKeyException {
+        transformBytes(src, dst, key, 0, false);
+    }
+
+    @Override
+    protected void encryptBytes(ByteBuffer src, ByteBuffer dst, int key, long position) throws InvalidKeyException {
+        transformBytes(src, dst, key, position, true);
+    }
+
+    @Override
+    protected void decryptBytes(ByteBuffer src, ByteBuffer dst, int key, long position) throws InvalidKeyException {
+        transformBytes(src, dst, key, position, false);
+    }
+
+    @Override
+    protected void encryptBytes(byte[] src, int srcOff, byte[] dst, int dstOff, int len, int key, long position)
+            throws InvalidKeyException {
+        transformBytes(ByteBuffer.wrap(src, srcOff, len), ByteBuffer.wrap(dst, dstOff, len), key, position, true);
+    }
+
+    @Override
+    protected void decryptBytes(byte[] src, int srcOff, byte[] dst, int dstOff, int len, int key, long position)
+            throws InvalidKeyException {
+        transformBytes(ByteBuffer.wrap(src, srcOff, len), ByteBuffer.wrap(dst, dstOff, len), key, position, false);
+    }
+
+    private void transformBytes(ByteBuffer src, ByteBuffer dst, int key, long position, boolean encrypt)
+            throws InvalidKeyException {
+        int len = src.remaining();
+        if (dst.remaining() < len) {
+            throw new BufferOverflowException();
+        }
+        int sp = src.position();
+        int dp = dst.position();
+
+        // Validate the key on an empty range before fanning out
+        ByteBuffer empty = ByteBuffer.allocate(0);
+        if (encrypt) {
+            cipher.encryptBytes(empty, empty, key, position);
+        } else {
+            cipher.decryptBytes(empty, empty, key, position);
+        }
+
+        pool.invoke(new ByteTask(src, sp, dst, dp, len, key, position, encrypt, threshold(len)));
+        src.position(sp + len);
+        dst.position(dp + len);
+    }
+
+    private int threshold(int len) {
+        // Roughly four chunks per worker so uneven chunks still balance out
+        return Math.max(MIN_CHUNK_SIZE, len / (pool.getParallelism() * 4));
+    }
+
+    @Override
+    public byte[] fingerprint(byte[] salt, int key, boolean binary) throws InvalidKeyException {
+        return cipher.fingerprint(salt, key, binary);
+    }
+
+    @Override
+    public String getName() {
+        return cipher.getName();
+    }
+
+    @Override
+    public String toString() {
+        return cipher.toString();
+    }
+
+    private final class CharTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final char[] src;
+        private final int srcOff;
+        private final char[] dst;
+        private final int dstOff;
+        private final int len;
+        private final int key;
+        private final long position;
+        private final boolean encrypt;
+        private final int threshold;
+
+        CharTask(char[] src, int srcOff, char[] dst, int dstOff, int len, int key, long position, boolean encrypt,
+                int threshold) {
+            this.src = src;
+            this.srcOff = srcOff;
+            this.dst = dst;
+            this.dstOff = dstOff;
+            this.len = len;
+            this.key = key;
+            this.position = position;
+            this.encrypt = encrypt;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (len <= threshold) {
+                try {
+                    if (encrypt) {
+                        cipher.encryptChars(src, srcOff, dst, dstOff, len, key, position);
+                    } else {
+                        cipher.decryptChars(src, srcOff, dst, dstOff, len, key, position);
+                    }
+                } catch (InvalidKeyException e) {
+                    throw new IllegalStateException(e); // key was validated before splitting
+                }
+                return;
+            }
+            int half = len / 2;
+            invokeAll(new CharTask(src, srcOff, dst, dstOff, half, key, position, encrypt, threshold),
+                    new CharTask(src, srcOff + half, dst, dstOff + half, len - half, key, position + half, encrypt,
+                            threshold));
+        }
+    }
+
+    private final class ByteTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final ByteBuffer src;
+        private final int srcPos;
+        private final ByteBuffer dst;
+        private final int dstPos;
+        private final int len;
+        private final int key;
+        private final long position;
+        private final boolean encrypt;
+        private final int threshold;
+
+        ByteTask(ByteBuffer src, int srcPos, ByteBuffer dst, int dstPos, int len, int key, long position,
+                boolean encrypt, int threshold) {
+            this.src = src;
+            this.srcPos = srcPos;
+            this.dst = dst;
+            this.dstPos = dstPos;
+            this.len = len;
+            this.key = key;
+            this.position = position;
+            this.encrypt = encrypt;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (len <= threshold) {
+                // Each chunk gets its own view so positions don't clash between threads
+                ByteBuffer source = src.duplicate();
+                source.limit(srcPos + len).position(srcPos);
+                ByteBuffer target = dst.duplicate();
+                target.limit(dstPos + len).position(dstPos);
+                try {
+                    if (encrypt) {
+                        cipher.encryptBytes(source, target, key, position);
+                    } else {
+                        cipher.decryptBytes(source, target, key, position);
+                    }
+                } catch (InvalidKeyException e) {
+                    throw new IllegalStateException(e); // key was validated before splitting
+                }
+                return;
+            }
+            int half = len / 2;
+            invokeAll(new ByteTask(src, srcPos, dst, dstPos, half, key, position, encrypt, threshold),
+                    new ByteTask(src, srcPos + half, dst, dstPos + half, len - half, key, position + half, encrypt,
+                            threshold));
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package algorithms;
+
+import exceptions.InvalidKeyException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import javax.crypto.Mac;
+
+/**
+ * XORs the input with a key of any length, repeated end to end: character (or
+ * byte) {@code i} of the input is XORed with key byte {@code i mod n}. Text and
+ * raw bytes use the same key bytes, so ASCII text gives the same result in both
+ * modes. The numeric key passed with each call is not used.
+ *
+ * The key is expanded once into pads that hold it repeated over a stride of
+ * at least 16 K units, a whole number of key lengths. The hot loop then XORs
+ * the input with the pad stride by stride, which the {@link XorKernel} runs as
+ * whole vectors, and the key phase is the same at the start of every stride.
+ * The phase of the first stride comes from the position that the streaming,
+ * parallel and memory-mapped paths pass down, so chunks can be transformed
+ * independently. Instances are immutable and safe to share between threads.
+ */
+public class RepeatingKeyXorCipher extends Cipher {
+
+    /** Prefix of a key given as hexadecimal bytes instead of UTF-8 text */
+    public static final String HEX_PREFIX = "hex:";
+
+    private static final XorKernel KERNEL = XorKernel.get();
+
+    private static final int PAD_BLOCK = 16 * 1024;
+
+    private final byte[] key;
+    private final int stride; // whole number of key lengths, at least PAD_BLOCK
+    private final byte[] bytePad; // key repeated over stride + key length - 1 bytes
+    private final char[] charPad; // the same, one key byte per char
+
+    /**
+     * @param key key bytes, repeated over the input; copied
+     * @throws InvalidKeyException if the key is empty
+     */
+    public RepeatingKeyXorCipher(byte[] key) throws InvalidKeyException {
+        if (key == null || key.length == 0) {
+            throw new InvalidKeyException("Key must not be empty");
+        }
+        this.key = key.clone();
+        stride = key.length * ((PAD_BLOCK + key.length - 1) / key.length);
+        bytePad = new byte[stride + key.length - 1];
+        charPad = new char[bytePad.length];
+        for (int i = 0; i < bytePad.length; i++) {
+            bytePad[i] = key[i % key.length];
+            charPad[i] = (char) (bytePad[i] & 0xFF);
+        }
+    }
+
+    /**
+     * Turns a key typed by the user into key bytes: the UTF-8 bytes of the text,
+     * or, after {@value #HEX_PREFIX}, bytes written as pairs of hex digits
+     *
+     * @param keyText text key such as "secret" or "hex:0a1b2c"
+     * @return the key bytes
+     * @throws InvalidKeyException if the key is empty or not valid hex
+     */
+    public static byte[] parseKey(String keyText) throws InvalidKeyException {
+        if (keyText == null || keyText.isEmpty()) {
+            throw new InvalidKeyException("Key must not be empty");
+        }
+        if (!keyText.regionMatches(true, 0, HEX_PREFIX, 0, HEX_PREFIX.length())) {
+            return keyText.getBytes(StandardCharsets.UTF_8);
+        }
+        String hex = keyText.substring(HEX_PREFIX.length()).trim();
+        if (hex.length() % 2 != 0) {
+            throw new InvalidKeyException("Hex key must have an even number of digits");
+        }
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int high = Character.digit(hex.charAt(2 * i), 16);
+            int low = Character.digit(hex.charAt(2 * i + 1), 16);
+            if (high < 0 || low < 0) {
+                throw new InvalidKeyException("Hex key must contain only the digits 0-9 and A-F");
+            }
+            bytes[i] = (byte) (high << 4 | low);
+        }
+        return bytes;
+    }
+
+    /**
+     * @return number of key bytes, the period after which the key repeats
+     */
+    public int getKeyLength() {
+        return key.length;
+    }
+
+    /**
+     * Covers every key byte, however long the key; text and binary mode XOR with
+     * the same bytes
+     */
+    @Override
+    public byte[] fingerprint(byte[] salt, int key, boolean binary) {
+        Mac mac = fingerprintMac(salt);
+        mac.update(getName().getBytes(StandardCharsets.UTF_8));
+        return mac.doFinal(this.key);
+    }
+
+    @Override
+    protected void encryptChars(char[] src, int srcOff, char[] dst, int dstOff, int len, int key) {
+        xor(src, srcOff, dst, dstOff, len, 0);
+    }
+
+    @Override
+    protected void decryptChars(char[] src, int srcOff, char[] dst, int dstOff, int len, int key) {
+        xor(src, srcOff, dst, dstOff, len, 0);
+    }
+
+    @Override
+    protected void encryptChars(char[] src, int srcOff, char[] dst, int dstOff, int len, int key, long position) {
+        xor(src, srcOff, dst, dstOff, len, position);
+    }
+
+    @Override
+    protected void decryptChars(char[] src, int srcOff, char[] dst, int dstOff, int len, int key, long position) {
+        xor(src, srcOff, dst, dstOff, len, position); // XOR again restores original
+    }
+
+    @Override
+    protected void encryptBytes(ByteBuffer src, ByteBuffer dst, int key) {
+        xor(src, dst, 0);
+    }
+
+    @Override
+    protected void decryptBytes(ByteBuffer src, ByteBuffer dst, int key) {
+        xor(src, dst, 0);
+    }
+
+    @Override
+    protected void encryptBytes(ByteBuffer src, ByteBuffer dst, int key, long position) {
+        xor(src, dst, position);
+    }
+
+    @Override
+    protected void decryptBytes(ByteBuffer src, ByteBuffer dst, int key, long position) {
+        xor(src, dst, position);
+    }
+
+    @Override
+    protected void encryptBytes(byte[] src, int srcOff, byte[] dst, int dstOff, int len, int key) {
+        xor(src, srcOff, dst, dstOff, len, 0);
+    }
+
+    @Override
+    protected void decryptBytes(byte[] src, int srcOff, byte[] dst, int dstOff, int len, int key) {
+        xor(src, srcOff, dst, dstOff, len, 0);
+    }
+
+    @Override
+    protected void encryptBytes(byte[] src, int srcOff, byte[] dst, int dstOff, int len, int key, long position) {
+        xor(src, srcOff, dst, dstOff, len, position);
+    }
+
+    @Override
+    protected void decryptBytes(byte[] src, int srcOff, byte[] dst, int dstOff, int len, int key, long position) {
+        xor(src, srcOff, dst, dstOff, len, position);
+    }
+
+    private void xor(char[] src, int srcOff, char[] dst, int dstOff, int len, long position) {
+        int phase = (int) (position % key.length);
+        for (int done = 0; done < len; done += stride) {
+            int n = Math.min(stride, len - done);
+            KERNEL.xor(src, srcOff + done, dst, dstOff + done, n, charPad, phase);
+        }
+    }
+
+    private void xor(byte[] src, int srcOff, byte[] dst, int dstOff, int len, long position) {
+        int phase = (int) (position % key.length);
+        for (int done = 0; done < len; done += stride) {
+            int n = Math.min(stride, len - done);
+            KERNEL.xor(src, srcOff + done, dst, dstOff + done, n, bytePad, phase);
+        }
+    }
+
+    private void xor(ByteBuffer src, ByteBuffer dst, long position) {
+        int phase = (int) (position % key.length);
+        int limit = src.limit();
+        try {
+            for (int from = src.position(); from < limit; from = src.position()) {
+                src.limit(Math.min(limit, from + stride)); // one stride at a time
+                KERNEL.xor(src, dst, bytePad, phase);
+            }
+        } finally {
+            src.limit(limit);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Repeating-Key XOR Cipher";
+    }
+
+    @Override
+    public String toString() {
+        return "Cipher: Repeating-Key XOR Cipher";
+    }
+}
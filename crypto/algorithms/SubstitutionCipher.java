@@ -1,98 +1,118 @@
 package algorithms;
 
 import exceptions.InvalidKeyException;
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.ByteBuffer;
 
+/**
+ * Replaces each letter with the letter at the same position of a 26-letter
+ * mapping. The translation tables are built once in the constructor; instances
+ * are immutable and safe to share between threads.
+ */
 public class SubstitutionCipher extends Cipher {
 
-    private final Map<Character, Character> encryptMap;
-    private final Map<Character, Character> decryptMap;
-    private boolean isValid = true;
-    private String errorMessage = "";
+    private final LookupTable encryptTable; // null when the mapping is invalid
+    private final LookupTable decryptTable;
+    private final String errorMessage; // null when the mapping is valid
 
     public SubstitutionCipher(String mapping) {
-        encryptMap = new HashMap<>();
-        decryptMap = new HashMap<>();
-        
+        errorMessage = validate(mapping);
+        if (errorMessage == null) {
+            // If valid, build the translation tables once
+            encryptTable = LookupTable.forLetters(mapping.toUpperCase());
+            decryptTable = encryptTable.inverse();
+        } else {
+            encryptTable = null;
+            decryptTable = null;
+        }
+    }
+
+    // Returns why the mapping is unusable, or null if it is fine
+    private static String validate(String mapping) {
         // Simple validation
         if (mapping == null || mapping.length() != 26) {
-            isValid = false;
-            errorMessage = "Mapping must have exactly 26 characters for A-Z";
-            return;
+            return "Mapping must have exactly 26 characters for A-Z";
         }
-        
+
         mapping = mapping.toUpperCase();
         boolean[] used = new boolean[26];
-        
+
         for (int i = 0; i < 26; i++) {
             char c = mapping.charAt(i);
-            if (!Character.isLetter(c)) {
-                isValid = false;
-                errorMessage = "Mapping must contain only letters A-Z";
-                return;
+            if (c < 'A' || c > 'Z') {
+                return "Mapping must contain only letters A-Z";
             }
             int index = c - 'A';
             if (used[index]) {
-                isValid = false;
-                errorMessage = "Duplicate character in mapping: '" + c + "'";
-                return;
+                return "Duplicate character in mapping: '" + c + "'";
             }
             used[index] = true;
         }
-        
-        // If valid, create maps
-        for (char ch = 'A'; ch <= 'Z'; ch++) {
-            char mapped = mapping.charAt(ch - 'A');
-            encryptMap.put(ch, mapped);
-            decryptMap.put(mapped, ch);
-        }
+        return null;
     }
 
     public boolean isValid() {
-        return isValid;
+        return errorMessage == null;
     }
-    
+
     public String getErrorMessage() {
-        return errorMessage;
+        return errorMessage == null ? "" : errorMessage;
     }
     
     @Override
-    public String encrypt(String text, int key) throws InvalidKeyException {
-        if (!isValid) {
+    protected void encryptChars(char[] src, int srcOff, char[] dst, int dstOff, int len, int key)
+            throws InvalidKeyException {
+        if (errorMessage != null) {
             throw new InvalidKeyException(errorMessage);
         }
-        final StringBuilder result = new StringBuilder();
-
-        for (char ch : text.toCharArray()) {
-            if (Character.isUpperCase(ch)) {
-                result.append(encryptMap.get(ch));
-            } else if (Character.isLowerCase(ch)) {
-                result.append(Character.toLowerCase(encryptMap.get(Character.toUpperCase(ch))));
-            } else {
-                result.append(ch); // leave non-alphabets unchanged
-            }
+        encryptTable.apply(src, srcOff, dst, dstOff, len);
+    }
+
+    @Override
+    protected void decryptChars(char[] src, int srcOff, char[] dst, int dstOff, int len, int key)
+            throws InvalidKeyException {
+        if (errorMessage != null) {
+            throw new InvalidKeyException(errorMessage);
         }
-        return result.toString();
+        decryptTable.apply(src, srcOff, dst, dstOff, len);
     }
 
     @Override
-    public String decrypt(String text, int key) throws InvalidKeyException {
-        if (!isValid) {
+    protected void encryptBytes(ByteBuffer src, ByteBuffer dst, int key) throws InvalidKeyException {
+        if (errorMessage != null) {
             throw new InvalidKeyException(errorMessage);
         }
-        final StringBuilder result = new StringBuilder();
-
-        for (char ch : text.toCharArray()) {
-            if (Character.isUpperCase(ch)) {
-                result.append(decryptMap.get(ch));
-            } else if (Character.isLowerCase(ch)) {
-                result.append(Character.toLowerCase(decryptMap.get(Character.toUpperCase(ch))));
-            } else {
-                result.append(ch);
-            }
+        encryptTable.apply(src, dst);
+    }
+
+    @Override
+    protected void decryptBytes(ByteBuffer src, ByteBuffer dst, int key) throws InvalidKeyException {
+        if (errorMessage != null) {
+            throw new InvalidKeyException(errorMessage);
+        }
+        decryptTable.apply(src, dst);
+    }
+
+    @Override
+    protected void encryptBytes(byte[] src, int srcOff, byte[] dst, int dstOff, int len, int key)
+            throws InvalidKeyException {
+        if (errorMessage != null) {
+            throw new InvalidKeyException(errorMessage);
         }
-        return result.toString();
+        encryptTable.apply(src, srcOff, dst, dstOff, len);
+    }
+
+    @Override
+    protected void decryptBytes(byte[] src, int srcOff, byte[] dst, int dstOff, int len, int key)
+            throws InvalidKeyException {
+        if (errorMessage != null) {
+            throw new InvalidKeyException(errorMessage);
+        }
+        decryptTable.apply(src, srcOff, dst, dstOff, len);
+    }
+
+    @Override
+    public boolean isCharacterMap() {
+        return true;
     }
 
     @Override
@@ -1,35 +1,69 @@
 package algorithms;
 
 import exceptions.InvalidKeyException;
+import java.nio.ByteBuffer;
 
 public class XORCipher extends Cipher {
 
+    private static final XorKernel KERNEL = XorKernel.get();
+
+    @Override
+    protected void encryptChars(char[] src, int srcOff, char[] dst, int dstOff, int len, int key)
+            throws InvalidKeyException {
+        if (key < 0) {
+            throw new InvalidKeyException("Key must be positive for XOR Cipher");
+        }
+
+        KERNEL.xor(src, srcOff, dst, dstOff, len, (char) key); // XOR each character with the key
+    }
+
+    @Override
+    protected void decryptChars(char[] src, int srcOff, char[] dst, int dstOff, int len, int key)
+            throws InvalidKeyException {
+        if (key < 0) {
+            throw new InvalidKeyException("Key must be positive for XOR Cipher");
+        }
+
+        KERNEL.xor(src, srcOff, dst, dstOff, len, (char) key); // XOR again restores original
+    }
+
     @Override
-    public String encrypt(String text, int key) throws InvalidKeyException {
+    protected void encryptBytes(ByteBuffer src, ByteBuffer dst, int key) throws InvalidKeyException {
         if (key < 0) {
             throw new InvalidKeyException("Key must be positive for XOR Cipher");
         }
+        KERNEL.xor(src, dst, (byte) key); // in byte mode only the low eight bits of the key take part
+    }
 
-        final StringBuilder result = new StringBuilder();
-        for (char ch : text.toCharArray()) {
-            char c = (char) (ch ^ key); // XOR each character with the key
-            result.append(c);
+    @Override
+    protected void decryptBytes(ByteBuffer src, ByteBuffer dst, int key) throws InvalidKeyException {
+        if (key < 0) {
+            throw new InvalidKeyException("Key must be positive for XOR Cipher");
         }
-        return result.toString();
+        KERNEL.xor(src, dst, (byte) key);
     }
 
     @Override
-    public String decrypt(String text, int key) throws InvalidKeyException {
+    protected void encryptBytes(byte[] src, int srcOff, byte[] dst, int dstOff, int len, int key)
+            throws InvalidKeyException {
         if (key < 0) {
             throw new InvalidKeyException("Key must be positive for XOR Cipher");
         }
+        KERNEL.xor(src, srcOff, dst, dstOff, len, (byte) key);
+    }
 
-        final StringBuilder result = new StringBuilder();
-        for (char ch : text.toCharArray()) {
-            char c = (char) (ch ^ key); // XOR again restores original
-            result.append(c);
+    @Override
+    protected void decryptBytes(byte[] src, int srcOff, byte[] dst, int dstOff, int len, int key)
+            throws InvalidKeyException {
+        if (key < 0) {
+            throw new InvalidKeyException("Key must be positive for XOR Cipher");
         }
-        return result.toString();
+        KERNEL.xor(src, srcOff, dst, dstOff, len, (byte) key);
+    }
+
+    @Override
+    public boolean isCharacterMap() {
+        return true;
     }
 
     @Override
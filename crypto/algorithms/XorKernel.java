@@ -0,0 +1,157 @@
+package algorithms;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Bulk XOR of char and byte ranges against a single key unit, or against a
+ * pad holding a longer key already repeated to the needed length. The default
+ * kernel is a plain loop (which HotSpot auto-vectorizes where it can); when the
+ * jdk.incubator.vector module is available, a Vector API kernel from
+ * {@code algorithms.simd} is picked instead.
+ */
+public abstract class XorKernel {
+
+    private static final String VECTOR_KERNEL = "algorithms.simd.VectorXorKernel";
+
+    private static final XorKernel INSTANCE = load();
+
+    /**
+     * @return the fastest kernel available in this JVM
+     */
+    public static XorKernel get() {
+        return INSTANCE;
+    }
+
+    private static XorKernel load() {
+        // -Dcipherguard.xor.kernel=scalar forces the fallback, e.g. for comparisons
+        if (!"scalar".equals(System.getProperty("cipherguard.xor.kernel"))) {
+            try {
+                return (XorKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // Vector API not compiled in or module not enabled: use the scalar kernel
+            }
+        }
+        return new XorKernel() {
+            @Override
+            public String getName() {
+                return "scalar";
+            }
+        };
+    }
+
+    /**
+     * @return short name of the kernel, for logs and benchmarks
+     */
+    public abstract String getName();
+
+    /**
+     * XORs {@code len} chars of {@code src} with {@code key} into {@code dst}.
+     * Source and destination may be the same region.
+     */
+    public void xor(char[] src, int srcOff, char[] dst, int dstOff, int len, char key) {
+        for (int i = 0; i < len; i++) {
+            dst[dstOff + i] = (char) (src[srcOff + i] ^ key);
+        }
+    }
+
+    /**
+     * XORs {@code len} bytes of {@code src} with {@code key} into {@code dst}.
+     * Source and destination may be the same region.
+     */
+    public void xor(byte[] src, int srcOff, byte[] dst, int dstOff, int len, byte key) {
+        for (int i = 0; i < len; i++) {
+            dst[dstOff + i] = (byte) (src[srcOff + i] ^ key);
+        }
+    }
+
+    /**
+     * XORs {@code len} chars of {@code src} with the chars of {@code pad} from
+     * {@code padOff} on into {@code dst}. Source and destination may be the same region.
+     */
+    public void xor(char[] src, int srcOff, char[] dst, int dstOff, int len, char[] pad, int padOff) {
+        for (int i = 0; i < len; i++) {
+            dst[dstOff + i] = (char) (src[srcOff + i] ^ pad[padOff + i]);
+        }
+    }
+
+    /**
+     * XORs {@code len} bytes of {@code src} with the bytes of {@code pad} from
+     * {@code padOff} on into {@code dst}. Source and destination may be the same region.
+     */
+    public void xor(byte[] src, int srcOff, byte[] dst, int dstOff, int len, byte[] pad, int padOff) {
+        // HotSpot does not vectorize a loop loading from two arrays at unrelated offsets, so go by words
+        ByteBuffer source = ByteBuffer.wrap(src).order(ByteOrder.nativeOrder());
+        ByteBuffer target = ByteBuffer.wrap(dst).order(ByteOrder.nativeOrder());
+        ByteBuffer keys = ByteBuffer.wrap(pad).order(ByteOrder.nativeOrder());
+        int i = 0;
+        for (; i <= len - 8; i += 8) {
+            target.putLong(dstOff + i, source.getLong(srcOff + i) ^ keys.getLong(padOff + i));
+        }
+        for (; i < len; i++) {
+            dst[dstOff + i] = (byte) (src[srcOff + i] ^ pad[padOff + i]);
+        }
+    }
+
+    /**
+     * XORs the remaining bytes of {@code src} with {@code key} into {@code dst},
+     * advancing both positions. Heap buffers go through the array kernel; direct
+     * and mapped buffers are processed eight bytes at a time.
+     */
+    public void xor(ByteBuffer src, ByteBuffer dst, byte key) {
+        int len = src.remaining();
+        int sp = src.position();
+        int dp = dst.position();
+        if (dst.remaining() < len) {
+            throw new BufferOverflowException();
+        }
+
+        if (src.hasArray() && dst.hasArray() && !dst.isReadOnly()) {
+            xor(src.array(), src.arrayOffset() + sp, dst.array(), dst.arrayOffset() + dp, len, key);
+        } else {
+            long wideKey = (key & 0xFFL) * 0x0101010101010101L; // key repeated in every byte
+            int i = 0;
+            for (; i <= len - 8; i += 8) {
+                dst.putLong(dp + i, src.getLong(sp + i) ^ wideKey);
+            }
+            for (; i < len; i++) {
+                dst.put(dp + i, (byte) (src.get(sp + i) ^ key));
+            }
+        }
+        src.position(sp + len);
+        dst.position(dp + len);
+    }
+
+    /**
+     * XORs the remaining bytes of {@code src} with the bytes of {@code pad} from
+     * {@code padOff} on into {@code dst}, advancing both positions. Direct and
+     * mapped buffers are processed eight bytes at a time.
+     */
+    public void xor(ByteBuffer src, ByteBuffer dst, byte[] pad, int padOff) {
+        int len = src.remaining();
+        int sp = src.position();
+        int dp = dst.position();
+        if (dst.remaining() < len) {
+            throw new BufferOverflowException();
+        }
+
+        if (src.hasArray() && dst.hasArray() && !dst.isReadOnly()) {
+            xor(src.array(), src.arrayOffset() + sp, dst.array(), dst.arrayOffset() + dp, len, pad, padOff);
+        } else {
+            // Words are read and written in native order, the cheapest one, through views of the buffers
+            ByteBuffer source = src.duplicate().order(ByteOrder.nativeOrder());
+            ByteBuffer target = dst.duplicate().order(ByteOrder.nativeOrder());
+            ByteBuffer keys = ByteBuffer.wrap(pad).order(ByteOrder.nativeOrder());
+            int i = 0;
+            for (; i <= len - 8; i += 8) {
+                target.putLong(dp + i, source.getLong(sp + i) ^ keys.getLong(padOff + i));
+            }
+            for (; i < len; i++) {
+                dst.put(dp + i, (byte) (src.get(sp + i) ^ pad[padOff + i]));
+            }
+        }
+        src.position(sp + len);
+        dst.position(dp + len);
+    }
+}
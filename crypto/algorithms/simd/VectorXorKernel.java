@@ -0,0 +1,79 @@
+package algorithms.simd;
+
+import algorithms.XorKernel;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * XOR kernel built on the incubating Vector API, processing a full vector of
+ * lanes per instruction. It is loaded reflectively by {@link XorKernel#get()},
+ * so it must be compiled and run with {@code --add-modules jdk.incubator.vector}.
+ */
+public class VectorXorKernel extends XorKernel {
+
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Short> SHORTS = ShortVector.SPECIES_PREFERRED;
+
+    @Override
+    public String getName() {
+        return "vector-" + BYTES.vectorBitSize();
+    }
+
+    @Override
+    public void xor(char[] src, int srcOff, char[] dst, int dstOff, int len, char key) {
+        int i = 0;
+        int bound = SHORTS.loopBound(len);
+        for (; i < bound; i += SHORTS.length()) {
+            ShortVector.fromCharArray(SHORTS, src, srcOff + i)
+                    .lanewise(VectorOperators.XOR, (short) key)
+                    .intoCharArray(dst, dstOff + i);
+        }
+        for (; i < len; i++) {
+            dst[dstOff + i] = (char) (src[srcOff + i] ^ key);
+        }
+    }
+
+    @Override
+    public void xor(byte[] src, int srcOff, byte[] dst, int dstOff, int len, byte key) {
+        int i = 0;
+        int bound = BYTES.loopBound(len);
+        for (; i < bound; i += BYTES.length()) {
+            ByteVector.fromArray(BYTES, src, srcOff + i)
+                    .lanewise(VectorOperators.XOR, key)
+                    .intoArray(dst, dstOff + i);
+        }
+        for (; i < len; i++) {
+            dst[dstOff + i] = (byte) (src[srcOff + i] ^ key);
+        }
+    }
+
+    @Override
+    public void xor(char[] src, int srcOff, char[] dst, int dstOff, int len, char[] pad, int padOff) {
+        int i = 0;
+        int bound = SHORTS.loopBound(len);
+        for (; i < bound; i += SHORTS.length()) {
+            ShortVector.fromCharArray(SHORTS, src, srcOff + i)
+                    .lanewise(VectorOperators.XOR, ShortVector.fromCharArray(SHORTS, pad, padOff + i))
+                    .intoCharArray(dst, dstOff + i);
+        }
+        for (; i < len; i++) {
+            dst[dstOff + i] = (char) (src[srcOff + i] ^ pad[padOff + i]);
+        }
+    }
+
+    @Override
+    public void xor(byte[] src, int srcOff, byte[] dst, int dstOff, int len, byte[] pad, int padOff) {
+        int i = 0;
+        int bound = BYTES.loopBound(len);
+        for (; i < bound; i += BYTES.length()) {
+            ByteVector.fromArray(BYTES, src, srcOff + i)
+                    .lanewise(VectorOperators.XOR, ByteVector.fromArray(BYTES, pad, padOff + i))
+                    .intoArray(dst, dstOff + i);
+        }
+        for (; i < len; i++) {
+            dst[dstOff + i] = (byte) (src[srcOff + i] ^ pad[padOff + i]);
+        }
+    }
+}
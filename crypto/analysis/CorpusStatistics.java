@@ -0,0 +1,498 @@
+package analysis;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Frequency statistics of a text or binary file, gathered in one streaming
+ * pass. The file yields either characters decoded with a charset or raw
+ * bytes, and the statistics cover:
+ * <ul>
+ * <li>a histogram of every character (or byte value);</li>
+ * <li>the letters A-Z with case folded, and the bigrams of adjacent letters;</li>
+ * <li>the index of coincidence and the Shannon entropy.</li>
+ * </ul>
+ *
+ * Files are split into one byte range per worker of the common ForkJoinPool.
+ * Each worker maps its range window by window and counts into its own
+ * {@code long[]} histograms. The partial histograms are merged in file order,
+ * which also restores the bigrams that straddle two ranges. Memory use depends
+ * on the number of workers, not on the file size. Text in UTF-8 or a
+ * single-byte charset is split at character boundaries. Other charsets are
+ * decoded by a single worker.
+ *
+ * Instances are immutable.
+ */
+public final class CorpusStatistics {
+
+    /** Index of coincidence of English letters */
+    public static final double ENGLISH_INDEX_OF_COINCIDENCE = 0.0667;
+
+    /** Index of coincidence of uniformly random letters, 1/26 */
+    public static final double RANDOM_INDEX_OF_COINCIDENCE = 1.0 / 26;
+
+    private static final long WINDOW_SIZE = 64L * 1024 * 1024; // largest region mapped at once
+    private static final long MIN_RANGE_SIZE = 4L * 1024 * 1024; // smaller files are not split
+    private static final int DECODE_BUFFER = 64 * 1024;
+
+    private final boolean binary;
+    private final long[] symbols;
+    private final long[] bigrams;
+    private final long total;
+    private final long elapsedNanos;
+
+    private CorpusStatistics(Counter counter, long elapsedNanos) {
+        this.binary = counter.symbols.length == 256;
+        this.symbols = counter.symbols;
+        this.bigrams = counter.bigrams;
+        this.total = counter.total;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gathers character statistics of a text file in parallel
+     *
+     * @param file    the file
+     * @param charset charset the file is written in
+     * @return the statistics
+     * @throws IOException if the file cannot be read
+     */
+    public static CorpusStatistics scan(Path file, Charset charset) throws IOException {
+        boolean splittable = charset.equals(StandardCharsets.UTF_8)
+                || (charset.canEncode() && charset.newEncoder().maxBytesPerChar() == 1);
+        return scanFile(file, charset, splittable);
+    }
+
+    /**
+     * Gathers byte statistics of any file in parallel; letters are the ASCII letters
+     *
+     * @param file the file
+     * @return the statistics
+     * @throws IOException if the file cannot be read
+     */
+    public static CorpusStatistics scanBytes(Path file) throws IOException {
+        return scanFile(file, null, true);
+    }
+
+    /**
+     * Gathers character statistics of a stream, sequentially
+     *
+     * @param in text to read to the end; not closed
+     * @return the statistics
+     * @throws IOException if reading fails
+     */
+    public static CorpusStatistics scan(Reader in) throws IOException {
+        long start = System.nanoTime();
+        Counter counter = new Counter(Character.MAX_VALUE + 1);
+        char[] buffer = new char[DECODE_BUFFER];
+        int n;
+        while ((n = in.read(buffer)) != -1) {
+            counter.add(buffer, n);
+        }
+        return new CorpusStatistics(counter, System.nanoTime() - start);
+    }
+
+    /**
+     * Gathers byte statistics of a stream, sequentially
+     *
+     * @param in bytes to read to the end; not closed
+     * @return the statistics
+     * @throws IOException if reading fails
+     */
+    public static CorpusStatistics scanBytes(ReadableByteChannel in) throws IOException {
+        long start = System.nanoTime();
+        Counter counter = new Counter(256);
+        ByteBuffer buffer = ByteBuffer.allocate(DECODE_BUFFER);
+        while (in.read(buffer) != -1) {
+            buffer.flip();
+            counter.addBytes(buffer);
+            buffer.clear();
+        }
+        return new CorpusStatistics(counter, System.nanoTime() - start);
+    }
+
+    private static CorpusStatistics scanFile(Path file, Charset charset, boolean splittable) throws IOException {
+        long start = System.nanoTime();
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int ranges = splittable ? (int) Math.max(1, Math.min(pool.getParallelism(), size / MIN_RANGE_SIZE)) : 1;
+            if (ranges == 1) {
+                return new CorpusStatistics(count(channel, 0, size, charset), System.nanoTime() - start);
+            }
+
+            // Range boundaries, moved forward past UTF-8 continuation bytes so no character is split
+            long[] bounds = new long[ranges + 1];
+            for (int i = 1; i < ranges; i++) {
+                long bound = size / ranges * i;
+                bounds[i] = charset != null && charset.equals(StandardCharsets.UTF_8)
+                        ? characterStart(channel, bound, size) : bound;
+            }
+            bounds[ranges] = size;
+
+            List<Callable<Counter>> tasks = new ArrayList<>(ranges);
+            for (int i = 0; i < ranges; i++) {
+                final long from = bounds[i];
+                final long to = Math.max(from, bounds[i + 1]);
+                tasks.add(new Callable<Counter>() {
+                    @Override
+                    public Counter call() throws IOException {
+                        return count(channel, from, to, charset);
+                    }
+                });
+            }
+
+            // Merge in file order so the bigrams across range boundaries are joined up
+            Counter merged = null;
+            for (Future<Counter> future : pool.invokeAll(tasks)) {
+                Counter counter = future.get();
+                if (merged == null) {
+                    merged = counter;
+                } else {
+                    merged.merge(counter);
+                }
+            }
+            return new CorpusStatistics(merged, System.nanoTime() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while scanning " + file);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // Counts the bytes in [from, to), decoded with the charset unless it is null
+    private static Counter count(FileChannel channel, long from, long to, Charset charset) throws IOException {
+        return charset == null ? countBytes(channel, from, to) : countChars(channel, from, to, charset);
+    }
+
+    private static Counter countBytes(FileChannel channel, long from, long to) throws IOException {
+        Counter counter = new Counter(256);
+        for (long offset = from; offset < to; offset += WINDOW_SIZE) {
+            long length = Math.min(WINDOW_SIZE, to - offset);
+            counter.addBytes(channel.map(FileChannel.MapMode.READ_ONLY, offset, length));
+        }
+        return counter;
+    }
+
+    private static Counter countChars(FileChannel channel, long from, long to, Charset charset) throws IOException {
+        Counter counter = new Counter(Character.MAX_VALUE + 1);
+        CharsetDecoder decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        CharBuffer chars = CharBuffer.allocate(DECODE_BUFFER);
+        long offset = from;
+        while (true) {
+            boolean last = to - offset <= WINDOW_SIZE;
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, offset,
+                    Math.min(WINDOW_SIZE, to - offset));
+            CoderResult result;
+            do {
+                result = decoder.decode(window, chars, last);
+                counter.addChars(chars);
+            } while (result.isOverflow());
+            if (last) {
+                break;
+            }
+            // A character cut off at the end of the window is decoded from the start of the next one
+            offset += window.position();
+        }
+        while (decoder.flush(chars).isOverflow()) {
+            counter.addChars(chars);
+        }
+        counter.addChars(chars);
+        return counter;
+    }
+
+    // First position at or after pos that does not hold a UTF-8 continuation byte
+    private static long characterStart(FileChannel channel, long pos, long size) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(3);
+        channel.read(bytes, pos);
+        for (int i = 0; i < bytes.position(); i++) {
+            if ((bytes.get(i) & 0xC0) != 0x80) {
+                return pos + i;
+            }
+        }
+        return Math.min(size, pos + bytes.position());
+    }
+
+    /** @return true if the statistics count bytes, false if they count decoded characters */
+    public boolean isBinary() {
+        return binary;
+    }
+
+    /** @return number of characters (or bytes) scanned */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * @param symbol a character, or a byte value 0-255 for binary statistics
+     * @return how often it occurred
+     */
+    public long getCount(int symbol) {
+        return symbol >= 0 && symbol < symbols.length ? symbols[symbol] : 0;
+    }
+
+    /** @return number of different characters (or byte values) that occurred */
+    public int getDistinct() {
+        int distinct = 0;
+        for (long count : symbols) {
+            if (count > 0) {
+                distinct++;
+            }
+        }
+        return distinct;
+    }
+
+    /**
+     * @param letter 0-25 for A-Z
+     * @return occurrences of the letter in either case
+     */
+    public long getLetterCount(int letter) {
+        return symbols['A' + letter] + symbols['a' + letter];
+    }
+
+    /** @return number of letters A-Z scanned, in either case */
+    public long getLetterTotal() {
+        long letters = 0;
+        for (int letter = 0; letter < 26; letter++) {
+            letters += getLetterCount(letter);
+        }
+        return letters;
+    }
+
+    /**
+     * @param first  0-25 for A-Z
+     * @param second 0-25 for A-Z
+     * @return how often the two letters occurred next to each other, in that order and either case
+     */
+    public long getBigramCount(int first, int second) {
+        return bigrams[first * 26 + second];
+    }
+
+    /** @return number of adjacent letter pairs scanned */
+    public long getBigramTotal() {
+        long pairs = 0;
+        for (long count : bigrams) {
+            pairs += count;
+        }
+        return pairs;
+    }
+
+    /**
+     * Probability that two letters drawn at random are the same. English text
+     * is near {@value #ENGLISH_INDEX_OF_COINCIDENCE}. Substitution and Caesar
+     * ciphers keep that value, while uniformly random letters give 1/26.
+     *
+     * @return index of coincidence of the letters, or 0 with fewer than two letters
+     */
+    public double getIndexOfCoincidence() {
+        long letters = getLetterTotal();
+        if (letters < 2) {
+            return 0;
+        }
+        double sum = 0;
+        for (int letter = 0; letter < 26; letter++) {
+            long count = getLetterCount(letter);
+            sum += (double) count * (count - 1);
+        }
+        return sum / ((double) letters * (letters - 1));
+    }
+
+    /**
+     * @return Shannon entropy of the characters (or bytes) in bits per symbol;
+     *         compressed or well-encrypted bytes are close to 8
+     */
+    public double getEntropy() {
+        return entropy(symbols, total);
+    }
+
+    /** @return Shannon entropy of the letters in bits per letter; at most log2(26), about 4.70 */
+    public double getLetterEntropy() {
+        long[] letters = new long[26];
+        for (int letter = 0; letter < 26; letter++) {
+            letters[letter] = getLetterCount(letter);
+        }
+        return entropy(letters, getLetterTotal());
+    }
+
+    /**
+     * @param n maximum number of entries
+     * @return the most frequent characters (or byte values), most frequent first
+     */
+    public int[] topSymbols(int n) {
+        return top(symbols, n);
+    }
+
+    /**
+     * @param n maximum number of entries
+     * @return the most frequent bigrams as first * 26 + second, most frequent first
+     */
+    public int[] topBigrams(int n) {
+        return top(bigrams, n);
+    }
+
+    /** @return wall-clock time of the scan in milliseconds */
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    private static double entropy(long[] counts, long total) {
+        if (total == 0) {
+            return 0;
+        }
+        double bits = 0;
+        for (long count : counts) {
+            if (count > 0) {
+                double p = (double) count / total;
+                bits -= p * Math.log(p);
+            }
+        }
+        return bits / Math.log(2);
+    }
+
+    // Indexes of the largest non-zero counts, largest first; ties go to the lower index
+    private static int[] top(long[] counts, int n) {
+        int[] best = new int[Math.max(0, Math.min(n, counts.length))];
+        int size = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0 || (size == best.length && counts[i] <= counts[best[size - 1]])) {
+                continue;
+            }
+            int j = size < best.length ? size++ : size - 1;
+            while (j > 0 && counts[best[j - 1]] < counts[i]) {
+                best[j] = best[j - 1];
+                j--;
+            }
+            best[j] = i;
+        }
+        int[] result = new int[size];
+        System.arraycopy(best, 0, result, 0, size);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d, distinct: %d, entropy: %.3f bits, letters: %d, index of coincidence: %.4f",
+                binary ? "Bytes" : "Characters", total, getDistinct(), getEntropy(), getLetterTotal(),
+                getIndexOfCoincidence());
+    }
+
+    /** Histograms of one part of the input; merged in input order */
+    private static class Counter {
+        private final long[] symbols;
+        private final long[] bigrams = new long[26 * 26];
+        private long total;
+        private int firstLetter = -1; // letter 0-25 of the first symbol, -1 if it is not a letter
+        private int previousLetter = -1; // likewise for the last symbol seen
+
+        Counter(int alphabet) {
+            this.symbols = new long[alphabet];
+        }
+
+        void add(char[] chars, int length) {
+            if (length == 0) {
+                return;
+            }
+            long[] counts = symbols;
+            int previous = total == 0 ? -1 : previousLetter;
+            for (int i = 0; i < length; i++) {
+                char c = chars[i];
+                counts[c]++;
+                int letter = QuadgramModel.letter(c);
+                if (letter >= 0 && previous >= 0) {
+                    bigrams[previous * 26 + letter]++;
+                }
+                previous = letter;
+            }
+            finish(QuadgramModel.letter(chars[0]), previous, length);
+        }
+
+        void add(byte[] bytes, int length) {
+            if (length == 0) {
+                return;
+            }
+            long[] counts = symbols;
+            int previous = total == 0 ? -1 : previousLetter;
+            for (int i = 0; i < length; i++) {
+                int b = bytes[i] & 0xFF;
+                counts[b]++;
+                int letter = QuadgramModel.letter((char) b);
+                if (letter >= 0 && previous >= 0) {
+                    bigrams[previous * 26 + letter]++;
+                }
+                previous = letter;
+            }
+            finish(QuadgramModel.letter((char) (bytes[0] & 0xFF)), previous, length);
+        }
+
+        // Updates the totals after a block; the first block fixes the first letter
+        private void finish(int first, int last, int length) {
+            if (total == 0) {
+                firstLetter = first;
+            }
+            previousLetter = last;
+            total += length;
+        }
+
+        // Counts the remaining bytes through a small array, which is faster than one get() per byte
+        void addBytes(ByteBuffer bytes) {
+            byte[] chunk = new byte[Math.min(bytes.remaining(), DECODE_BUFFER)];
+            while (bytes.hasRemaining()) {
+                int n = Math.min(chunk.length, bytes.remaining());
+                bytes.get(chunk, 0, n);
+                add(chunk, n);
+            }
+        }
+
+        // Counts and empties the decoded characters
+        void addChars(CharBuffer chars) {
+            chars.flip();
+            add(chars.array(), chars.limit());
+            chars.clear();
+        }
+
+        // Appends the counts of the part that follows this one
+        void merge(Counter next) {
+            if (next.total == 0) {
+                return;
+            }
+            for (int i = 0; i < symbols.length; i++) {
+                symbols[i] += next.symbols[i];
+            }
+            for (int i = 0; i < bigrams.length; i++) {
+                bigrams[i] += next.bigrams[i];
+            }
+            if (total == 0) {
+                firstLetter = next.firstLetter;
+            } else if (previousLetter >= 0 && next.firstLetter >= 0) {
+                bigrams[previousLetter * 26 + next.firstLetter]++;
+            }
+            total += next.total;
+            previousLetter = next.previousLetter;
+        }
+    }
+}
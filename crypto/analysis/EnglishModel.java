@@ -0,0 +1,85 @@
+package analysis;
+
+import java.util.Arrays;
+
+/**
+ * Character frequency model of English prose, used to score candidate
+ * plain texts. Every UTF-16 character has a natural-log probability, looked
+ * up from one precomputed table. Case-insensitive letter frequencies take most
+ * of the weight. Spaces, punctuation and digits get typical shares. Other
+ * Latin-1 characters are rare, everything beyond Latin-1 is rarer still, and
+ * control characters are close to impossible. That makes a wrong XOR key,
+ * which scatters text into those ranges, score far below the right one.
+ *
+ * The same table scores raw bytes, read as Latin-1.
+ */
+public final class EnglishModel {
+
+    // Relative frequency of A-Z in English text
+    private static final double[] LETTERS = {
+        8.167, 1.492, 2.782, 4.253, 12.702, 2.228, 2.015, 6.094, 6.966, 0.153, 0.772, 4.025, 2.406,
+        6.749, 7.507, 1.929, 0.095, 5.987, 6.327, 9.056, 2.758, 0.978, 2.360, 0.150, 1.974, 0.074
+    };
+
+    private static final double LOWER_CASE = 0.76;
+    private static final double UPPER_CASE = 0.03;
+    private static final double SPACE = 0.16;
+    private static final double NEWLINE = 0.01;
+    private static final double COMMON_PUNCTUATION = 0.01; // each of '.' and ','
+    private static final String OTHER_PUNCTUATION = "'\"-;:!?()";
+    private static final double OTHER_PUNCTUATION_TOTAL = 0.01;
+    private static final double DIGITS_TOTAL = 0.005;
+    private static final double OTHER_PRINTABLE = 0.0001; // each remaining printable ASCII character
+    private static final double WHITESPACE = 0.001; // tab and carriage return
+    private static final double LATIN_1 = 0.00001;
+    private static final double BEYOND_LATIN_1 = 0.000001;
+    private static final double CONTROL = 1e-9;
+
+    private static final float[] LOG_PROBABILITIES = build();
+
+    private EnglishModel() {
+    }
+
+    /**
+     * @param symbol a character, or an unsigned byte read as Latin-1
+     * @return natural log of the probability of that symbol in English text
+     */
+    public static float logProbability(int symbol) {
+        return LOG_PROBABILITIES[symbol];
+    }
+
+    private static float[] build() {
+        double[] p = new double[Character.MAX_VALUE + 1];
+        Arrays.fill(p, BEYOND_LATIN_1);
+        for (int c = 0; c < 256; c++) {
+            boolean control = c < 0x20 || (c >= 0x7F && c < 0xA0);
+            p[c] = control ? CONTROL : c < 0x80 ? OTHER_PRINTABLE : LATIN_1;
+        }
+        double letterTotal = 0;
+        for (double letter : LETTERS) {
+            letterTotal += letter;
+        }
+        for (int i = 0; i < 26; i++) {
+            p['a' + i] = LOWER_CASE * LETTERS[i] / letterTotal;
+            p['A' + i] = UPPER_CASE * LETTERS[i] / letterTotal;
+        }
+        for (int d = '0'; d <= '9'; d++) {
+            p[d] = DIGITS_TOTAL / 10;
+        }
+        for (int i = 0; i < OTHER_PUNCTUATION.length(); i++) {
+            p[OTHER_PUNCTUATION.charAt(i)] = OTHER_PUNCTUATION_TOTAL / OTHER_PUNCTUATION.length();
+        }
+        p[' '] = SPACE;
+        p['\n'] = NEWLINE;
+        p['.'] = COMMON_PUNCTUATION;
+        p[','] = COMMON_PUNCTUATION;
+        p['\t'] = WHITESPACE;
+        p['\r'] = WHITESPACE;
+
+        float[] logs = new float[p.length];
+        for (int c = 0; c < p.length; c++) {
+            logs[c] = (float) Math.log(p[c]);
+        }
+        return logs;
+    }
+}
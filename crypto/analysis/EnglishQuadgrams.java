@@ -0,0 +1,581 @@
+package analysis;
+
+/**
+ * Built-in counts for {@link QuadgramModel#english()}: the 6000 most frequent
+ * letter quadgrams in about 2 MB of general English, the example sentences of
+ * WordNet 3.1 together with English speeches from the Europarl parallel
+ * corpus, with everything but the letters removed, per ten million
+ * quadgrams. Each entry is the four letters followed by the count; together
+ * they cover 67% of the quadgrams in that text.
+ */
+final class EnglishQuadgrams {
+
+    static final String[] COUNTS = {
+        "TION37740 NTHE28346 THER24390 ETHE23274 STHE23076 DTHE22250 THES21907 FTHE20336 OFTH20208",
+        "THEC19719 ATIO19365 TTHE18678 EDTH16410 MENT16125 THEP15537 INTH14391 OTHE14327 WITH14327",
+        "RTHE14315 THAT13902 HERE12826 THIS12675 THEM11564 ONTH11512 YTHE10988 IONS10755 THEB10633",
+        "IGHT10174 HECO9895 INGT9860 THET9807 THEI9749 TING9365 THEY9284 TOTH9278 IONA9249 THED9103",
+        "THEA8993 ABLE8958 THEE8917 THEF8627 ERTH8144 EWAS8120 SION8109 ICAL8091 THEW8010 NGTH8010",
+        "TIVE7742 ENTS7463 OVER7411 HEWA7370 EDTO7329 ALLY7283 OULD7201 EVER7166 ATED7073 IONO7073",
+        "ORTH7033 ENTI7009 SAND6951 FORT6899 ESTH6812 EFOR6788 INTE6783 ECON6713 CTIO6695 THEL6649",
+        "HTHE6614 PRES6596 GTHE6596 EDIN6596 INGS6532 WERE6527 INGA6498 ATTH6492 ONOF6311 THEN6306",
+        "COMP6201 ANCE6148 OUND6102 COMM6073 HAVE6061 FROM6021 DENT5957 ENCE5951 NTER5927 PORT5881",
+        "THEH5834 HEST5811 HEPR5776 NDTH5735 ENTA5730 RING5701 NING5677 IONT5666 SIDE5642 ECOM5596",
+        "DING5514 OUGH5503 NESS5491 ATHE5485 SOFT5433 THEO5416 RESS5270 THEG5247 EMEN5206 TURE5171",
+        "ANDT5096 HEIR5061 ONAL5049 TEDT5037 WORK5026 WILL5026 SARE5008 ECTI5003 HESE4962 REAT4956",
+        "VERY4927 THIN4909 FORM4909 ERED4898 LTHE4892 MTHE4805 CALL4805 CONS4782 KING4747 OUNT4723",
+        "LING4683 INTO4659 RATI4659 IDEN4636 ENTH4595 EPRO4566 HING4543 STAN4520 ATER4473 EDHI4462",
+        "ERAT4438 ANDS4438 TTER4432 EOFT4427 PART4421 ROPE4409 NDER4380 RATE4345 SSIO4339 IOUS4334",
+        "TAND4328 ESTI4328 CONT4316 REST4310 COUN4241 UGHT4217 SINT4211 SWER4200 ERST4182 EINT4182",
+        "INGO4159 ERES4153 STAT4130 CHIL4118 WASA4083 INGI4078 ITIO4054 EAND4014 FORE4002 POLI3985",
+        "HILD3967 LESS3944 TICA3938 SING3932 ATES3897 ACTI3892 ESTO3886 RETH3874 NATI3857 THTH3845",
+        "SOME3833 ANDI3833 ESTA3828 LAND3822 TIME3798 TATE3775 ESOF3764 YOUR3764 HECA3758 ONST3752",
+        "ERIN3752 ESHE3740 IONI3740 STRA3705 ANGE3694 TAIN3694 HEMA3688 DINT3688 SFOR3665 ESSI3647",
+        "UNDE3606 ANIN3595 HEAR3583 TERS3577 NTIN3577 CIAL3566 ENTO3566 LYTH3566 HEHA3560 DHIS3548",
+        "HATT3537 HECH3531 ENTT3531 TWAS3525 LATI3519 INST3502 EART3484 HENE3473 EURO3455 EDBY3449",
+        "NDIN3449 RENT3438 WHEN3403 STER3403 RESI3397 HAND3385 EPRE3374 THAN3368 MBER3368 ITHT3356",
+        "TABL3356 HEDI3345 EDHE3339 STOR3327 SHED3316 ANDA3304 HEDE3298 LATE3281 INES3275 UROP3246",
+        "HEPA3246 CESS3234 SPEC3234 HERS3234 REAS3234 ERAL3228 NGIN3217 HERO3211 EDAN3211 ERSO3205",
+        "ISTH3193 ETHA3176 EARE3164 CTIV3164 OUSE3159 DWIT3159 TERI3159 ANUN3159 TOBE3153 EASE3147",
+        "DFOR3141 ECOU3141 HERA3135 HEMO3130 ONSI3130 PLAN3124 ISSI3124 HESA3112 NFOR3089 ATIV3071",
+        "ATTE3054 LIKE3042 ESSE3042 CHAN3042 HEIN3036 HISS3025 CENT3025 HERI3019 AINT3019 ESAN3019",
+        "EWOR2996 RESE2996 TOFT2996 NTTH2996 TATI2990 RIGH2990 ESSO2984 DHER2978 WHIC2961 HICH2961",
+        "NTOT2961 MISS2961 LLTH2955 ETHI2955 ESTR2949 ENTE2949 LONG2938 RACT2938 NTOF2938 ERSA2926",
+        "STRE2920 STHA2914 INED2914 ICAT2903 ITHA2903 RIES2891 THEU2891 LITY2885 ESID2885 ITIS2885",
+        "READ2879 EACH2868 SHOU2862 STIC2862 SHEW2856 SENT2850 TERE2850 OMTH2850 AINS2844 STIN2839",
+        "HISP2833 HEBA2833 VERS2833 AREA2827 INGL2827 UTTH2827 LECT2827 TERT2810 RECO2804 NOFT2804",
+        "ATIN2798 EREN2798 DAND2798 LIGH2792 NHIS2792 GOOD2786 PROP2786 PERS2780 HETR2775 EPAR2775",
+        "NTED2775 EDWI2769 VERT2769 ESIN2757 FTER2757 ISTI2751 EPLA2751 ROUG2751 IBLE2740 SURE2740",
+        "AFTE2740 HOUS2734 CTED2728 EVEN2728 INGH2722 FFIC2717 HEPO2717 EREA2717 MORE2711 ARTH2711",
+        "PLAY2711 LETH2705 ALLE2705 SETH2705 ARTI2699 CETH2699 HEFI2699 HEWO2699 OFHI2693 VENT2687",
+        "YEAR2687 ABOU2687 INGF2676 EATH2664 HEAD2664 ROMT2658 ASTH2658 STRU2658 TAKE2653 LLED2647",
+        "THOU2635 INAT2635 ORMA2629 EATE2629 BYTH2629 HISC2623 THRO2612 OMMI2612 HEBO2606 KTHE2606",
+        "SERV2606 HEME2606 TSTH2600 LINE2600 EHAD2594 ROUN2594 BOUT2594 CREA2589 RAIN2589 HELA2583",
+        "HIST2577 TRAN2577 IZED2577 OPLE2577 INGC2571 FORA2565 ITIC2565 ANDE2559 INGW2554 EARS2554",
+        "SITI2554 RSTH2548 TORY2548 TENT2548 RITI2542 CTOR2542 TIES2536 STRI2530 INGE2530 VETH2530",
+        "MPLE2530 OPEA2525 FHIS2525 ENDE2525 ONTO2519 SSHE2519 OLIC2513 TERA2507 ASTE2507 DONT2507",
+        "CEOF2501 ESEN2501 SHES2501 EROF2501 THEV2495 METH2495 SEDT2490 ESSA2484 MANY2484 OINT2484",
+        "INAL2484 PROV2478 EDON2472 LDRE2472 ISHE2472 GREE2472 DOWN2466 WOUL2466 EOPL2466 ILIT2461",
+        "VING2461 COND2461 TETH2461 HEIS2461 HESU2443 PEOP2443 PEAN2437 CONC2437 ULAR2437 EDFO2431",
+        "MARK2431 NDED2431 IENT2431 COME2426 LLOW2426 YAND2420 CATI2414 SWIT2414 ICAN2402 NGER2402",
+        "SSED2402 IVER2402 NAND2397 TEST2391 JECT2385 UTIO2385 TTLE2385 ALTH2379 TERN2379 REAL2379",
+        "MUST2379 NGTO2373 TEDA2367 AMEN2367 HOUL2367 ONES2367 LEAR2367 LEAS2367 ALLT2362 EHAV2356",
+        "OUTT2356 WELL2356 OPER2356 PERA2356 NTHI2356 PTHE2350 CLEA2344 WARD2344 USED2338 EYOU2338",
+        "ULAT2338 ENTL2333 ATUR2327 ESST2327 OURS2321 FACE2321 IONW2321 COUL2315 GHTS2315 OWER2315",
+        "HATI2315 ISTE2315 MADE2309 TERM2309 ENER2304 ERAN2304 EVEL2304 SIVE2298 WHAT2292 ONAN2286",
+        "AUSE2286 FECT2286 INGP2280 VERA2274 SNOT2274 EMBE2274 TANT2274 SSOF2269 SHER2269 ERSH2269",
+        "STUD2263 SSTH2263 HEHO2263 EMAN2257 UNTR2257 UEST2251 NINT2251 LYIN2251 HERT2251 ISIN2251",
+        "DREN2245 BACK2245 ORTA2245 MATI2240 ILDR2240 ASIN2240 LITI2240 TINT2234 ESPE2234 ARGE2234",
+        "SCON2228 EWIT2228 NSTH2222 WAST2216 TFOR2216 STAR2216 BLET2216 LIFE2205 PECT2205 ISCO2205",
+        "NCES2199 ONIN2199 ALLO2199 THRE2199 CHAR2199 SEVE2193 ONCE2193 GETH2193 TORE2181 RAND2176",
+        "IVES2170 NGOF2170 HIGH2170 ERSI2164 NMEN2158 RESP2152 FFER2146 HETH2146 ONTR2141 RICA2135",
+        "BEEN2135 HEDO2129 TSHE2123 DISC2123 ENSI2117 SOCI2117 GAIN2112 HEMI2112 WATE2112 HEEU2112",
+        "TREA2106 HESH2106 REDT2100 STTH2100 ANDW2100 NEED2100 TSOF2100 ISTO2094 YING2088 ENEW2082",
+        "AREN2082 FERE2082 ATET2082 ANDC2071 NEDT2071 DEVE2071 EDIS2065 INDI2065 ECHA2065 OSIT2059",
+        "URES2053 POSI2053 NION2053 RECT2053 HESO2048 NALL2042 MEMB2042 FULL2036 EXPE2036 ORDE2030",
+        "CAUS2024 BLEM2024 ESPO2018 EHIS2013 ATIC2013 NATE2013 LLIN2013 OMET2007 IRST2007 VELO1995",
+        "ESTE1989 NTRA1989 SIGN1989 BERS1989 RIEN1989 ARED1984 TEDI1984 ERTO1978 ECHI1978 EDOU1972",
+        "HEPL1972 APER1972 HEUN1972 HELI1972 ICUL1966 CULA1966 ERHE1966 ONSA1966 SPRO1966 OLIT1966",
+        "NSTR1966 RENC1960 DIST1960 RDER1954 NCER1954 SHIP1954 PLEA1954 IONH1949 HEBE1949 MAKE1949",
+        "TRAI1949 TRUC1949 MINA1949 RSON1943 DERS1943 SHIS1943 DITI1943 LOOK1943 ITTE1943 HEEN1943",
+        "IFIC1937 TUDE1937 APPE1937 ERSE1937 MOST1931 DTHA1931 NCET1925 ALIT1925 TURN1920 ISTA1920",
+        "MATE1920 RSTA1914 PROB1914 HETE1908 HISF1908 EAST1908 TRAT1902 EDAT1902 CHED1902 NGAN1896",
+        "CHIN1896 NTAL1896 GHTH1896 OUTH1896 AVET1896 NTLY1891 AGRE1891 GREA1891 ETRA1891 RIED1891",
+        "ENSE1891 GOVE1885 RMAN1885 LAST1885 RODU1885 ODUC1885 EHEA1885 SELF1885 ETTE1885 ANDO1879",
+        "OMPA1879 STED1879 ROOM1879 ONLY1879 PERI1873 OUSL1873 REPO1873 HROU1873 OLOG1873 VERN1867",
+        "SEOF1867 JUST1867 REMA1867 ACHE1861 ESHO1861 RANS1861 KNOW1856 INAN1856 ANTI1856 WASS1856",
+        "RFOR1850 QUES1850 FACT1850 ECTE1850 HANG1850 ANTS1850 SIST1844 ONIS1844 ENTR1844 ITWA1838",
+        "ITED1838 RIAL1838 TREE1838 USIN1838 DIFF1832 HEFO1832 NTHA1832 ENIN1832 EMAR1832 LYHE1832",
+        "MEDI1827 HISM1821 RIVE1821 NTEN1821 WORD1815 ICES1809 HISW1809 DRES1809 ECAR1809 TEDH1803",
+        "ARRI1803 YSHE1803 ATOR1803 BILI1797 LIVE1797 OWTH1792 ERNA1792 SSIN1792 ASSE1792 NTTO1792",
+        "HESI1786 OMPL1786 TERR1780 TORI1780 NCEA1780 RSHE1780 ESWE1780 POIN1780 OFFI1780 IESA1780",
+        "EREI1780 UNIT1774 INCO1774 HELE1774 ARCH1774 SHEA1768 REDI1768 AINE1768 NERA1768 NIST1768",
+        "NSHE1768 EEUR1763 ALSO1757 INGM1757 ISRE1757 RTHA1757 ONSO1751 IEST1751 ETER1751 OMAN1745",
+        "DOUT1745 POSE1745 STHI1745 EPOR1745 WAYS1739 SUPP1739 EDAS1739 GENE1733 NTST1733 HETO1733",
+        "LEDT1733 AGAI1733 HEFA1733 ELOP1733 FORC1728 ONHE1728 PARE1722 ECAN1722 SIBL1722 TMEN1722",
+        "BOOK1716 ASSI1716 NHER1716 EFIN1710 HEDA1710 ENTW1704 ALCO1704 TEND1704 WTHE1699 HELO1699",
+        "EREC1699 LEAN1699 LOWE1699 HEAL1693 HISA1693 BECA1693 ISSU1693 ORES1693 ROUS1693 EDIT1687",
+        "OFCO1687 CTUR1687 YSTE1687 MMIS1687 EALT1681 HATW1681 PROD1681 DUCT1681 SATI1681 FIRS1675",
+        "YTHI1675 LASS1675 ALIN1675 GROU1675 IREC1675 OBLE1675 MING1669 EREW1669 EALL1669 HEWI1669",
+        "ONOM1669 STEM1669 ERTA1669 MEAN1664 DTOT1658 FINA1658 GHTT1658 REIN1658 BEFO1652 NIGH1652",
+        "HISB1652 RYTH1652 ESAR1652 CKED1652 AYTH1652 ALWA1652 CATE1646 ROPO1646 LETO1646 ANIM1646",
+        "ONSE1646 HERH1646 LIST1646 LACE1640 GAVE1640 HESP1640 RMIN1640 ERVE1635 YINT1635 BREA1635",
+        "ISNO1635 IVED1635 UBLI1635 HISI1635 ERET1635 REWA1629 DHIM1629 ATEA1629 RINT1629 CEPT1629",
+        "IMPO1629 PAIN1629 NTRY1629 UDEN1623 TYTH1623 STIL1623 ARES1623 ANDP1623 TIST1623 REME1617",
+        "TRAC1617 RNED1617 CONF1617 PPED1617 HEGO1611 CAME1611 HEGR1611 ITIE1611 NEVE1611 PROC1605",
+        "BLES1605 HEAT1605 IDEA1605 SHOW1600 NCEO1600 TRIE1600 PASS1600 ININ1600 TRIC1600 ANTH1600",
+        "ERMI1600 TYOF1600 SONA1600 URAL1594 ANDM1594 ETOT1594 TTHA1594 SONT1588 ASHE1588 OGRA1588",
+        "PPOR1588 ARIN1588 IENC1582 INGR1582 NOTH1582 ELEC1582 TONE1582 NTIO1582 RITY1582 WIND1576",
+        "INDE1576 RELA1576 ELAT1576 USLY1576 RIST1576 TANC1571 ILLI1571 DERT1571 SPAR1571 OUTO1571",
+        "ARDS1571 EANI1571 HAIR1571 PRIN1571 TEMP1565 ALRE1565 CULT1565 AROU1565 HISR1565 TALL1565",
+        "INIS1565 ACHI1559 COUR1559 CARE1559 LISH1559 RANT1559 RESO1559 STIO1559 HEHE1559 ROBL1559",
+        "TARY1559 TOMA1553 CIEN1553 ALON1553 ERFO1553 BEHA1553 ARKE1553 VIDE1553 ASTR1553 ITYO1553",
+        "REFO1553 EATT1547 TILL1547 ESHA1547 IONE1547 ATIS1541 RABL1541 ORSE1541 EHER1541 OURC1541",
+        "DIRE1541 ITIN1541 ISIO1536 DSHE1536 ANTE1536 ALAN1536 EREF1536 PUBL1536 EQUE1530 EWIN1530",
+        "PLAC1530 NDIT1530 HEAC1524 UCTI1524 NCOM1524 HADA1518 ESTU1518 WING1518 ECAU1518 TELY1518",
+        "EENT1518 GENT1518 TTEN1518 DNOT1512 ELIN1512 PERF1512 ECRE1512 OSED1512 IVEL1512 TTHI1512",
+        "RTIC1507 VISI1507 INGB1507 CONO1507 EISA1507 ENED1507 MAND1501 ILLE1501 PING1501 DBYT1501",
+        "MOVE1501 WORL1501 CONV1501 HADT1495 RTAN1495 ANDD1495 OLLE1495 DEDT1495 TORS1495 TWEE1495",
+        "NTAI1495 ARET1489 LEOF1489 SOFA1489 IEVE1489 COLL1489 MPOR1489 ORLD1489 NCON1483 VEST1483",
+        "ROCE1483 ERVI1483 HEEX1483 NWAS1483 HEGA1483 ATCH1483 NTSA1483 TEDS1483 ALLI1483 NETH1483",
+        "ACCE1477 ESSH1472 REOF1472 ANDH1472 PECI1472 ASAN1472 NTRO1472 INGD1472 OWED1472 TIAL1472",
+        "PLET1472 INHI1466 ELLI1466 EPRI1466 LEME1466 TOOK1460 NNER1460 ERIO1460 EREP1460 ASUR1460",
+        "RUCT1460 WANT1460 ITYT1454 NEWS1454 SHEL1454 HEDR1454 DERA1454 NTAN1454 REVE1448 CHTH1448",
+        "HISD1448 RDIN1448 MONE1448 LDBE1448 HECR1443 RECE1443 ISTR1443 ERNM1443 RESU1443 SENS1443",
+        "VERE1443 ASON1443 ASTO1437 ETTH1437 URET1437 APPR1437 GIVE1437 HEBU1437 ANDF1437 ETWE1437",
+        "ROAD1431 LICA1431 EASU1431 ANNO1431 ELIE1431 FFEC1431 ONSH1431 ULDB1431 NTRI1431 TSIN1425",
+        "FORH1425 WASH1425 RANG1425 OCIA1425 ESEA1425 ACON1425 ISTS1419 ASTA1419 ERMA1419 ITAL1419",
+        "DINA1419 TICS1419 LIZE1419 EDST1419 ESER1414 LDIN1414 OMEN1414 LOSE1414 TICI1414 ORDI1414",
+        "EASO1414 ALIS1414 RADI1414 HATH1408 HERC1408 ADTO1408 HEYW1408 SPON1408 URIN1408 BLEA1408",
+        "UREA1408 VETO1408 LOVE1408 WEEN1408 NYOU1408 OTHI1402 NGHE1402 YOUN1402 BALL1396 STRO1396",
+        "EDUP1396 RTAI1396 ISON1390 EHAS1390 RNME1390 CERT1390 ALLA1390 ARTE1390 AMIL1390 UNIO1390",
+        "ARLY1390 EACT1384 SHOR1384 HECL1384 EFUL1384 MPAN1384 WRIT1384 UMEN1384 BLIC1384 ATEL1384",
+        "ASTI1384 OWNT1379 REPR1379 URSE1379 IATI1379 TOGE1379 NOMI1379 LWAY1379 OLUT1379 RNIN1379",
+        "YOFT1379 IEDT1373 HOME1373 ESHI1373 EQUI1373 NSTA1373 ENDS1373 ANIS1373 GHTE1373 RWAS1367",
+        "ROVI1367 ORET1367 NGLY1367 OGET1367 RSOF1367 EGRE1367 ACCO1367 HOUG1361 URRE1361 NAME1361",
+        "SECO1361 AGES1361 SYST1361 SHEH1355 NEST1355 NERS1355 RIOU1355 MALL1355 CLOS1355 FALL1355",
+        "LANT1355 SCRI1355 ERIS1350 BJEC1344 ITYA1344 SEAS1344 LEFT1344 SHIN1344 YFOR1344 ROVE1344",
+        "IATE1344 REET1344 TSAN1344 ERIC1338 MANA1338 DENC1338 LOGI1338 MMUN1338 LARG1338 SULT1338",
+        "ANTA1338 ANTT1338 ICIA1338 ARLI1338 ECTS1332 ORAL1332 NSOF1332 BEIN1332 EFIR1332 HISH1332",
+        "TITU1332 ISAN1332 STOC1332 NCRE1332 ILLA1332 ECUR1326 HAVI1326 EADI1326 EING1326 OMIN1326",
+        "IONF1326 DSTH1326 ALIZ1320 ERCO1320 NGFO1320 INGU1320 LACK1320 ETIC1320 REHE1315 REAC1315",
+        "ITHE1315 IVEA1315 ECOR1315 EWIL1315 ANNE1315 ROTE1315 MUNI1315 NICA1315 TOFA1315 FICI1315",
+        "DECI1315 MAIN1315 BETW1315 OFIN1309 SWOR1309 ONTI1309 SINC1309 NDAN1309 DEMO1309 OUNG1309",
+        "NTIA1309 EUNI1309 TWIT1303 KETH1303 ESTS1303 SCOM1303 UMAN1303 EMON1303 EARL1303 ONEY1303",
+        "ONDI1303 WEHA1303 ACTE1297 HATS1297 NDST1297 LENT1291 WASC1291 IDER1291 ORAT1291 BUIL1291",
+        "ACOM1291 SINE1291 SPLA1291 ORIT1291 EPER1286 RALL1286 IRED1286 VIEW1286 ETIN1286 THEJ1286",
+        "SSES1286 MIND1286 LITT1286 AVEA1286 HALL1286 REQU1280 ITTH1280 OPOS1280 HEBR1280 NGCO1280",
+        "HEOR1280 TICE1280 ELES1280 ITHI1280 CHES1280 EMIN1274 AKIN1274 HETI1274 SPRE1274 UPTH1274",
+        "TOCO1274 EINS1274 INTI1274 USTO1274 OPEN1274 INIT1268 EDIC1268 NSID1268 ORKE1268 HOSE1268",
+        "REIS1268 MOUN1268 IMPL1268 SANI1262 REDA1262 UTOF1262 SCHO1262 NGST1262 FRIE1262 STEN1262",
+        "AVES1262 ASED1262 EDCO1262 AMER1256 IFFE1256 EPOL1256 USTR1256 AKES1256 ISMA1256 NDSO1256",
+        "ISED1256 EMUS1256 EMOR1256 SIMP1256 SONE1251 SUCH1251 ENCY1251 LLBE1251 GEST1251 OMMU1251",
+        "CAND1251 EDRE1251 OUSA1251 RHIS1245 ONHI1245 ROFT1245 AUGH1245 PROF1245 SAME1245 UNDA1245",
+        "RPRE1245 ONTA1239 ETRI1239 VICE1239 PEND1239 NISH1239 FICE1239 HUMA1239 SEDA1239 VEME1239",
+        "IEND1239 ERWA1233 STOO1233 DATE1233 SPER1233 RANC1233 NCEI1233 ARDT1233 ROMA1233 OMIC1233",
+        "COLO1233 PONS1233 SEST1233 TCHE1233 OUNC1233 MITT1233 ORCE1227 ADIN1227 HASA1227 ITER1227",
+        "WASI1227 ISPR1227 EIGH1227 ALLS1222 MOTI1222 NSWE1222 CCES1222 TOHI1222 NCED1222 GFOR1222",
+        "GING1222 INDO1222 HETA1222 PAPE1222 OSSI1222 FREE1222 EANU1222 STOF1216 DICA1216 TURA1216",
+        "CROS1216 HOUT1216 RAGE1216 INHE1216 ERIA1216 UNDS1216 ONDE1216 SHAR1216 GHTA1216 NNOT1216",
+        "ESOU1216 HATA1216 IFIE1216 CIDE1210 SMAL1210 AVER1210 TEDB1210 UPPO1210 PARA1210 OFHE1204",
+        "ANCI1204 ATHI1204 HERF1204 YWAS1204 ORTE1204 SHEC1204 HENT1204 NITY1204 ORGA1204 NDOF1204",
+        "MUCH1198 ISST1198 ANEX1198 EOFA1198 ISLA1198 ULLY1198 RTED1198 HERW1198 SANA1198 FAMI1198",
+        "EOFF1198 NALI1198 ERTI1192 HEPE1192 ERRE1192 ROSS1192 ECTO1192 DAYS1192 ENTC1192 NITI1192",
+        "LEST1192 URNE1187 ETOO1187 TAGE1187 ANDL1187 ESOL1187 EHOU1187 HISE1181 EAVE1181 ETRE1181",
+        "EADE1181 ALAR1181 PLES1181 WHER1181 EETH1181 CANN1181 IKET1181 LUTI1181 RRIE1181 IVET1181",
+        "TERO1181 EGRA1181 RSIN1181 TUAL1175 NGLE1175 ILLB1175 EMIS1175 OLLO1175 MEAS1175 ULDN1175",
+        "EREM1175 INCR1175 RCHI1175 WEAR1175 AWAY1169 EROU1169 INCI1169 ICTI1169 FIRE1169 ANDR1169",
+        "INFO1169 REAN1169 VELY1169 ENAT1163 EGOT1163 ORTS1163 TEAC1163 IDED1163 HISL1163 PROT1163",
+        "OFAN1163 CITY1163 COVE1163 SCEN1163 RINC1163 UALL1163 ISIS1163 FICA1158 PPRO1158 TALI1158",
+        "DUCE1158 TSTO1158 RSTO1158 BELI1158 CTIC1158 OWIN1152 YCON1152 EALI1152 DERE1152 INCE1152",
+        "GAND1152 ONFO1152 WALL1152 FOUN1152 LEAD1152 FIED1152 MERI1146 STOT1146 TART1146 ORDS1146",
+        "APRO1146 DETH1146 OREA1146 MPER1146 FOOD1146 BLED1140 CHOO1140 NDRE1140 SEAR1140 ETIM1134",
+        "DFRO1134 WENT1134 ISFA1134 ITHO1134 NGRE1134 PATI1134 EQUA1134 TYOU1134 MINE1134 ABLY1134",
+        "EWHO1128 EANS1128 ERHA1128 ADEA1128 HARD1128 EEXP1128 OFFE1128 CLAS1128 PRIS1128 SCAN1128",
+        "STIT1128 OMMO1128 ISHA1128 UNDT1128 SMAN1128 CARR1128 STOM1128 DTHI1128 ICKE1128 NNIN1123",
+        "EFRO1123 ASHI1123 URED1123 PERT1123 IMAT1123 LEDA1123 OPPO1123 NABL1123 ITAT1123 EDGE1117",
+        "IVIN1117 ISEA1117 ROGR1117 IMPR1117 SANE1117 EFFE1117 GANI1117 SHEI1117 ITTL1117 ONVE1117",
+        "LICE1111 FTHI1111 AREF1111 SOUT1111 RESH1111 ORRE1111 RGAN1111 OODS1111 SOFH1111 NDIS1111",
+        "IONC1105 ILED1105 ESAM1105 UNTA1105 IAME1105 NEOF1099 RKET1099 ILLS1099 LANE1099 TECT1099",
+        "IMES1099 NSTI1099 EDAL1099 ENDI1099 INET1099 STON1099 RADE1099 ERPR1099 ONED1099 ITIV1099",
+        "HENA1094 CHER1094 RNAT1094 LIAM1094 TRES1094 ASBE1094 EDFR1094 PROG1094 LLYT1094 EMEA1094",
+        "ETWO1094 ELEA1094 SINA1094 HTTH1088 HEYA1088 USSI1088 ORAN1088 CTTH1088 NSIN1088 EXAM1088",
+        "HREE1088 OTIO1088 NATU1082 ULTI1082 PTIO1082 EREL1082 KEDT1082 NEAR1082 ESCO1082 HEWE1082",
+        "OMME1082 LETT1082 MINI1082 RYIN1082 USET1082 ALST1076 HERU1076 EXTR1076 ORME1076 HEPU1076",
+        "STOP1076 EFAC1076 ESIG1076 RTHI1076 UATI1076 CANT1076 LICY1076 EWHE1076 SSUE1076 ALPR1076",
+        "ENTU1076 POSS1076 SSIB1076 TCON1076 APPL1070 REAM1070 ELIG1070 QUAL1070 LLEN1070 SSTO1070",
+        "ESFO1070 HORS1070 ESON1070 EEME1070 MOTH1070 FOUR1064 LAYE1064 OFTE1064 DCON1064 ORTU1064",
+        "ANDB1064 EACC1064 NSAN1064 ONSU1064 PARL1064 SFRO1059 EATI1059 SWAS1059 EASI1059 EDUC1059",
+        "ECLA1059 ELLE1059 ERSW1059 NTAT1059 AMIN1059 TITI1059 SOUR1059 SHAD1059 HEFE1053 NAGE1053",
+        "CKTH1053 CRIT1053 HERM1053 SHAV1053 AINI1053 DISA1053 OMES1047 TTIN1047 GRAN1047 SCAR1047",
+        "HONE1047 GICA1047 HOOL1047 EAUT1047 RAVE1047 RONG1047 OICE1047 THOR1047 MODE1047 NDTO1047",
+        "ETAL1047 RALI1041 EWER1041 STAL1041 LLYI1041 RATH1041 ISHO1041 INDU1041 ONER1041 SSHO1041",
+        "RAIS1041 EDAR1041 MANI1041 PROM1041 NCTI1041 TIRE1041 GHTI1041 RREN1035 OCAL1035 EAPP1035",
+        "HOLD1035 WASD1035 RELI1035 DTOB1035 NWIT1035 ORIN1035 ANBE1035 FUND1035 LOCK1035 ARTO1035",
+        "GINT1035 MMIT1035 HELP1035 ITUA1035 SALL1035 SOLU1035 GULA1035 HESC1035 LYSH1035 EANA1030",
+        "ESCA1030 CRET1030 ORED1030 THOS1030 WNTH1030 STAB1030 ACKE1024 AVIO1024 IMIN1024 ADTH1024",
+        "ESWI1024 NTIS1024 ESEC1024 HENO1024 ENOT1024 OUTA1024 IALL1024 DOES1024 RENO1024 ACTO1024",
+        "ECIS1024 OPIN1024 EOUT1024 ANAL1024 CIOU1024 TCOM1018 FINE1018 AGEN1018 ROKE1018 NTSO1018",
+        "ESUL1018 ITHH1018 ERNE1018 CRIM1018 NENT1018 ITOR1018 ENES1012 ONGT1012 RMED1012 AGOO1012",
+        "CORD1012 TISA1012 NSIB1012 RTER1012 SPEA1012 THEK1012 DSTA1012 INNE1012 LETE1012 RLIA1012",
+        "RSAN1006 DTOS1006 POWE1006 THAS1006 MMER1006 SPEE1006 SDIS1006 METO1006 ERAB1006 HOWE1006",
+        "YOUT1006 CASE1006 LOOD1006 EONE1006 UDGE1006 TRAD1006 DSOF1006 BUTT1001 IALS1001 HORT1001",
+        "BAND1001 HEOL1001 UNDI1001 EDOF1001 OURT1001 EGAR1001 GRAP1001 REPA1001 TELL1001 FHER1001",
+        "GARD1001 SAID1001 NUNI1001 TEDW995 CURR995 NGWA995 ENTF995 RETA995 UTHE995 SSUR995 SYOU995",
+        "FOLL995 ERIE995 KERS995 EMAI995 HOUR995 OKED995 ROWN995 AGET995 NEXT995 RMAT995 REAR995",
+        "REGA995 EMPL989 FEEL989 EMAT989 CEST989 ATTA989 RACE989 RULE989 ILDI989 FORS989 DELI989",
+        "OVED989 HEAV989 HEFL989 EONT989 NEDA989 ISSE989 EMOT989 DEDA989 INVE989 LIEV989 USTH989",
+        "LOTH983 UCHA983 ATEI983 TOHE983 LCOM983 ENCH983 LEIN983 OGIC983 LINT983 TIFI983 PMEN983",
+        "GEOF983 DEST983 EARC983 SOUN983 ESET983 NOTA983 CEAN977 SWHI977 EWAL977 ENDO977 NTRE977",
+        "ETAR977 HISO977 MEND977 MMON977 HEDT977 EBAT977 SAST977 ANYO977 EEVE971 EINC971 ECIA971",
+        "EMPT971 AYED971 ARTY971 REFU971 RCHA971 RTOF971 EPOS971 LDTH971 ORTI971 EMEM971 TENS971",
+        "KETO971 EDID966 ABIL966 RKIN966 NGON966 IZAT966 ENTP966 ANAG966 SUCC966 RTTH966 UMBE966",
+        "GINA966 UILD966 TWOR966 TPRO966 NTOA966 HEEL966 NCIL966 UTHO966 HERB966 NDCO966 HOLE960",
+        "ISMO960 LESO960 LYCO960 EYWE960 GRAM960 VEDT960 RITE960 INEA960 MUSI960 DETE960 YTHA960",
+        "ENHE960 LFOR960 DUST960 HAPP960 DISP960 SETO960 RICE960 NDAR960 DWAS954 MATT954 REGI954",
+        "EINF954 ZATI954 EMAD954 SAPP954 EXPL954 EDSH954 ACED954 LEVE954 ALES954 USES954 HERP954",
+        "GROW954 EOLD954 HENI954 TERP954 ANAN948 OCES948 TOTA948 FFOR948 ADMI948 TELE948 DMAN948",
+        "TEDO948 ESMA948 NDSH948 RCON948 HEAN948 CISI948 REES948 OLVE948 ETEA942 NGWI942 ONEO942",
+        "FINI942 UPER942 ARAN942 LYRE942 INTR942 ANIC942 ERRO942 BASE942 UBLE942 ECOL942 DESI942",
+        "ENDA942 CKIN942 ANDG942 VERB942 ISAL942 LPRO942 STIM942 LYTO942 IRON942 SUBS937 DIDN937",
+        "NANC937 BLEF937 SEIN937 HITE937 PITA937 BROK937 RETO937 SCAL937 UALI937 ATEM937 RPRO937",
+        "ELAN937 ARDE937 OFRE937 DEFE937 YWIT937 TUAT937 CITI937 PEAK937 ECAM931 DOOR931 HAST931",
+        "ONWA931 ISHI931 RONT931 AMET931 ERWI931 SPIR931 AREC931 WERS931 NDHE931 LLYA931 AGEA931",
+        "TARE931 IONB925 NOVE925 ORKI925 RVIC925 REDH925 UCCE925 OUBL925 LCON925 EMOV925 MPRE925",
+        "ONTE925 BUSI925 ESIT925 TOWA925 TTED925 INSU925 ASSO925 HINK925 BODY925 TLES925 ELLO925",
+        "ATEO919 RKED919 ERIT919 SECR919 NGED919 TRIB919 CHAS919 RAPH919 DGET919 MANS919 TEIN919",
+        "ONAR919 GHTO919 KEEP913 EOFH913 ASPE913 PLIC913 OREI913 SACO913 ERCH913 AKEA913 XPER913",
+        "TROL913 EANE913 PRIC913 AMON913 TICU913 PLOY907 UREO907 NITE907 OVID907 OSTA907 AGED907",
+        "AYIN907 ATEN907 OOKA907 ROUP907 ISCU907 AVEL907 BLOO907 USIC907 USTA907 EDEA907 GRES907",
+        "VEAN907 FLOW907 SCRE907 SHEP907 CTER907 DOFT907 FISH907 LLOF902 TEDF902 NDLE902 NDON902",
+        "NDEN902 ECEN902 ETUR902 SETT902 OHIS902 YWER902 RROR902 EGRO902 ANEW902 NIMP902 DPRO902",
+        "HOPE902 SECU902 ANGU902 STOB902 APAR902 OPUL902 UNCI902 SLAT896 EROO896 OING896 HEVI896",
+        "ASAS896 ESUN896 CERN896 ETHR896 HEHI896 HERD896 REGU896 EGUL896 EDME896 CLOT890 IMEN890",
+        "DYOU890 WALK890 IESO890 EPTI890 GERS890 ISPA890 MIST890 ISIT890 URCH890 NTSH890 SUPE890",
+        "SOFF890 EWAT890 PULA890 NCLU890 REED890 ESAS890 NGSH890 NIZE890 ETHO890 TENE890 TEOF884",
+        "TALK884 YARE884 CEIN884 SATT884 TAST884 SRES884 IALI884 EMED884 NDSA884 EYES884 OOKE884",
+        "TOME884 RFAC884 ETIT884 ASAL878 ELLA878 CALC878 HEAP878 VIOR878 ANAT878 ATWE878 HASB878",
+        "LEAV878 TONT878 OLOR878 UNTI878 NGLI878 LEGA878 NIMA878 MPRO878 TOSE878 FELL878 AMPL878",
+        "EDRA878 IELD878 HEEA878 OFAL878 TRON878 VOTE878 EARI878 SSEN878 IVEC878 REMO878 LEDI878",
+        "CESA878 EDEV878 ERMO878 MPLO873 SSTA873 NGSO873 ACET873 NPRO873 ASSA873 EADY873 ERSS873",
+        "EINA873 REAK873 NOTE873 RSHI873 ILIN873 EDUN873 ESAL873 DURI873 ENEE873 EEDS873 OTTO873",
+        "STBE873 AIRS873 TECH873 ECTA873 CKET867 OOKS867 NDOW867 YPRO867 RDTH867 VICT867 ARAT867",
+        "REEM867 EIMP867 ASNO867 LSTH867 EWAR867 FESS867 OWAR867 GATI867 TOPR867 NGMA867 NSTO867",
+        "SICA867 MOUS867 BUTI867 CALS861 OKIN861 OLDI861 ORIE861 UTER861 PPEA861 WASB861 MILE861",
+        "RECI861 PANY861 USTI861 IVEI861 OCKE861 WASN861 SITU861 NPAR861 ETEN861 HEMU861 TINC861",
+        "CIRC861 EDDO861 FELT861 ARGU861 HECU855 SINS855 ORHI855 ISAT855 OOKI855 ANOT855 FTEN855",
+        "IDES855 CROW855 OCRA855 RIME855 UTIN855 OACH855 NARE855 MFOR855 QUEN849 TYAN849 BECO849",
+        "TTAC849 TACK849 ARIS849 SHET849 MONT849 LANG849 CANB849 DRIV849 OODA849 ITCH849 HEBL849",
+        "ORWA849 REEN849 ECLO849 EDWH849 VESA849 ITYI849 IONP849 ADIS849 ARAC849 PTED849 SOLI849",
+        "IANS849 WASF843 SAGE843 ISPO843 POSA843 OSAL843 NFRO843 OTEC843 HEBI843 RTUN843 ERAC843",
+        "ISAS843 SONS843 ARDI843 ECEI843 LAIN843 OUTS843 ROFE843 NUMB843 TTOT843 PREC843 ESAT843",
+        "LLYS843 ANSW838 FIND838 REDE838 IMET838 TENC838 DDLE838 HEPI838 ONAT838 MEET838 ARST838",
+        "AMES838 MILY838 IMAL838 NOTB838 ONAS838 GRAT838 OPME838 SEAT838 AREO838 SESA838 EPAI838",
+        "SECT838 ELYT838 TOWN832 ORST832 INOR832 CEIV832 FAST832 AISE832 FORW832 RCOM832 INGG832",
+        "SSAN832 ESNO832 LOPM832 ATIE832 PRAC832 EADO832 GUES832 ACES826 DEAS826 HISN826 TOUT826",
+        "LLAR826 EDRO826 OURA826 ASSU826 NALA826 OMPE826 DONE826 ORHE826 USTE826 LTUR826 INSI826",
+        "CETO826 TOCK826 VOIC826 TIZE826 KILL826 ERAS826 EXPR826 ONFI826 WEAT820 DALL820 PUTE820",
+        "GETA820 WASP820 COLD820 ECES820 ITUT820 ESIS820 CELL820 HEFU820 LDER820 SEEM820 FFTH820",
+        "SWIL820 INFL820 TIAT820 AUTH820 RAFT820 DEAL820 EEDT820 GRAD820 TALS820 POPU820 ERRI814",
+        "ASES814 ERCI814 UNTE814 SBEE814 DRAW814 EDAC814 STEP814 IVEN814 PENS814 EETI814 ALFO814",
+        "ANSP814 GEDT814 STEA814 OUSS814 INCL814 XPRE814 EVOL814 LICI814 SCOU814 RMAL814 OMEO814",
+        "ESUB809 MANC809 GOFT809 OMPU809 ENTB809 ECAL809 OFFT809 CCEP809 TROU809 ENTM809 ARSH809",
+        "TSWE809 DWHE809 EADT809 NTSI809 RCHE809 CRAT809 CCOU809 SOLD809 TEAM803 ASHO803 EYAR803",
+        "OFAC803 EABL803 HEYH803 PEAR803 ALLH803 HEFR803 ILLT803 ERIG803 CHAI803 HEYS803 DSTO803",
+        "NOTT803 REFE803 EISS803 ONSW803 TINA803 AMOU803 WOOD803 ACRO803 ANDU803 IRTH803 OTHA803",
+        "EDSO803 WHOL797 TERW797 HEYC797 ESSW797 NGHI797 ERAR797 EBAL797 ORMO797 SUMM797 HIMT797",
+        "IBIL797 EGEN797 EARN797 RWIT797 RELE797 ESCR797 EXTE797 RISE797 SUAL797 CIES797 IPLE797",
+        "LESA797 SCIE791 SNOW791 TOUR791 ICEA791 RSEL791 MERC791 ESSU791 AHEA791 MEST791 ICIE791",
+        "EFER791 DIES791 MILI791 TIEN791 NALS791 LANC791 HORI785 RROW785 AREP785 GAME785 RTIN785",
+        "SLEE785 EDES785 EDBE785 EASA785 TINE785 UNCT785 TINU785 ALMO785 ESUR785 OUST785 SUND785",
+        "FAIR785 ATHA785 NGUA785 SPEN785 CIPL785 GION779 AMEA779 ERUN779 DATT779 RIBU779 RHER779",
+        "ISSO779 ELIV779 SESS779 DEAD779 ERFE779 ONET779 RNAL779 SWEL779 LEGI779 ONWH779 EAME774",
+        "BEST774 WAYT774 NGIS774 YHIS774 CEHE774 ISCA774 DOFF774 EWHI774 EDMA774 OCON774 ULTU774",
+        "ONCO774 EREG774 MPLI774 ITAR774 LYAN774 VOLU774 NTLE774 HENS774 RESA774 TESA774 NTAR774",
+        "ONGE768 ANAR768 EELI768 ISBE768 RELY768 ASST768 ILTH768 STAK768 EENA768 ISAP768 NGPR768",
+        "PLAI768 POST768 HINT768 HEVE768 OTTH768 ONAB768 DEAT768 ENSH768 LDNO768 TWIL768 MSEL768",
+        "BLEC768 ESAI768 REDO768 UNCO768 HEWH762 NTWA762 MEDT762 EPEN762 NARY762 NOFA762 NTIL762",
+        "ARRA762 ICET762 LYBE762 REDU762 EIVE762 KIND762 HINE762 QUAR762 ENOU762 NDUS762 VEIN762",
+        "EPAT762 URTH762 ONIC762 TSAR762 CALA756 AINA756 OOTH756 QUIR756 EARA756 ILES756 ERYO756",
+        "SERI756 TORA756 LEFO756 ENAN756 MAGE756 LLEG756 NKIN756 INAR756 EUSE756 CKOF756 VALU756",
+        "ORTO756 ERGE756 USTB756 PATH756 EARD756 META756 TFRO756 BATE756 HIMS756 IESW756 ALSE756",
+        "SCUS756 MPET756 CLES756 DLIK756 ICHI756 EOFS750 TREM750 VEHI750 IBUT750 TERC750 WASR750",
+        "ASRE750 AVIN750 PPOS750 OFES750 ADED750 ALTO750 AGEO750 ERCE750 HERN750 LTER750 MRPR750",
+        "PPLI745 RUST745 EBOO745 EEND745 HEGE745 MANN745 ISWI745 ATHO745 EECH745 SEDI745 OPPE745",
+        "CTIN745 DICT745 ASMA745 EFLO745 DDOW745 EEAR745 CORR745 BLAC745 TOLE745 LARE745 TAIL745",
+        "WOMA745 MANT745 NGAS745 VERI745 HARA745 RIAN745 ACTS745 ICIS739 OFMA739 ESPA739 TRIA739",
+        "ONWI739 MPUT739 ONME739 ETOP739 ORIS739 SEDH739 NCOU739 OSES739 OMAT739 HEIM739 ONON739",
+        "NERG739 CEDT739 YOUC739 ONSC739 OURI739 USEO739 ERWE739 EWAN739 UENC739 DEFI739 EFRE733",
+        "BOTH733 RCES733 ONBE733 RRES733 DTOA733 ARIT733 WHIT733 ESSS733 NEXP733 NAST733 ERCA733",
+        "NTIC733 NONT733 DCOM733 NDME733 TODE733 EBRI733 NSUR733 ERNO733 ISDE733 OCKS733 KEDA733",
+        "LABO733 MPOS733 ECHN733 SOFS733 LETS733 ACHA733 CUSS733 POKE733 VATI727 TSTA727 EHEW727",
+        "LOCA727 REWE727 VEBE727 ARTS727 TOST727 GOIN727 EGAV727 AVEH727 ROMI727 ENGL727 RISI727",
+        "WEEK727 ESUP727 ZEDT727 APPO727 OFIT727 HEQU727 NGRA727 EACO727 FCON727 AVEN727 IGNA727",
+        "EDED727 OMEA727 ROLL727 ERSP727 HARE727 RIZE727 YMEN727 ENTD727 IVEP727 SEDO727 NVER727",
+        "AKEN727 ROCK727 RGEN721 FORG721 FOOT721 GENC721 GETT721 GEME721 STAG721 ISES721 ARIA721",
+        "ASUN721 MOVI721 SREP721 YONE721 OROU721 RRAN721 REPL721 FRES721 ETAB721 IMAG721 ERGY721",
+        "RISO721 ANTO721 LITE721 ETOF721 RIOR721 BETT721 LARI721 VENI721 IVIL721 ERBE721 SMIL721",
+        "TSHO715 URGE715 LEDG715 NSIO715 EBEE715 HANI715 ELLS715 REVI715 OLLA715 IDAT715 AREL715",
+        "LION715 ARSA715 INEN715 ETRU715 EALO715 ASKE715 RATO715 FATH715 ARME715 SKIN715 NTUR715",
+        "ATIT715 TEAN715 IRRE715 NAPP715 LITA715 ENOR715 ATAL715 NISA715 AMAN715 THIC715 EMOS710",
+        "EOFC710 GWAS710 USHE710 ELON710 ECRI710 TERH710 CING710 INFA710 ASCO710 CALE710 DIVI710",
+        "EELE710 MERS710 IRCU710 ECTT710 FIGU710 IGUR710 CUST710 RSWE710 IVEO710 UDIE710 ANCO704",
+        "OHER704 ELAW704 RPRI704 OUSI704 MEOF704 IONM704 RHEA704 IETY704 VARI704 TOMO704 MMEN704",
+        "IBER704 ELOO704 LESH704 RYOF704 DEDI704 SPOS704 VEDI704 ECTU704 NCIP704 SALS698 ICLE698",
+        "ASHA698 ICIN698 AMED698 AWAR698 OFDE698 TLET698 ONEA698 ONNE698 DOUB698 DEEP698 HARG698",
+        "RWOR698 OUTI698 SPOR698 NGSA698 TODA698 ASWE698 ERAP698 SCLE698 MICA698 GGED698 SPOK698",
+        "NWHI698 EFEL698 LYDE698 PACE692 ECRO692 SWHE692 ERLY692 SELE692 ORTT692 OFPR692 SALE692",
+        "DTHR692 OREC692 EBAC692 DREA692 NCEW692 QUIT692 ETOA692 ONGR692 TIMA692 OPRO692 OTAL692",
+        "HATE692 INAC692 WHIL692 BLEW692 NSAR686 TERF686 ARRE686 RETR686 ACKA686 WASE686 ISNE686",
+        "EANT686 BLEI686 RASS686 LIAN686 IDTH686 YCOM686 WIDE686 LEHE686 HEUS686 EDAF686 THIM686",
+        "SBAN686 OTBE686 ADES686 INTS686 HANT686 CALP686 NVEN686 AVEB686 ISLI681 SOFC681 NCHE681",
+        "ABOR681 DATA681 ASAC681 FAIL681 OFAR681 EMPE681 EATS681 RTIS681 STST681 EXCE681 SSTR681",
+        "INER681 HHIS681 ANEN681 REPU681 EIST681 OURP681 DRUG681 TOIN681 NSIT681 EDSE681 LOPE681",
+        "OVEM681 EOUS681 IESH681 INGN681 AGIN681 PANI681 EPEO681 HENH681 LOGY681 HILE681 NTCO681",
+        "BERE681 AKET681 CLUD681 CURI681 TEDL681 PERC681 BEAU681 OTIC681 DEBA681 HERL681 EANC675",
+        "BLIN675 NINC675 WOME675 EOVE675 SSIV675 OSET675 YHER675 SSOM675 ETOS675 SHEF675 FIEL675",
+        "BANK675 ROMO675 AKER675 EGAT675 BLIS675 ECTR675 ORNE675 ANST675 ATAN675 OESN675 MARR675",
+        "ONOT675 OPED675 ALTE675 IALA675 ESCE675 ALDE675 TOAC675 SSOR675 ESSL675 SUFF675 OBJE669",
+        "GWIT669 DLES669 INDS669 RUPT669 TEVE669 LDIS669 ENCO669 IOND669 TFUL669 NOFF669 DERI669",
+        "RWAR669 YSTA669 NSIV669 EWOU669 RECA669 SOVE669 AREI669 WASO669 RINK669 VEDA669 PAST669",
+        "BERA669 SABO669 NSHI669 INKI669 UATE669 NTIM669 GSHE669 NDUN669 EAGE663 EWAY663 EDDI663",
+        "DTOH663 ILLN663 PPIN663 SVER663 EGAL663 THEQ663 OTIN663 LECO663 NORT663 OMAK663 ANES663",
+        "TEME663 ISCH663 RAME663 EDEC663 TISH663 INSE663 BOAR663 ORNI663 EOPE663 DSAN663 PHER663",
+        "SUBJ663 GINE663 INDT663 OURE663 CHIE663 TLED663 ANAC663 TEDC663 EAIR663 CANC663 GUME663",
+        "NOWN657 CAMP657 HATC657 EYHA657 TOFH657 WASU657 ERSC657 PEEC657 RIGI657 EBEA657 OFLI657",
+        "MACH657 EDPR657 REDW657 HEOP657 PORA657 EDIA657 RREC657 IMIT657 CIAT657 SPRI657 HECI657",
+        "BEAR657 DEMA657 CTHE657 EINV657 ACKO657 NTON657 NOTI657 OFST657 NEDI657 UFFE657 RGUM657",
+        "ESWH651 EOTH651 FEAT651 ERTY651 TRAL651 PPER651 NIND651 SEHE651 ISDI651 HEAS651 BLEP651",
+        "ROWD651 ENSU651 UCTU651 NTSW651 EPUB651 INTA651 ITIZ651 EEDE651 OARD651 EIND651 AVED651",
+        "ISHT651 URFA651 RVED651 IGNE651 UAGE651 BILL651 OWNA651 ALPA651 CTUA651 ULDL651 RACK646",
+        "ITAN646 ETOW646 STUR646 ISAR646 EBUT646 ATRI646 EGOV646 SIBI646 SOFP646 ACKT646 ADER646",
+        "EFEN646 IESI646 THAV646 THOF646 ANYT646 DTOR646 OCIE646 CIET646 EAKE646 EFOU646 HEAU646",
+        "PENT646 AUTI646 FRON646 ESAC646 ONEW646 GUAG646 LENG646 EDLI646 ANEA646 SWEA646 OMPO646",
+        "NGEN640 NSHO640 OFOU640 URDE640 SHEM640 ITES640 PERM640 WIFE640 TOFF640 HISG640 ISMI640",
+        "LEEP640 CHEC640 LOFT640 EADA640 FAVO640 FLOO640 ADVA640 TRAV640 SEQU640 OAST640 ATSH640",
+        "CRAC640 DISE640 EALE640 OSTI640 SINF640 LAWS640 FIRM640 TLEA640 ALMA640 SANU640 AGUE640",
+        "ISWO640 NOLO640 CIVI640 WEST640 IVAT634 RUSS634 ERHI634 SREA634 TEDM634 MEIN634 OLON634",
+        "RARE634 RDIS634 DESP634 MAJO634 AJOR634 TYLE634 URAN634 EPAS634 BATT634 UOUS634 DVAN634",
+        "EPUT634 THHI634 AILE634 AUDI634 USEI634 RICH634 ERAG634 ELEG634 IGNI634 PHON634 ISPL634",
+        "EBAS634 NDWA634 ORKS634 ANDN634 CHIS634 GURE634 ABIT634 MONS634 TISS634 ODAY634 RAPP634",
+        "UBJE634 PETI634 HEAI634 NCIA628 METI628 EGIO628 EFFO628 ONIT628 ACEA628 GTHA628 ERSU628",
+        "PENE628 AFOR628 TIVI628 TOFI628 EDAB628 CHEM628 IABL628 LLIO628 SSAR628 TUTI628 ESPR628",
+        "TREN628 RGET628 REPE628 SHEG628 TTRA628 SISA628 NGES628 EDEN628 OLEN628 EAMO628 DWOR628",
+        "EALW628 TTOM628 SCHA628 PREP628 EOFP628 LEMA628 SESH628 SANO628 OVEL628 DEOF628 NGAB628",
+        "OMED628 VECO628 ROOF628 IPPE628 DARK628 ANSA622 ERNI622 OMER622 XPEC622 AREE622 INSO622",
+        "QUIC622 UICK622 ALSA622 ORIG622 ELAS622 STYL622 VIOL622 IMTH622 ISCR622 SFAC622 RDEN622",
+        "NTIT622 ASET622 ERVA622 RSAR622 GHER622 NALC622 MISE622 RIDE622 EDCA622 INSA622 SHEE622",
+        "ERDE622 NORM622 OLID622 EATM622 RPLA622 STLE622 NGIT622 URCE622 CESO622 LDLI622 CISE617",
+        "AGER617 ERON617 SQUA617 LLHA617 UIRE617 IWOU617 ESTT617 FITS617 ALDI617 EEST617 HETW617",
+        "TYIN617 NTEL617 NEUR617 EMET617 ETEL617 PIEC617 IECE617 SSER617 PIRI617 BERO617 ULDH617",
+        "WARE617 HTER617 RIMI617 TICK617 ULES617 UARE617 EWEA617 HARM617 ROWT611 IFFI611 ENVI611",
+        "ALEN611 EMER611 GHIS611 HALF611 ILLH611 TEDP611 MONI611 NGLA611 OSTO611 HILL611 EBEL611",
+        "ADET611 DOVE611 LUSI611 URNI611 INIO611 ANIZ611 DANC611 IZEN611 ARKS611 ELTH611 HTIN611",
+        "ETAI611 INVI611 NALT611 RSES611 CIAN611 UGGE611 LEMS611 ORYO611 SERT611 OSST611 YOUA611",
+        "UTTE605 NTAS605 NTAC605 LSHE605 SEXP605 HELD605 SAGR605 NEWA605 DINS605 LOST605 ULTS605",
+        "ONCA605 TOAN605 IGIN605 OCCU605 ANON605 OOKT605 EDPA605 CHUR605 IALC605 OODT605 SHTH605",
+        "ERYS605 EHEL605 EIGN605 THAD605 ULLE605 EMOC605 MOCR605 OTED605 OROF605 DIAT605 NVES605",
+        "ATEC605 ITHR605 RMER605 OMIS605 HEKI605 ORSA605 ODER605 TORT605 UNCH605 EADS605 LTHA605",
+        "TORM605 MEMO605 LLYH605 ANOF605 EGIS605 NSUM605 TODO599 MESS599 SSAG599 ENEM599 HIEV599",
+        "PREV599 NDMA599 ETOR599 BEAT599 LLHE599 NDWI599 MSOF599 CESH599 EDRI599 NEDH599 EBRO599",
+        "ACKS599 HEJO599 EROA599 DTOC599 SAFE599 SCHE599 INRE599 PINI599 CALI599 TERY599 NINS599",
+        "ROAC599 VEAL599 TEXT599 NIFI599 ICIT599 EANO599 MONG599 EDLA599 ATEG599 ECAS599 ITHS599",
+        "PEAC599 EREB599 RITA599 IFUL599 NDFO599 KEDH593 WAIT593 TYTO593 SPAC593 OURN593 ASDE593",
+        "ELEV593 SPIT593 ICTO593 RKTH593 HECK593 ELED593 NCHA593 NGAT593 NSAT593 NDPR593 SITS593",
+        "USBA593 OFTR593 NDAT593 RENE593 MORA593 IGHB593 LLAN593 RIPT593 SUIT593 TATT593 ITHM593",
+        "AREM593 ONHA593 ERLI593 DHEA593 STCO593 TNOT593 WINE593 MALS593 BLEO593 LYUN593 DOTH588",
+        "RETE588 BSTA588 GIRL588 SSIA588 LYDI588 UTTO588 TACT588 DANG588 LIVI588 ONGA588 ERYT588",
+        "OVIE588 ISFI588 EBRA588 DROP588 ISUN588 LLYC588 YDIS588 ROSE588 XAMP588 NDDE588 ASEC588",
+        "FIGH588 KINT588 IMME588 ERME588 VOLV588 RERE588 ONEN588 RINE588 ONWE588 PROA588 RATU588",
+        "DERN588 TIOU588 EDEM588 ALPO588 GLAN588 NATT588 CERE588 ATEF588 RMON588 IANT588 STAI588",
+        "NACC588 UENT582 ERDI582 OFMO582 LREA582 SOFM582 INDA582 LAIM582 DPLA582 ABRI582 SCAP582",
+        "ACLE582 ASAB582 ORSH582 GHTF582 ORCO582 FING582 VERH582 RRED582 EFLE582 TTEE582 ERFA582",
+        "UREI582 EECO582 HEVA582 ATAR582 ALKE582 IGAT582 UITE582 ANEL582 DIEN582 ELLT582 GHTL582",
+        "EENE582 EHES582 USAN582 EMIC582 REDS582 ONSP582 CONG576 OCAT576 CIFI576 NDAL576 RSTR576",
+        "EVIS576 SLAN576 ORRO576 ALOF576 FREN576 EYEA576 NTSS576 NORD576 TRIP576 OFSO576 OWNE576",
+        "DMEN576 RKER576 NEAN576 IDET576 NDWE576 GUAR576 ERPE576 OLAT576 LVES576 ENGE576 ETOL576",
+        "GHBO576 RETI576 LYON576 SURF576 ATME576 ERTE576 ESRE576 PROJ576 ROJE576 OJEC576 SITE576",
+        "URIT576 JUDG576 ANTL576 DDIS576 UBST570 HIMA570 LIES570 EDAY570 NANA570 YHAD570 RUNN570",
+        "FICU570 OBEA570 NTFO570 MWAS570 DDIN570 EAGR570 BELL570 DISS570 NANT570 LEAG570 AVOR570",
+        "ONRE570 RYAN570 UNCE570 ACCU570 EHOR570 TANE570 LENC570 LOUS570 PICA570 NVOL570 MEHE570",
+        "TRUE570 PETH570 HOST570 KAND570 HUSB570 MMED570 DOCT570 ISAC570 FUNC570 ICST570 XTEN570",
+        "ALED570 AILS570 KSTH570 EAVY570 ITSO570 ERAD570 LABL570 ENGI570 ESOM570 BASI570 ACTU570",
+        "OKEN570 NDEM570 SMOR564 ROMH564 NDHI564 EARO564 SMOK564 YATT564 FYOU564 CLAI564 DBEE564",
+        "NGSI564 FEAR564 NONE564 ITSA564 EHIM564 SREC564 SSPE564 APIT564 OFAS564 STHR564 EDAP564",
+        "PROS564 JOIN564 REND564 YHEA564 LEDH564 DDEN564 ESEE564 REIG564 ASAP564 LLER564 EIRC564",
+        "EFUN564 INUE564 SEDB564 ARYT564 FORD564 LUDE564 DANI564 EREV564 LSOF564 WEMU564 ERWH564",
+        "OWLE558 MASS558 ETOU558 ERFI558 WEVE558 RONM558 TALE558 HESM558 RIVA558 TARI558 HESL558",
+        "ETRO558 SALA558 NOWT558 RICT558 SSIS558 WARM558 DIDA558 ASTT558 ORPO558 TDIS558 BOTT558",
+        "DAYT558 LIMI558 NDID558 ISET558 DBYA558 NTIF558 LLAT558 LKED558 OLDE558 SKED558 ZETH558",
+        "TEDE558 NSTT558 DANE558 APOL558 IVEM558 LLEA558 HECE558 HEDU558 LEDO558 EAPO558 EVET558",
+        "TNES558 FLAT558 RILL558 NIVE558 EDLE558 NVIR558 EISN558 NALP553 RTME553 EDAG553 LIZA553",
+        "UNDO553 SSUC553 NGAL553 HIND553 DEPE553 HATM553 DVER553 UTUR553 BENE553 HURC553 ARTM553",
+        "SUME553 INNO553 ITHC553 ECUL553 ANAD553 NDHA553 INVO553 GATE553 ECUT553 DONO553 DIED553",
+        "OLDT553 EATA553 NEIG553 HIPS553 RTRA553 MERE553 BUDG553 NGAR553 TOHA553 RSIT553 PRET553",
+        "ATTI553 WISH553 RSHA553 LOUD553 CTOF553 ANCH553 VENE553 EOFM547 ALAC547 RSHO547 ISPE547",
+        "LHIS547 EWEL547 UMME547 FUTU547 SQUI547 EBLO547 PHIC547 IRES547 NECE547 ORSO547 INAS547",
+        "ATRE547 MBLE547 EEDI547 ACEO547 EDEF547 RTST547 DINC547 EDUR547 OFCH547 CEIS547 TOAS547",
+        "SITY547 ADOP547 LLEC547 PEDT547 OWNS547 NGAG547 LVED547 SSTI547 TANI547 YYOU547 LDHA547",
+        "TOCA547 CARD547 WASW547 OYOU547 ARRY547 MSHE547 EREH547 ISAD547 RENA547 NSEC547 SMAR547",
+        "ITUD547 NANI547 RSAT547 RYOU547 OTTE547 INFE547 EXIS547 EDLY547 PHYS541 KEDO541 XTRA541",
+        "COMI541 IVIT541 EDAM541 NDIC541 ORKT541 NCEH541 CAPI541 EABO541 ECIT541 RALS541 ITAB541",
+        "AMAT541 DTOG541 IDNT541 HOFT541 SEAN541 DOPT541 TESI541 HEYO541 ATWA541 NITS541 RETT541",
+        "INCT541 SOTH541 UTED541 AFFI541 ASAD541 CLIM541 ARNE541 ICTH541 CORN541 DNES541 UCED541",
+        "SONI541 YOUS541 SANT541 OUSC541 VATE541 AIDT541 EACE541 VESO541 BLUE541 PLEM541 NMAN541",
+        "TLEM541 XIST541 TSCO535 SLIK535 ARRO535 CAST535 HADB535 EGET535 OUCH535 FILL535 ASEA535",
+        "BLEB535 DISH535 OVIN535 ESPI535 SLOW535 ERBA535 ETOD535 ICKL535 TRYT535 REFL535 SIND535",
+        "PLEO535 LONE535 TRUM535 RGED535 NEIN535 OHAV535 EARM535 FORI535 EHOL535 OCTO535 MENA535",
+        "ISBO535 NDWH535 IMSE535 SHEB535 TIFU535 OSPE535 ERRA535 SHOP529 NOWL529 MENS529 STAS529",
+        "CRED529 OTAK529 KEPT529 ADBE529 HICA529 USIO529 ASAT529 OFPO529 MILL529 SHOT529 EBAR529",
+        "DINN529 RTOT529 DARE529 LESI529 IVID529 EFAM529 PRIM529 ENGT529 HANA529 XPLO529 BRIT529",
+        "CEWA529 EDOC529 NSIS529 NSEN529 UTHI529 GUIS529 YONT529 AREB529 SHAN529 OTAT529 ERAI529",
+        "OFSU529 SUSP529 USPE529 ENDT529 GLAS529 YOUM529 EORI529 REBE529 ELET529 HICK529 SELY529",
+        "STOS529 LYWE529 RDST529 INSP524 SCHI524 NECO524 EMTH524 RESC524 CURE524 STSA524 ONOR524",
+        "IDEO524 NISM524 IONR524 EPTH524 OVET524 STEE524 OSSE524 SBUT524 ZENS524 GOTI524 INMA524",
+        "MINO524 EBUI524 BOMB524 ANET524 CARS524 ALAT524 EDIF524 CRIP524 HABI524 REDB524 PRIV524",
+        "ANSI524 EMOU524 RYST524 ELVE524 UNIV524 IALP524 CISM524 VIRO524 DITS524 OSTE524 WASM518",
+        "OYED518 TICL518 HEOT518 NEDO518 HESW518 EASY518 CANA518 ASCA518 NTWI518 RYON518 THHE518",
+        "ILLO518 EWEN518 LARS518 EEXT518 INAD518 HERR518 ESAF518 APRE518 LLST518 OFPE518 AYER518",
+        "NDUC518 OCOM518 NYTH518 DICI518 ONFR518 LERA518 EHAN518 EVID518 NEGO518 DATI518 NDDI518",
+        "DAME518 CELE518 NGUI518 IRIT518 LIBE518 CENE518 AYST518 LOWI518 LEDE518 TOOD518 MEAT518",
+        "NESE518 DSTR518 KETS512 HYSI512 UILT512 IKEA512 IWAS512 RALA512 CART512 ISOF512 NEDB512",
+        "NWOR512 ODTH512 YTOT512 OUSP512 THAL512 VELE512 FARM512 ECHE512 ICCO512 ALUE512 OUCA512",
+        "RPOR512 THIR512 SALO512 SACR512 RPOS512 ONPR512 HEHU512 OTOF512 ENWE512 YOUH512 TWHE512",
+        "TSTR512 OSEE512 NGFR512 ALLW512 NOUR512 EFOO512 HATO512 ERIV512 EIDE512 NDMO512 ACCI512",
+        "DESC512 TRYI506 BROA506 INNI506 AGRA506 ITYH506 ASER506 ESSC506 ORYT506 ENSA506 TICP506",
+        "EDOO506 RUCK506 ERFU506 ARMS506 SESO506 NNEC506 RYTO506 COGN506 IMEA506 ILIA506 EKIN506",
+        "HEWR506 GSTH506 EINH506 ESOC506 YWHE506 ICHA506 CTAN506 EDDE506 CLIN506 ONSF506 REUN506",
+        "TOGR506 ANIT506 OOPE506 USUA506 HTHI506 MEON506 USEA506 EDCH506 INAB506 SALI506 CAPA506",
+        "BABY506 GMEN506 ONOU506 RARY506 IANC506 ONGS506 IZET506 CHAL506 HEAM500 TANA500 WLED500",
+        "BOUN500 AMPA500 ABLI500 ETTI500 EUND500 REDF500 ACKI500 DAMA500 EALS500 GLIS500 URPR500",
+        "EASS500 SWHO500 HEJU500 TRUS500 HEGU500 ASEO500 TERL500 IGHL500 TILE500 SAPR500 RIBE500",
+        "EVAL500 ONEI500 TEAD500 AIRT500 ETTL500 IALT500 DARD500 REYO500 ATTL500 ETON500 ERWO500",
+        "NTHO500 EHAL500 EEFF500 DRIN500 SYMP500 EDIR500 POOR500 NSET500 REFI500 OWEV500 HATP494",
+        "TESH494 SHAP494 ILIZ494 TROO494 CEAS494 PULL494 OUTW494 VIOU494 NGCA494 ALLM494 PLAT494",
+        "ROUB494 TSFO494 NCIE494 LEDB494 DSOM494 ENDM494 UNRE494 AUTO494 NESA494 TYHE494 VEHE494",
+        "RFUL494 TINS494 SPOT494 DCAR494 EDET494 TOUS494 EORG494 OFPA494 ONMA494 SHOE494 ICED494",
+        "PARK494 LWAS494 NOON494 IFTH494 LIED494 ESSF494 NGDI494 DIND494 AYOF494 OFFA494 HENU494",
+        "DETA494 LESC494 UNNI494 SSOC494 DTOD494 VENO494 SEPA494 ASIS494 EFIL494 DESE494 ORMI494",
+        "IHAV494 VITA494 MOME494 ULDE494 TOSA494 GEAN494 EDHA494 REWI494 WECA494 DIAL494 ENAR494",
+        "LLYO494 ICHW494 REFR489 CANS489 ERSF489 ORIA489 INCH489 SOFD489 RUSH489 GERM489 DSHO489",
+        "NOFH489 EBRE489 NERO489 ANAS489 ATEH489 ORAR489 ADDI489 UPON489 NATO489 NEFI489 COMB489",
+        "LTED489 ITOF489 NOUN489 FUSE489 ILET489 EHAR489 RSAL489 OPTI489 NOMY489 ERYD489 TERD489",
+        "CHOF489 ERER489 ISFO489 AYSA489 ITLE489 OFDI489 DAFT489 NOTS489 VEOF489 ESSP489 VANT489",
+        "OLDS489 ADIA489 ONDU489 TLYT489 EENG489 NTOH489 GNED489 BLEH489 IVEF489 ESMO489 NOUG489",
+        "UTIF489 HRIS489 TOFO489 INOU489 EDHO489 GALL489 LTHI483 ESLI483 FORB483 DSIN483 URNA483",
+        "MEDA483 MELY483 TTOB483 EATO483 ALLP483 RIAT483 ALIF483 UNIS483 ATTR483 WEAL483 DSWE483",
+        "NRES483 ERIM483 ERBO483 UMER483 CLUS483 OGNI483 EENS483 EJOB483 DASA483 URIS483 EEAS483",
+        "BETH483 INOF483 APLA483 NDAM483 SOLV483 NSTE483 SADE483 NPRE483 HOTO483 ATEW483 MSTH483",
+        "TMAN483 AGEI483 GNIF483 LEGE483 INEI483 SILE483 NTAG483 ITSE483 NOUS483 RANE483 RDSA483",
+        "ESCH483 LLCO483 OMEW483 ALOR483 ANSH477 RONE477 NSPA477 TILI477 NGOU477 ENET477 LIGI477",
+        "VITY477 SSWA477 PREA477 UNIC477 MANW477 WATC477 DABO477 HOOD477 SERE477 WINT477 ECOG477",
+        "INCA477 MAST477 TONI477 EDIE477 OPET477 GCON477 DHAV477 TUDI477 OMFO477 INFR477 RDED477",
+        "PPEN477 ANTR477 YWOR477 SALW477 NOUT477 OREM477 GISL477 EBET477 RAIL477 ETOB477 ADOF477",
+        "OURF477 WEDT477 RSEA477 PICT477 ELYS477 GOLD477 NRIG477 LOYE471 IFET471 OREH471 EXER471",
+        "ONAC471 ADVE471 PARI471 BEHI471 YPLA471 ICRE471 STRY471 RYHE471 ADAN471 LNES471 NDSE471",
+        "GHTB471 HEYD471 EDWE471 TCHA471 TOVE471 OFAM471 RGES471 ICEO471 OTES471 TCAN471 ETAK471",
+        "SUSE471 HEVO471 EVOT471 TETO471 RDTO471 HEEM471 OMPR471 YSTR471 MORN471 EITW471 MANU471",
+        "HBOR471 ALTR471 SAMA471 AREG471 ELYA471 BOAT471 DMIN471 EITI471 REVO471 HHER471 UCAT471",
+        "SAWA471 DECO471 VERW471 TTOS471 LLET471 RYCO471 EPIN471 CHRI471 ENEV471 SHAL471 HEEV471",
+        "TWHI471 MPAR465 MHIS465 INPR465 SIAN465 RALP465 BERT465 NTIR465 EETS465 AMTH465 EHIN465",
+        "SMAD465 SCOR465 ECAP465 OUSO465 EDPO465 CALT465 EAWA465 IDDL465 MPLA465 NGPE465 DEAN465",
+        "NTOR465 FORP465 NEWE465 ULDS465 TOSU465 OUTE465 EONL465 COST465 OKTH465 RTIO465 OGRE465",
+        "SMIS465 ALOT465 PACK465 ITST465 CHRO465 ORYA465 EEDO465 WEWE465 EDWO465 ORCH465 TOGO465",
+        "EEPI465 MANE465 STAC465 RANI465 BRAN465 GMAN465 IERS465 RISK465 CCOM465 ONYO465 USEW465",
+        "ECLI465 CCID465 EDFA465 CLAR465 ECIF465 IMPE465 ILLC465 CRIS465 ORIC465 NCEN465 STMA460",
+        "HEAG460 CEME460 SAGO460 SWIF460 FTTH460 NEMY460 SNEW460 YSHO460 DANA460 DSHI460 LASH460",
+        "PPOI460 GPRO460 ARDO460 DATH460 NHEW460 FENS460 GETO460 ERSM460 RACY460 SFIN460 HTHA460",
+        "CTLY460 AFEW460 GOTH460 RAST460 CKLE460 ORTR460 OFSE460 HESK460 UNTO460 OPIC460 FURT460",
+        "DUCA460 ADAM460 LLTO460 FIDE460 SIGH460 ANGL460 NSFO460 STAY460 IVEB460 MANR460 NLYT460",
+        "OLAR460 TISN460 CHNI460 NERT454 MPTI454 ITHD454 IRIN454 OURH454 AGEM454 CAPE454 TONA454",
+        "SGRA454 FPRO454 ATON454 SURG454 VANC454 OLDA454 SCRA454 CEDU454 CONN454 ONVI454 RACI454",
+        "SPOL454 UREH454 ETOM454 NTCA454 SASA454 EBAN454 IMPA454 PONE454 EDTE454 YHEW454 TRIN454",
+        "SQUE454 BROU454 ITIA454 DTOP454 LAME454 HTTO454 SAVE454 EBOA454 ETCH454 ALSU454 ETOG454",
+        "ACHO454 BING454 EAGU454 IEDA454 CANY454 NEWH454 SABL454 UETH454 LARL454 SSUP454 PEDI454",
+        "WILD454 RPAR454 UNDR454 ICHT454 EDOM454 SALT454 SFUL448 XTRE448 ATCO448 NACT448 GHTW448",
+        "ITHF448 CEDA448 RAMM448 NOTO448 STOA448 HASI448 ONDO448 ALHE448 ICPR448 SEWA448 PUTA448",
+        "ANHE448 BLEE448 POND448 LERS448 MALE448 UCAN448 RANA448 EDRU448 HETU448 LOWT448 SACC448",
+        "INMY448 OFFO448 RITT448 ENST448 METE448 TEAR448 ATRA448 DAST448 LOWS448 SSON448 SMUS448",
+        "NGSE448 FILM448 SHAS448 BORD448 ENIC448 NSUL448 ATST448 ALSI448 ORMS448 LYOU448 AMME448",
+        "ERHO448 REMI448 HEOF448 SBRO448 LLAB448 EANP448 SSLY448 REHA448 UDED448 ODIS448 ERMS448",
+        "FETH442 YSIC442 ITTO442 BEGI442 ACTT442 RIOD442 RETU442 AUST442 ISLE442 URST442 EVIC442",
+        "ASTY442 LOSS442 PEDA442 ONEC442 TCHI442 RREL442 SASS442 BLOC442 EDER442 ICTE442 LOOR442",
+        "PAND442 CCUR442 LDHE442 INPA442 EDAW442 ONSS442 EGAN442 ETOH442 IREA442 ARDA442 MOFT442",
+        "REON442 ELEF442 OFGO442 NSPO442 CUSE442 DERO442 OTIA442 UTAT442 EDSU442 FORF442 INWA442",
+        "RUTH442 RNER442 GEIN442 LTIN442 GERA442 ETSA442 ARIO442 DEDH442 ONFE442 SOFO442 DUPT442",
+        "OFUN442 OLEA442 AYHE442 GTHI442 NETI442 AILA442 NGSU442 HELL442 LATT442 ERPA442 ANOR442",
+        "TUNI442 ELIK442 NELE442 AFFE442 LWIT442 LEXI442 NEDS442 NDLY442 LLYB442 INVA436 NTBE436",
+        "TCOU436 OWOR436 MEAL436 NGPA436 SWEE436 IGIO436 IFEA436 ISEX436 NNED436 AKEI436 EDMY436",
+        "DAGA436 ANYS436 PLIE436 LANA436 ORAB436 LLAS436 ERYW436 NDCA436 TOEN436 PICK436 ASPR436",
+        "ESSM436 WRON436 ARIE436 PPRE436 IGNO436 RYEA436 OSTR436 NOFC436 SOWN436 OFWA436 SAIL436",
+        "EDNO436 TOAL436 NGMO436 EBEH436 WAVE436 ETAN436 ESBE436 ECLE436 LMOS436 DINH436 HEDH436",
+        "PAIR436 YHAV436 YCAN436 ESUS436 LERE436 AKED436 NGEA436 NOTC436 LYAS436 SOFI436 HNIC436",
+        "IQUE436 TPAR430 SSTU430 ISAB430 OFCA430 EGIN430 OORS430 YOUW430 TOUC430 MARI430 MECH430",
+        "SINH430 NTOU430 NSPI430 LLNE430 EPTA430 TYPE430 VELI430 MERG430 LESE430 OOLS430 OURO430",
+        "BLER430 YCAR430 URPO430 ETTO430 TSHA430 OFWO430 OLDM430 ERSD430 GONT430 MAGI430 GRAV430",
+        "SKIL430 APHI430 NDSC430 TEAS430 ARNI430 OFOR430 NPLA430 HREA430 DINF430 INSH430 ROFA430",
+        "SONL430 ASEN430 ELIS430 DOUR430 SCUR430 OUSB430 ITHP430 ACIO430 IDIN430 URCO430 HATD430",
+        "AFRI430 GIST425 IDNO425 RALO425 NHAS425 NTSE425 NOFS425 RRIV425 NGRO425 RSSH425 EAMA425",
+        "ELCO425 FEET425 RYWA425 TSON425 LORS425 ULDA425 LLYD425 STIF425 EFIT425 NTME425 ROFI425",
+        "TTON425 RASH425 ISBA425 LUTE425 TSWI425 EPEA425 NEHE425 EAMS425 LAYI425 OLES425 EDOV425",
+        "HISV425 SIZE425 ONCL425 LYFO425 NPOL425 OMOT425 EDWA425 HEEC425 TLIN425 NFLU425 CTRI425",
+        "CREE425 LKIN425 RFEC425 RAFF425 DTOM425 PINT425 DECE425 ANAP425 TWOU425 PATT425 HTOF425",
+        "OUHA425 IGEN425 ONEH425 TACH425 TICT425 PACI425 DEGR425 BRIN425 SEET425 LYPR425 TEMS425",
+        "FLUE425 LUEN425 SENC425 ARDH425 ERLA425 DTRA425 SCOL425 IALE425 LLYR425 YPER425 NSON425",
+        "HINA419 MULT419 NGME419 EMIL419 SMIN419 ROUT419 UNAT419 ACOL419 SSUM419 EREO419 LFIN419",
+        "ENEF419 SBEC419 OLIN419 UMBL419 RIMA419 DDRE419 EAFT419 NTHR419 CKST419 FORR419 ANKS419",
+        "ALCA419 ESEV419 DIVE419 ETED419 INEO419 SEND419 EPHO419 XPEN419 ALCH419 THUN419 EITS419",
+        "EDMO419 NTDE419 CTSO419 RANK419 TRUT419 CHEE419 EOFE419 UPIN419 NALO419 EMES419 LTIM419",
+        "ACTA419 EBLA419 LAUG419 NTWO419 RTHO419 SPHE419 MBIN419 NDEV419 LEAT419 ENON419 EWHA419",
+        "LDIE419 DOWS419 OSTS419 EATU419 ANGI419 ARMO419 IGRA419 DLED419 ESME419 HANK419 ERLE419",
+        "IVEW419 ELYI419 LIAR419 STTO413 METR413 TTEM413 LIND413 CKTO413 ISEN413 RORI413 ARER413",
+        "SARY413 SREM413 AMAG413 TSRE413 MANO413 USEH413 KEST413 HOTH413 ONAP413 RALD413 AHIG413",
+        "HEON413 DALO413 MOON413 IMMI413 SMEN413 LTHO413 CORP413 NSCI413 ISWA413 NSER413 EAKI413",
+        "YDAY413 SPAP413 TREP413 TOLD413 NICE413 DACO413 ERAF413 GAGE413 OOSE413 OFWH413 RECR413",
+        "LART413 SCLO413 SOPH413 OYME413 UREW413 FFAI413 ITWI413 DWHI413 NSHA413 ISCL413 NCEP413",
+        "NDOU413 UALS413 OURL413 OUSH413 EWED413 EYCA413 ITEM413 NUND413 ESEP413 SDEC413 HUND413",
+        "KSHE413 LHAV413 DECL413 PRED413 OPES413 TEUR413 ELOC407 OFMY407 ORAC407 ROOP407 ISWH407",
+        "LLSH407 DCHI407 ERTR407 MINU407 AYSH407 TOFS407 ELOS407 UNNE407 LOTO407 BARR407 EKNO407",
+        "BITI407 IFES407 TOPP407 SDON407 UTON407 CKLY407 ARTT407 YERS407 GESO407 IRMA407 EALA407",
+        "SSHA407 HEYE407 NHES407 LNOT407 AREH407 ENIT407 PENI407 AIRA407 YMOR407 OFGR407 ITYS407",
+        "ISAG407 TEDD407 NTSP407 LTRA407 ECID407 ERFR407 PINE407 NINF407 ISME407 OBSE407 CTIM407",
+        "NTSC407 UNDH407 IAGE407 LIGE407 YSTO407 TALO407 YMAN407 WEIG407 NALY407 ROLE407 OURR407",
+        "OONE407 NWHE407 MESA407 STSH407 HANC407 ANHO407 OSEA407 UTIT407 SINV407 PLEW407 NKTH407",
+        "ICEN407 ONSB407 LEWI407 WHET407 ILYT407 ERUL407 ELIC407 RTNE407 DGEN407 TICC407 NUNC407",
+        "EAMI401 ALSC401 NARR401 HEYT401 ITEA401 RCIS401 RANO401 CHHE401 TLYA401 TBEA401 DONA401",
+        "FARE401 IMED401 ATOF401 NGBE401 ATMO401 BULL401 HEYP401 SPAS401 TOPA401 SMAT401 TOPO401",
+        "SURP401 EARR401 ANPA401 CIPA401 NDSW401 OODC401 YIMP401 RILY401 ISSH401 TEHE401 HEYM401",
+        "RGIN401 ENJO401 NJOY401 AINF401 RICK401 OFME401 RENG401 FINT401 ECHO401 OFBE401 ERYM401",
+        "MEFO401 ALKI401 EPIC401 NEDU401 SENE401 ALEA401 QUIE401 TEMA401 PHOT401 NTOS401 COOP401",
+        "SPAI401 ESAB401 SOON401 ALLD401 TALA401 PELL401 UTAN401 DPER401 LLYW401 RISH401 ATEP401",
+        "YTRA401 LYSI401 TPLA401 EGOO401 DIER401 ERNS401 INWH401 NSOM401 YHAS401 TSID401 EVIE401",
+        "SOFE401 NGWO401 NSEO401 CEWI401 EPOP401 SUNS401 POUN401 ARSI401 TSPR401 NDEC401 GABO401",
+        "PHIL401 TEEN401 WESH401 OSTT396 HAPE396 RATT396 LEDW396 NESH396 EXPO396 NSPE396 TROP396",
+        "EEPS396 RDAY396 DPAR396 ERSB396 HATR396 ESIR396 TRIK396 BRID396 DAWA396 DSAR396 NECT396",
+        "TSSH396 OPLA396 EIRS396 WHIS396 TASK396 GNIT396 ARBO396 LEND396 EDOW396 RITO396 YFRO396",
+        "ANOP396 RICU396 ASPA396 ARMY396 YCOU396 NEWC396 ECRA396 BURN396 ASEI396 ITEC396 POET396",
+        "MESH396 ALLC396 OBEC396 UDDE396 OLIS396 CEED396 LOYM396 AFFA396 LYWI396 ESAD396 UMPE396",
+        "REEA396 LEWA396 EAGA396 LELE396 BIRD396 ERDA396 ORKA396 TSOM396 AIRC396 ETST396 ONUN396",
+        "SPIC396 SEME396 APRI396 ICKS396 ICTU396 EROC396 CALM396 EWTH396 ONIA396 LYST396 SOIL396",
+        "EOUR396 FORO390 NGWE390 GSOF390 HASE390 WONT390 AYTO390 TPER390 ACAR390 SFIR390 ETOC390",
+        "DUND390 ISGR390 EEMP390 ORAS390 URAT390 TITW390 CLOU390 HTEN390 ARDL390 ORKO390 CTST390",
+        "SORT390 OUTF390 OSEL390 AWIN390 OYAL390 ERHU390 CRIB390 ASAR390 RMTH390 EPOI390 ACHT390",
+        "EWRO390 EDNE390 EFOL390 ISAM390 GENI390 TTIM390 ENUM390 SCUL390 LIDA390 SITW390 RFRO390",
+        "AMOR390 SEIS390 UHAV390 ZING390 EPLE390 WHOW390 YOFA390 NSES390 NTPR390 NPRI390 UMOR390",
+        "OWHE390 TESO390 LIQU390 ENCI390 ADEC390 GESA390 RMOR390 TEFO390 NGPO390 ELIT390 NDBE390",
+        "SCOV390 OOMS390 STOW390 ELEM390 LEAF390 SAMO390 TIAN390 IDON390 EDTR390 EJUD390 MUSC390",
+        "NIAN390 INEF390 NGLO390 OREF384 SREG384 XERC384 UETO384 SBEH384 AGEH384 MPAI384 OWNH384",
+        "EYTH384 IEDH384 SINO384 DPRE384 MAKI384 APED384 FLIG384 SONG384 TISI384 DBEA384 TUNA384",
+        "ATAS384 ERYA384 FEDE384 LRES384 EDBA384 NFIR384 TMUS384 SARO384 GETS384 EDOG384 CYTH384",
+        "TOOL384 CHOL384 NEWI384 PUTT384 RPER384 AMEW384 MECO384 LLNO384 SDES384 ASPO384 ACRI384",
+        "ACEW384 GERT384 CCUS384 TURK384 PLAS384 NANE384 PURP384 AGRI384 LCHA384 TATO384 ORAD384",
+        "WASL384 MPAT384 ARSO384 LARA384 ASIO384 DCHA384 TWEA384 ENIG384 NWER384 CAUG384 TMOS384",
+        "ASOU384 LAYS384 ARPE384 EVIL384 NFID384 RUIT384 RAPE384 QUAT384 EEKS384 BLOW384 OURB384",
+        "LSAR384 BRIC384 VOCA384 LICT384 VERC384 ENSO384 SEWH384 AINW384 ORDA384 RCED384 SLYT384",
+        "IDGE384 DEDB384 NTAB384 OLUM384 HOWT384 OTEN384 LIMA384 KYOU384 TEDR384 NEDF384 YEDT378",
+        "SMOT378 NFIN378 VOID378 WSTH378 RMOF378 HOSP378 EHEH378 TYEA378 ESUM378 UNTH378 ASSH378",
+        "HOCK378 AWTH378 BUTA378 LLON378 INAP378 SHAK378 PONT378 RAMA378 SAFT378 PULS378 MOKE378",
+        "RTHR378 HEYR378 KOFT378 ARMA378 GANT378 LDNT378 LEIS378 EDBU378 AKEO378 CINE378 TSAT378",
+        "NIZA378 HOLI378 EWSP378 OTRE378 ESEL378 OFAP378 HOES378 ENHA378 NPER378 EHIG378 SADI378",
+        "ERYC378 NESI378 DBUT378 ESWA378 EIRP378 ADIT378 RSET378 DDED378 NSEA378 TYIS378 STOD378",
+        "HEPH378 COMF378 RTAB378 SBET378 EITH378 TISE378 RRIA378 RIAG378 ORIZ378 STWO378 SOFL378",
+        "MPED378 NTWH378 DEIN378 NGOV378 TATU378 ALAS378 EIRO378 SATE378 USSE378 HONO378 NDIA378",
+        "ISSA378 LYAC378 TOAD378 MIGR378 VESI378 OBED378 LPAR378 ASIL378 TOCR378 CKEN378 ELFI378",
+        "ROTH378 NTOM372 CESW372 ANAB372 NDSI372 BEAC372 HIMI372 NACO372 EMEL372 ICEI372 OOPS372",
+        "HTST372 TOFP372 RIEF372 OFFR372 LTTH372 NGET372 IONL372 ETES372 OCKT372 ORSI372 OTON372",
+        "MWIT372 HEMT372 URAG372 UPPL372 OFAB372 WASG372 EMID372 DLEA372 CANI372 ECAT372 OUTB372",
+        "RYWE372 HARP372 NIES372 MERA372 ENOM372 YRES372 YINS372 RUGS372 DUAL372 TRUN372 DJUS372",
+        "DMOR372 STME372 ISOP372 NINV372 HIRD372 VILL372 HISK372 NCAN372 HEES372 KEDF372 WTHA372",
+        "ASFO372 NCAR372 DEAR372 WAND372 UREF372 HEOU372 SREL372 LIMB372 SURV372 OODW372 EADD372",
+        "RADU372 MINT372 OREO372 BALA372 EBEC372 DINE372 COAT372 OUSD372 ASIT372 NDFA372 UGHA372",
+        "OWNI372 OODI372 LORI372 SEIT372 ICER372 INHA372 EBUS372 SACT372 TOLI372 RMSO372 THUS372",
+        "LAGE372 HEID372 LVER372 BORN372 EFLA372 BONE372 ENLY372 ANDY372 ATAB372 LLME372 TOES372",
+        "WEWI372 ANRI372 AMIS366 SSHI366 TUDY366 NHEA366 LSTA366 GINS366 THOL366 DSEV366 MURD366",
+        "GERO366 ARTA366 EFEA366 ANEM366 PSTH366 HWAS366 UTSI366 TEDU366 OUTL366 UNFO366 NGDE366",
+        "OEST366 UMPT366 DHEW366 ILLF366 NINA366 EOFI366 TBUT366 DERH366 ADDE366 ITTI366 AVEM366",
+        "RHAN366 ALLB366 OCKI366 ICEH366 DURE366 ORNO366 ALEX366 LDST366 DEVI366 TSAL366 NEWT366",
+    };
+
+    private EnglishQuadgrams() {
+    }
+}
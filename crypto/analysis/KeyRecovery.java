@@ -0,0 +1,449 @@
+package analysis;
+
+import algorithms.CaesarCipher;
+import algorithms.Cipher;
+import algorithms.ParallelCipher;
+import algorithms.XORCipher;
+import exceptions.InvalidKeyException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recovers the key of Caesar or XOR cipher text by trying the whole key space:
+ * the 26 shifts of the Caesar cipher, every 16-bit character key of the XOR
+ * cipher in text mode, or every byte key in binary mode.
+ *
+ * The input is counted into a histogram of distinct symbols. At checkpoints
+ * that double in distance (1K, 2K, 4K... symbols), every key's score is updated
+ * from the symbols counted since the last checkpoint, split by key range on a
+ * ForkJoinPool. The score is the log-likelihood of the decrypted text under
+ * {@link EnglishModel}. An update costs keys x distinct symbols, however much
+ * text it covers. Reading stops once the best key leads the runner-up by a
+ * decisive margin, or at the sample limit. Multi-megabyte inputs are therefore
+ * usually settled from their first few kilobytes.
+ */
+public class KeyRecovery {
+
+    /** Default maximum number of characters (or bytes) read from the input */
+    public static final int DEFAULT_SAMPLE_LIMIT = 64 * 1024;
+
+    private static final int FIRST_CHECKPOINT = 1024;
+    private static final int MAX_BLOCK = 64 * 1024; // largest single read
+    private static final double DECISIVE_MARGIN = 200; // log-likelihood lead, in nats, that ends sampling
+    private static final int PREVIEW_LENGTH = 60;
+    private static final int MIN_TASK_WORK = 64 * 1024; // keys x symbols below which a task is not split
+
+    private static final int CAESAR_KEYS = 26;
+    private static final int XOR_CHAR_KEYS = Character.MAX_VALUE + 1;
+    private static final int XOR_BYTE_KEYS = 256;
+
+    private final Cipher cipher;
+    private final boolean caesar;
+    private final int sampleLimit;
+    private final ForkJoinPool pool;
+
+    /**
+     * @param cipher a Caesar or XOR cipher, possibly wrapped in a ParallelCipher
+     */
+    public KeyRecovery(Cipher cipher) {
+        this(cipher, DEFAULT_SAMPLE_LIMIT);
+    }
+
+    /**
+     * @param cipher      a Caesar or XOR cipher, possibly wrapped in a ParallelCipher
+     * @param sampleLimit maximum number of characters (or bytes) read before ranking
+     */
+    public KeyRecovery(Cipher cipher, int sampleLimit) {
+        if (cipher instanceof ParallelCipher) {
+            cipher = ((ParallelCipher) cipher).getCipher();
+        }
+        if (!(cipher instanceof CaesarCipher) && !(cipher instanceof XORCipher)) {
+            throw new IllegalArgumentException("Key recovery supports the Caesar and XOR ciphers, not "
+                    + cipher.getName());
+        }
+        if (sampleLimit < 1) {
+            throw new IllegalArgumentException("sampleLimit must be at least 1");
+        }
+        this.cipher = cipher;
+        this.caesar = cipher instanceof CaesarCipher;
+        this.sampleLimit = sampleLimit;
+        this.pool = ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Ranks the keys for a cipher text held in memory
+     *
+     * @param cipherText text produced by the cipher in text mode
+     * @param top        number of candidates to return
+     * @return the best keys, most likely first
+     */
+    public Result recover(String cipherText, int top) {
+        try {
+            return recover(new StringReader(cipherText), top);
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // a StringReader does not fail
+        }
+    }
+
+    /**
+     * Ranks the keys for cipher text read as characters, as produced in text mode
+     *
+     * @param in  cipher text; read up to the sample limit, not closed
+     * @param top number of candidates to return
+     * @return the best keys, most likely first
+     * @throws IOException if reading fails
+     */
+    public Result recover(Reader in, int top) throws IOException {
+        Search search = new Search(caesar ? CAESAR_KEYS : XOR_CHAR_KEYS, Character.MAX_VALUE + 1, top);
+        char[] block = new char[Math.min(sampleLimit, MAX_BLOCK)];
+        char[] preview = new char[Math.min(sampleLimit, PREVIEW_LENGTH)];
+        int previewLength = 0;
+        while (true) {
+            int wanted = search.wanted(block.length);
+            int read = readFully(in, block, wanted);
+            if (previewLength < preview.length) {
+                int n = Math.min(read, preview.length - previewLength);
+                System.arraycopy(block, 0, preview, previewLength, n);
+                previewLength += n;
+            }
+            for (int i = 0; i < read; i++) {
+                search.add(block[i]);
+            }
+            if (search.done(read, wanted)) {
+                break;
+            }
+        }
+        return search.result(new String(preview, 0, previewLength), null);
+    }
+
+    /**
+     * Ranks the keys for raw cipher bytes, as produced in binary mode. Only the
+     * low eight bits of an XOR key act on bytes, so the XOR key space is 0-255.
+     *
+     * @param in  cipher bytes; read up to the sample limit, not closed
+     * @param top number of candidates to return
+     * @return the best keys, most likely first
+     * @throws IOException if reading fails
+     */
+    public Result recover(ReadableByteChannel in, int top) throws IOException {
+        Search search = new Search(caesar ? CAESAR_KEYS : XOR_BYTE_KEYS, 256, top);
+        ByteBuffer block = ByteBuffer.allocate(Math.min(sampleLimit, MAX_BLOCK));
+        byte[] preview = new byte[Math.min(sampleLimit, PREVIEW_LENGTH)];
+        int previewLength = 0;
+        while (true) {
+            int wanted = search.wanted(block.capacity());
+            block.clear().limit(wanted);
+            while (block.hasRemaining() && in.read(block) >= 0) {
+                // keep reading until the block is full or the input ends
+            }
+            int read = block.position();
+            byte[] bytes = block.array();
+            if (previewLength < preview.length) {
+                int n = Math.min(read, preview.length - previewLength);
+                System.arraycopy(bytes, 0, preview, previewLength, n);
+                previewLength += n;
+            }
+            for (int i = 0; i < read; i++) {
+                search.add(bytes[i] & 0xFF);
+            }
+            if (search.done(read, wanted)) {
+                break;
+            }
+        }
+        byte[] sample = new byte[previewLength];
+        System.arraycopy(preview, 0, sample, 0, previewLength);
+        return search.result(null, sample);
+    }
+
+    // What the cipher's decryption turns a symbol into under the given key
+    private int decrypt(int symbol, int key) {
+        if (!caesar) {
+            return symbol ^ key;
+        }
+        if (symbol >= 'A' && symbol <= 'Z') {
+            return 'A' + (symbol - 'A' + CAESAR_KEYS - key) % CAESAR_KEYS;
+        }
+        if (symbol >= 'a' && symbol <= 'z') {
+            return 'a' + (symbol - 'a' + CAESAR_KEYS - key) % CAESAR_KEYS;
+        }
+        return symbol;
+    }
+
+    private static int readFully(Reader in, char[] buffer, int length) throws IOException {
+        int total = 0;
+        while (total < length) {
+            int n = in.read(buffer, total, length - total);
+            if (n < 0) {
+                break;
+            }
+            total += n;
+        }
+        return total;
+    }
+
+    // Shows a decrypted preview on one line, with unprintable characters as '.'
+    private static String printable(char[] chars, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            char c = chars[i];
+            if (c == '\n' || c == '\r' || c == '\t') {
+                text.append(' ');
+            } else if (Character.isISOControl(c) || !Character.isDefined(c)) {
+                text.append('.');
+            } else {
+                text.append(c);
+            }
+        }
+        return text.toString();
+    }
+
+    /** Scores of every key over the sample read so far */
+    private class Search {
+        private final double[] scores;
+        private final int[] histogram; // counts since the last checkpoint, indexed by symbol
+        private final int[] symbols; // distinct symbols since the last checkpoint
+        private final int[] counts;
+        private int distinct;
+        private long sampled;
+        private long checkpoint = Math.min(FIRST_CHECKPOINT, sampleLimit);
+        private final int top;
+        private final long start = System.nanoTime();
+
+        Search(int keys, int alphabet, int top) {
+            if (top < 1) {
+                throw new IllegalArgumentException("top must be at least 1");
+            }
+            this.top = top;
+            this.scores = new double[keys];
+            this.histogram = new int[alphabet];
+            this.symbols = new int[alphabet];
+            this.counts = new int[alphabet];
+        }
+
+        void add(int symbol) {
+            if (histogram[symbol]++ == 0) {
+                symbols[distinct++] = symbol;
+            }
+        }
+
+        // Number of symbols to read next, so that no read crosses a checkpoint
+        int wanted(int capacity) {
+            return (int) Math.min(capacity, checkpoint - sampled);
+        }
+
+        /**
+         * Accounts for a read and scores the keys at a checkpoint
+         *
+         * @return true if sampling should stop
+         */
+        boolean done(int read, int wanted) {
+            sampled += read;
+            boolean end = read < wanted || sampled >= sampleLimit;
+            if (!end && sampled < checkpoint) {
+                return false;
+            }
+            updateScores();
+            if (end || decisive()) {
+                return true;
+            }
+            checkpoint = Math.min(sampleLimit, checkpoint * 2);
+            return false;
+        }
+
+        // Folds the histogram into every key's score, then clears it
+        private void updateScores() {
+            for (int i = 0; i < distinct; i++) {
+                counts[i] = histogram[symbols[i]];
+                histogram[symbols[i]] = 0;
+            }
+            ScoreTask task = new ScoreTask(this, 0, scores.length);
+            if ((long) scores.length * distinct < MIN_TASK_WORK) {
+                task.compute();
+            } else {
+                pool.invoke(task);
+            }
+            distinct = 0;
+        }
+
+        void score(int fromKey, int toKey) {
+            for (int key = fromKey; key < toKey; key++) {
+                double score = 0;
+                for (int i = 0; i < distinct; i++) {
+                    score += counts[i] * (double) EnglishModel.logProbability(decrypt(symbols[i], key));
+                }
+                scores[key] += score;
+            }
+        }
+
+        boolean decisive() {
+            int[] best = best(2);
+            return best.length > 1 && scores[best[0]] - scores[best[1]] >= DECISIVE_MARGIN;
+        }
+
+        // Indexes of the highest scores, highest first; ties go to the lower key
+        int[] best(int top) {
+            int n = Math.min(top, scores.length);
+            int[] best = new int[n];
+            int size = 0;
+            for (int key = 0; key < scores.length; key++) {
+                if (size == n && scores[key] <= scores[best[n - 1]]) {
+                    continue;
+                }
+                int i = size < n ? size++ : n - 1;
+                while (i > 0 && scores[best[i - 1]] < scores[key]) {
+                    best[i] = best[i - 1];
+                    i--;
+                }
+                best[i] = key;
+            }
+            return best;
+        }
+
+        Result result(String text, byte[] bytes) {
+            List<Candidate> candidates = new ArrayList<>();
+            int[] best = best(top);
+            for (int key : best) {
+                double perSymbol = sampled == 0 ? 0 : scores[key] / sampled;
+                candidates.add(new Candidate(key, perSymbol, preview(key, text, bytes)));
+            }
+            boolean decisive = best.length < 2 || scores[best[0]] - scores[best[1]] >= DECISIVE_MARGIN;
+            return new Result(candidates, sampled, decisive && sampled > 0, System.nanoTime() - start);
+        }
+
+        // Decrypts the start of the sample with the cipher itself, so what is shown is what decrypt produces
+        private String preview(int key, String text, byte[] bytes) {
+            try {
+                if (text != null) {
+                    char[] chars = cipher.decrypt(text, key).toCharArray();
+                    return printable(chars, chars.length);
+                }
+                byte[] plain = new byte[bytes.length];
+                cipher.decryptInto(bytes, 0, bytes.length, plain, 0, key);
+                char[] chars = new char[plain.length];
+                for (int i = 0; i < plain.length; i++) {
+                    chars[i] = (char) (plain[i] & 0xFF);
+                }
+                return printable(chars, chars.length);
+            } catch (InvalidKeyException e) {
+                return ""; // every key in the searched space is valid
+            }
+        }
+    }
+
+    /** Splits the key range until each part has enough work for one thread */
+    private static class ScoreTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Search search;
+        private final int fromKey;
+        private final int toKey;
+
+        ScoreTask(Search search, int fromKey, int toKey) {
+            this.search = search;
+            this.fromKey = fromKey;
+            this.toKey = toKey;
+        }
+
+        @Override
+        protected void compute() {
+            if (toKey - fromKey < 2 || (long) (toKey - fromKey) * search.distinct < MIN_TASK_WORK) {
+                search.score(fromKey, toKey);
+                return;
+            }
+            int middle = (fromKey + toKey) >>> 1;
+            invokeAll(new ScoreTask(search, fromKey, middle), new ScoreTask(search, middle, toKey));
+        }
+    }
+
+    /**
+     * A candidate key with its score
+     */
+    public static class Candidate {
+        private final int key;
+        private final double score;
+        private final String preview;
+
+        Candidate(int key, double score, String preview) {
+            this.key = key;
+            this.score = score;
+            this.preview = preview;
+        }
+
+        /** @return the key, as passed to the cipher's decrypt methods */
+        public int getKey() {
+            return key;
+        }
+
+        /** @return average log-likelihood per sampled symbol; higher is more English-like */
+        public double getScore() {
+            return score;
+        }
+
+        /** @return the start of the sample decrypted with this key, on one line */
+        public String getPreview() {
+            return preview;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("key %d, score %.3f: %s", key, score, preview);
+        }
+    }
+
+    /**
+     * Outcome of a search
+     */
+    public static class Result {
+        private final List<Candidate> candidates;
+        private final long sampled;
+        private final boolean decisive;
+        private final long elapsedNanos;
+
+        Result(List<Candidate> candidates, long sampled, boolean decisive, long elapsedNanos) {
+            this.candidates = Collections.unmodifiableList(candidates);
+            this.sampled = sampled;
+            this.decisive = decisive;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /** @return the best keys, most likely first */
+        public List<Candidate> getCandidates() {
+            return candidates;
+        }
+
+        /** @return the most likely key */
+        public Candidate getBest() {
+            return candidates.get(0);
+        }
+
+        /** @return number of characters (or bytes) read before ranking */
+        public long getSampled() {
+            return sampled;
+        }
+
+        /** @return true if the best key clearly beat every other one */
+        public boolean isDecisive() {
+            return decisive;
+        }
+
+        /** @return wall-clock time of the search in milliseconds */
+        public long getElapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        }
+
+        @Override
+        public String toString() {
+            return "Sampled: " + sampled + (decisive ? " (decisive)" : " (not decisive)")
+                    + ", elapsed: " + getElapsedMillis() + " ms";
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package analysis;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Letter quadgram model of a language, used as the fitness function of the
+ * {@link SubstitutionSolver}. Text is reduced to its letters A-Z, and each run
+ * of four consecutive letters is one quadgram. The model holds the base-10 log
+ * probability of all 26^4 quadgrams in one flat float array, indexed by the
+ * letters as a base-26 number. A lookup is a single array load, and the whole
+ * table is under 2 MB.
+ *
+ * Quadgrams never seen in training get a floor probability below that of the
+ * rarest quadgram that was seen. Models are immutable and safe to share.
+ */
+public final class QuadgramModel {
+
+    /** Number of distinct quadgrams, 26^4 */
+    public static final int SIZE = 26 * 26 * 26 * 26;
+
+    private static final double FLOOR_FRACTION = 0.1; // unseen count, relative to the rarest one seen
+
+    private final float[] logProbabilities;
+    private final float floor;
+
+    private QuadgramModel(float[] logProbabilities, float floor) {
+        this.logProbabilities = logProbabilities;
+        this.floor = floor;
+    }
+
+    /**
+     * @return the built-in English model, loaded on first use
+     */
+    public static QuadgramModel english() {
+        return English.MODEL;
+    }
+
+    /**
+     * Builds a model from sample text of the language. A few megabytes of
+     * ordinary prose give a good model.
+     *
+     * @param corpus sample text; read to the end, not closed
+     * @return the trained model
+     * @throws IOException              if reading fails
+     * @throws IllegalArgumentException if the corpus has fewer than four letters
+     */
+    public static QuadgramModel train(Reader corpus) throws IOException {
+        long[] counts = new long[SIZE];
+        char[] buffer = new char[8192];
+        int quadgram = 0;
+        int letters = 0;
+        int n;
+        while ((n = corpus.read(buffer)) != -1) {
+            for (int i = 0; i < n; i++) {
+                int letter = letter(buffer[i]);
+                if (letter < 0) {
+                    continue;
+                }
+                quadgram = (quadgram * 26 + letter) % SIZE;
+                if (++letters >= 4) {
+                    counts[quadgram]++;
+                }
+            }
+        }
+        return fromCounts(counts);
+    }
+
+    // Turns occurrence counts into log probabilities with a floor for unseen quadgrams
+    static QuadgramModel fromCounts(long[] counts) {
+        long total = 0;
+        long rarest = Long.MAX_VALUE;
+        for (long count : counts) {
+            total += count;
+            if (count > 0 && count < rarest) {
+                rarest = count;
+            }
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("The corpus must contain at least four letters");
+        }
+        float floor = (float) Math.log10(FLOOR_FRACTION * rarest / total);
+        float[] logs = new float[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            logs[i] = counts[i] > 0 ? (float) Math.log10((double) counts[i] / total) : floor;
+        }
+        return new QuadgramModel(logs, floor);
+    }
+
+    /**
+     * @param quadgram quadgram index, see {@link #index(int, int, int, int)}
+     * @return base-10 log probability of the quadgram
+     */
+    public float score(int quadgram) {
+        return logProbabilities[quadgram];
+    }
+
+    /**
+     * @return the log probability given to quadgrams that never occurred in training
+     */
+    public float getFloor() {
+        return floor;
+    }
+
+    /**
+     * @return index of a quadgram from its letters, each 0-25 for A-Z
+     */
+    public static int index(int a, int b, int c, int d) {
+        return ((a * 26 + b) * 26 + c) * 26 + d;
+    }
+
+    /**
+     * Average log probability per quadgram of a text; higher is closer to the language
+     *
+     * @param text any text; only its letters count
+     * @return fitness per quadgram, or the floor if the text has fewer than four letters
+     */
+    public double fitness(CharSequence text) {
+        double sum = 0;
+        int quadgrams = 0;
+        int quadgram = 0;
+        int letters = 0;
+        for (int i = 0; i < text.length(); i++) {
+            int letter = letter(text.charAt(i));
+            if (letter < 0) {
+                continue;
+            }
+            quadgram = (quadgram * 26 + letter) % SIZE;
+            if (++letters >= 4) {
+                sum += logProbabilities[quadgram];
+                quadgrams++;
+            }
+        }
+        return quadgrams == 0 ? floor : sum / quadgrams;
+    }
+
+    /**
+     * @return 0-25 for the letters A-Z in either case, -1 for every other character
+     */
+    static int letter(char c) {
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A';
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a';
+        }
+        return -1;
+    }
+
+    // Holder so the built-in table is only parsed when it is used
+    private static class English {
+        static final QuadgramModel MODEL = load();
+
+        private static QuadgramModel load() {
+            long[] counts = new long[SIZE];
+            for (String row : EnglishQuadgrams.COUNTS) {
+                for (String entry : row.split(" ")) {
+                    int quadgram = index(entry.charAt(0) - 'A', entry.charAt(1) - 'A', entry.charAt(2) - 'A',
+                            entry.charAt(3) - 'A');
+                    counts[quadgram] = Long.parseLong(entry.substring(4));
+                }
+            }
+            return fromCounts(counts);
+        }
+    }
+}
@@ -0,0 +1,489 @@
+package analysis;
+
+import algorithms.SubstitutionCipher;
+import exceptions.InvalidKeyException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recovers a likely mapping for substitution cipher text, in the 26-letter
+ * format the {@link SubstitutionCipher} constructor accepts. The key space is
+ * 26!, so instead of trying every key the solver hill-climbs. Starting from a
+ * key, it swaps two letters of the key whenever that raises the
+ * {@link QuadgramModel} fitness of the decryption, until no swap helps. That
+ * finds a local optimum. Many climbs from different random keys run on a
+ * ForkJoinPool across all cores, and the best optima win.
+ *
+ * The cipher text is reduced to its distinct letter quadgrams with their
+ * counts, and each cipher letter lists the distinct quadgrams it occurs in.
+ * Swapping two key letters only changes the quadgrams that contain either
+ * letter. A swap is therefore scored by the change in those quadgrams, read
+ * from a per-climb cache of current scores, and the rest of the text is never
+ * re-scored.
+ */
+public class SubstitutionSolver {
+
+    /** Default maximum number of characters read; a few thousand letters settle the mapping */
+    public static final int DEFAULT_SAMPLE_LIMIT = 16 * 1024;
+
+    /** Default number of climbs; at least 16, and four per core on bigger machines */
+    public static final int DEFAULT_RESTARTS = Math.max(16, 4 * Runtime.getRuntime().availableProcessors());
+
+    private static final int PREVIEW_LENGTH = 60;
+    private static final int BLOCK = 8192;
+    private static final double MIN_GAIN = 1e-9; // swaps must gain more than rounding noise
+
+    // English letters from most to least frequent, for the first climb's starting key
+    private static final String FREQUENCY_ORDER = "ETAOINSHRDLCUMWFGYPBVKJXQZ";
+
+    private final QuadgramModel model;
+    private final int restarts;
+    private final int sampleLimit;
+    private final long seed;
+    private final ForkJoinPool pool;
+
+    /**
+     * Solver with the built-in English model and default settings
+     */
+    public SubstitutionSolver() {
+        this(QuadgramModel.english(), DEFAULT_RESTARTS, DEFAULT_SAMPLE_LIMIT, System.nanoTime());
+    }
+
+    /**
+     * @param model       fitness model of the plain text language
+     * @param restarts    number of independent climbs
+     * @param sampleLimit maximum number of characters read from the cipher text
+     * @param seed        seed of the random starting keys; the same seed gives the same result
+     */
+    public SubstitutionSolver(QuadgramModel model, int restarts, int sampleLimit, long seed) {
+        if (restarts < 1) {
+            throw new IllegalArgumentException("restarts must be at least 1");
+        }
+        if (sampleLimit < 1) {
+            throw new IllegalArgumentException("sampleLimit must be at least 1");
+        }
+        this.model = model;
+        this.restarts = restarts;
+        this.sampleLimit = sampleLimit;
+        this.seed = seed;
+        this.pool = ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Solves a cipher text held in memory
+     *
+     * @param cipherText text produced by a substitution cipher
+     * @param top        number of distinct mappings to return
+     * @return the best mappings, most likely first
+     */
+    public Result solve(String cipherText, int top) {
+        try {
+            return solve(new StringReader(cipherText), top);
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // a StringReader does not fail
+        }
+    }
+
+    /**
+     * Solves cipher text read as characters
+     *
+     * @param in  cipher text; read up to the sample limit, not closed
+     * @param top number of distinct mappings to return
+     * @return the best mappings, most likely first
+     * @throws IOException              if reading fails
+     * @throws IllegalArgumentException if the sample has fewer than four letters
+     */
+    public Result solve(Reader in, int top) throws IOException {
+        if (top < 1) {
+            throw new IllegalArgumentException("top must be at least 1");
+        }
+        long start = System.nanoTime();
+
+        // Keep the letters, as 0-25, and the start of the text for previews
+        byte[] letters = new byte[Math.min(sampleLimit, BLOCK)];
+        int letterCount = 0;
+        StringBuilder preview = new StringBuilder(PREVIEW_LENGTH);
+        char[] block = new char[Math.min(sampleLimit, BLOCK)];
+        int sampled = 0;
+        int n;
+        while (sampled < sampleLimit
+                && (n = in.read(block, 0, Math.min(block.length, sampleLimit - sampled))) != -1) {
+            for (int i = 0; i < n; i++) {
+                int letter = QuadgramModel.letter(block[i]);
+                if (letter < 0) {
+                    continue;
+                }
+                if (letterCount == letters.length) {
+                    letters = Arrays.copyOf(letters, Math.min(sampleLimit, letters.length * 2));
+                }
+                letters[letterCount++] = (byte) letter;
+            }
+            if (preview.length() < PREVIEW_LENGTH) {
+                preview.append(block, 0, Math.min(n, PREVIEW_LENGTH - preview.length()));
+            }
+            sampled += n;
+        }
+        if (letterCount < 4) {
+            throw new IllegalArgumentException("The cipher text must contain at least four letters");
+        }
+
+        Text text = new Text(letters, letterCount);
+        List<Callable<Climb>> climbs = new ArrayList<>(restarts);
+        for (int i = 0; i < restarts; i++) {
+            final int restart = i;
+            climbs.add(new Callable<Climb>() {
+                @Override
+                public Climb call() {
+                    return climb(text, restart);
+                }
+            });
+        }
+        List<Climb> optima = new ArrayList<>(restarts);
+        try {
+            for (Future<Climb> future : pool.invokeAll(climbs)) {
+                optima.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while solving", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        return result(optima, top, preview.toString(), letterCount, System.nanoTime() - start);
+    }
+
+    private Climb climb(Text text, int restart) {
+        int[] key = restart == 0 ? frequencyKey(text) : randomKey(new SplittableRandom(seed + restart));
+        Climber climber = new Climber(text, key);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int x = 0; x < 25; x++) {
+                for (int y = x + 1; y < 26; y++) {
+                    if (climber.trySwap(x, y)) {
+                        improved = true;
+                    }
+                }
+            }
+        }
+        return new Climb(mapping(climber.key), climber.fitness / text.total);
+    }
+
+    // Decrypts the most frequent cipher letter to E, the next to T, and so on
+    private static int[] frequencyKey(Text text) {
+        Integer[] order = new Integer[26];
+        for (int i = 0; i < 26; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(text.frequencies[b], text.frequencies[a]));
+        int[] key = new int[26];
+        for (int rank = 0; rank < 26; rank++) {
+            key[order[rank]] = FREQUENCY_ORDER.charAt(rank) - 'A';
+        }
+        return key;
+    }
+
+    private static int[] randomKey(SplittableRandom random) {
+        int[] key = new int[26];
+        for (int i = 0; i < 26; i++) {
+            key[i] = i;
+        }
+        for (int i = 25; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = key[i];
+            key[i] = key[j];
+            key[j] = swap;
+        }
+        return key;
+    }
+
+    // Turns a decryption key (cipher letter -> plain letter) into the cipher's mapping (plain -> cipher)
+    private static String mapping(int[] key) {
+        char[] mapping = new char[26];
+        for (int cipherLetter = 0; cipherLetter < 26; cipherLetter++) {
+            mapping[key[cipherLetter]] = (char) ('A' + cipherLetter);
+        }
+        return new String(mapping);
+    }
+
+    // Groups equal optima, ranks them and decrypts a preview with each
+    private Result result(List<Climb> optima, int top, String preview, int letters, long elapsedNanos) {
+        Collections.sort(optima, (a, b) -> Double.compare(b.fitness, a.fitness));
+        List<Candidate> candidates = new ArrayList<>();
+        for (Climb climb : optima) {
+            Candidate last = candidates.isEmpty() ? null : candidates.get(candidates.size() - 1);
+            if (last != null && last.mapping.equals(climb.mapping)) {
+                last.hits++;
+                continue;
+            }
+            if (candidates.size() == top) {
+                break;
+            }
+            String decrypted;
+            try {
+                decrypted = new SubstitutionCipher(climb.mapping).decrypt(preview, 0);
+            } catch (InvalidKeyException e) {
+                throw new IllegalStateException(e); // a mapping built from a permutation is always valid
+            }
+            candidates.add(new Candidate(climb.mapping, climb.fitness, printable(decrypted)));
+        }
+        return new Result(candidates, letters, restarts, elapsedNanos);
+    }
+
+    private static String printable(String text) {
+        StringBuilder line = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            line.append(Character.isISOControl(c) ? ' ' : c);
+        }
+        return line.toString();
+    }
+
+    /** The cipher text reduced to distinct quadgrams, shared read-only by every climb */
+    private static class Text {
+        final byte[] quadLetters; // the four cipher letters of each distinct quadgram
+        final int[] counts; // occurrences of each distinct quadgram
+        final int[] letterMasks; // bit i set when cipher letter i occurs in the quadgram
+        final int[][] containing; // per cipher letter, the distinct quadgrams it occurs in
+        final long[] frequencies = new long[26];
+        final long total; // quadgrams in the text, counting repeats
+
+        Text(byte[] letters, int length) {
+            for (int i = 0; i < length; i++) {
+                frequencies[letters[i]]++;
+            }
+            int[] all = new int[length - 3];
+            for (int i = 0; i < all.length; i++) {
+                all[i] = QuadgramModel.index(letters[i], letters[i + 1], letters[i + 2], letters[i + 3]);
+            }
+            Arrays.sort(all);
+            int distinct = 0;
+            int[] quads = new int[all.length];
+            int[] occurrences = new int[all.length];
+            for (int i = 0; i < all.length; i++) {
+                if (distinct > 0 && quads[distinct - 1] == all[i]) {
+                    occurrences[distinct - 1]++;
+                } else {
+                    quads[distinct] = all[i];
+                    occurrences[distinct++] = 1;
+                }
+            }
+            this.counts = Arrays.copyOf(occurrences, distinct);
+            this.total = all.length;
+
+            quadLetters = new byte[4 * distinct];
+            letterMasks = new int[distinct];
+            int[] sizes = new int[26];
+            for (int q = 0; q < distinct; q++) {
+                int mask = 0;
+                for (int quad = quads[q], i = 3; i >= 0; i--, quad /= 26) {
+                    quadLetters[4 * q + i] = (byte) (quad % 26);
+                    mask |= 1 << (quad % 26);
+                }
+                letterMasks[q] = mask;
+                for (int letter = 0; letter < 26; letter++) {
+                    if ((mask & (1 << letter)) != 0) {
+                        sizes[letter]++;
+                    }
+                }
+            }
+            containing = new int[26][];
+            for (int letter = 0; letter < 26; letter++) {
+                containing[letter] = new int[sizes[letter]];
+                sizes[letter] = 0;
+            }
+            for (int q = 0; q < distinct; q++) {
+                for (int letter = 0; letter < 26; letter++) {
+                    if ((letterMasks[q] & (1 << letter)) != 0) {
+                        containing[letter][sizes[letter]++] = q;
+                    }
+                }
+            }
+        }
+    }
+
+    /** One hill climb: a key, the current score of every distinct quadgram, and the total fitness */
+    private class Climber {
+        private final Text text;
+        private final int[] key; // cipher letter -> plain letter
+        private final float[] scores;
+        private final float[] pending; // new scores of the quadgrams a swap touches
+        private final int[] affected;
+        private double fitness; // sum of count x score over the distinct quadgrams
+
+        Climber(Text text, int[] key) {
+            this.text = text;
+            this.key = key;
+            int distinct = text.counts.length;
+            scores = new float[distinct];
+            pending = new float[distinct];
+            affected = new int[distinct];
+            for (int q = 0; q < distinct; q++) {
+                scores[q] = model.score(decrypt(q));
+                fitness += text.counts[q] * (double) scores[q];
+            }
+        }
+
+        // Model index of the plain quadgram that distinct quadgram q decrypts to under the current key
+        private int decrypt(int q) {
+            byte[] letters = text.quadLetters;
+            int i = 4 * q;
+            return ((key[letters[i]] * 26 + key[letters[i + 1]]) * 26 + key[letters[i + 2]]) * 26
+                    + key[letters[i + 3]];
+        }
+
+        /**
+         * Swaps what cipher letters x and y decrypt to, keeping the swap only if
+         * it raises the fitness. Only quadgrams containing x or y are re-scored.
+         *
+         * @return true if the swap was kept
+         */
+        boolean trySwap(int x, int y) {
+            swap(x, y);
+            double delta = 0;
+            int n = 0;
+            for (int q : text.containing[x]) {
+                float score = model.score(decrypt(q));
+                delta += text.counts[q] * (double) (score - scores[q]);
+                pending[n] = score;
+                affected[n++] = q;
+            }
+            int xBit = 1 << x;
+            for (int q : text.containing[y]) {
+                if ((text.letterMasks[q] & xBit) != 0) {
+                    continue; // already counted with x
+                }
+                float score = model.score(decrypt(q));
+                delta += text.counts[q] * (double) (score - scores[q]);
+                pending[n] = score;
+                affected[n++] = q;
+            }
+            if (delta <= MIN_GAIN) {
+                swap(x, y);
+                return false;
+            }
+            for (int i = 0; i < n; i++) {
+                scores[affected[i]] = pending[i];
+            }
+            fitness += delta;
+            return true;
+        }
+
+        private void swap(int x, int y) {
+            int plain = key[x];
+            key[x] = key[y];
+            key[y] = plain;
+        }
+    }
+
+    /** Local optimum reached by one climb */
+    private static class Climb {
+        final String mapping;
+        final double fitness;
+
+        Climb(String mapping, double fitness) {
+            this.mapping = mapping;
+            this.fitness = fitness;
+        }
+    }
+
+    /**
+     * A candidate mapping with its fitness
+     */
+    public static class Candidate {
+        private final String mapping;
+        private final double score;
+        private final String preview;
+        private int hits = 1;
+
+        Candidate(String mapping, double score, String preview) {
+            this.mapping = mapping;
+            this.score = score;
+            this.preview = preview;
+        }
+
+        /** @return 26-letter mapping for the SubstitutionCipher constructor */
+        public String getMapping() {
+            return mapping;
+        }
+
+        /** @return average base-10 log probability per quadgram; higher is closer to the language */
+        public double getScore() {
+            return score;
+        }
+
+        /** @return number of climbs that ended on this mapping */
+        public int getHits() {
+            return hits;
+        }
+
+        /** @return the start of the cipher text decrypted with this mapping, on one line */
+        public String getPreview() {
+            return preview;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s, score %.3f, %d hits: %s", mapping, score, hits, preview);
+        }
+    }
+
+    /**
+     * Outcome of a solve
+     */
+    public static class Result {
+        private final List<Candidate> candidates;
+        private final long letters;
+        private final int restarts;
+        private final long elapsedNanos;
+
+        Result(List<Candidate> candidates, long letters, int restarts, long elapsedNanos) {
+            this.candidates = Collections.unmodifiableList(candidates);
+            this.letters = letters;
+            this.restarts = restarts;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /** @return the best distinct mappings, most likely first */
+        public List<Candidate> getCandidates() {
+            return candidates;
+        }
+
+        /** @return the most likely mapping */
+        public Candidate getBest() {
+            return candidates.get(0);
+        }
+
+        /** @return number of letters in the sample that was solved */
+        public long getLetters() {
+            return letters;
+        }
+
+        /** @return number of climbs run */
+        public int getRestarts() {
+            return restarts;
+        }
+
+        /** @return wall-clock time of the solve in milliseconds */
+        public long getElapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        }
+
+        @Override
+        public String toString() {
+            return "Letters: " + letters + ", climbs: " + restarts + ", best reached by "
+                    + getBest().getHits() + ", elapsed: " + getElapsedMillis() + " ms";
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package bench;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+import algorithms.*;
+import analysis.CorpusStatistics;
+import analysis.KeyRecovery;
+import analysis.QuadgramModel;
+import analysis.SubstitutionSolver;
+import io.Compression;
+import io.FileHandler;
+import util.Logger;
+
+/**
+ * Throughput and allocation benchmarks for every cipher, payload size and
+ * engine, plus the FileHandler and Logger paths. Each case is warmed up, then
+ * run for a fixed time; results are printed as tab-separated lines so they can
+ * be diffed across releases.
+ *
+ * Usage: java -cp bin bench.CipherBenchmark [--max-size 64m] [--time 1000] [--filter text]
+ *
+ * Allocation is measured on the benchmark thread only, so work done by the
+ * ParallelCipher worker threads is not included in its B/op figure.
+ */
+public class CipherBenchmark {
+
+    private static final int[] SIZES = { 64, 1024, 64 * 1024, 1024 * 1024, 64 * 1024 * 1024, 1024 * 1024 * 1024 };
+    private static final int KEY = 7;
+    private static final String MAPPING = "QWERTYUIOPASDFGHJKLZXCVBNM";
+    private static final String XOR_KEY = "a 23-byte benchmark key";
+    private static final String PASSWORD = "benchmark password";
+    private static final String CHAIN = "caesar:3,substitution:" + MAPPING + ",xor:7";
+
+    private final long maxSize;
+    private final long timeMillis;
+    private final String filter;
+    private final com.sun.management.ThreadMXBean threads;
+
+    private CipherBenchmark(long maxSize, long timeMillis, String filter) {
+        this.maxSize = maxSize;
+        this.timeMillis = timeMillis;
+        this.filter = filter;
+        this.threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    }
+
+    /** A single benchmarked operation */
+    private interface Operation {
+        void run() throws Exception;
+    }
+
+    public static void main(String[] args) throws Exception {
+        long maxSize = 64L * 1024 * 1024;
+        long timeMillis = 1000;
+        String filter = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--max-size":
+                    maxSize = parseSize(args[++i]);
+                    break;
+                case "--time":
+                    timeMillis = Long.parseLong(args[++i]);
+                    break;
+                case "--filter":
+                    filter = args[++i];
+                    break;
+                default:
+                    System.out.println("Unknown option: " + args[i]);
+                    System.out.println("Usage: bench.CipherBenchmark [--max-size 64m] [--time 1000] [--filter text]");
+                    return;
+            }
+        }
+
+        Path workDir = Files.createTempDirectory("cipherguard-bench");
+        System.setProperty("cipherguard.log", workDir.resolve("activity.log").toString());
+        try {
+            new CipherBenchmark(maxSize, timeMillis, filter).runAll(workDir);
+        } finally {
+            deleteTree(workDir);
+        }
+    }
+
+    private void runAll(Path workDir) throws Exception {
+        System.out.println("# xor kernel: " + XorKernel.get().getName() + ", cores: "
+                + Runtime.getRuntime().availableProcessors());
+        System.out.println("benchmark\tsize\tops/s\tMB/s\tB/op");
+
+        Cipher[] ciphers = { new CaesarCipher(), new XORCipher(),
+                new RepeatingKeyXorCipher(RepeatingKeyXorCipher.parseKey(XOR_KEY)), new SubstitutionCipher(MAPPING),
+                new ChainCipher(ChainCipher.parseStages(CHAIN)) };
+        for (int size : SIZES) {
+            if (size > maxSize) {
+                break;
+            }
+            for (boolean ascii : new boolean[] { true, false }) {
+                String text = sampleText(size, ascii);
+                for (Cipher cipher : ciphers) {
+                    benchCipher(cipher, text, ascii ? "ascii" : "unicode", size);
+                }
+            }
+            for (Cipher cipher : ciphers) {
+                benchBytes(cipher, size);
+            }
+            benchChain(size);
+            benchAuthenticated(size);
+            benchFiles(workDir, size);
+            benchRecovery(size);
+        }
+        benchLogger();
+    }
+
+    private void benchCipher(Cipher cipher, String text, String charset, int size) throws Exception {
+        String prefix = shortName(cipher) + "." + charset;
+        String encrypted = cipher.encrypt(text, KEY);
+        measure(prefix + ".encrypt.string", size, () -> cipher.encrypt(text, KEY));
+        measure(prefix + ".decrypt.string", size, () -> cipher.decrypt(encrypted, KEY));
+
+        char[] src = text.toCharArray();
+        char[] dst = new char[src.length];
+        measure(prefix + ".encrypt.into", size, () -> cipher.encryptInto(src, 0, src.length, dst, 0, KEY));
+        measure(prefix + ".decrypt.into", size, () -> cipher.decryptInto(dst, 0, dst.length, src, 0, KEY));
+
+        Cipher parallel = new ParallelCipher(cipher);
+        measure(prefix + ".encrypt.parallel", size, () -> parallel.encryptInto(src, 0, src.length, dst, 0, KEY));
+    }
+
+    private void benchBytes(Cipher cipher, int size) throws Exception {
+        String prefix = shortName(cipher) + ".bytes";
+        byte[] src = sampleText(size, true).getBytes(Charset.forName("US-ASCII"));
+        byte[] dst = new byte[src.length];
+        measure(prefix + ".encrypt.into", size, () -> cipher.encryptInto(src, 0, src.length, dst, 0, KEY));
+
+        ByteBuffer in = ByteBuffer.allocateDirect(size);
+        ByteBuffer out = ByteBuffer.allocateDirect(size);
+        in.put(src);
+        measure(prefix + ".encrypt.direct", size, () -> {
+            in.clear();
+            out.clear();
+            cipher.encryptInto(in, out, KEY);
+        });
+
+        Cipher parallel = new ParallelCipher(cipher);
+        measure(prefix + ".encrypt.parallel", size, () -> {
+            in.clear();
+            out.clear();
+            parallel.encryptInto(in, out, KEY);
+        });
+    }
+
+    // The stages of the chain one pass each, as running them one after another would
+    private void benchChain(int size) throws Exception {
+        ChainCipher chain = new ChainCipher(ChainCipher.parseStages(CHAIN));
+        byte[] src = sampleText(size, true).getBytes(StandardCharsets.US_ASCII);
+        byte[] dst = new byte[src.length];
+        measure("chain.bytes.encrypt.staged", size, () -> {
+            System.arraycopy(src, 0, dst, 0, src.length);
+            for (ChainCipher.Stage stage : chain.getStages()) {
+                stage.getCipher().encryptInto(dst, 0, dst.length, dst, 0, stage.getKey());
+            }
+        });
+    }
+
+    private void benchAuthenticated(int size) throws Exception {
+        byte[] plain = sampleText(size, true).getBytes(StandardCharsets.US_ASCII);
+        // The password key is cached per instance, so a low count only shortens setup
+        AuthenticatedCipher[] ciphers = { new AesGcmCipher(PASSWORD, 1000),
+                new ChaCha20Poly1305Cipher(PASSWORD, 1000) };
+        for (AuthenticatedCipher cipher : ciphers) {
+            String prefix = shortName(cipher) + ".stream";
+            ByteArrayOutputStream sealed = new ByteArrayOutputStream(size + size / 1024 + 64);
+            cipher.encrypt(Channels.newChannel(new ByteArrayInputStream(plain)), Channels.newChannel(sealed), KEY);
+            byte[] encrypted = sealed.toByteArray();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(encrypted.length);
+            measure(prefix + ".encrypt", size, () -> {
+                out.reset();
+                cipher.encrypt(Channels.newChannel(new ByteArrayInputStream(plain)), Channels.newChannel(out), KEY);
+            });
+            measure(prefix + ".decrypt", size, () -> {
+                out.reset();
+                cipher.decrypt(Channels.newChannel(new ByteArrayInputStream(encrypted)), Channels.newChannel(out), KEY);
+            });
+        }
+    }
+
+    private void benchFiles(Path workDir, int size) throws Exception {
+        String input = workDir.resolve("input-" + size + ".txt").toString();
+        String output = workDir.resolve("output-" + size + ".txt").toString();
+        String content = sampleText(size, true);
+        FileHandler.writeFile(input, content);
+        Cipher cipher = new CaesarCipher();
+        Cipher parallel = new ParallelCipher(cipher);
+
+        measure("file.readFile", size, () -> FileHandler.readFile(input));
+        measure("file.writeFile", size, () -> FileHandler.writeFile(output, content));
+        measure("file.processFile", size, () -> FileHandler.processFile(input, output, cipher, KEY, true));
+        measure("file.processFile.parallel", size, () -> FileHandler.processFile(input, output, parallel, KEY, true));
+        measure("file.mapFile", size, () -> FileHandler.mapFile(input, output, cipher, KEY, true));
+        measure("file.mapFile.parallel", size, () -> FileHandler.mapFile(input, output, parallel, KEY, true));
+        measure("file.container.write", size, () -> FileHandler.encryptToContainer(input, output, parallel, KEY));
+        measure("file.container.range", size, () -> FileHandler.decryptRange(output, size / 2, 4096, parallel, KEY));
+        measure("file.container.deflate", size,
+                () -> FileHandler.encryptToContainer(input, output, parallel, KEY, Compression.DEFLATE, null));
+        measure("file.container.deflate.range", size,
+                () -> FileHandler.decryptRange(output, size / 2, 4096, parallel, KEY));
+        measure("stats.scan", size, () -> CorpusStatistics.scan(Paths.get(input), StandardCharsets.UTF_8));
+        measure("stats.scanBytes", size, () -> CorpusStatistics.scanBytes(Paths.get(input)));
+    }
+
+    private void benchRecovery(int size) throws Exception {
+        String text = sampleText(size, true);
+        for (Cipher cipher : new Cipher[] { new CaesarCipher(), new XORCipher() }) {
+            String encrypted = cipher.encrypt(text, KEY);
+            KeyRecovery recovery = new KeyRecovery(cipher);
+            measure("recover." + shortName(cipher), size, () -> recovery.recover(encrypted, 5));
+        }
+        String substituted = new SubstitutionCipher(MAPPING).encrypt(text, KEY);
+        SubstitutionSolver solver = new SubstitutionSolver(QuadgramModel.english(), 16,
+                SubstitutionSolver.DEFAULT_SAMPLE_LIMIT, 42);
+        measure("recover.substitution", size, () -> solver.solve(substituted, 5));
+    }
+
+    private void benchLogger() throws Exception {
+        measure("logger.log", 0, () -> Logger.log("Caesar Cipher encrypted file to /tmp/benchmark.txt"));
+    }
+
+    private void measure(String name, int size, Operation operation) throws Exception {
+        if (filter != null && !name.contains(filter)) {
+            return;
+        }
+
+        // Warm up for half the measurement time so the JIT has settled
+        runFor(operation, timeMillis / 2);
+
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        long ops = runFor(operation, timeMillis);
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        double seconds = elapsed / 1e9;
+        double opsPerSecond = ops / seconds;
+        double mbPerSecond = (double) size * ops / seconds / (1024 * 1024);
+        System.out.printf("%s\t%s\t%.1f\t%.1f\t%d%n", name, formatSize(size), opsPerSecond, mbPerSecond,
+                allocated / ops);
+    }
+
+    // Runs the operation at least once and until the time budget is used up
+    private static long runFor(Operation operation, long millis) throws Exception {
+        long deadline = System.nanoTime() + millis * 1_000_000L;
+        long ops = 0;
+        do {
+            operation.run();
+            ops++;
+        } while (System.nanoTime() < deadline);
+        return ops;
+    }
+
+    private static String sampleText(int size, boolean ascii) {
+        String words = ascii
+                ? "The quick brown fox jumps over the lazy dog. 0123456789\n"
+                : "Gr\u00fc\u00dfe aus K\u00f6ln, na\u00efve caf\u00e9 \u2014 \u03a9\u03bc\u03ad\u03b3\u03b1, \u041f\u0440\u0438\u0432\u0435\u0442, \u6771\u4eac\u3078\u3088\u3046\u3053\u305d\u3002\n";
+        StringBuilder text = new StringBuilder(size);
+        Random random = new Random(42);
+        while (text.length() < size) {
+            text.append(words.charAt(random.nextInt(words.length())));
+        }
+        return text.toString();
+    }
+
+    private static String shortName(Cipher cipher) {
+        if (cipher instanceof CaesarCipher) {
+            return "caesar";
+        } else if (cipher instanceof XORCipher) {
+            return "xor";
+        } else if (cipher instanceof RepeatingKeyXorCipher) {
+            return "repeating-xor";
+        } else if (cipher instanceof AesGcmCipher) {
+            return "aes-gcm";
+        } else if (cipher instanceof ChaCha20Poly1305Cipher) {
+            return "chacha20-poly1305";
+        } else if (cipher instanceof ChainCipher) {
+            return "chain";
+        } else {
+            return "substitution";
+        }
+    }
+
+    private static long parseSize(String text) {
+        String value = text.trim().toLowerCase();
+        long unit = 1;
+        if (value.endsWith("k")) {
+            unit = 1024;
+        } else if (value.endsWith("m")) {
+            unit = 1024 * 1024;
+        } else if (value.endsWith("g")) {
+            unit = 1024 * 1024 * 1024;
+        }
+        if (unit != 1) {
+            value = value.substring(0, value.length() - 1);
+        }
+        return Long.parseLong(value) * unit;
+    }
+
+    private static String formatSize(int size) {
+        if (size >= 1024 * 1024 * 1024) {
+            return size / (1024 * 1024 * 1024) + "G";
+        } else if (size >= 1024 * 1024) {
+            return size / (1024 * 1024) + "M";
+        } else if (size >= 1024) {
+            return size / 1024 + "K";
+        }
+        return String.valueOf(size);
+    }
+
+    private static void deleteTree(Path dir) throws IOException {
+        try (java.util.stream.Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(java.util.Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import main.CommandLine;
+
+/**
+ * Start-up benchmark for the headless command line: launches a fresh JVM per
+ * run, pipes a small file through {@code main.Main encrypt} and records the
+ * time until the first output byte arrives and until the process exits.
+ * Every run pays the full JVM start, which is what short cron invocations see.
+ *
+ * Usage: java -cp bin bench.StartupBenchmark [--runs 20] [--size 4k] [--archive cipherguard.jsa]
+ *
+ * With --archive the runs are repeated with that AppCDS archive, which only
+ * applies when the class path is the one the archive was built with (see
+ * scripts/appcds.sh). {@code --train} runs every command line path once
+ * in-process and is what the archive is built from.
+ */
+public class StartupBenchmark {
+
+    private static final int WARMUP_RUNS = 2; // fill the page cache before measuring
+
+    private final String java;
+    private final String classPath;
+    private final byte[] input;
+    private final int runs;
+
+    private StartupBenchmark(String classPath, int size, int runs) {
+        this.java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        this.classPath = classPath;
+        this.input = sampleText(size).getBytes(Charset.forName("US-ASCII"));
+        this.runs = runs;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = 20;
+        int size = 4 * 1024;
+        String archive = null;
+        String classPath = System.getProperty("java.class.path");
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--runs":
+                    runs = Integer.parseInt(args[++i]);
+                    break;
+                case "--size":
+                    size = parseSize(args[++i]);
+                    break;
+                case "--archive":
+                    archive = args[++i];
+                    break;
+                case "--classpath":
+                    classPath = args[++i];
+                    break;
+                case "--train":
+                    train();
+                    return;
+                default:
+                    System.out.println("Unknown option: " + args[i]);
+                    System.out.println("Usage: bench.StartupBenchmark [--runs 20] [--size 4k] [--archive file.jsa]"
+                            + " [--classpath path] | --train");
+                    return;
+            }
+        }
+
+        StartupBenchmark benchmark = new StartupBenchmark(classPath, size, runs);
+        Path workDir = Files.createTempDirectory("cipherguard-startup");
+        try {
+            benchmark.runAll(workDir, archive);
+        } finally {
+            deleteTree(workDir);
+        }
+    }
+
+    private void runAll(Path workDir, String archive) throws Exception {
+        String log = "-Dcipherguard.log=" + workDir.resolve("activity.log");
+        Path classes = workDir.resolve("classes.log");
+        List<String> stdin = Arrays.asList("main.Main", "encrypt", "--cipher", "xor", "--key", "7");
+
+        System.out.println("# awt/swing classes loaded by the CLI: "
+                + awtClassesLoaded(classes, log, stdin));
+        System.out.println("benchmark\tsize\tfirst byte p50 ms\tfirst byte p90 ms\texit p50 ms\texit p90 ms");
+        measure("cli.stdin", options(log), stdin);
+        measure("cli.stdin.nojmx", options(log, "-Dcipherguard.jmx=false"), stdin);
+        if (archive != null) {
+            measure("cli.stdin.appcds", options(log, "-XX:SharedArchiveFile=" + archive, "-Xshare:auto"), stdin);
+        }
+    }
+
+    // Runs the command once with class loading logged to a file
+    private long awtClassesLoaded(Path classes, String log, List<String> command) throws Exception {
+        List<String> jvmOptions = options(log, "-Xlog:class+load:file=" + classes);
+        run(jvmOptions, command);
+        long count = 0;
+        for (String line : Files.readAllLines(classes)) {
+            if (line.contains(" java.awt.") || line.contains(" javax.swing.") || line.contains(" sun.awt.")) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void measure(String name, List<String> jvmOptions, List<String> command) throws Exception {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            run(jvmOptions, command);
+        }
+        long[] firstByte = new long[runs];
+        long[] exit = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long[] times = run(jvmOptions, command);
+            firstByte[i] = times[0];
+            exit[i] = times[1];
+        }
+        System.out.printf("%s\t%s\t%.1f\t%.1f\t%.1f\t%.1f%n", name, formatSize(input.length),
+                percentile(firstByte, 50), percentile(firstByte, 90), percentile(exit, 50), percentile(exit, 90));
+    }
+
+    // Returns nanoseconds from launch to the first output byte and to process exit
+    private long[] run(List<String> jvmOptions, List<String> command) throws Exception {
+        List<String> commandLine = new ArrayList<>();
+        commandLine.add(java);
+        commandLine.addAll(jvmOptions);
+        commandLine.add("-cp");
+        commandLine.add(classPath);
+        commandLine.addAll(command);
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(commandLine).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+
+        // Feed stdin from another thread so a full output pipe cannot deadlock us
+        Thread feeder = new Thread(() -> {
+            try (OutputStream stdin = process.getOutputStream()) {
+                stdin.write(input);
+            } catch (IOException e) {
+                // The process exited early; its status is checked below
+            }
+        });
+        feeder.start();
+
+        long firstByte = -1;
+        byte[] buffer = new byte[8192];
+        try (InputStream stdout = process.getInputStream()) {
+            int read = stdout.read();
+            if (read != -1) {
+                firstByte = System.nanoTime() - start;
+                while (stdout.read(buffer) != -1) {
+                    // drain
+                }
+            }
+        }
+        int status = process.waitFor();
+        long exit = System.nanoTime() - start;
+        feeder.join();
+        if (status != 0) {
+            throw new IOException("Command failed with status " + status + ": " + commandLine);
+        }
+        return new long[] { firstByte, exit };
+    }
+
+    private static List<String> options(String... options) {
+        return Arrays.asList(options);
+    }
+
+    /**
+     * Runs each command line path once, so that a JVM started with
+     * -XX:ArchiveClassesAtExit records every class those paths load
+     */
+    private static void train() throws IOException {
+        Path workDir = Files.createTempDirectory("cipherguard-train");
+        try {
+            Path sourceDir = Files.createDirectories(workDir.resolve("source"));
+            Path input = sourceDir.resolve("input.txt");
+            Files.write(input, sampleText(64 * 1024).getBytes(Charset.forName("US-ASCII")));
+            String in = input.toString();
+            String encrypted = workDir.resolve("input.enc").toString();
+            String decrypted = workDir.resolve("input.dec").toString();
+
+            String[][] ciphers = { { "caesar", "3" }, { "xor", "7" }, { "substitution", "QWERTYUIOPASDFGHJKLZXCVBNM" } };
+            for (String[] cipher : ciphers) {
+                CommandLine.run(new String[] { "encrypt", "--cipher", cipher[0], "--key", cipher[1],
+                        "--in", in, "--out", encrypted });
+                CommandLine.run(new String[] { "decrypt", "--cipher", cipher[0], "--key", cipher[1],
+                        "--in", encrypted, "--out", decrypted });
+                CommandLine.run(new String[] { "encrypt", "--cipher", cipher[0], "--key", cipher[1],
+                        "--in", in, "--out", encrypted, "--binary" });
+            }
+            CommandLine.run(new String[] { "encrypt", "--cipher", "xor", "--key", "7",
+                    "--in", sourceDir.toString(), "--out", workDir.resolve("target").toString() });
+
+            // Standard streams are closed by the command, so this path goes last
+            CommandLine.run(new String[] { "encrypt", "--cipher", "xor", "--key", "7", "--in", in });
+        } finally {
+            deleteTree(workDir);
+        }
+    }
+
+    private static double percentile(long[] nanos, int percentile) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private static String sampleText(int size) {
+        String words = "The quick brown fox jumps over the lazy dog. 0123456789\n";
+        StringBuilder text = new StringBuilder(size);
+        Random random = new Random(42);
+        while (text.length() < size) {
+            text.append(words.charAt(random.nextInt(words.length())));
+        }
+        return text.toString();
+    }
+
+    private static int parseSize(String text) {
+        String value = text.trim().toLowerCase();
+        int unit = 1;
+        if (value.endsWith("k")) {
+            unit = 1024;
+        } else if (value.endsWith("m")) {
+            unit = 1024 * 1024;
+        }
+        if (unit != 1) {
+            value = value.substring(0, value.length() - 1);
+        }
+        return Integer.parseInt(value) * unit;
+    }
+
+    private static String formatSize(int size) {
+        if (size >= 1024 * 1024) {
+            return size / (1024 * 1024) + "M";
+        } else if (size >= 1024) {
+            return size / 1024 + "K";
+        }
+        return String.valueOf(size);
+    }
+
+    private static void deleteTree(Path dir) throws IOException {
+        try (java.util.stream.Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Collections.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
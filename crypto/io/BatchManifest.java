@@ -0,0 +1,344 @@
+package io;
+
+import algorithms.Cipher;
+import exceptions.InvalidKeyException;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import util.Logger;
+
+/**
+ * Record of the files a {@link BatchProcessor} run wrote, kept in the target
+ * directory so the next run can skip files that have not changed.
+ *
+ * Every entry maps a path relative to the source directory to the size,
+ * modification time and content hash of the source file, and the size and
+ * modification time of its output at the same relative path in the target
+ * directory. A file whose size and time still match is skipped without being
+ * read; one whose time changed (or was too close to the run that recorded it
+ * to be trusted) is hashed and skipped if the content is the same. The whole
+ * manifest only applies to runs with the same cipher, key and mode, which are
+ * recognised by {@link Cipher#fingerprint(byte[], int, boolean)} rather than stored.
+ *
+ * Format: "CGMF", version, mode flags, salt, fingerprint, start time of the
+ * recording run and entry count, then the entries sorted by path, each path
+ * stored as the length shared with the previous one plus the rest, and the
+ * numbers as variable-length integers.
+ */
+final class BatchManifest {
+
+    /** Name of the manifest in the target directory */
+    static final String FILE_NAME = ".cipherguard-manifest";
+
+    private static final byte[] MAGIC = { 'C', 'G', 'M', 'F' };
+    private static final int VERSION = 1;
+    private static final int SALT_SIZE = 16;
+    private static final int FINGERPRINT_SIZE = 32;
+    private static final int HASH_SIZE = 16; // leading bytes of SHA-256
+    private static final int ENCRYPT_FLAG = 1;
+    private static final int BINARY_FLAG = 2;
+    // Coarsest modification time resolution in common use (FAT); a file changed within
+    // this much of being recorded may have kept the recorded time
+    private static final long RACY_MILLIS = 2000;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final Path file;
+    private final int flags;
+    private final byte[] salt;
+    private final byte[] fingerprint;
+    private final long startedAt;
+    private final long previousStartedAt;
+    private final Map<String, Entry> previous; // entries of the last run, read-only
+    private final Map<String, Entry> current = new ConcurrentHashMap<>();
+
+    private BatchManifest(Path file, int flags, byte[] salt, byte[] fingerprint, long startedAt,
+            long previousStartedAt, Map<String, Entry> previous) {
+        this.file = file;
+        this.flags = flags;
+        this.salt = salt;
+        this.fingerprint = fingerprint;
+        this.startedAt = startedAt;
+        this.previousStartedAt = previousStartedAt;
+        this.previous = previous;
+    }
+
+    /**
+     * Reads the manifest of {@code targetDir}, keeping its entries only if they
+     * were recorded with the same cipher, key and mode. A missing or damaged
+     * manifest gives an empty one, so the run processes every file.
+     *
+     * @param startedAt time the run started, in milliseconds since the epoch
+     * @throws IOException         if the manifest exists but cannot be read
+     * @throws InvalidKeyException if the key is not valid for the cipher
+     */
+    static BatchManifest load(Path targetDir, Cipher cipher, int key, boolean encrypt, boolean binary,
+            long startedAt) throws IOException, InvalidKeyException {
+        Path file = targetDir.resolve(FILE_NAME);
+        int flags = (encrypt ? ENCRYPT_FLAG : 0) | (binary ? BINARY_FLAG : 0);
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(file);
+        } catch (NoSuchFileException e) {
+            return empty(file, cipher, key, flags, startedAt);
+        }
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        try {
+            byte[] magic = new byte[MAGIC.length];
+            in.get(magic);
+            if (!Arrays.equals(magic, MAGIC) || in.get() != VERSION) {
+                Logger.log("Ignoring unrecognised batch manifest " + file);
+                return empty(file, cipher, key, flags, startedAt);
+            }
+            int storedFlags = in.get();
+            byte[] salt = new byte[SALT_SIZE];
+            in.get(salt);
+            byte[] storedFingerprint = new byte[FINGERPRINT_SIZE];
+            in.get(storedFingerprint);
+            long previousStartedAt = in.getLong();
+            int count = in.getInt();
+
+            if (count < 0 || count > in.remaining() / (HASH_SIZE + 6)) { // six one-byte numbers at least
+                throw new IllegalArgumentException("Bad entry count");
+            }
+
+            byte[] fingerprint = cipher.fingerprint(salt, key, (flags & BINARY_FLAG) != 0);
+            if (storedFlags != flags || !MessageDigest.isEqual(fingerprint, storedFingerprint)) {
+                // Another cipher, key or direction: none of the outputs can be reused
+                return new BatchManifest(file, flags, salt, fingerprint, startedAt, 0,
+                        Collections.<String, Entry>emptyMap());
+            }
+            Map<String, Entry> entries = new HashMap<>(Math.max(16, (int) (count / 0.75f) + 1));
+            byte[] path = new byte[0];
+            for (int i = 0; i < count; i++) {
+                int shared = readVarInt(in);
+                int rest = readVarInt(in);
+                if (shared > path.length || rest > in.remaining()) {
+                    throw new IllegalArgumentException("Bad path length");
+                }
+                byte[] next = Arrays.copyOf(path, shared + rest);
+                in.get(next, shared, rest);
+                path = next;
+                long size = readVarLong(in);
+                long modified = readVarLong(in);
+                byte[] hash = new byte[HASH_SIZE];
+                in.get(hash);
+                long outputSize = readVarLong(in);
+                long outputModified = readVarLong(in);
+                entries.put(new String(path, StandardCharsets.UTF_8),
+                        new Entry(size, modified, hash, outputSize, outputModified));
+            }
+            return new BatchManifest(file, flags, salt, fingerprint, startedAt, previousStartedAt, entries);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            Logger.log("Ignoring damaged batch manifest " + file);
+            return empty(file, cipher, key, flags, startedAt);
+        }
+    }
+
+    private static BatchManifest empty(Path file, Cipher cipher, int key, int flags, long startedAt)
+            throws InvalidKeyException {
+        byte[] salt = new byte[SALT_SIZE];
+        RANDOM.nextBytes(salt);
+        byte[] fingerprint = cipher.fingerprint(salt, key, (flags & BINARY_FLAG) != 0);
+        return new BatchManifest(file, flags, salt, fingerprint, startedAt, 0, Collections.<String, Entry>emptyMap());
+    }
+
+    /**
+     * Checks a file against the manifest without reading it, and keeps its entry
+     * for the next run if it is unchanged
+     *
+     * @param path   path relative to the source directory
+     * @param attrs  attributes of the source file
+     * @param output output file of the last run
+     * @return true if the size and modification time match and the output is still there as written
+     */
+    boolean isUnchanged(String path, BasicFileAttributes attrs, Path output) {
+        Entry entry = previous.get(path);
+        if (entry == null || entry.size != attrs.size() || entry.modified != attrs.lastModifiedTime().toMillis()
+                || entry.modified >= previousStartedAt - RACY_MILLIS || !entry.hasOutput(output)) {
+            return false;
+        }
+        current.put(path, entry);
+        return true;
+    }
+
+    /**
+     * Checks a file whose modification time did not match by its content hash,
+     * and keeps its entry, with the new time, for the next run if it is unchanged
+     *
+     * @param hash content hash from {@link #hash(Path)}
+     * @return true if the content and the output are the same as last time
+     */
+    boolean isUnchanged(String path, BasicFileAttributes attrs, byte[] hash, Path output) {
+        Entry entry = previous.get(path);
+        if (entry == null || entry.size != attrs.size() || !Arrays.equals(entry.hash, hash)
+                || !entry.hasOutput(output)) {
+            return false;
+        }
+        current.put(path, new Entry(entry.size, attrs.lastModifiedTime().toMillis(), hash, entry.outputSize,
+                entry.outputModified));
+        return true;
+    }
+
+    /**
+     * Adds a file processed by this run
+     *
+     * @param attrs attributes of the source file when it was found
+     * @param hash  content hash from {@link #hash(Path)}, taken before processing
+     * @throws IOException if the output cannot be found
+     */
+    void record(String path, BasicFileAttributes attrs, byte[] hash, Path output) throws IOException {
+        BasicFileAttributes written = Files.readAttributes(output, BasicFileAttributes.class);
+        current.put(path, new Entry(attrs.size(), attrs.lastModifiedTime().toMillis(), hash, written.size(),
+                written.lastModifiedTime().toMillis()));
+    }
+
+    /**
+     * Writes the entries kept and recorded by this run, replacing the old manifest.
+     * Files not seen by this run are dropped from it.
+     *
+     * @throws IOException if the manifest cannot be written
+     */
+    void save() throws IOException {
+        List<String> paths = new ArrayList<>(current.keySet());
+        Collections.sort(paths);
+        Files.createDirectories(file.getParent());
+        Path temp = Files.createTempFile(file.getParent(), FILE_NAME, ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp), 64 * 1024))) {
+                out.write(MAGIC);
+                out.writeByte(VERSION);
+                out.writeByte(flags);
+                out.write(salt);
+                out.write(fingerprint);
+                out.writeLong(startedAt);
+                out.writeInt(paths.size());
+                byte[] last = new byte[0];
+                for (String path : paths) {
+                    byte[] bytes = path.getBytes(StandardCharsets.UTF_8);
+                    int shared = 0;
+                    int max = Math.min(last.length, bytes.length);
+                    while (shared < max && last[shared] == bytes[shared]) {
+                        shared++;
+                    }
+                    writeVarLong(out, shared);
+                    writeVarLong(out, bytes.length - shared);
+                    out.write(bytes, shared, bytes.length - shared);
+                    last = bytes;
+
+                    Entry entry = current.get(path);
+                    writeVarLong(out, entry.size);
+                    writeVarLong(out, entry.modified);
+                    out.write(entry.hash);
+                    writeVarLong(out, entry.outputSize);
+                    writeVarLong(out, entry.outputModified);
+                }
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * @return the content hash kept in the manifest
+     * @throws IOException if the file cannot be read
+     */
+    static byte[] hash(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e); // SHA-256 is in every Java 8+ runtime
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(64 * 1024, Math.max(512, channel.size())));
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return Arrays.copyOf(digest.digest(), HASH_SIZE);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Variable-length integer too long");
+    }
+
+    private static int readVarInt(ByteBuffer in) {
+        long value = readVarLong(in);
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Length too large");
+        }
+        return (int) value;
+    }
+
+    private static final class Entry {
+        private final long size;
+        private final long modified;
+        private final byte[] hash;
+        private final long outputSize;
+        private final long outputModified;
+
+        Entry(long size, long modified, byte[] hash, long outputSize, long outputModified) {
+            this.size = size;
+            this.modified = modified;
+            this.hash = hash;
+            this.outputSize = outputSize;
+            this.outputModified = outputModified;
+        }
+
+        // The output may have been deleted or replaced since it was written
+        boolean hasOutput(Path output) {
+            try {
+                BasicFileAttributes attrs = Files.readAttributes(output, BasicFileAttributes.class);
+                return attrs.size() == outputSize && attrs.lastModifiedTime().toMillis() == outputModified;
+            } catch (IOException e) {
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package io;
+
+import algorithms.Cipher;
+import exceptions.InvalidKeyException;
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileVisitResult;
+import java.nio.file.FileVisitor;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Encrypts or decrypts every file under a directory tree, mirroring the tree
+ * into a target directory. Files are processed concurrently, on virtual threads
+ * when the JVM supports them (Java 21+) and on a fixed pool otherwise, with a
+ * cap on how many files are open at once. A target that is the source
+ * directory itself transforms the tree in place, working from a list of the
+ * files taken before any of them is replaced.
+ *
+ * Incremental runs keep a manifest in the target directory (see
+ * {@link BatchManifest}) and skip files that have not changed since the run
+ * that wrote it, provided the cipher, key and mode are the same.
+ */
+public class BatchProcessor {
+
+    /** Default number of files processed at the same time */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 64;
+
+    private final Cipher cipher;
+    private final int key;
+    private final boolean encrypt;
+    private final boolean binary;
+    private final List<String> includes;
+    private final List<String> excludes;
+    private final int maxInFlight;
+    private final boolean incremental;
+
+    /**
+     * @param cipher      cipher to apply to every file
+     * @param key         cipher key
+     * @param encrypt     true to encrypt, false to decrypt
+     * @param includes    glob patterns a file must match (any of them); empty means all files
+     * @param excludes    glob patterns that skip a file when matched
+     * @param maxInFlight maximum number of files processed concurrently
+     */
+    public BatchProcessor(Cipher cipher, int key, boolean encrypt, List<String> includes, List<String> excludes,
+            int maxInFlight) {
+        this(cipher, key, encrypt, includes, excludes, maxInFlight, false);
+    }
+
+    /**
+     * @param cipher      cipher to apply to every file
+     * @param key         cipher key
+     * @param encrypt     true to encrypt, false to decrypt
+     * @param includes    glob patterns a file must match (any of them); empty means all files
+     * @param excludes    glob patterns that skip a file when matched
+     * @param maxInFlight maximum number of files processed concurrently
+     * @param binary      true to transform raw bytes instead of decoded text
+     */
+    public BatchProcessor(Cipher cipher, int key, boolean encrypt, List<String> includes, List<String> excludes,
+            int maxInFlight, boolean binary) {
+        this(cipher, key, encrypt, includes, excludes, maxInFlight, binary, false);
+    }
+
+    /**
+     * @param cipher      cipher to apply to every file
+     * @param key         cipher key
+     * @param encrypt     true to encrypt, false to decrypt
+     * @param includes    glob patterns a file must match (any of them); empty means all files
+     * @param excludes    glob patterns that skip a file when matched
+     * @param maxInFlight maximum number of files processed concurrently
+     * @param binary      true to transform raw bytes instead of decoded text
+     * @param incremental true to skip files unchanged since the last incremental run into the same target
+     */
+    public BatchProcessor(Cipher cipher, int key, boolean encrypt, List<String> includes, List<String> excludes,
+            int maxInFlight, boolean binary, boolean incremental) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be at least 1");
+        }
+        this.cipher = cipher;
+        this.key = key;
+        this.encrypt = encrypt;
+        this.binary = binary;
+        this.includes = new ArrayList<>(includes);
+        this.excludes = new ArrayList<>(excludes);
+        this.maxInFlight = maxInFlight;
+        this.incremental = incremental;
+    }
+
+    /**
+     * Processes every matching regular file under {@code sourceDir}, writing each
+     * result to the same relative path under {@code targetDir}
+     *
+     * @param sourceDir directory to walk
+     * @param targetDir directory receiving the mirrored tree
+     * @return counts, bytes, failures and elapsed time of the run
+     * @throws IOException         if the source tree cannot be walked, or the manifest of an
+     *                             incremental run cannot be read or written
+     * @throws InvalidKeyException if an incremental run has a key that is not valid for the cipher
+     */
+    public Summary run(Path sourceDir, Path targetDir) throws IOException, InvalidKeyException {
+        if (!Files.isDirectory(sourceDir)) {
+            throw new IOException("Not a directory: " + sourceDir);
+        }
+        Path source = sourceDir.toAbsolutePath().normalize();
+        Path target = targetDir.toAbsolutePath().normalize();
+        if (target.startsWith(source) && !target.equals(source)) {
+            throw new IOException("Target directory must not be inside the source directory");
+        }
+        if (incremental && target.equals(source)) {
+            throw new IOException("An incremental run needs a target directory other than the source");
+        }
+
+        FileSystem fs = source.getFileSystem();
+        List<PathMatcher> includeMatchers = matchers(fs, includes);
+        List<PathMatcher> excludeMatchers = matchers(fs, excludes);
+
+        Summary summary = new Summary();
+        long start = System.nanoTime();
+        BatchManifest manifest = incremental
+                ? BatchManifest.load(target, cipher, key, encrypt, binary, System.currentTimeMillis())
+                : null;
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        ExecutorService executor = newExecutor(maxInFlight);
+        try {
+            FileVisitor<Path> visitor = new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    if (!attrs.isRegularFile()) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    Path relative = source.relativize(file);
+                    if (relative.toString().equals(BatchManifest.FILE_NAME)) {
+                        return FileVisitResult.CONTINUE; // manifest of an earlier run into this directory
+                    }
+                    if (!selected(relative, includeMatchers, excludeMatchers)) {
+                        summary.skipped.incrementAndGet();
+                        return FileVisitResult.CONTINUE;
+                    }
+                    Path output = target.resolve(relative.toString());
+                    // Unchanged files cost two stat calls here, and never reach the workers
+                    if (manifest != null && manifest.isUnchanged(relative.toString(), attrs, output)) {
+                        summary.unchanged.incrementAndGet();
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    // Waiting here keeps the walk from racing ahead of the workers
+                    inFlight.acquireUninterruptibly();
+                    executor.execute(() -> {
+                        try {
+                            processOne(file, output, relative.toString(), attrs, manifest, summary);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    summary.fail(file, e);
+                    return FileVisitResult.CONTINUE;
+                }
+            };
+            if (target.equals(source)) {
+                // Outputs are written to temp files beside their sources and renamed over them, so a walk
+                // of the live tree could pick them up; work from a list of the files taken up front
+                List<Path> files = new ArrayList<>();
+                List<BasicFileAttributes> attributes = new ArrayList<>();
+                Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                        files.add(file);
+                        attributes.add(attrs);
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(Path file, IOException e) {
+                        summary.fail(file, e);
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+                for (int i = 0; i < files.size(); i++) {
+                    visitor.visitFile(files.get(i), attributes.get(i));
+                }
+            } else {
+                Files.walkFileTree(source, visitor);
+            }
+        } finally {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+            summary.elapsedNanos = System.nanoTime() - start;
+        }
+        if (manifest != null) {
+            manifest.save();
+            summary.elapsedNanos = System.nanoTime() - start;
+        }
+        return summary;
+    }
+
+    private void processOne(Path file, Path output, String relative, BasicFileAttributes attrs,
+            BatchManifest manifest, Summary summary) {
+        try {
+            byte[] hash = null;
+            if (manifest != null) {
+                // Hashed before processing, so a change made meanwhile shows up next time
+                hash = BatchManifest.hash(file);
+                if (manifest.isUnchanged(relative, attrs, hash, output)) {
+                    summary.unchanged.incrementAndGet();
+                    return;
+                }
+            }
+            Path parent = output.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            if (binary) {
+                FileHandler.processBinaryFile(file.toString(), output.toString(), cipher, key, encrypt);
+            } else {
+                FileHandler.processFile(file.toString(), output.toString(), cipher, key, encrypt);
+            }
+            if (manifest != null) {
+                manifest.record(relative, attrs, hash, output);
+            }
+            summary.files.incrementAndGet();
+            summary.bytes.addAndGet(attrs.size());
+        } catch (IOException | InvalidKeyException | RuntimeException e) {
+            summary.fail(file, e);
+        }
+    }
+
+    private static boolean selected(Path relative, List<PathMatcher> includes, List<PathMatcher> excludes) {
+        if (!includes.isEmpty() && !matchesAny(relative, includes)) {
+            return false;
+        }
+        return !matchesAny(relative, excludes);
+    }
+
+    // A pattern matches either the path relative to the source directory or just the file name
+    private static boolean matchesAny(Path relative, List<PathMatcher> matchers) {
+        Path name = relative.getFileName();
+        for (PathMatcher matcher : matchers) {
+            if (matcher.matches(relative) || (name != null && matcher.matches(name))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<PathMatcher> matchers(FileSystem fs, List<String> globs) {
+        List<PathMatcher> matchers = new ArrayList<>();
+        for (String glob : globs) {
+            if (!glob.trim().isEmpty()) {
+                matchers.add(fs.getPathMatcher("glob:" + glob.trim()));
+            }
+        }
+        return matchers;
+    }
+
+    // Virtual threads are looked up reflectively so the code still runs on older JDKs
+    private static ExecutorService newExecutor(int maxInFlight) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(Math.min(maxInFlight, 4 * Runtime.getRuntime().availableProcessors()));
+        }
+    }
+
+    /**
+     * Outcome of a batch run
+     */
+    public static class Summary {
+        private final AtomicLong files = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong unchanged = new AtomicLong();
+        private final AtomicLong bytes = new AtomicLong();
+        private final List<String> failures = Collections.synchronizedList(new ArrayList<>());
+        private volatile long elapsedNanos;
+
+        private void fail(Path file, Exception e) {
+            failures.add(file + ": " + e.getMessage());
+        }
+
+        /** @return number of files processed successfully */
+        public long getFiles() {
+            return files.get();
+        }
+
+        /** @return number of files left out by the include/exclude patterns */
+        public long getSkipped() {
+            return skipped.get();
+        }
+
+        /** @return number of files an incremental run found unchanged since the last one */
+        public long getUnchanged() {
+            return unchanged.get();
+        }
+
+        /** @return total size of the files processed successfully */
+        public long getBytes() {
+            return bytes.get();
+        }
+
+        /** @return one "path: reason" entry per file that failed */
+        public List<String> getFailures() {
+            synchronized (failures) {
+                return new ArrayList<>(failures);
+            }
+        }
+
+        /** @return wall-clock time of the run in milliseconds */
+        public long getElapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        }
+
+        @Override
+        public String toString() {
+            return "Files: " + getFiles() + ", skipped: " + getSkipped() + ", unchanged: " + getUnchanged()
+                    + ", failed: " + failures.size()
+                    + ", bytes: " + getBytes() + ", elapsed: " + getElapsedMillis() + " ms";
+        }
+    }
+}
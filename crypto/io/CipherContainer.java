@@ -0,0 +1,562 @@
+package io;
+
+import algorithms.Cipher;
+import exceptions.InvalidKeyException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Seekable file format for encrypted data. The plain bytes are cut into chunks
+ * of a fixed size, each chunk is encrypted on its own, and a trailing index
+ * records where every encrypted chunk lies in the file:
+ *
+ * <pre>
+ * header   "CGCF" | version (1) | compression (1) | chunk size (4) | name length (2) | cipher name (UTF-8)
+ * chunks   the encrypted (and optionally compressed) chunks, in order
+ * index    per chunk: file offset (8) | encrypted length (4)
+ * trailer  index offset (8) | chunk count (4) | plain length (8) | "CGIX"
+ * </pre>
+ *
+ * All numbers are big-endian. Chunk {@code i} holds the plain bytes starting at
+ * {@code i * chunkSize} and is encrypted at that position, so the chunks of a
+ * length-preserving cipher hold exactly the bytes of a plain encrypted file.
+ * A byte range is read by decrypting only the chunks it covers, and the cipher
+ * name in the header tells which cipher to use on decryption. Ciphers whose
+ * output is longer than their input seal every chunk separately; the index, not
+ * the cipher, then keeps the chunks in order.
+ *
+ * The container is written front to back without seeking, so it can go to a
+ * pipe, but reading it needs a {@link FileChannel}. Instances hold the parsed
+ * header and index only, are immutable and safe to share between threads.
+ */
+public final class CipherContainer {
+
+    /** Plain bytes per chunk of new containers, set with {@code -Dcipherguard.containerChunk} */
+    public static final int DEFAULT_CHUNK_SIZE = Integer.getInteger("cipherguard.containerChunk", 1024 * 1024);
+
+    private static final byte[] MAGIC = { 'C', 'G', 'C', 'F' };
+    private static final byte[] INDEX_MAGIC = { 'C', 'G', 'I', 'X' };
+    private static final int VERSION = 1;
+    private static final int FIXED_HEADER_SIZE = 12; // up to the cipher name
+    private static final int INDEX_ENTRY_SIZE = 12;
+    private static final int TRAILER_SIZE = 24;
+    private static final int MIN_CHUNK_SIZE = 1024;
+    private static final int MAX_CHUNK_SIZE = 1 << 30;
+    private static final int MAX_NAME_LENGTH = 255;
+
+    private final String cipherName;
+    private final Compression compression;
+    private final int chunkSize;
+    private final long length;
+    private final long[] offsets;
+    private final int[] storedLengths;
+
+    private CipherContainer(String cipherName, Compression compression, int chunkSize, long length, long[] offsets,
+            int[] storedLengths) {
+        this.cipherName = cipherName;
+        this.compression = compression;
+        this.chunkSize = chunkSize;
+        this.length = length;
+        this.offsets = offsets;
+        this.storedLengths = storedLengths;
+    }
+
+    /**
+     * Encrypts everything readable from {@code in} into a new container with
+     * chunks of {@link #DEFAULT_CHUNK_SIZE} bytes and no compression
+     *
+     * @param in     source of plain bytes
+     * @param out    destination of the container (not closed)
+     * @param cipher cipher to apply; its name is stored in the header
+     * @param key    cipher key
+     * @return sizes and timings of the run
+     * @throws InvalidKeyException if the key is not valid for the cipher
+     * @throws IOException         if reading or writing fails, or the thread was interrupted
+     */
+    public static Summary write(ReadableByteChannel in, WritableByteChannel out, Cipher cipher, int key)
+            throws InvalidKeyException, IOException {
+        return write(in, out, cipher, key, DEFAULT_CHUNK_SIZE, Compression.NONE);
+    }
+
+    /**
+     * Same as {@link #write(ReadableByteChannel, WritableByteChannel, Cipher, int)}
+     * with a chosen chunk size and compression. Small chunks make range reads
+     * cheaper, large ones keep the index small and let every chunk use all cores.
+     * Compressed chunks are compressed a batch at a time on the common pool,
+     * one chunk per core, then encrypted in order.
+     *
+     * @param chunkSize   plain bytes per chunk, from 1 KB to 1 GB
+     * @param compression compression applied to each chunk before it is encrypted
+     * @throws IllegalArgumentException if the chunk size is out of range
+     */
+    public static Summary write(ReadableByteChannel in, WritableByteChannel out, Cipher cipher, int key,
+            int chunkSize, Compression compression) throws InvalidKeyException, IOException {
+        if (chunkSize < MIN_CHUNK_SIZE || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Chunk size must be between " + MIN_CHUNK_SIZE + " and "
+                    + MAX_CHUNK_SIZE + " bytes");
+        }
+        byte[] name = cipher.getName().getBytes(StandardCharsets.UTF_8);
+        if (name.length == 0 || name.length > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("Cipher name must be 1 to " + MAX_NAME_LENGTH + " bytes long");
+        }
+        Summary summary = new Summary();
+        long start = System.nanoTime();
+        ByteBuffer header = ByteBuffer.allocate(FIXED_HEADER_SIZE + name.length);
+        header.put(MAGIC).put((byte) VERSION).put((byte) compression.getId()).putInt(chunkSize)
+                .putShort((short) name.length).put(name);
+        header.flip();
+        long position = summary.write(out, header);
+
+        long[] offsets = new long[16];
+        int[] storedLengths = new int[16];
+        int chunks = 0;
+        long total = 0;
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int batch = compression == Compression.NONE ? 1 : pool.getParallelism();
+        byte[][] plain = new byte[batch][chunkSize];
+        int[] plainLengths = new int[batch];
+        byte[][] payloads = new byte[batch][];
+        int[] payloadLengths = new int[batch];
+        ByteBuffer encrypted = ByteBuffer.allocate(0);
+        ByteArrayOutputStream sealed = cipher.isLengthPreserving() ? null
+                : new ByteArrayOutputStream(chunkSize + chunkSize / 64);
+        OutputStream sink = Channels.newOutputStream(out);
+        while (true) {
+            checkInterrupted();
+            int filled = 0;
+            while (filled < batch && (plainLengths[filled] = readFully(in, ByteBuffer.wrap(plain[filled]))) > 0) {
+                filled++;
+            }
+            if (filled == 0) {
+                break;
+            }
+            compress(pool, compression, filled, plain, plainLengths, payloads, payloadLengths, summary);
+
+            for (int i = 0; i < filled; i++) {
+                ByteBuffer payload = ByteBuffer.wrap(payloads[i], 0, payloadLengths[i]);
+                int stored;
+                if (sealed == null) {
+                    if (encrypted.capacity() < payload.remaining()) {
+                        encrypted = ByteBuffer.allocate(Math.max(chunkSize, payload.remaining()));
+                    }
+                    encrypted.clear();
+                    cipher.encryptInto(payload, encrypted, key, total);
+                    encrypted.flip();
+                    stored = summary.write(out, encrypted);
+                } else {
+                    // Sealed on its own: the chunk carries its own header and tags
+                    sealed.reset();
+                    cipher.encrypt(Channels.newChannel(new ByteArrayInputStream(payload.array(), 0,
+                            payload.remaining())), Channels.newChannel(sealed), key);
+                    long writeStart = System.nanoTime();
+                    sealed.writeTo(sink);
+                    summary.writeNanos += System.nanoTime() - writeStart;
+                    stored = sealed.size();
+                }
+                if (chunks == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, chunks * 2);
+                    storedLengths = Arrays.copyOf(storedLengths, chunks * 2);
+                }
+                offsets[chunks] = position;
+                storedLengths[chunks] = stored;
+                chunks++;
+                position += stored;
+                total += plainLengths[i];
+            }
+            if (filled < batch) {
+                break; // the input ended inside this batch
+            }
+        }
+
+        ByteBuffer index = ByteBuffer.allocate(chunks * INDEX_ENTRY_SIZE + TRAILER_SIZE);
+        for (int i = 0; i < chunks; i++) {
+            index.putLong(offsets[i]).putInt(storedLengths[i]);
+        }
+        index.putLong(position).putInt(chunks).putLong(total).put(INDEX_MAGIC);
+        index.flip();
+        summary.write(out, index);
+
+        summary.chunks = chunks;
+        summary.plainBytes = total;
+        summary.storedBytes = position + index.limit();
+        summary.elapsedNanos = System.nanoTime() - start;
+        return summary;
+    }
+
+    // Turns each plain chunk of a batch into the payload to encrypt, compressing the chunks in parallel
+    private static void compress(ForkJoinPool pool, final Compression compression, int filled,
+            final byte[][] plain, final int[] plainLengths, final byte[][] payloads, final int[] payloadLengths,
+            Summary summary) throws InterruptedIOException {
+        if (compression == Compression.NONE) {
+            for (int i = 0; i < filled; i++) {
+                payloads[i] = plain[i];
+                payloadLengths[i] = plainLengths[i];
+            }
+            return;
+        }
+        long start = System.nanoTime();
+        if (filled == 1) {
+            payloads[0] = compression.compress(plain[0], 0, plainLengths[0]);
+        } else {
+            List<Callable<Void>> tasks = new ArrayList<>(filled);
+            for (int i = 0; i < filled; i++) {
+                final int chunk = i;
+                tasks.add(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        payloads[chunk] = compression.compress(plain[chunk], 0, plainLengths[chunk]);
+                        return null;
+                    }
+                });
+            }
+            try {
+                for (Future<Void> future : pool.invokeAll(tasks)) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Operation cancelled");
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause()); // compression does not fail on valid input
+            }
+        }
+        for (int i = 0; i < filled; i++) {
+            payloadLengths[i] = payloads[i].length;
+        }
+        summary.compressNanos += System.nanoTime() - start;
+    }
+
+    /**
+     * Reads the header and index of a container
+     *
+     * @param file open file, read with absolute positions only
+     * @return the container, or null if the file is not one
+     * @throws IOException if reading fails, or the file is a damaged container
+     */
+    public static CipherContainer open(FileChannel file) throws IOException {
+        long size = file.size();
+        if (size < FIXED_HEADER_SIZE + 1 + TRAILER_SIZE) {
+            return null;
+        }
+        ByteBuffer fixed = readAt(file, 0, FIXED_HEADER_SIZE);
+        ByteBuffer trailer = readAt(file, size - TRAILER_SIZE, TRAILER_SIZE);
+        if (!hasMagic(fixed, 0, MAGIC) || !hasMagic(trailer, TRAILER_SIZE - INDEX_MAGIC.length, INDEX_MAGIC)) {
+            return null;
+        }
+        if (fixed.get(4) != VERSION) {
+            throw new IOException("Unsupported container version " + fixed.get(4));
+        }
+        Compression compression = Compression.forId(fixed.get(5));
+        int chunkSize = fixed.getInt(6);
+        int nameLength = fixed.getShort(10) & 0xFFFF;
+        long indexOffset = trailer.getLong(0);
+        int chunks = trailer.getInt(8);
+        long length = trailer.getLong(12);
+        long headerSize = FIXED_HEADER_SIZE + (long) nameLength;
+        if (chunkSize < MIN_CHUNK_SIZE || chunkSize > MAX_CHUNK_SIZE || nameLength == 0
+                || nameLength > MAX_NAME_LENGTH || chunks < 0 || length < 0
+                || indexOffset < headerSize || indexOffset + (long) chunks * INDEX_ENTRY_SIZE + TRAILER_SIZE != size
+                || chunks != (length + chunkSize - 1) / chunkSize) {
+            throw new IOException("The container header or index is damaged");
+        }
+        String cipherName = StandardCharsets.UTF_8.decode(readAt(file, FIXED_HEADER_SIZE, nameLength)).toString();
+
+        ByteBuffer index = readAt(file, indexOffset, chunks * INDEX_ENTRY_SIZE);
+        long[] offsets = new long[chunks];
+        int[] storedLengths = new int[chunks];
+        for (int i = 0; i < chunks; i++) {
+            offsets[i] = index.getLong();
+            storedLengths[i] = index.getInt();
+            if (offsets[i] < headerSize || storedLengths[i] < 0 || offsets[i] + storedLengths[i] > indexOffset) {
+                throw new IOException("The container index is damaged at chunk " + i);
+            }
+        }
+        return new CipherContainer(cipherName, compression, chunkSize, length, offsets, storedLengths);
+    }
+
+    /**
+     * @return name of the cipher the container was encrypted with, as given by {@link Cipher#getName()}
+     */
+    public String getCipherName() {
+        return cipherName;
+    }
+
+    /**
+     * @return compression applied to the chunks before they were encrypted
+     */
+    public Compression getCompression() {
+        return compression;
+    }
+
+    /**
+     * @return plain bytes per chunk
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * @return number of chunks
+     */
+    public int getChunkCount() {
+        return offsets.length;
+    }
+
+    /**
+     * @return length of the plain data in bytes
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * Decrypts the whole container into {@code out}, chunk by chunk
+     *
+     * @param file     the container file
+     * @param out      destination for the plain bytes (not closed)
+     * @param cipher   cipher the container was encrypted with
+     * @param key      cipher key
+     * @param listener receives progress in container bytes read, or null
+     * @throws InvalidKeyException if the key is not valid, or authentication failed
+     * @throws IOException         if the cipher does not match, reading or writing fails, or the thread was interrupted
+     */
+    public void decrypt(FileChannel file, WritableByteChannel out, Cipher cipher, int key, ProgressListener listener)
+            throws InvalidKeyException, IOException {
+        checkCipher(cipher);
+        long fileSize = file.size();
+        ByteBuffer plain = ByteBuffer.allocate((int) Math.min(chunkSize, length));
+        for (int i = 0; i < offsets.length; i++) {
+            checkInterrupted();
+            plain.clear();
+            decryptChunk(file, i, 0, chunkLength(i), cipher, key, plain);
+            plain.flip();
+            writeFully(out, plain);
+            if (listener != null) {
+                listener.progress(offsets[i] + storedLengths[i], fileSize);
+            }
+        }
+    }
+
+    /**
+     * Decrypts {@code length} plain bytes starting at {@code offset}, reading
+     * only the chunks that hold them. A range running past the end is cut short.
+     *
+     * @param file   the container file
+     * @param offset first plain byte to decrypt
+     * @param length number of bytes to decrypt
+     * @param cipher cipher the container was encrypted with
+     * @param key    cipher key
+     * @return the plain bytes, empty past the end of the data
+     * @throws IllegalArgumentException if offset or length is negative
+     * @throws InvalidKeyException      if the key is not valid, or authentication failed
+     * @throws IOException              if the cipher does not match or reading fails
+     */
+    public byte[] decryptRange(FileChannel file, long offset, int length, Cipher cipher, int key)
+            throws InvalidKeyException, IOException {
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException("Offset and length must not be negative");
+        }
+        checkCipher(cipher);
+        int n = (int) Math.max(0, Math.min(length, this.length - offset));
+        ByteBuffer plain = ByteBuffer.allocate(n);
+        for (long position = offset; plain.hasRemaining(); position = offset + plain.position()) {
+            int chunk = (int) (position / chunkSize);
+            int from = (int) (position - (long) chunk * chunkSize);
+            int to = Math.min(chunkLength(chunk), from + plain.remaining());
+            decryptChunk(file, chunk, from, to, cipher, key, plain);
+        }
+        return plain.array();
+    }
+
+    // Decrypts plain bytes [from, to) of one chunk into dst
+    private void decryptChunk(FileChannel file, int chunk, int from, int to, Cipher cipher, int key, ByteBuffer dst)
+            throws InvalidKeyException, IOException {
+        long position = (long) chunk * chunkSize;
+        if (cipher.isLengthPreserving() && compression == Compression.NONE) {
+            if (storedLengths[chunk] != chunkLength(chunk)) {
+                throw new IOException("The container index is damaged at chunk " + chunk);
+            }
+            // Only the wanted bytes are read, and decrypted in place at their position
+            ByteBuffer slice = dst.duplicate();
+            slice.limit(slice.position() + to - from);
+            readFully(file, offsets[chunk] + from, slice);
+            slice.flip();
+            slice.position(dst.position());
+            cipher.decryptInto(slice.duplicate(), slice, key, position + from);
+            dst.position(dst.position() + to - from);
+            return;
+        }
+        ByteBuffer stored = readAt(file, offsets[chunk], storedLengths[chunk]);
+        byte[] payload;
+        if (cipher.isLengthPreserving()) {
+            cipher.decryptInto(stored.duplicate(), stored, key, position);
+            payload = stored.array();
+        } else {
+            ByteArrayOutputStream opened = new ByteArrayOutputStream(chunkLength(chunk));
+            cipher.decrypt(Channels.newChannel(new ByteArrayInputStream(stored.array())),
+                    Channels.newChannel(opened), key);
+            payload = opened.toByteArray();
+        }
+        if (compression == Compression.NONE) {
+            if (payload.length != chunkLength(chunk)) {
+                throw new IOException("Chunk " + chunk + " of the container has the wrong length");
+            }
+            dst.put(payload, from, to - from);
+        } else {
+            byte[] plain = new byte[chunkLength(chunk)];
+            compression.decompress(payload, payload.length, plain);
+            dst.put(plain, from, to - from);
+        }
+    }
+
+    private int chunkLength(int chunk) {
+        return (int) Math.min(chunkSize, length - (long) chunk * chunkSize);
+    }
+
+    private void checkCipher(Cipher cipher) throws IOException {
+        if (!cipherName.equals(cipher.getName())) {
+            throw new IOException("The data was encrypted with the " + cipherName + ", not the " + cipher.getName());
+        }
+    }
+
+    private static void checkInterrupted() throws InterruptedIOException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedIOException("Operation cancelled");
+        }
+    }
+
+    private static boolean hasMagic(ByteBuffer buffer, int at, byte[] magic) {
+        for (int i = 0; i < magic.length; i++) {
+            if (buffer.get(at + i) != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ByteBuffer readAt(FileChannel file, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        readFully(file, position, buffer);
+        buffer.flip();
+        return buffer;
+    }
+
+    private static void readFully(FileChannel file, long position, ByteBuffer buffer) throws IOException {
+        int start = buffer.position();
+        while (buffer.hasRemaining()) {
+            if (file.read(buffer, position + buffer.position() - start) == -1) {
+                throw new IOException("The container is truncated");
+            }
+        }
+    }
+
+    // Reads until the buffer is full or the input ends; returns the bytes read
+    private static int readFully(ReadableByteChannel in, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining() && in.read(buffer) != -1) {
+            // keep reading until the buffer is full
+        }
+        return buffer.position();
+    }
+
+    private static int writeFully(WritableByteChannel out, ByteBuffer buffer) throws IOException {
+        int n = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        return n;
+    }
+
+    /**
+     * Sizes and timings of one {@link CipherContainer#write container write}.
+     * The I/O time saved by compression is estimated from the rate at which this
+     * run's output was written, so it shows what the same job would have spent
+     * writing the uncompressed bytes to the same destination.
+     */
+    public static class Summary {
+        private int chunks;
+        private long plainBytes;
+        private long storedBytes;
+        private long compressNanos;
+        private long writeNanos;
+        private long elapsedNanos;
+
+        private Summary() {
+        }
+
+        // Writes the whole buffer, timing the write
+        private int write(WritableByteChannel out, ByteBuffer buffer) throws IOException {
+            long start = System.nanoTime();
+            int n = writeFully(out, buffer);
+            writeNanos += System.nanoTime() - start;
+            return n;
+        }
+
+        /** @return number of chunks written */
+        public int getChunks() {
+            return chunks;
+        }
+
+        /** @return bytes of plain input */
+        public long getPlainBytes() {
+            return plainBytes;
+        }
+
+        /** @return bytes of container written, with header and index */
+        public long getStoredBytes() {
+            return storedBytes;
+        }
+
+        /** @return plain bytes per container byte; above 1 when compression paid off */
+        public double getRatio() {
+            return storedBytes == 0 ? 1 : (double) plainBytes / storedBytes;
+        }
+
+        /** @return time spent compressing, in milliseconds */
+        public long getCompressMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(compressNanos);
+        }
+
+        /** @return time spent writing the output, in milliseconds */
+        public long getWriteMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(writeNanos);
+        }
+
+        /** @return estimated write time saved by writing fewer bytes, in milliseconds; negative if it grew */
+        public long getSavedIoMillis() {
+            if (storedBytes == 0) {
+                return 0;
+            }
+            return TimeUnit.NANOSECONDS.toMillis((long) ((double) writeNanos * (plainBytes - storedBytes)
+                    / storedBytes));
+        }
+
+        /** @return wall-clock time of the write in milliseconds */
+        public long getElapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Chunks: %d, plain: %d bytes, stored: %d bytes, ratio: %.2fx, compression: %d ms,"
+                    + " writing: %d ms, I/O saved: about %d ms, elapsed: %d ms", chunks, plainBytes, storedBytes,
+                    getRatio(), getCompressMillis(), getWriteMillis(), getSavedIoMillis(), getElapsedMillis());
+        }
+    }
+}
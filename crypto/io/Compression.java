@@ -0,0 +1,188 @@
+package io;
+
+import exceptions.InvalidKeyException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compression applied to every chunk of a {@link CipherContainer} before it is
+ * encrypted, and undone after it is decrypted. Chunks are compressed on their
+ * own, so they can still be compressed in parallel and read one at a time.
+ * Both formats carry a checksum, which also catches a wrong key of the classical
+ * ciphers: their output then fails to decompress.
+ *
+ * The Deflate level is set with {@code -Dcipherguard.deflateLevel} (1 fastest
+ * to 9 smallest, default 6).
+ */
+public enum Compression {
+    /** Chunks are encrypted as they are */
+    NONE(0),
+    /** zlib format: Deflate with an Adler-32 checksum */
+    DEFLATE(1),
+    /** GZIP format: Deflate with a CRC-32 checksum and the length, one member per chunk */
+    GZIP(2);
+
+    private static final int LEVEL = Integer.getInteger("cipherguard.deflateLevel", Deflater.DEFAULT_COMPRESSION);
+
+    // Magic, Deflate, no flags, no time, no extra flags, unknown OS
+    private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+    private static final int GZIP_TRAILER_SIZE = 8;
+
+    private final int id;
+
+    Compression(int id) {
+        this.id = id;
+    }
+
+    /**
+     * @param name "none", "deflate" or "gzip", ignoring case
+     * @return the matching compression
+     * @throws IllegalArgumentException if there is none
+     */
+    public static Compression parse(String name) {
+        for (Compression compression : values()) {
+            if (compression.name().equalsIgnoreCase(name.trim())) {
+                return compression;
+            }
+        }
+        throw new IllegalArgumentException("Unknown compression: " + name + " (use none, deflate or gzip)");
+    }
+
+    // Id stored in the container header
+    int getId() {
+        return id;
+    }
+
+    static Compression forId(int id) throws IOException {
+        for (Compression compression : values()) {
+            if (compression.id == id) {
+                return compression;
+            }
+        }
+        throw new IOException("Unsupported container compression " + id);
+    }
+
+    /**
+     * Compresses {@code src[off, off + len)}
+     *
+     * @return the compressed bytes
+     */
+    byte[] compress(byte[] src, int off, int len) {
+        boolean gzip = this == GZIP;
+        Deflater deflater = new Deflater(LEVEL, gzip);
+        try {
+            deflater.setInput(src, off, len);
+            deflater.finish();
+            int header = gzip ? GZIP_HEADER.length : 0;
+            // Room for incompressible data, which Deflate stores with a few bytes per block
+            byte[] out = new byte[header + len + (len >> 10) + 64];
+            int n = header;
+            while (!deflater.finished()) {
+                if (n == out.length) {
+                    out = Arrays.copyOf(out, out.length * 2);
+                }
+                n += deflater.deflate(out, n, out.length - n);
+            }
+            if (!gzip) {
+                return trim(out, n);
+            }
+            System.arraycopy(GZIP_HEADER, 0, out, 0, GZIP_HEADER.length);
+            if (n + GZIP_TRAILER_SIZE > out.length) {
+                out = Arrays.copyOf(out, n + GZIP_TRAILER_SIZE);
+            }
+            CRC32 crc = new CRC32();
+            crc.update(src, off, len);
+            putIntLittleEndian(out, n, (int) crc.getValue());
+            putIntLittleEndian(out, n + 4, len);
+            return trim(out, n + GZIP_TRAILER_SIZE);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Decompresses {@code src[0, len)} into exactly {@code dst.length} bytes
+     *
+     * @throws InvalidKeyException if the data does not decompress to that length with a valid checksum,
+     *                             which after decryption means the key is wrong or the data was changed
+     */
+    void decompress(byte[] src, int len, byte[] dst) throws InvalidKeyException {
+        boolean gzip = this == GZIP;
+        int off = 0;
+        if (gzip) {
+            if (len < GZIP_HEADER.length + GZIP_TRAILER_SIZE || !hasGzipHeader(src)) {
+                throw failure();
+            }
+            off = GZIP_HEADER.length;
+            len -= GZIP_HEADER.length + GZIP_TRAILER_SIZE;
+        }
+        Inflater inflater = new Inflater(gzip);
+        try {
+            inflater.setInput(src, off, len);
+            int n = 0;
+            while (!inflater.finished() && n < dst.length) {
+                int produced = inflater.inflate(dst, n, dst.length - n);
+                if (produced == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw failure(); // truncated
+                }
+                n += produced;
+            }
+            // The stream has to end exactly at the chunk length
+            if (!inflater.finished() && (inflater.inflate(new byte[1]) != 0 || !inflater.finished())) {
+                throw failure();
+            }
+            if (n != dst.length || inflater.getRemaining() != 0) {
+                throw failure();
+            }
+        } catch (DataFormatException e) {
+            throw failure();
+        } finally {
+            inflater.end();
+        }
+        if (gzip) {
+            CRC32 crc = new CRC32();
+            crc.update(dst, 0, dst.length);
+            int trailer = off + len;
+            if (getIntLittleEndian(src, trailer) != (int) crc.getValue()
+                    || getIntLittleEndian(src, trailer + 4) != dst.length) {
+                throw failure();
+            }
+        }
+    }
+
+    private static boolean hasGzipHeader(byte[] src) {
+        // Only the header written by compress() is accepted: no optional fields
+        for (int i = 0; i < 4; i++) {
+            if (src[i] != GZIP_HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static InvalidKeyException failure() {
+        return new InvalidKeyException("A chunk did not decompress: the key is wrong or the data was changed");
+    }
+
+    private static byte[] trim(byte[] array, int length) {
+        return array.length == length ? array : Arrays.copyOf(array, length);
+    }
+
+    private static void putIntLittleEndian(byte[] array, int at, int value) {
+        for (int i = 0; i < 4; i++) {
+            array[at + i] = (byte) (value >>> (8 * i));
+        }
+    }
+
+    private static int getIntLittleEndian(byte[] array, int at) {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            value |= (array[at + i] & 0xFF) << (8 * i);
+        }
+        return value;
+    }
+}
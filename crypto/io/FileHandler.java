@@ -1,23 +1,60 @@
 package io;
 
+import algorithms.Cipher;
+import exceptions.InvalidKeyException;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import util.Metrics;
+import util.OperationStats;
 
 /**
  * Handles reading and writing files for the encryption tool
  */
 public class FileHandler {
 
+    /** Largest region mapped at once by {@link #mapFile}; bigger files are walked window by window */
+    public static final long MAP_WINDOW_SIZE = 256L * 1024 * 1024;
+
     /**
-     * Reads the entire content of a file as a string
+     * Reads the entire content of a file as a string, decoded with the platform
+     * charset; see {@link #readBytes(String)} for binary files
      * 
      * @param filePath path to the input file
      * @return file content as a String
      * @throws IOException if the file cannot be read
      */
     public static String readFile(String filePath) throws IOException {
-        return new String(Files.readAllBytes(Paths.get(filePath)));
+        OperationStats stats = Metrics.io("readFile");
+        long start = System.nanoTime();
+        try {
+            byte[] bytes = Files.readAllBytes(Paths.get(filePath));
+            stats.record(bytes.length, bytes.length, start);
+            return new String(bytes);
+        } catch (IOException e) {
+            stats.recordFailure();
+            throw e;
+        }
     }
 
     /**
@@ -28,7 +65,55 @@ public class FileHandler {
      * @throws IOException if the file cannot be written
      */
     public static void writeFile(String filePath, String content) throws IOException {
-        Files.write(Paths.get(filePath), content.getBytes());
+        OperationStats stats = Metrics.io("writeFile");
+        long start = System.nanoTime();
+        try {
+            byte[] bytes = content.getBytes();
+            Files.write(Paths.get(filePath), bytes);
+            stats.record(bytes.length, bytes.length, start);
+        } catch (IOException e) {
+            stats.recordFailure();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the entire content of a file as raw bytes, without decoding it
+     *
+     * @param filePath path to the input file
+     * @return file content
+     * @throws IOException if the file cannot be read
+     */
+    public static byte[] readBytes(String filePath) throws IOException {
+        OperationStats stats = Metrics.io("readBytes");
+        long start = System.nanoTime();
+        try {
+            byte[] bytes = Files.readAllBytes(Paths.get(filePath));
+            stats.record(bytes.length, bytes.length, start);
+            return bytes;
+        } catch (IOException e) {
+            stats.recordFailure();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes raw bytes to a file, replacing its content
+     *
+     * @param filePath path to the output file
+     * @param content  bytes to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void writeBytes(String filePath, byte[] content) throws IOException {
+        OperationStats stats = Metrics.io("writeBytes");
+        long start = System.nanoTime();
+        try {
+            Files.write(Paths.get(filePath), content);
+            stats.record(content.length, content.length, start);
+        } catch (IOException e) {
+            stats.recordFailure();
+            throw e;
+        }
     }
 
     /**
@@ -42,4 +127,531 @@ public class FileHandler {
         Files.write(Paths.get(filePath), content.getBytes(), java.nio.file.StandardOpenOption.APPEND,
                 java.nio.file.StandardOpenOption.CREATE);
     }
+
+    /**
+     * Encrypts or decrypts a file into another file chunk by chunk, so memory use
+     * stays flat regardless of the file size. Input and output may be the same
+     * file; the result is then written to a temporary file and moved into place.
+     * The content is decoded as text, so binary files should go through
+     * {@link #processBinaryFile(String, String, Cipher, int, boolean)} instead.
+     * Ciphers that are not {@link Cipher#isLengthPreserving() length preserving}
+     * produce binary output and always get the raw bytes, and so does a
+     * {@link CipherContainer} being decrypted.
+     *
+     * @param inputPath  path to the input file
+     * @param outputPath path to the output file
+     * @param cipher     cipher to apply
+     * @param key        cipher key
+     * @param encrypt    true to encrypt, false to decrypt
+     * @throws IOException         if a file cannot be read or written
+     * @throws InvalidKeyException if the key is not valid for the cipher
+     */
+    public static void processFile(String inputPath, String outputPath, Cipher cipher, int key, boolean encrypt)
+            throws IOException, InvalidKeyException {
+        processFile(inputPath, outputPath, cipher, key, encrypt, null);
+    }
+
+    /**
+     * Same as {@link #processFile(String, String, Cipher, int, boolean)}, reporting
+     * how many input bytes have been processed as it goes. The operation can be
+     * cancelled by interrupting the calling thread: it stops at the next chunk,
+     * removes the partial output and throws an {@link InterruptedIOException}.
+     *
+     * @param inputPath  path to the input file
+     * @param outputPath path to the output file
+     * @param cipher     cipher to apply
+     * @param key        cipher key
+     * @param encrypt    true to encrypt, false to decrypt
+     * @param listener   receives progress updates, or null
+     * @throws IOException         if a file cannot be read or written, or the thread was interrupted
+     * @throws InvalidKeyException if the key is not valid for the cipher
+     */
+    public static void processFile(String inputPath, String outputPath, Cipher cipher, int key, boolean encrypt,
+            ProgressListener listener) throws IOException, InvalidKeyException {
+        OperationStats stats = Metrics.io("processFile");
+        long start = System.nanoTime();
+        try {
+            transformStreamed(inputPath, outputPath, cipher, key, encrypt, listener);
+        } catch (IOException | InvalidKeyException e) {
+            stats.recordFailure();
+            throw e;
+        }
+        stats.record(Files.size(Paths.get(inputPath)), Files.size(Paths.get(outputPath)), start);
+    }
+
+    private static void transformStreamed(String inputPath, String outputPath, Cipher cipher, int key,
+            boolean encrypt, ProgressListener listener) throws IOException, InvalidKeyException {
+        if (!cipher.isLengthPreserving() || !encrypt && isContainer(inputPath)) {
+            transformBinary(inputPath, outputPath, cipher, key, encrypt, listener);
+            return;
+        }
+        Path input = Paths.get(inputPath);
+        Path output = Paths.get(outputPath);
+        boolean inPlace = Files.exists(output) && Files.isSameFile(input, output);
+        Path target = inPlace ? createSiblingTempFile(output) : output;
+
+        Charset charset = Charset.defaultCharset();
+        long size = listener != null ? Files.size(input) : 0;
+        InputStream source = Files.newInputStream(input);
+        if (listener != null) {
+            source = new ProgressInputStream(source, size, listener);
+        }
+        // InputStreamReader/OutputStreamWriter replace malformed input like readFile/writeFile do
+        try (Reader in = new BufferedReader(new InputStreamReader(source, charset), Cipher.STREAM_CHUNK_SIZE);
+                Writer out = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(target), charset),
+                        Cipher.STREAM_CHUNK_SIZE)) {
+            if (encrypt) {
+                cipher.encrypt(in, out, key);
+            } else {
+                cipher.decrypt(in, out, key);
+            }
+        } catch (IOException | InvalidKeyException | RuntimeException e) {
+            // A cancelled run leaves no half-written output behind
+            boolean cancelled = e instanceof InterruptedIOException || Thread.currentThread().isInterrupted();
+            if (inPlace || cancelled) {
+                Files.deleteIfExists(target);
+            }
+            if (e instanceof ClosedByInterruptException) {
+                throw cancelled(e);
+            }
+            throw e;
+        }
+
+        if (inPlace) {
+            Files.move(target, output, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Encrypts or decrypts a file into another file as raw bytes, chunk by chunk.
+     * Nothing is decoded or encoded, so binary files and text in any encoding
+     * come through losslessly. Input and output may be the same file. When
+     * decrypting, a {@link CipherContainer} is recognised and unpacked.
+     *
+     * @param inputPath  path to the input file
+     * @param outputPath path to the output file
+     * @param cipher     cipher to apply
+     * @param key        cipher key
+     * @param encrypt    true to encrypt, false to decrypt
+     * @throws IOException         if a file cannot be read or written
+     * @throws InvalidKeyException if the key is not valid for the cipher
+     */
+    public static void processBinaryFile(String inputPath, String outputPath, Cipher cipher, int key,
+            boolean encrypt) throws IOException, InvalidKeyException {
+        processBinaryFile(inputPath, outputPath, cipher, key, encrypt, null);
+    }
+
+    /**
+     * Same as {@link #processBinaryFile(String, String, Cipher, int, boolean)},
+     * reporting progress and stopping when the calling thread is interrupted, like
+     * {@link #processFile(String, String, Cipher, int, boolean, ProgressListener)}
+     *
+     * @param inputPath  path to the input file
+     * @param outputPath path to the output file
+     * @param cipher     cipher to apply
+     * @param key        cipher key
+     * @param encrypt    true to encrypt, false to decrypt
+     * @param listener   receives progress updates, or null
+     * @throws IOException         if a file cannot be read or written, or the thread was interrupted
+     * @throws InvalidKeyException if the key is not valid for the cipher
+     */
+    public static void processBinaryFile(String inputPath, String outputPath, Cipher cipher, int key,
+            boolean encrypt, ProgressListener listener) throws IOException, InvalidKeyException {
+        OperationStats stats = Metrics.io("processBinaryFile");
+        long start = System.nanoTime();
+        try {
+            transformBinary(inputPath, outputPath, cipher, key, encrypt, listener);
+        } catch (IOException | InvalidKeyException e) {
+            stats.recordFailure();
+            throw e;
+        }
+        long size = Files.size(Paths.get(outputPath));
+        stats.record(size, size, start);
+    }
+
+    private static void transformBinary(String inputPath, String outputPath, Cipher cipher, int key,
+            boolean encrypt, ProgressListener listener) throws IOException, InvalidKeyException {
+        Path input = Paths.get(inputPath);
+        Path output = Paths.get(outputPath);
+        boolean inPlace = Files.exists(output) && Files.isSameFile(input, output);
+        Path target = inPlace ? createSiblingTempFile(output) : output;
+
+        try (FileChannel source = FileChannel.open(input, StandardOpenOption.READ);
+                FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING)) {
+            CipherContainer container = encrypt ? null : CipherContainer.open(source);
+            ReadableByteChannel in = listener == null ? source : new ProgressChannel(source, listener);
+            if (container != null) {
+                container.decrypt(source, out, cipher, key, listener);
+            } else if (encrypt) {
+                cipher.encrypt(in, out, key);
+            } else {
+                cipher.decrypt(in, out, key);
+            }
+        } catch (IOException | InvalidKeyException | RuntimeException e) {
+            // A cancelled or rejected run leaves no half-written output behind, e.g. after a failed authentication
+            // or on input that is not ciphertext at all
+            boolean cancelled = e instanceof InterruptedIOException || Thread.currentThread().isInterrupted();
+            if (inPlace || cancelled || !encrypt || e instanceof InvalidKeyException) {
+                Files.deleteIfExists(target);
+            }
+            if (e instanceof ClosedByInterruptException) {
+                throw cancelled(e);
+            }
+            throw e;
+        }
+
+        if (inPlace) {
+            Files.move(target, output, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Encrypts or decrypts a file by memory-mapping input and output and running
+     * the cipher directly over the mapped bytes, without copying them into a
+     * String or array. Files larger than {@link #MAP_WINDOW_SIZE} are processed
+     * one window at a time. Input and output may be the same file, in which case
+     * it is transformed in place.
+     *
+     * The cipher sees raw bytes, so this suits ASCII-compatible text and binary
+     * data rather than text that has to be decoded first. Ciphers that are not
+     * {@link Cipher#isLengthPreserving() length preserving} cannot write into a
+     * mapping of the input's size and are streamed like
+     * {@link #processBinaryFile(String, String, Cipher, int, boolean)} instead,
+     * as is a {@link CipherContainer} being decrypted.
+     *
+     * @param inputPath  path to the input file
+     * @param outputPath path to the output file
+     * @param cipher     cipher to apply
+     * @param key        cipher key
+     * @param encrypt    true to encrypt, false to decrypt
+     * @throws IOException         if a file cannot be mapped, read or written
+     * @throws InvalidKeyException if the key is not valid for the cipher
+     */
+    public static void mapFile(String inputPath, String outputPath, Cipher cipher, int key, boolean encrypt)
+            throws IOException, InvalidKeyException {
+        OperationStats stats = Metrics.io("mapFile");
+        long start = System.nanoTime();
+        try {
+            transformMapped(inputPath, outputPath, cipher, key, encrypt);
+        } catch (IOException | InvalidKeyException e) {
+            stats.recordFailure();
+            throw e;
+        }
+        long size = Files.size(Paths.get(outputPath));
+        stats.record(size, size, start);
+    }
+
+    private static void transformMapped(String inputPath, String outputPath, Cipher cipher, int key,
+            boolean encrypt) throws IOException, InvalidKeyException {
+        if (!cipher.isLengthPreserving() || !encrypt && isContainer(inputPath)) {
+            transformBinary(inputPath, outputPath, cipher, key, encrypt, null);
+            return;
+        }
+        Path input = Paths.get(inputPath);
+        Path output = Paths.get(outputPath);
+
+        if (Files.exists(output) && Files.isSameFile(input, output)) {
+            try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                long size = channel.size();
+                for (long offset = 0; offset < size; offset += MAP_WINDOW_SIZE) {
+                    long length = Math.min(MAP_WINDOW_SIZE, size - offset);
+                    MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_WRITE, offset, length);
+                    transformRegion(cipher, region.duplicate(), region, key, offset, encrypt);
+                }
+            }
+            return;
+        }
+
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+                FileChannel out = FileChannel.open(output, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                        StandardOpenOption.CREATE)) {
+            long size = in.size();
+            out.truncate(size);
+            for (long offset = 0; offset < size; offset += MAP_WINDOW_SIZE) {
+                long length = Math.min(MAP_WINDOW_SIZE, size - offset);
+                MappedByteBuffer source = in.map(FileChannel.MapMode.READ_ONLY, offset, length);
+                MappedByteBuffer target = out.map(FileChannel.MapMode.READ_WRITE, offset, length);
+                transformRegion(cipher, source, target, key, offset, encrypt);
+            }
+        }
+    }
+
+    private static void transformRegion(Cipher cipher, ByteBuffer source, ByteBuffer target,
+            int key, long offset, boolean encrypt) throws InvalidKeyException {
+        if (encrypt) {
+            cipher.encryptInto(source, target, key, offset);
+        } else {
+            cipher.decryptInto(source, target, key, offset);
+        }
+    }
+
+    /**
+     * Encrypts a file into a seekable {@link CipherContainer}, whose header
+     * records the cipher and whose index allows
+     * {@link #decryptRange(String, long, int, Cipher, int) range reads}. The
+     * plain bytes are encrypted as they are, like
+     * {@link #processBinaryFile(String, String, Cipher, int, boolean)} does.
+     * Input and output may be the same file. Decryption undoes any compression.
+     *
+     * @param inputPath  path to the plain file
+     * @param outputPath path to the container to write
+     * @param cipher     cipher to apply
+     * @param key        cipher key
+     * @throws IOException         if a file cannot be read or written
+     * @throws InvalidKeyException if the key is not valid for the cipher
+     */
+    public static void encryptToContainer(String inputPath, String outputPath, Cipher cipher, int key)
+            throws IOException, InvalidKeyException {
+        encryptToContainer(inputPath, outputPath, cipher, key, Compression.NONE, null);
+    }
+
+    /**
+     * Same as {@link #encryptToContainer(String, String, Cipher, int)}, compressing
+     * every chunk before it is encrypted, reporting progress and stopping when the
+     * calling thread is interrupted, like
+     * {@link #processFile(String, String, Cipher, int, boolean, ProgressListener)}.
+     * Text such as logs typically shrinks five to ten times, which cuts the bytes
+     * written now and read back later by as much.
+     *
+     * @param inputPath   path to the plain file
+     * @param outputPath  path to the container to write
+     * @param cipher      cipher to apply
+     * @param key         cipher key
+     * @param compression compression applied to each chunk before encryption
+     * @param listener    receives progress updates, or null
+     * @return sizes, compression ratio and timings of the run
+     * @throws IOException         if a file cannot be read or written, or the thread was interrupted
+     * @throws InvalidKeyException if the key is not valid for the cipher
+     */
+    public static CipherContainer.Summary encryptToContainer(String inputPath, String outputPath, Cipher cipher,
+            int key, Compression compression, ProgressListener listener) throws IOException, InvalidKeyException {
+        OperationStats stats = Metrics.io("encryptToContainer");
+        long start = System.nanoTime();
+        Path input = Paths.get(inputPath);
+        Path output = Paths.get(outputPath);
+        boolean inPlace = Files.exists(output) && Files.isSameFile(input, output);
+        Path target = inPlace ? createSiblingTempFile(output) : output;
+
+        CipherContainer.Summary summary;
+        try (FileChannel source = FileChannel.open(input, StandardOpenOption.READ);
+                FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING)) {
+            ReadableByteChannel in = listener == null ? source : new ProgressChannel(source, listener);
+            summary = CipherContainer.write(in, out, cipher, key, CipherContainer.DEFAULT_CHUNK_SIZE, compression);
+        } catch (IOException | InvalidKeyException | RuntimeException e) {
+            stats.recordFailure();
+            boolean cancelled = e instanceof InterruptedIOException || Thread.currentThread().isInterrupted();
+            if (inPlace || cancelled) {
+                Files.deleteIfExists(target);
+            }
+            if (e instanceof ClosedByInterruptException) {
+                throw cancelled(e);
+            }
+            throw e;
+        }
+
+        if (inPlace) {
+            Files.move(target, output, StandardCopyOption.REPLACE_EXISTING);
+        }
+        stats.record(summary.getPlainBytes(), summary.getStoredBytes(), start);
+        return summary;
+    }
+
+    /**
+     * Decrypts part of a {@link CipherContainer} without reading the rest: only
+     * the chunks holding the requested bytes are read and decrypted. A range
+     * running past the end of the data is cut short.
+     *
+     * @param filePath path to the container
+     * @param offset   offset of the first plain byte
+     * @param length   number of plain bytes
+     * @param cipher   cipher the container was encrypted with
+     * @param key      cipher key
+     * @return the plain bytes, empty past the end of the data
+     * @throws IOException              if the file is not a container of this cipher or cannot be read
+     * @throws InvalidKeyException      if the key is not valid, or authentication failed
+     * @throws IllegalArgumentException if offset or length is negative
+     */
+    public static byte[] decryptRange(String filePath, long offset, int length, Cipher cipher, int key)
+            throws IOException, InvalidKeyException {
+        OperationStats stats = Metrics.io("decryptRange");
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            CipherContainer container = CipherContainer.open(channel);
+            if (container == null) {
+                throw new IOException(filePath + " is not an encrypted container");
+            }
+            byte[] plain = container.decryptRange(channel, offset, length, cipher, key);
+            stats.record(plain.length, plain.length, start);
+            return plain;
+        } catch (IOException | InvalidKeyException e) {
+            stats.recordFailure();
+            throw e;
+        }
+    }
+
+    /**
+     * Tells which cipher a file was encrypted with, if it is a {@link CipherContainer}
+     *
+     * @param filePath path to the file
+     * @return the cipher name stored in the container, or null for any other file
+     * @throws IOException if the file cannot be read, or is a damaged container
+     */
+    public static String detectCipher(String filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            CipherContainer container = CipherContainer.open(channel);
+            return container == null ? null : container.getCipherName();
+        }
+    }
+
+    private static boolean isContainer(String filePath) throws IOException {
+        return detectCipher(filePath) != null;
+    }
+
+    /**
+     * Reads and decodes one page of a file, for viewing large outputs without
+     * loading them completely. A page holds the characters that start within
+     * {@code [offset, offset + pageBytes)}, so consecutive pages never split a
+     * UTF-8 character between them.
+     *
+     * @param filePath  path to the file
+     * @param offset    byte offset the page starts at
+     * @param pageBytes page size in bytes
+     * @return the decoded page, empty past the end of the file
+     * @throws IOException if the file cannot be read
+     */
+    public static String readPage(String filePath, long offset, int pageBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (offset >= size) {
+                return "";
+            }
+            // Up to three extra bytes finish a character that starts at the end of the page
+            ByteBuffer bytes = ByteBuffer.allocate((int) Math.min(pageBytes + 3L, size - offset));
+            while (bytes.hasRemaining() && channel.read(bytes, offset + bytes.position()) != -1) {
+                // keep reading until the buffer is full
+            }
+            bytes.flip();
+
+            Charset charset = Charset.defaultCharset();
+            int end = Math.min(pageBytes, bytes.limit());
+            if (charset.name().equals("UTF-8")) {
+                int start = 0;
+                while (offset > 0 && start < 3 && start < end && isContinuationByte(bytes.get(start))) {
+                    start++;
+                }
+                if (start == end) {
+                    return ""; // no character starts on this page
+                }
+                while (end < bytes.limit() && isContinuationByte(bytes.get(end))) {
+                    end++;
+                }
+                bytes.position(start);
+            }
+            bytes.limit(end);
+
+            CharsetDecoder decoder = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            return decoder.decode(bytes).toString();
+        }
+    }
+
+    private static boolean isContinuationByte(byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+
+    /**
+     * Counts the bytes read for progress reporting, and stops reading once the
+     * thread has been interrupted
+     */
+    private static class ProgressInputStream extends FilterInputStream {
+        private final long total;
+        private final ProgressListener listener;
+        private long done;
+
+        ProgressInputStream(InputStream in, long total, ProgressListener listener) {
+            super(in);
+            this.total = total;
+            this.listener = listener;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == -1 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("Operation cancelled");
+            }
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                done += n;
+                listener.progress(done, total);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            done += skipped;
+            return skipped;
+        }
+    }
+
+    /**
+     * Channel counterpart of {@link ProgressInputStream}
+     */
+    private static class ProgressChannel implements ReadableByteChannel {
+        private final FileChannel channel;
+        private final long total;
+        private final ProgressListener listener;
+        private long done;
+
+        ProgressChannel(FileChannel channel, ProgressListener listener) throws IOException {
+            this.channel = channel;
+            this.total = channel.size();
+            this.listener = listener;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("Operation cancelled");
+            }
+            int n = channel.read(dst);
+            if (n > 0) {
+                done += n;
+                listener.progress(done, total);
+            }
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    // An interrupt during channel I/O closes the channel; report it like any other cancellation
+    private static InterruptedIOException cancelled(Exception cause) {
+        InterruptedIOException e = new InterruptedIOException("Operation cancelled");
+        e.initCause(cause);
+        return e;
+    }
+
+    private static Path createSiblingTempFile(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        return Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+    }
 }
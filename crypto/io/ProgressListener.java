@@ -0,0 +1,14 @@
+package io;
+
+/**
+ * Receives progress updates from long-running file operations. Called on the
+ * thread doing the work, so implementations should return quickly.
+ */
+public interface ProgressListener {
+
+    /**
+     * @param bytesDone  bytes of the input processed so far
+     * @param totalBytes size of the input in bytes
+     */
+    void progress(long bytesDone, long totalBytes);
+}
@@ -0,0 +1,599 @@
+package main;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import algorithms.*;
+import analysis.CorpusStatistics;
+import analysis.KeyRecovery;
+import analysis.QuadgramModel;
+import analysis.SubstitutionSolver;
+import exceptions.InvalidKeyException;
+import io.BatchProcessor;
+import io.CipherContainer;
+import io.Compression;
+import io.FileHandler;
+import util.Logger;
+
+/**
+ * Non-interactive, argument-driven front end:
+ *
+ * <pre>
+ * cipherguard encrypt|decrypt --cipher caesar|xor|substitution|repeating-xor|aes-gcm|chacha20-poly1305|chain
+ *             --key KEY [--in PATH] [--out PATH] [--binary] [--container] [--compress none|deflate|gzip]
+ *             [--include GLOB]... [--exclude GLOB]... [--jobs N] [--incremental]
+ * cipherguard decrypt [--cipher CIPHER] --key KEY --in CONTAINER [--out PATH] [--offset N] [--length N]
+ * cipherguard recover --cipher caesar|xor|substitution [--in PATH] [--top N] [--sample N] [--binary]
+ *             [--restarts N] [--corpus PATH]
+ * cipherguard stats [--in PATH] [--top N] [--binary]
+ * </pre>
+ *
+ * Without --in the input is read from stdin, and without --out the result goes
+ * to stdout, both in fixed-size chunks so it works in shell pipelines with
+ * constant memory. When --in is a directory the whole tree is processed into
+ * the --out directory; with --incremental, files unchanged since the last
+ * incremental run into that directory are skipped. With --container the
+ * output is a seekable container that records its cipher, so decrypting it
+ * needs no --cipher and can read just a byte range. --compress compresses
+ * every chunk of the container before it is encrypted, and prints the compression ratio and the I/O time saved.
+ * "recover" ranks the most likely keys (or, for the substitution cipher,
+ * mappings) of a cipher text and prints them to stdout.
+ * "stats" prints frequency statistics of any file in one pass. Diagnostics go to stderr only.
+ */
+public class CommandLine {
+
+    private static final int EXIT_OK = 0;
+    private static final int EXIT_FAILURE = 1;
+    private static final int EXIT_USAGE = 2;
+
+    private static final int RANGE_SLICE_SIZE = 16 * 1024 * 1024; // plain bytes decrypted per decryptRange call
+
+    private static final String USAGE = "Usage: cipherguard encrypt|decrypt --cipher CIPHER --key KEY\n"
+            + "                   [--in PATH] [--out PATH] [--binary] [--container] [--compress none|deflate|gzip]\n"
+            + "                   [--include GLOB]... [--exclude GLOB]... [--jobs N] [--incremental]\n"
+            + "       cipherguard decrypt [--cipher CIPHER] --key KEY --in CONTAINER [--out PATH]\n"
+            + "                   [--offset N] [--length N]\n"
+            + "\n"
+            + "  --cipher   cipher to use (see below)\n"
+            + "  --key      integer key, or the text key of ciphers listed with one\n"
+            + "  --in       input file or directory (default: stdin)\n"
+            + "  --out      output file or directory (default: stdout)\n"
+            + "  --binary   transform raw bytes instead of decoded text (always on for aes-gcm and chacha20-poly1305)\n"
+            + "  --include  with a directory input, only process files matching the glob\n"
+            + "  --exclude  with a directory input, skip files matching the glob\n"
+            + "  --jobs     with a directory input, maximum files processed at once\n"
+            + "  --incremental with a directory input, skip files unchanged since the last incremental run\n"
+            + "  --container encrypt into a seekable container; decrypt detects one and its cipher\n"
+            + "  --compress compress before encrypting, into a container (default none)\n"
+            + "  --offset   with a container input, first plain byte to decrypt (default 0)\n"
+            + "  --length   with a container input, number of plain bytes to decrypt (default: to the end)\n"
+            + "\n"
+            + "Usage: cipherguard recover --cipher caesar|xor|substitution [--in PATH] [--top N] [--sample N]\n"
+            + "                   [--binary] [--restarts N] [--corpus PATH]\n"
+            + "\n"
+            + "  --top      number of candidate keys to list (default 5)\n"
+            + "  --sample   maximum characters (or bytes) read from the input\n"
+            + "             (default 65536, or 16384 for substitution)\n"
+            + "  --restarts substitution only: number of hill climbs (default: 4 per core, at least 16)\n"
+            + "  --corpus   substitution only: train the language model on this text instead of built-in English\n"
+            + "\n"
+            + "Usage: cipherguard stats [--in PATH] [--top N] [--binary]\n"
+            + "\n"
+            + "  --top      number of characters and bigrams to list (default 20)\n"
+            + "  --binary   count raw bytes instead of decoded characters\n";
+
+    private boolean encrypt;
+    private boolean recover;
+    private boolean stats;
+    private String cipherName;
+    private String keyText;
+    private String inputPath;
+    private String outputPath;
+    private boolean binary;
+    private boolean container;
+    private Compression compression = Compression.NONE;
+    private long offset = -1; // -1 when no range was given
+    private long length = -1;
+    private final List<String> includes = new ArrayList<>();
+    private final List<String> excludes = new ArrayList<>();
+    private int jobs = BatchProcessor.DEFAULT_MAX_IN_FLIGHT;
+    private boolean incremental;
+    private int top; // 0 for the command's default
+    private int sample; // 0 for the default of the recovery engine
+    private int restarts = SubstitutionSolver.DEFAULT_RESTARTS;
+    private String corpusPath;
+
+    /**
+     * @param command first argument
+     * @return true if the command is handled by this class
+     */
+    public static boolean handles(String command) {
+        return command.equals("encrypt") || command.equals("decrypt") || command.equals("recover")
+                || command.equals("stats") || command.equals("help") || command.equals("--help")
+                || command.equals("-h");
+    }
+
+    /**
+     * Runs the command line and exits the JVM with a non-zero status on failure
+     *
+     * @param args command and options
+     */
+    public static void main(String[] args) {
+        int status = run(args);
+        System.exit(status);
+    }
+
+    /**
+     * Runs the command line without exiting
+     *
+     * @param args command and options
+     * @return process exit status
+     */
+    public static int run(String[] args) {
+        PrintStream err = System.err;
+        CommandLine cli = new CommandLine();
+        try {
+            if (!cli.parse(args)) {
+                printUsage(err);
+                return args.length > 0 && !handles(args[0]) ? EXIT_USAGE : EXIT_OK;
+            }
+            return cli.execute();
+        } catch (IllegalArgumentException e) {
+            err.println("Error: " + e.getMessage());
+            printUsage(err);
+            return EXIT_USAGE;
+        } catch (InvalidKeyException e) {
+            err.println("Key error: " + e.getMessage());
+            return EXIT_FAILURE;
+        } catch (IOException e) {
+            err.println("I/O error: " + e.getMessage());
+            return EXIT_FAILURE;
+        } catch (RuntimeException e) {
+            // One line, not a stack trace: scripts only need the exit status and a reason
+            err.println("Error: " + (e.getMessage() != null ? e.getMessage() : e.toString()));
+            return EXIT_FAILURE;
+        }
+    }
+
+    // Returns false when usage should be printed instead of running
+    private boolean parse(String[] args) {
+        if (args.length == 0 || !(args[0].equals("encrypt") || args[0].equals("decrypt")
+                || args[0].equals("recover") || args[0].equals("stats"))) {
+            return false;
+        }
+        encrypt = args[0].equals("encrypt");
+        recover = args[0].equals("recover");
+        stats = args[0].equals("stats");
+        for (int i = 1; i < args.length; i++) {
+            String option = args[i];
+            switch (option) {
+                case "--cipher":
+                    cipherName = value(args, ++i, option);
+                    break;
+                case "--key":
+                    keyText = value(args, ++i, option);
+                    break;
+                case "--in":
+                    inputPath = value(args, ++i, option);
+                    break;
+                case "--out":
+                    outputPath = value(args, ++i, option);
+                    break;
+                case "--binary":
+                    binary = true;
+                    break;
+                case "--container":
+                    container = true;
+                    break;
+                case "--compress":
+                    compression = Compression.parse(value(args, ++i, option));
+                    container |= compression != Compression.NONE;
+                    break;
+                case "--offset":
+                    offset = parseLong(value(args, ++i, option), option);
+                    if (offset < 0) {
+                        throw new IllegalArgumentException("--offset must not be negative");
+                    }
+                    break;
+                case "--length":
+                    length = parseLong(value(args, ++i, option), option);
+                    if (length < 0) {
+                        throw new IllegalArgumentException("--length must not be negative");
+                    }
+                    break;
+                case "--include":
+                    includes.add(value(args, ++i, option));
+                    break;
+                case "--exclude":
+                    excludes.add(value(args, ++i, option));
+                    break;
+                case "--jobs":
+                    jobs = parseInt(value(args, ++i, option), option);
+                    break;
+                case "--incremental":
+                    incremental = true;
+                    break;
+                case "--top":
+                    top = parseInt(value(args, ++i, option), option);
+                    if (top < 1) {
+                        throw new IllegalArgumentException("--top must be at least 1");
+                    }
+                    break;
+                case "--sample":
+                    sample = parseInt(value(args, ++i, option), option);
+                    if (sample < 1) {
+                        throw new IllegalArgumentException("--sample must be at least 1");
+                    }
+                    break;
+                case "--restarts":
+                    restarts = parseInt(value(args, ++i, option), option);
+                    break;
+                case "--corpus":
+                    corpusPath = value(args, ++i, option);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + option);
+            }
+        }
+        if (stats) {
+            return true;
+        }
+        if ((offset >= 0 || length >= 0) && (encrypt || recover || inputPath == null)) {
+            throw new IllegalArgumentException("--offset and --length need decrypt with an --in container");
+        }
+        if (cipherName == null && (encrypt || recover || inputPath == null)) {
+            throw new IllegalArgumentException("--cipher is required");
+        }
+        if (recover) {
+            if (restarts < 1) {
+                throw new IllegalArgumentException("--restarts must be at least 1");
+            }
+        } else if (keyText == null) {
+            throw new IllegalArgumentException("--key is required");
+        }
+        return true;
+    }
+
+    private static void printUsage(PrintStream out) {
+        out.print(USAGE);
+        out.println();
+        out.println("Ciphers:");
+        for (CipherProvider provider : CipherRegistry.providers()) {
+            String key = provider.usesKeyText() ? "  (--key is a " + provider.getKeyTextLabel() + ")" : "";
+            out.println("  " + provider.getId() + key);
+        }
+    }
+
+    private int execute() throws IOException, InvalidKeyException {
+        if (stats) {
+            return executeStats();
+        }
+        // A container names its cipher, so decrypting one needs no --cipher
+        String stored = !encrypt && !recover && inputPath != null && Files.isRegularFile(Paths.get(inputPath))
+                ? FileHandler.detectCipher(inputPath) : null;
+        if (cipherName == null) {
+            if (stored == null) {
+                throw new IllegalArgumentException("--cipher is required unless --in is a container");
+            }
+            cipherName = stored;
+        }
+        CipherProvider provider = CipherRegistry.find(cipherName);
+        if (provider == null) {
+            throw new IllegalArgumentException("Unknown cipher: " + cipherName);
+        }
+        if (recover) {
+            if (provider.getId().equals("substitution")) {
+                return executeSolve();
+            }
+            if (provider.usesKeyText()) {
+                throw new IllegalArgumentException("Key recovery supports the Caesar, XOR and Substitution"
+                        + " ciphers, not " + provider.getName());
+            }
+            return executeRecover(CipherRegistry.get(provider.getId(), null));
+        }
+        Cipher cipher = CipherRegistry.get(provider.getId(), keyText);
+        int key = provider.usesKeyText() ? 0 : parseInt(keyText, "--key");
+        if (key < 0) {
+            throw new InvalidKeyException("Key must be positive for " + cipher.getName());
+        }
+
+        if (inputPath != null && Files.isDirectory(Paths.get(inputPath))) {
+            if (container) {
+                throw new IllegalArgumentException("--container takes a single file, not a directory");
+            }
+            return executeBatch(cipher, key);
+        }
+
+        Cipher engine = new ParallelCipher(cipher);
+        if (offset >= 0 || length >= 0) {
+            if (stored == null) {
+                throw new IllegalArgumentException("--offset and --length need decrypt with an --in container");
+            }
+            return executeRange(engine, key);
+        }
+        if (container && encrypt) {
+            return executeContainer(engine, key);
+        }
+        if (inputPath != null && outputPath != null) {
+            if (binary) {
+                FileHandler.mapFile(inputPath, outputPath, engine, key, encrypt);
+            } else {
+                FileHandler.processFile(inputPath, outputPath, engine, key, encrypt);
+            }
+            Logger.log(cipher.getName() + (encrypt ? " encrypted" : " decrypted") + " file to " + outputPath);
+            return EXIT_OK;
+        }
+
+        // At least one end is a standard stream: stream chunk by chunk
+        if (stored != null) {
+            try (FileChannel in = FileChannel.open(Paths.get(inputPath), StandardOpenOption.READ)) {
+                CipherContainer.open(in).decrypt(in, Channels.newChannel(System.out), engine, key, null);
+            }
+        } else if (binary || !cipher.isLengthPreserving()) {
+            try (ReadableByteChannel in = inputPath != null
+                    ? Files.newByteChannel(Paths.get(inputPath))
+                    : Channels.newChannel(System.in);
+                    WritableByteChannel out = outputPath != null
+                            ? Files.newByteChannel(Paths.get(outputPath), StandardOpenOption.CREATE,
+                                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)
+                            : Channels.newChannel(System.out)) {
+                if (encrypt) {
+                    engine.encrypt(in, out, key);
+                } else {
+                    engine.decrypt(in, out, key);
+                }
+            }
+        } else {
+            Charset charset = Charset.defaultCharset();
+            try (Reader in = new BufferedReader(new InputStreamReader(
+                    inputPath != null ? Files.newInputStream(Paths.get(inputPath)) : System.in, charset),
+                    Cipher.STREAM_CHUNK_SIZE);
+                    Writer out = new BufferedWriter(new OutputStreamWriter(
+                            outputPath != null ? Files.newOutputStream(Paths.get(outputPath)) : System.out, charset),
+                            Cipher.STREAM_CHUNK_SIZE)) {
+                if (encrypt) {
+                    engine.encrypt(in, out, key);
+                } else {
+                    engine.decrypt(in, out, key);
+                }
+            }
+        }
+        if (outputPath != null) {
+            Logger.log(cipher.getName() + (encrypt ? " encrypted" : " decrypted") + " stream to " + outputPath);
+        }
+        return EXIT_OK;
+    }
+
+    private int executeContainer(Cipher engine, int key) throws IOException, InvalidKeyException {
+        CipherContainer.Summary summary;
+        if (inputPath != null && outputPath != null) {
+            summary = FileHandler.encryptToContainer(inputPath, outputPath, engine, key, compression, null);
+        } else {
+            // Containers are written front to back, so pipes work too
+            try (ReadableByteChannel in = inputPath != null
+                    ? Files.newByteChannel(Paths.get(inputPath))
+                    : Channels.newChannel(System.in);
+                    WritableByteChannel out = outputPath != null
+                            ? Files.newByteChannel(Paths.get(outputPath), StandardOpenOption.CREATE,
+                                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)
+                            : Channels.newChannel(System.out)) {
+                summary = CipherContainer.write(in, out, engine, key, CipherContainer.DEFAULT_CHUNK_SIZE,
+                        compression);
+            }
+        }
+        if (compression != Compression.NONE) {
+            System.err.println(summary);
+        }
+        if (outputPath != null) {
+            Logger.log(engine.getName() + " encrypted container to " + outputPath);
+        }
+        return EXIT_OK;
+    }
+
+    private int executeRange(Cipher engine, int key) throws IOException, InvalidKeyException {
+        long from = Math.max(offset, 0);
+        long remaining = length >= 0 ? length : Long.MAX_VALUE;
+        try (WritableByteChannel out = outputPath != null
+                ? Files.newByteChannel(Paths.get(outputPath), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING)
+                : Channels.newChannel(System.out)) {
+            // Read in slices so a long range never has to fit in memory
+            while (remaining > 0) {
+                byte[] plain = FileHandler.decryptRange(inputPath, from,
+                        (int) Math.min(remaining, RANGE_SLICE_SIZE), engine, key);
+                if (plain.length == 0) {
+                    break;
+                }
+                ByteBuffer buffer = ByteBuffer.wrap(plain);
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                from += plain.length;
+                remaining -= plain.length;
+            }
+        }
+        return EXIT_OK;
+    }
+
+    private int executeRecover(Cipher cipher) throws IOException {
+        KeyRecovery recovery = new KeyRecovery(cipher, sample > 0 ? sample : KeyRecovery.DEFAULT_SAMPLE_LIMIT);
+        int top = this.top > 0 ? this.top : 5;
+        KeyRecovery.Result result;
+        if (binary) {
+            try (ReadableByteChannel in = inputPath != null
+                    ? Files.newByteChannel(Paths.get(inputPath))
+                    : Channels.newChannel(System.in)) {
+                result = recovery.recover(in, top);
+            }
+        } else {
+            try (Reader in = new BufferedReader(new InputStreamReader(
+                    inputPath != null ? Files.newInputStream(Paths.get(inputPath)) : System.in,
+                    Charset.defaultCharset()))) {
+                result = recovery.recover(in, top);
+            }
+        }
+
+        PrintStream out = System.out;
+        out.println("rank\tkey\tscore\tpreview");
+        int rank = 1;
+        for (KeyRecovery.Candidate candidate : result.getCandidates()) {
+            out.printf("%d\t%d\t%.3f\t%s%n", rank++, candidate.getKey(), candidate.getScore(),
+                    candidate.getPreview());
+        }
+        out.flush();
+        System.err.println(result);
+        return EXIT_OK;
+    }
+
+    private int executeSolve() throws IOException {
+        QuadgramModel model = QuadgramModel.english();
+        if (corpusPath != null) {
+            try (Reader corpus = Files.newBufferedReader(Paths.get(corpusPath), Charset.defaultCharset())) {
+                model = QuadgramModel.train(corpus);
+            }
+        }
+        SubstitutionSolver solver = new SubstitutionSolver(model, restarts,
+                sample > 0 ? sample : SubstitutionSolver.DEFAULT_SAMPLE_LIMIT, System.nanoTime());
+        int top = this.top > 0 ? this.top : 5;
+        SubstitutionSolver.Result result;
+        // In binary mode the cipher maps ASCII bytes, which Latin-1 reads one to one
+        try (Reader in = new BufferedReader(new InputStreamReader(
+                inputPath != null ? Files.newInputStream(Paths.get(inputPath)) : System.in,
+                binary ? Charset.forName("ISO-8859-1") : Charset.defaultCharset()))) {
+            result = solver.solve(in, top);
+        }
+
+        PrintStream out = System.out;
+        out.println("rank\tmapping\tscore\thits\tpreview");
+        int rank = 1;
+        for (SubstitutionSolver.Candidate candidate : result.getCandidates()) {
+            out.printf("%d\t%s\t%.3f\t%d\t%s%n", rank++, candidate.getMapping(), candidate.getScore(),
+                    candidate.getHits(), candidate.getPreview());
+        }
+        out.flush();
+        System.err.println(result);
+        return EXIT_OK;
+    }
+
+    private int executeStats() throws IOException {
+        CorpusStatistics statistics;
+        Charset charset = Charset.defaultCharset();
+        if (inputPath != null) {
+            statistics = binary ? CorpusStatistics.scanBytes(Paths.get(inputPath))
+                    : CorpusStatistics.scan(Paths.get(inputPath), charset);
+        } else if (binary) {
+            statistics = CorpusStatistics.scanBytes(Channels.newChannel(System.in));
+        } else {
+            statistics = CorpusStatistics.scan(new InputStreamReader(System.in, charset));
+        }
+        int top = this.top > 0 ? this.top : 20;
+
+        PrintStream out = System.out;
+        long letters = statistics.getLetterTotal();
+        out.printf("%s\t%d%n", statistics.isBinary() ? "bytes" : "characters", statistics.getTotal());
+        out.printf("distinct\t%d%n", statistics.getDistinct());
+        out.printf("entropy\t%.4f bits/%s%n", statistics.getEntropy(), statistics.isBinary() ? "byte" : "char");
+        out.printf("letters\t%d%n", letters);
+        out.printf("letter entropy\t%.4f bits/letter%n", statistics.getLetterEntropy());
+        out.printf("index of coincidence\t%.4f (English %.4f, random %.4f)%n", statistics.getIndexOfCoincidence(),
+                CorpusStatistics.ENGLISH_INDEX_OF_COINCIDENCE, CorpusStatistics.RANDOM_INDEX_OF_COINCIDENCE);
+
+        out.println();
+        out.println("letter\tcount\tpercent");
+        for (int letter = 0; letter < 26; letter++) {
+            long count = statistics.getLetterCount(letter);
+            out.printf("%c\t%d\t%.3f%n", (char) ('A' + letter), count, percent(count, letters));
+        }
+
+        out.println();
+        out.println(statistics.isBinary() ? "byte\tcount\tpercent" : "character\tcount\tpercent");
+        for (int symbol : statistics.topSymbols(top)) {
+            long count = statistics.getCount(symbol);
+            out.printf("%s\t%d\t%.3f%n", describe(symbol, statistics.isBinary()), count,
+                    percent(count, statistics.getTotal()));
+        }
+
+        out.println();
+        out.println("bigram\tcount\tpercent");
+        long bigrams = statistics.getBigramTotal();
+        for (int bigram : statistics.topBigrams(top)) {
+            long count = statistics.getBigramCount(bigram / 26, bigram % 26);
+            out.printf("%c%c\t%d\t%.3f%n", (char) ('A' + bigram / 26), (char) ('A' + bigram % 26), count,
+                    percent(count, bigrams));
+        }
+        out.flush();
+        System.err.println("Scanned " + (inputPath != null ? inputPath : "stdin") + " in "
+                + statistics.getElapsedMillis() + " ms");
+        return EXIT_OK;
+    }
+
+    private static double percent(long count, long total) {
+        return total == 0 ? 0 : 100.0 * count / total;
+    }
+
+    // Printable form of a character or byte value, e.g. "'e' U+0065" or "0x0A"
+    private static String describe(int symbol, boolean binary) {
+        if (binary) {
+            return String.format("0x%02X%s", symbol, symbol >= 0x20 && symbol < 0x7F ? " '" + (char) symbol + "'" : "");
+        }
+        String code = String.format("U+%04X", symbol);
+        return Character.isISOControl(symbol) || Character.isWhitespace(symbol) && symbol != ' '
+                ? code : "'" + (char) symbol + "' " + code;
+    }
+
+    private int executeBatch(Cipher cipher, int key) throws IOException, InvalidKeyException {
+        if (outputPath == null) {
+            throw new IllegalArgumentException("--out directory is required when --in is a directory");
+        }
+        BatchProcessor batch = new BatchProcessor(cipher, key, encrypt, includes, excludes, jobs, binary,
+                incremental);
+        BatchProcessor.Summary summary = batch.run(Paths.get(inputPath), Paths.get(outputPath));
+        Logger.log(cipher.getName() + (encrypt ? " encrypted " : " decrypted ") + summary.getFiles()
+                + " files to " + outputPath);
+        System.err.println(summary);
+        for (String failure : summary.getFailures()) {
+            System.err.println("Failed: " + failure);
+        }
+        return summary.getFailures().isEmpty() ? EXIT_OK : EXIT_FAILURE;
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException(option + " needs a value");
+        }
+        return args[index];
+    }
+
+    private static long parseLong(String text, String option) {
+        try {
+            return Long.parseLong(text.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(option + " must be an integer");
+        }
+    }
+
+    private static int parseInt(String text, String option) {
+        try {
+            return Integer.parseInt(text.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(option + " must be an integer");
+        }
+    }
+}
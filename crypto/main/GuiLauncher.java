@@ -0,0 +1,32 @@
+package main;
+
+import javax.swing.JOptionPane;
+
+/**
+ * Swing dialog asking which version of the application to start. Kept apart
+ * from {@link Main} so the command line paths never load AWT or Swing classes.
+ */
+public class GuiLauncher {
+    public static void main(String[] args) {
+        // Ask user which version to use
+        String[] options = {"GUI Version", "CLI Version"};
+        int choice = JOptionPane.showOptionDialog(
+            null,
+            "Choose application mode:",
+            "Encryption Tool Launcher",
+            JOptionPane.DEFAULT_OPTION,
+            JOptionPane.QUESTION_MESSAGE,
+            null,
+            options,
+            options[0]
+        );
+
+        if (choice == 0) {
+            // GUI Version
+            MainAppUI.main(args);
+        } else if (choice == 1) {
+            // CLI Version
+            MainApp.main(args);
+        }
+    }
+}
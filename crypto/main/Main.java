@@ -1,12 +1,19 @@
 package main;
 
-import javax.swing.JOptionPane;
-
+/**
+ * Entry point. Only the "gui" command and the launcher dialog load AWT/Swing;
+ * every other path starts headless.
+ */
 public class Main {
     public static void main(String[] args) {
         // If command line arguments provided, use CLI
         if (args.length > 0) {
-            if (args[0].toLowerCase().equals("cli")) {
+            if (CommandLine.handles(args[0])) {
+                // Scriptable, prompt-free mode (stdin/stdout when no files are given)
+                CommandLine.main(args);
+                return;
+            }
+            else if (args[0].toLowerCase().equals("cli")) {
                 MainApp.main(args);
                 return;
             }
@@ -16,25 +23,25 @@ public class Main {
             }
         }
 
+        if (isHeadless()) {
+            // No display to show the launcher dialog on
+            MainApp.main(args);
+            return;
+        }
+
         // Otherwise, ask user which version to use
-        String[] options = {"GUI Version", "CLI Version"};
-        int choice = JOptionPane.showOptionDialog(
-            null,
-            "Choose application mode:",
-            "Encryption Tool Launcher",
-            JOptionPane.DEFAULT_OPTION,
-            JOptionPane.QUESTION_MESSAGE,
-            null,
-            options,
-            options[0]
-        );
+        GuiLauncher.main(args);
+    }
 
-        if (choice == 0) {
-            // GUI Version
-            MainAppUI.main(args);
-        } else if (choice == 1) {
-            // CLI Version
-            MainApp.main(args);
+    // Decided from properties and the environment, without initialising AWT
+    private static boolean isHeadless() {
+        if (Boolean.getBoolean("java.awt.headless")) {
+            return true;
+        }
+        String os = System.getProperty("os.name", "").toLowerCase();
+        if (os.startsWith("windows") || os.startsWith("mac")) {
+            return false;
         }
+        return System.getenv("DISPLAY") == null && System.getenv("WAYLAND_DISPLAY") == null;
     }
-}
\ No newline at end of file
+}
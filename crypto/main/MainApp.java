@@ -1,13 +1,20 @@
 package main;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
 import java.util.InputMismatchException;
 
 import algorithms.*;
 import exceptions.InvalidKeyException;
+import io.BatchProcessor;
+import io.CipherContainer;
+import io.Compression;
 import io.FileHandler;
 import util.Logger;
 
@@ -18,76 +25,100 @@ public class MainApp {
         Cipher cipher = null;
         boolean running = true;
 
+        List<CipherProvider> providers = CipherRegistry.providers();
+
         while (running) {
             System.out.println("\n=== Encryption Tool ===");
-            System.out.println("1. Caesar Cipher");
-            System.out.println("2. XOR Cipher");
-            System.out.println("3. Substitution Cipher");
-            System.out.println("4. Exit");
+            for (int i = 0; i < providers.size(); i++) {
+                System.out.println((i + 1) + ". " + providers.get(i).getName());
+            }
+            System.out.println((providers.size() + 1) + ". Exit");
             System.out.print("Select a cipher: ");
             int choice = sc.nextInt();
             sc.nextLine(); // consume newline
 
             // Choose cipher
-            switch (choice) {
-                case 1:
-                    cipher = new CaesarCipher();
-                    break;
-                case 2:
-                    cipher = new XORCipher();
-                    break;
-                case 3:
-                    System.out.println("Enter 26-letter mapping (A-Z) in order:");
-                    String mappingStr = sc.nextLine().toUpperCase();
-                    cipher = new SubstitutionCipher(mappingStr);
-                    break;
-                case 4:
-                    running = false;
-                    continue;
-                default:
-                    System.out.println("Invalid choice. Try again.");
-                    continue;
+            if (choice == providers.size() + 1) {
+                running = false;
+                continue;
+            }
+            if (choice < 1 || choice > providers.size()) {
+                System.out.println("Invalid choice. Try again.");
+                continue;
+            }
+            CipherProvider provider = providers.get(choice - 1);
+            String keyText = null;
+            if (provider.usesKeyText()) {
+                System.out.println("Enter " + provider.getKeyTextLabel() + ":");
+                keyText = sc.nextLine();
+            }
+            try {
+                cipher = CipherRegistry.get(provider.getId(), keyText);
+            } catch (InvalidKeyException e) {
+                System.out.println("Error: " + e.getMessage());
+                continue;
             }
 
             // Input type
             System.out.println("\nInput source:");
             System.out.println("1. File");
             System.out.println("2. Text");
+            System.out.println("3. Directory (batch)");
             System.out.print("Select input type: ");
             int inputType = sc.nextInt();
             sc.nextLine(); // consume newline
 
             String input = "";
+            String inputFile = "";
             String outputFile = "";
+            List<String> includes = new ArrayList<>();
+            List<String> excludes = new ArrayList<>();
+            boolean binary = false;
+            boolean incremental = false;
             if (inputType == 1) {
                 System.out.print("Enter input file path: ");
-                String inputFile = sc.nextLine();
+                inputFile = sc.nextLine();
                 System.out.print("Enter output file path: ");
                 outputFile = sc.nextLine();
-                try {
-                    input = FileHandler.readFile(inputFile);
-                } catch (IOException e) {
-                    System.out.println("File read error: " + e.getMessage());
+                if (!Files.isReadable(Paths.get(inputFile))) {
+                    System.out.println("File read error: cannot read " + inputFile);
                     continue;
                 }
+                binary = askBinary(sc);
             } else if (inputType == 2) {
                 System.out.print("Enter text: ");
                 input = sc.nextLine();
+            } else if (inputType == 3) {
+                System.out.print("Enter source directory: ");
+                inputFile = sc.nextLine();
+                System.out.print("Enter target directory: ");
+                outputFile = sc.nextLine();
+                System.out.print("Include patterns, comma separated (blank for all files): ");
+                includes = splitPatterns(sc.nextLine());
+                System.out.print("Exclude patterns, comma separated (blank for none): ");
+                excludes = splitPatterns(sc.nextLine());
+                System.out.print("Skip files unchanged since the last run into this target? (y/n): ");
+                incremental = sc.nextLine().trim().equalsIgnoreCase("y");
+                if (!Files.isDirectory(Paths.get(inputFile))) {
+                    System.out.println("Not a directory: " + inputFile);
+                    continue;
+                }
+                binary = askBinary(sc);
             } else {
                 System.out.println("Invalid input type.");
                 continue;
             }
 
-            // Key input (only for Caesar and XOR)
+            // Key input (only for ciphers taking a numeric key)
             int key = 0;
-            if (!(cipher instanceof SubstitutionCipher)) {
+            if (!provider.usesKeyText()) {
                 
                 int k = 0;
                 do{
                     try{
                         System.out.print("Enter key (integer): ");
                         key = sc.nextInt();
-                        if (key<0) throw new InvalidKeyException ("Key must be positive for Caesar Cipher");
+                        if (key<0) throw new InvalidKeyException ("Key must be positive for " + cipher.getName());
                         k=1;
                     }
                     catch(InputMismatchException e){
@@ -109,30 +140,52 @@ public class MainApp {
             int action = sc.nextInt();
             sc.nextLine(); // consume newline
 
-            try {
-                String result = "";
-                if (action == 1) {
-                    result = cipher.encrypt(input, key);
-                } else if (action == 2) {
-                    result = cipher.decrypt(input, key);
-                } else {
-                    System.out.println("Invalid action.");
-                    continue;
-                }
-
-                // Show result
-                System.out.println("\n=== Result ===\n" + result);
+            if (action != 1 && action != 2) {
+                System.out.println("Invalid action.");
+                continue;
+            }
 
-                // Save to file if file input
+            try {
                 if (inputType == 1) {
+                    // Stream the file through the cipher instead of loading it into memory
                     try {
-                        FileHandler.writeFile(outputFile, result);
+                        Compression compression = action == 1 ? askCompression(sc) : Compression.NONE;
+                        if (compression != Compression.NONE) {
+                            CipherContainer.Summary summary = FileHandler.encryptToContainer(inputFile, outputFile,
+                                    new ParallelCipher(cipher), key, compression, null);
+                            System.out.println(summary);
+                        } else if (binary) {
+                            FileHandler.processBinaryFile(inputFile, outputFile, new ParallelCipher(cipher), key,
+                                    action == 1);
+                        } else {
+                            FileHandler.processFile(inputFile, outputFile, new ParallelCipher(cipher), key,
+                                    action == 1);
+                        }
                         Logger.log(cipher.getName() + " " + (action == 1 ? "encrypted" : "decrypted") + " file to "
                                 + outputFile);
                         System.out.println("File processed successfully!");
                     } catch (IOException e) {
-                        System.out.println("File write error: " + e.getMessage());
+                        System.out.println("File processing error: " + e.getMessage());
                     }
+                } else if (inputType == 3) {
+                    try {
+                        BatchProcessor batch = new BatchProcessor(cipher, key, action == 1, includes, excludes,
+                                BatchProcessor.DEFAULT_MAX_IN_FLIGHT, binary, incremental);
+                        BatchProcessor.Summary summary = batch.run(Paths.get(inputFile), Paths.get(outputFile));
+                        Logger.log(cipher.getName() + " " + (action == 1 ? "encrypted" : "decrypted") + " "
+                                + summary.getFiles() + " files to " + outputFile);
+                        System.out.println("\n=== Batch Summary ===\n" + summary);
+                        for (String failure : summary.getFailures()) {
+                            System.out.println("Failed: " + failure);
+                        }
+                    } catch (IOException e) {
+                        System.out.println("Batch error: " + e.getMessage());
+                    }
+                } else {
+                    String result = action == 1 ? cipher.encrypt(input, key) : cipher.decrypt(input, key);
+
+                    // Show result
+                    System.out.println("\n=== Result ===\n" + result);
                 }
 
             } catch (InvalidKeyException e) {
@@ -143,4 +196,37 @@ public class MainApp {
         System.out.println("Exiting program. Goodbye!");
         sc.close();
     }
+
+    // Binary mode transforms raw bytes: lossless for binaries and text in any encoding
+    private static boolean askBinary(Scanner sc) {
+        System.out.println("File content:");
+        System.out.println("1. Text");
+        System.out.println("2. Binary (raw bytes)");
+        System.out.print("Select content type: ");
+        int type = sc.nextInt();
+        sc.nextLine(); // consume newline
+        return type == 2;
+    }
+
+    // Compressed output goes into a container, which decryption recognises by itself
+    private static Compression askCompression(Scanner sc) {
+        System.out.println("Compression:");
+        System.out.println("1. None");
+        System.out.println("2. Deflate");
+        System.out.println("3. GZIP");
+        System.out.print("Select compression: ");
+        int type = sc.nextInt();
+        sc.nextLine(); // consume newline
+        return type == 2 ? Compression.DEFLATE : type == 3 ? Compression.GZIP : Compression.NONE;
+    }
+
+    private static List<String> splitPatterns(String line) {
+        List<String> patterns = new ArrayList<>();
+        for (String pattern : line.split(",")) {
+            if (!pattern.trim().isEmpty()) {
+                patterns.add(pattern.trim());
+            }
+        }
+        return patterns;
+    }
 }
@@ -8,26 +8,55 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
 import algorithms.*;
 import exceptions.InvalidKeyException;
+import io.CipherContainer;
+import io.Compression;
 import io.FileHandler;
+import io.ProgressListener;
 import util.Logger;
 
 public class MainAppUI extends JFrame {
     private JComboBox<String> cipherComboBox;
     private JTextField keyField;
     private JTextField mappingField;
+    private JLabel mappingLabel;
     private JTextArea inputTextArea;
     private JTextArea outputTextArea;
     private JTextField inputFileField;
     private JTextField outputFileField;
     private JRadioButton fileInputRadio;
     private JRadioButton textInputRadio;
+    private JCheckBox binaryCheckBox;
+    private JCheckBox containerCheckBox;
+    private JComboBox<String> compressionComboBox;
     private JButton encryptButton;
     private JButton decryptButton;
     private JButton browseInputButton;
     private JButton browseOutputButton;
+    private JButton cancelButton;
+    private JProgressBar progressBar;
+
+    // Job currently running in the background, or null
+    private CipherWorker worker;
+
+    // Output viewer: file results are read from disk one page at a time
+    private JComboBox<String> viewModeComboBox;
+    private JSpinner previewSizeSpinner;
+    private JPanel pagingPanel;
+    private JButton previousPageButton;
+    private JButton nextPageButton;
+    private JSlider pageSlider;
+    private JLabel pageLabel;
+    private String viewedFile; // output file being shown, null for text results
+    private long viewedFileSize;
+    private boolean updatingPager;
+    private PageLoader pageLoader; // latest page being read from the output file, or null
 
     private CardLayout cardLayout;
     private JPanel keyPanel;
@@ -45,6 +74,17 @@ public class MainAppUI extends JFrame {
     private final Color BUTTON_TEXT_COLOR = new Color(0, 0, 0); // Black Text for Buttons
     private final Color BORDER_COLOR = new Color(60, 60, 65); // iPhone border color
 
+    // Bytes of a file result read into the output area at a time
+    private static final int OUTPUT_PAGE_BYTES = 64 * 1024;
+
+    // Largest "First N KB" preview, so the text area never holds more than a bounded document
+    private static final int MAX_PREVIEW_BYTES = 16 * OUTPUT_PAGE_BYTES;
+
+    // How file results are shown in the output area
+    private static final String VIEW_PAGED = "Page through file";
+    private static final String VIEW_PREVIEW = "First N KB only";
+    private static final String VIEW_NONE = "Don't render file output";
+
     public MainAppUI() {
         initializeUI();
     }
@@ -157,7 +197,11 @@ public class MainAppUI extends JFrame {
         cipherLabel.setFont(new Font("SF Pro Text", Font.BOLD, 14));
         cipherLabel.setForeground(TEXT_COLOR);
 
-        String[] ciphers = { "Caesar Cipher", "XOR Cipher", "Substitution Cipher" };
+        List<CipherProvider> providers = CipherRegistry.providers();
+        String[] ciphers = new String[providers.size()];
+        for (int i = 0; i < ciphers.length; i++) {
+            ciphers[i] = providers.get(i).getName();
+        }
         cipherComboBox = new JComboBox<>(ciphers);
         styleAestheticComboBox(cipherComboBox);
         cipherComboBox.addActionListener(e -> updateKeyPanel());
@@ -186,11 +230,11 @@ public class MainAppUI extends JFrame {
         standardKeyPanel.add(keyLabel, BorderLayout.NORTH);
         standardKeyPanel.add(keyField, BorderLayout.CENTER);
 
-        // Substitution key panel
-        JPanel substitutionKeyPanel = createAestheticCardPanel("CHARACTER MAPPING");
+        // Text key panel, for the substitution mapping and other keys typed as text
+        JPanel substitutionKeyPanel = createAestheticCardPanel("TEXT KEY");
         substitutionKeyPanel.setLayout(new BorderLayout(8, 8));
 
-        JLabel mappingLabel = new JLabel("26-Letter Mapping:");
+        mappingLabel = new JLabel("26-Letter Mapping:");
         mappingLabel.setFont(new Font("SF Pro Text", Font.BOLD, 14));
         mappingLabel.setForeground(TEXT_COLOR);
 
@@ -286,9 +330,55 @@ public class MainAppUI extends JFrame {
         outputFileSection.add(outputFileLabel, BorderLayout.NORTH);
         outputFileSection.add(outputFileRow, BorderLayout.CENTER);
 
+        // Binary mode: raw bytes, no charset decode/encode
+        JPanel binarySection = new JPanel(new FlowLayout(FlowLayout.LEFT, 0, 0));
+        binarySection.setOpaque(false);
+        binarySection.setBorder(new EmptyBorder(12, 0, 0, 0));
+
+        binaryCheckBox = new JCheckBox("Binary mode (raw bytes, lossless for any file type)");
+        binaryCheckBox.setFont(new Font("SF Pro Text", Font.BOLD, 13));
+        binaryCheckBox.setForeground(TEXT_COLOR);
+        binaryCheckBox.setOpaque(false);
+        binaryCheckBox.setFocusPainted(false);
+        binarySection.add(binaryCheckBox);
+
+        // Seekable container: records the cipher, so decryption can pick it automatically
+        JPanel containerSection = new JPanel(new FlowLayout(FlowLayout.LEFT, 0, 0));
+        containerSection.setOpaque(false);
+        containerSection.setBorder(new EmptyBorder(6, 0, 0, 0));
+
+        containerCheckBox = new JCheckBox("Encrypt into a seekable container (cipher detected on decrypt)");
+        containerCheckBox.setFont(new Font("SF Pro Text", Font.BOLD, 13));
+        containerCheckBox.setForeground(TEXT_COLOR);
+        containerCheckBox.setOpaque(false);
+        containerCheckBox.setFocusPainted(false);
+        containerSection.add(containerCheckBox);
+
+        // Compression needs the container, whose chunks are compressed one by one
+        JLabel compressionLabel = new JLabel("   Compression:");
+        compressionLabel.setFont(new Font("SF Pro Text", Font.BOLD, 13));
+        compressionLabel.setForeground(TEXT_COLOR);
+        compressionComboBox = new JComboBox<>(new String[] { "None", "Deflate", "GZIP" });
+        styleAestheticComboBox(compressionComboBox);
+        compressionComboBox.setToolTipText("Compress before encrypting; the output is then always a container");
+        compressionComboBox.addActionListener(e -> {
+            if (compressionComboBox.getSelectedIndex() > 0) {
+                containerCheckBox.setSelected(true);
+            }
+        });
+        containerCheckBox.addActionListener(e -> {
+            if (!containerCheckBox.isSelected()) {
+                compressionComboBox.setSelectedIndex(0);
+            }
+        });
+        containerSection.add(compressionLabel);
+        containerSection.add(compressionComboBox);
+
         // Add sections to file panel
         filePanel.add(inputFileSection);
         filePanel.add(outputFileSection);
+        filePanel.add(binarySection);
+        filePanel.add(containerSection);
 
         // Add all panels to settings with beautiful spacing
         settingsPanel.add(cipherPanel);
@@ -325,18 +415,85 @@ public class MainAppUI extends JFrame {
         JScrollPane outputScroll = new JScrollPane(outputTextArea);
         styleAestheticScrollPane(outputScroll);
 
-        // Copy button
-        JPanel outputButtonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 0, 8));
+        // Paging controls, shown while a file result is paged through
+        pagingPanel = new JPanel(new BorderLayout(8, 0));
+        pagingPanel.setOpaque(false);
+        pagingPanel.setBorder(new EmptyBorder(8, 8, 0, 8));
+
+        previousPageButton = new JButton("< Prev");
+        styleAestheticButton(previousPageButton, new Color(100, 100, 105));
+        previousPageButton.addActionListener(e -> pageSlider.setValue(pageSlider.getValue() - 1));
+
+        nextPageButton = new JButton("Next >");
+        styleAestheticButton(nextPageButton, new Color(100, 100, 105));
+        nextPageButton.addActionListener(e -> pageSlider.setValue(pageSlider.getValue() + 1));
+
+        pageSlider = new JSlider(0, 0, 0);
+        pageSlider.setOpaque(false);
+        pageSlider.addChangeListener(e -> {
+            if (!updatingPager) {
+                showPage(pageSlider.getValue());
+            }
+        });
+
+        pageLabel = new JLabel(" ", JLabel.CENTER);
+        pageLabel.setFont(new Font("SF Pro Text", Font.PLAIN, 12));
+        pageLabel.setForeground(TEXT_COLOR);
+
+        JPanel sliderPanel = new JPanel(new BorderLayout(0, 4));
+        sliderPanel.setOpaque(false);
+        sliderPanel.add(pageSlider, BorderLayout.CENTER);
+        sliderPanel.add(pageLabel, BorderLayout.SOUTH);
+
+        pagingPanel.add(previousPageButton, BorderLayout.WEST);
+        pagingPanel.add(sliderPanel, BorderLayout.CENTER);
+        pagingPanel.add(nextPageButton, BorderLayout.EAST);
+        pagingPanel.setVisible(false);
+
+        // View mode and copy button
+        JPanel outputButtonPanel = new JPanel(new BorderLayout(8, 0));
         outputButtonPanel.setOpaque(false);
+        outputButtonPanel.setBorder(new EmptyBorder(8, 0, 8, 0));
+
+        JPanel viewModePanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 8, 0));
+        viewModePanel.setOpaque(false);
+
+        JLabel viewModeLabel = new JLabel("File output:");
+        viewModeLabel.setFont(new Font("SF Pro Text", Font.BOLD, 13));
+        viewModeLabel.setForeground(TEXT_COLOR);
+
+        viewModeComboBox = new JComboBox<>(new String[] { VIEW_PAGED, VIEW_PREVIEW, VIEW_NONE });
+        styleAestheticComboBox(viewModeComboBox);
+        viewModeComboBox.addActionListener(e -> renderOutputFile());
+
+        previewSizeSpinner = new JSpinner(new SpinnerNumberModel(64, 1, MAX_PREVIEW_BYTES / 1024, 16));
+        previewSizeSpinner.setToolTipText("Preview size in KB");
+        previewSizeSpinner.setEnabled(false);
+        previewSizeSpinner.addChangeListener(e -> renderOutputFile());
+
+        JLabel previewSizeLabel = new JLabel("KB");
+        previewSizeLabel.setFont(new Font("SF Pro Text", Font.PLAIN, 13));
+        previewSizeLabel.setForeground(TEXT_COLOR);
+
+        viewModePanel.add(viewModeLabel);
+        viewModePanel.add(viewModeComboBox);
+        viewModePanel.add(previewSizeSpinner);
+        viewModePanel.add(previewSizeLabel);
 
         JButton copyButton = new JButton("Copy to Clipboard");
         styleAestheticButton(copyButton, new Color(100, 100, 105));
         copyButton.addActionListener(e -> copyOutputToClipboard());
 
-        outputButtonPanel.add(copyButton);
+        outputButtonPanel.add(viewModePanel, BorderLayout.CENTER);
+        outputButtonPanel.add(copyButton, BorderLayout.EAST);
+
+        JPanel outputControls = new JPanel(new BorderLayout());
+        outputControls.setOpaque(false);
+        outputControls.add(pagingPanel, BorderLayout.NORTH);
+        outputControls.add(outputButtonPanel, BorderLayout.SOUTH);
 
         outputPanel.add(outputScroll, BorderLayout.CENTER);
-        outputPanel.add(outputButtonPanel, BorderLayout.SOUTH);
+        outputPanel.add(outputControls, BorderLayout.SOUTH);
 
         centerPanel.add(inputPanel);
         centerPanel.add(outputPanel);
@@ -345,9 +502,32 @@ public class MainAppUI extends JFrame {
     }
 
     private JPanel createAestheticButtonPanel() {
+        JPanel southPanel = new JPanel(new BorderLayout(0, 10));
+        southPanel.setOpaque(false);
+
+        // Progress row, active while a job runs in the background
+        JPanel progressPanel = new JPanel(new BorderLayout(10, 0));
+        progressPanel.setOpaque(false);
+        progressPanel.setBorder(new EmptyBorder(15, 0, 0, 0));
+
+        progressBar = new JProgressBar(0, 100);
+        progressBar.setStringPainted(true);
+        progressBar.setString("Idle");
+        progressBar.setFont(new Font("SF Pro Text", Font.BOLD, 12));
+        progressBar.setForeground(ACCENT_COLOR);
+        progressBar.setBackground(CARD_BG);
+        progressBar.setBorder(new LineBorder(BORDER_COLOR, 1, true));
+
+        cancelButton = new JButton("CANCEL");
+        styleAestheticButton(cancelButton, new Color(100, 100, 105));
+        cancelButton.setEnabled(false);
+        cancelButton.addActionListener(e -> cancelJob());
+
+        progressPanel.add(progressBar, BorderLayout.CENTER);
+        progressPanel.add(cancelButton, BorderLayout.EAST);
+
         JPanel buttonPanel = new JPanel(new GridLayout(2, 2, 10, 10));
         buttonPanel.setOpaque(false);
-        buttonPanel.setBorder(new EmptyBorder(15, 0, 0, 0));
 
         encryptButton = new JButton("ENCRYPT");
         styleAestheticButton(encryptButton, ACCENT_COLOR);
@@ -370,7 +550,9 @@ public class MainAppUI extends JFrame {
         buttonPanel.add(clearButton);
         buttonPanel.add(exitButton);
 
-        return buttonPanel;
+        southPanel.add(progressPanel, BorderLayout.NORTH);
+        southPanel.add(buttonPanel, BorderLayout.CENTER);
+        return southPanel;
     }
 
     // Aesthetic styling helper methods
@@ -568,8 +750,11 @@ public class MainAppUI extends JFrame {
 
     // Functional methods (same logic, aesthetic presentation)
     private void updateKeyPanel() {
-        String selectedCipher = (String) cipherComboBox.getSelectedItem();
-        if ("Substitution Cipher".equals(selectedCipher)) {
+        CipherProvider provider = selectedProvider();
+        if (provider.usesKeyText()) {
+            String label = provider.getKeyTextLabel();
+            mappingLabel.setText(Character.toUpperCase(label.charAt(0)) + label.substring(1) + ":");
+            mappingField.setToolTipText("Enter the " + label);
             cardLayout.show(keyPanel, "substitution");
         } else {
             cardLayout.show(keyPanel, "standard");
@@ -586,6 +771,9 @@ public class MainAppUI extends JFrame {
         outputFileField.setEnabled(isFileInput);
         browseInputButton.setEnabled(isFileInput);
         browseOutputButton.setEnabled(isFileInput);
+        binaryCheckBox.setEnabled(isFileInput);
+        containerCheckBox.setEnabled(isFileInput);
+        compressionComboBox.setEnabled(isFileInput);
 
         // Visual feedback
         Color bgColor = isFileInput ? new Color(240, 240, 240) : TEXT_AREA_BG;
@@ -609,6 +797,11 @@ public class MainAppUI extends JFrame {
         if (result == JFileChooser.APPROVE_OPTION) {
             String inputPath = fileChooser.getSelectedFile().getAbsolutePath();
             inputFileField.setText(inputPath);
+            try {
+                selectContainerCipher(inputPath);
+            } catch (IOException ex) {
+                showErrorMessage(ex.getMessage(), "Unreadable Container");
+            }
 
             // Always default output file to "output.txt" in the same folder
             String parentDir = new File(inputPath).getParent();
@@ -635,6 +828,17 @@ public class MainAppUI extends JFrame {
     }
 
     private void performEncryption() {
+        startJob(true);
+    }
+
+    private void performDecryption() {
+        startJob(false);
+    }
+
+    // Reads all settings on the EDT, then runs the cipher on a background thread
+    private void startJob(boolean encrypt) {
+        String action = encrypt ? "Encryption" : "Decryption";
+        CipherWorker job;
         try {
             // If file mode and no output path provided, default to output.txt
             if (fileInputRadio.isSelected()) {
@@ -645,104 +849,326 @@ public class MainAppUI extends JFrame {
                     String parentDir = new File(inputFileField.getText()).getParent();
                     outputFileField.setText(parentDir + File.separator + "output.txt");
                 }
+                if (!encrypt) {
+                    selectContainerCipher(inputFileField.getText());
+                }
+                job = new CipherWorker(createCipher(), getKey(), encrypt, inputFileField.getText(),
+                        outputFileField.getText(), binaryCheckBox.isSelected(),
+                        encrypt && containerCheckBox.isSelected() ? selectedCompression() : null, null);
+            } else {
+                job = new CipherWorker(createCipher(), getKey(), encrypt, null, null, false, null,
+                        inputTextArea.getText());
             }
+        } catch (Exception ex) {
+            showErrorMessage(action + " Error: " + ex.getMessage(), action + " Failed");
+            return;
+        }
 
-            String result = processCipher(true);
-            outputTextArea.setText(result);
+        worker = job;
+        setJobRunning(true, job.isFileJob());
+        job.execute();
+    }
 
-            if (fileInputRadio.isSelected()) {
-                showSuccessMessage("File encrypted successfully!\nSaved at: " + outputFileField.getText(),
-                        "Encryption Complete");
-            }
-        } catch (Exception ex) {
-            showErrorMessage("Encryption Error: " + ex.getMessage(), "Encryption Failed");
+    // A container names its cipher: select it so the user cannot decrypt with the wrong one
+    private void selectContainerCipher(String inputPath) throws IOException {
+        File file = new File(inputPath);
+        String stored = file.isFile() ? FileHandler.detectCipher(inputPath) : null;
+        if (stored == null) {
+            return;
+        }
+        CipherProvider provider = CipherRegistry.find(stored);
+        if (provider == null) {
+            throw new IOException("The file was encrypted with the " + stored + ", which is not installed");
         }
+        cipherComboBox.setSelectedItem(provider.getName());
     }
 
-    private void performDecryption() {
-        try {
-            // If file mode and no output path provided, default to output.txt
-            if (fileInputRadio.isSelected()) {
-                if (inputFileField.getText().trim().isEmpty()) {
-                    throw new IOException("Please choose an input file first.");
+    private void cancelJob() {
+        if (worker != null) {
+            cancelButton.setEnabled(false);
+            progressBar.setString("Cancelling...");
+            worker.cancel(true);
+        }
+    }
+
+    private void setJobRunning(boolean running, boolean fileJob) {
+        encryptButton.setEnabled(!running);
+        decryptButton.setEnabled(!running);
+        cancelButton.setEnabled(running && fileJob);
+        progressBar.setIndeterminate(running && !fileJob);
+        progressBar.setValue(0);
+        progressBar.setString(running ? "Working..." : "Idle");
+    }
+
+    private void showSuccessMessage(String message, String title) {
+        JOptionPane.showMessageDialog(this, message, title, JOptionPane.INFORMATION_MESSAGE);
+    }
+
+    private void showErrorMessage(String message, String title) {
+        JOptionPane.showMessageDialog(this, message, title, JOptionPane.ERROR_MESSAGE);
+    }
+
+    /**
+     * Runs one encryption or decryption off the Event Dispatch Thread, publishing
+     * the number of input bytes processed so far
+     */
+    private class CipherWorker extends SwingWorker<String, Long> {
+        private final Cipher cipher;
+        private final int key;
+        private final boolean encrypt;
+        private final String inputPath; // null for text input
+        private final String outputPath;
+        private final boolean binary;
+        private final Compression container; // null unless encrypting into a container
+        private final String inputText;
+        private volatile long totalBytes;
+        private volatile CipherContainer.Summary summary; // set by container writes
+
+        CipherWorker(Cipher cipher, int key, boolean encrypt, String inputPath, String outputPath, boolean binary,
+                Compression container, String inputText) {
+            this.cipher = cipher;
+            this.key = key;
+            this.encrypt = encrypt;
+            this.inputPath = inputPath;
+            this.outputPath = outputPath;
+            this.binary = binary;
+            this.container = container;
+            this.inputText = inputText;
+        }
+
+        boolean isFileJob() {
+            return inputPath != null;
+        }
+
+        @Override
+        protected String doInBackground() throws Exception {
+            try {
+                return processCipher();
+            } finally {
+                // done() runs as soon as a job is cancelled; the buttons wait until the work has really stopped
+                SwingUtilities.invokeLater(() -> {
+                    if (worker == this) {
+                        worker = null;
+                        setJobRunning(false, false);
+                    }
+                });
+            }
+        }
+
+        private String processCipher() throws InvalidKeyException, IOException {
+            // File input is streamed straight to the output file; only a preview is shown
+            if (isFileJob()) {
+                if (outputPath.trim().isEmpty()) {
+                    throw new IOException("Please choose an output file first.");
                 }
-                if (outputFileField.getText().trim().isEmpty()) {
-                    String parentDir = new File(inputFileField.getText()).getParent();
-                    outputFileField.setText(parentDir + File.separator + "output.txt");
+                totalBytes = new File(inputPath).length();
+                ProgressListener listener = (done, total) -> publish(done);
+                if (container != null) {
+                    summary = FileHandler.encryptToContainer(inputPath, outputPath, new ParallelCipher(cipher), key,
+                            container, listener);
+                } else if (binary) {
+                    FileHandler.processBinaryFile(inputPath, outputPath, new ParallelCipher(cipher), key, encrypt,
+                            listener);
+                } else {
+                    FileHandler.processFile(inputPath, outputPath, new ParallelCipher(cipher), key, encrypt, listener);
                 }
+                Logger.log(cipher.getName() + (encrypt ? " encrypted" : " decrypted") + " file to " + outputPath);
+                return null; // the output viewer reads the file itself, page by page
             }
 
-            String result = processCipher(false);
-            outputTextArea.setText(result);
+            if (encrypt) {
+                return cipher.encrypt(inputText, key);
+            } else {
+                return cipher.decrypt(inputText, key);
+            }
+        }
 
-            if (fileInputRadio.isSelected()) {
-                showSuccessMessage("File decrypted successfully!\nSaved at: " + outputFileField.getText(),
-                        "Decryption Complete");
+        @Override
+        protected void process(List<Long> chunks) {
+            if (isCancelled()) {
+                return;
+            }
+            long done = chunks.get(chunks.size() - 1);
+            long total = Math.max(totalBytes, 1);
+            progressBar.setValue((int) Math.min(100, done * 100 / total));
+            progressBar.setString(formatBytes(done) + " / " + formatBytes(totalBytes));
+        }
+
+        @Override
+        protected void done() {
+            String action = encrypt ? "Encryption" : "Decryption";
+            try {
+                String result = get();
+                if (isFileJob()) {
+                    showOutputFile(outputPath);
+                    showSuccessMessage("File " + (encrypt ? "encrypted" : "decrypted") + " successfully!\nSaved at: "
+                            + outputPath + describe(summary), action + " Complete");
+                } else {
+                    showOutputText(result);
+                }
+            } catch (CancellationException ex) {
+                showSuccessMessage(action + " cancelled before it completed.", action + " Cancelled");
+            } catch (ExecutionException ex) {
+                showErrorMessage(action + " Error: " + ex.getCause().getMessage(), action + " Failed");
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
             }
-        } catch (Exception ex) {
-            showErrorMessage("Decryption Error: " + ex.getMessage(), "Decryption Failed");
         }
     }
 
-    private void showSuccessMessage(String message, String title) {
-        JOptionPane.showMessageDialog(this, message, title, JOptionPane.INFORMATION_MESSAGE);
+    private void showOutputText(String text) {
+        viewedFile = null;
+        cancelPageLoad();
+        pagingPanel.setVisible(false);
+        outputTextArea.setText(text);
     }
 
-    private void showErrorMessage(String message, String title) {
-        JOptionPane.showMessageDialog(this, message, title, JOptionPane.ERROR_MESSAGE);
+    private void showOutputFile(String path) {
+        viewedFile = path;
+        viewedFileSize = new File(path).length();
+        updatingPager = true;
+        pageSlider.setValue(0);
+        updatingPager = false;
+        renderOutputFile();
     }
 
-    private String processCipher(boolean encrypt) throws InvalidKeyException, IOException {
-        Cipher cipher = createCipher();
-        String input = getInput();
-        int key = getKey();
+    // Shows the current file result according to the selected view mode
+    private void renderOutputFile() {
+        String mode = (String) viewModeComboBox.getSelectedItem();
+        previewSizeSpinner.setEnabled(VIEW_PREVIEW.equals(mode));
+        if (viewedFile == null) {
+            return;
+        }
 
-        String result;
-        if (encrypt) {
-            result = cipher.encrypt(input, key);
+        if (VIEW_NONE.equals(mode)) {
+            cancelPageLoad();
+            pagingPanel.setVisible(false);
+            outputTextArea.setText("[Output written to " + viewedFile + " (" + formatBytes(viewedFileSize)
+                    + "). Rendering is switched off.]");
+        } else if (VIEW_PREVIEW.equals(mode)) {
+            pagingPanel.setVisible(false);
+            int previewBytes = Math.min((Integer) previewSizeSpinner.getValue() * 1024, MAX_PREVIEW_BYTES);
+            String note = viewedFileSize <= previewBytes ? "" : "\n\n[Showing the first " + formatBytes(previewBytes)
+                    + " of " + formatBytes(viewedFileSize) + ". Full output saved at " + viewedFile + "]";
+            loadPage(0, previewBytes, text -> showText(text + note));
         } else {
-            result = cipher.decrypt(input, key);
+            int pages = (int) Math.max(1, (viewedFileSize + OUTPUT_PAGE_BYTES - 1) / OUTPUT_PAGE_BYTES);
+            updatingPager = true;
+            pageSlider.setMaximum(pages - 1);
+            updatingPager = false;
+            pagingPanel.setVisible(pages > 1);
+            showPage(pageSlider.getValue());
         }
+    }
 
-        // Save to file ONLY if file input mode is selected AND output path is set
-        if (fileInputRadio.isSelected() && !outputFileField.getText().trim().isEmpty()) {
-            FileHandler.writeFile(outputFileField.getText(), result);
-            Logger.log(cipher.getName() + (encrypt ? " encrypted" : " decrypted") + " file to "
-                    + outputFileField.getText());
-            showSuccessMessage((encrypt ? "File encrypted" : "File decrypted") + " successfully!",
-                    encrypt ? "Encryption Complete" : "Decryption Complete");
+    // Reads only the requested page of the output file into the text area
+    private void showPage(int page) {
+        if (viewedFile == null) {
+            return;
         }
+        long offset = (long) page * OUTPUT_PAGE_BYTES;
+        loadPage(offset, OUTPUT_PAGE_BYTES, this::showText);
+
+        long end = Math.min(offset + OUTPUT_PAGE_BYTES, viewedFileSize);
+        pageLabel.setText(String.format("Page %,d of %,d  (bytes %,d-%,d of %,d)", page + 1,
+                pageSlider.getMaximum() + 1, offset, Math.max(offset, end - 1), viewedFileSize));
+        previousPageButton.setEnabled(page > 0);
+        nextPageButton.setEnabled(page < pageSlider.getMaximum());
+    }
 
-        return result;
+    private void showText(String text) {
+        outputTextArea.setText(text);
+        outputTextArea.setCaretPosition(0);
     }
 
-    private Cipher createCipher() throws InvalidKeyException {
-        String selectedCipher = (String) cipherComboBox.getSelectedItem();
-        switch (selectedCipher) {
-            case "Caesar Cipher":
-                return new CaesarCipher();
-            case "XOR Cipher":
-                return new XORCipher();
-            case "Substitution Cipher":
-                String mappingStr = mappingField.getText().toUpperCase().trim();
-                return new SubstitutionCipher(mappingStr);
-            default:
-                throw new InvalidKeyException("Unknown cipher selected");
-        }
-    }
-
-    private String getInput() throws IOException {
-        if (fileInputRadio.isSelected()) {
-            return FileHandler.readFile(inputFileField.getText());
-        } else {
-            return inputTextArea.getText();
+    // Reads a page of the output file in the background; only the latest request reaches the text area
+    private void loadPage(long offset, int bytes, Consumer<String> show) {
+        cancelPageLoad();
+        pageLoader = new PageLoader(viewedFile, offset, bytes, show);
+        pageLoader.execute();
+    }
+
+    private void cancelPageLoad() {
+        if (pageLoader != null) {
+            pageLoader.cancel(false);
+            pageLoader = null;
+        }
+    }
+
+    /**
+     * Reads one bounded page with {@link FileHandler#readPage} off the Event
+     * Dispatch Thread. A result that was superseded while it was being read is
+     * dropped, so quick slider or spinner moves only render the last page.
+     */
+    private class PageLoader extends SwingWorker<String, Void> {
+        private final String file;
+        private final long offset;
+        private final int bytes;
+        private final Consumer<String> show;
+
+        PageLoader(String file, long offset, int bytes, Consumer<String> show) {
+            this.file = file;
+            this.offset = offset;
+            this.bytes = bytes;
+            this.show = show;
+        }
+
+        @Override
+        protected String doInBackground() throws IOException {
+            return FileHandler.readPage(file, offset, bytes);
+        }
+
+        @Override
+        protected void done() {
+            if (pageLoader != this || isCancelled()) {
+                return; // a newer page was requested meanwhile
+            }
+            pageLoader = null;
+            try {
+                show.accept(get());
+            } catch (ExecutionException ex) {
+                show.accept("[Could not read " + file + ": " + ex.getCause().getMessage() + "]");
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes >= 1024 * 1024) {
+            return String.format("%.1f MB", bytes / (1024.0 * 1024));
+        } else if (bytes >= 1024) {
+            return String.format("%.1f KB", bytes / 1024.0);
         }
+        return bytes + " B";
+    }
+
+    private Compression selectedCompression() {
+        return Compression.values()[compressionComboBox.getSelectedIndex()];
+    }
+
+    // Compression result for the success message, e.g. "100.0 MB written as 12.3 MB (8.1x)"
+    private static String describe(CipherContainer.Summary summary) {
+        if (summary == null) {
+            return "";
+        }
+        return String.format("%n%s written as %s (%.1fx), about %d ms of I/O saved",
+                formatBytes(summary.getPlainBytes()), formatBytes(summary.getStoredBytes()), summary.getRatio(),
+                Math.max(0, summary.getSavedIoMillis()));
+    }
+
+    private CipherProvider selectedProvider() {
+        return CipherRegistry.find((String) cipherComboBox.getSelectedItem());
+    }
+
+    // Prepared ciphers are cached, so repeated clicks with the same mapping reuse its tables
+    private Cipher createCipher() throws InvalidKeyException {
+        return CipherRegistry.get(selectedProvider().getId(), mappingField.getText());
     }
 
     private int getKey() throws InvalidKeyException {
-        String selectedCipher = (String) cipherComboBox.getSelectedItem();
-        if ("Substitution Cipher".equals(selectedCipher)) {
-            return 0; // Not used for substitution cipher
+        if (selectedProvider().usesKeyText()) {
+            return 0; // Not used for ciphers keyed by text
         }
         String txt = keyField.getText().trim();
         if (txt.isEmpty()) {
@@ -767,11 +1193,14 @@ public class MainAppUI extends JFrame {
 
     private void clearAll() {
         inputTextArea.setText("");
-        outputTextArea.setText("");
+        showOutputText("");
         keyField.setText("");
         mappingField.setText("");
         inputFileField.setText("");
         outputFileField.setText("");
+        binaryCheckBox.setSelected(false);
+        containerCheckBox.setSelected(false);
+        compressionComboBox.setSelectedIndex(0);
         textInputRadio.setSelected(true);
         updateInputPanel();
     }
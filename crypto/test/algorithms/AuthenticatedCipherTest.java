@@ -0,0 +1,147 @@
+package algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import exceptions.InvalidKeyException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class AuthenticatedCipherTest {
+
+    private static final int SEGMENT = AuthenticatedCipher.SEGMENT_SIZE;
+
+    static Stream<AuthenticatedCipher> ciphers() throws InvalidKeyException {
+        // A low iteration count keeps the tests fast; it is stored in the header
+        return Stream.of(new AesGcmCipher("secret", 1000), new ChaCha20Poly1305Cipher("secret", 1000));
+    }
+
+    private static byte[] random(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static byte[] encrypt(Cipher cipher, byte[] plain) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        cipher.encrypt(Channels.newChannel(new ByteArrayInputStream(plain)), Channels.newChannel(out), 0);
+        return out.toByteArray();
+    }
+
+    private static byte[] decrypt(Cipher cipher, byte[] sealed) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        cipher.decrypt(Channels.newChannel(new ByteArrayInputStream(sealed)), Channels.newChannel(out), 0);
+        return out.toByteArray();
+    }
+
+    @ParameterizedTest
+    @MethodSource("ciphers")
+    void roundTripsAcrossSegmentBoundaries(AuthenticatedCipher cipher) throws Exception {
+        for (int size : new int[] { 0, 1, SEGMENT - 1, SEGMENT, SEGMENT + 1, 3 * SEGMENT, 9 * SEGMENT + 17 }) {
+            byte[] plain = random(size);
+            byte[] sealed = encrypt(cipher, plain);
+            int segments = Math.max(1, (size + SEGMENT - 1) / SEGMENT);
+            assertEquals(AuthenticatedCipher.HEADER_SIZE + size + segments * AuthenticatedCipher.TAG_SIZE,
+                    sealed.length, "size " + size);
+            assertArrayEquals(plain, decrypt(cipher, sealed), "size " + size);
+            // Decrypting the same data again must not trip the provider's key and nonce reuse check
+            assertArrayEquals(plain, decrypt(cipher, sealed), "size " + size);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("ciphers")
+    void wrongPasswordIsRejected(AuthenticatedCipher cipher) throws Exception {
+        byte[] sealed = encrypt(cipher, random(1000));
+        Cipher other = cipher instanceof AesGcmCipher ? new AesGcmCipher("Secret", 1000)
+                : new ChaCha20Poly1305Cipher("Secret", 1000);
+        assertThrows(InvalidKeyException.class, () -> decrypt(other, sealed));
+    }
+
+    @ParameterizedTest
+    @MethodSource("ciphers")
+    void tamperingIsDetected(AuthenticatedCipher cipher) throws Exception {
+        byte[] sealed = encrypt(cipher, random(2 * SEGMENT + 5));
+        for (int at : new int[] { 20, AuthenticatedCipher.HEADER_SIZE, sealed.length / 2, sealed.length - 1 }) {
+            byte[] changed = sealed.clone();
+            changed[at] ^= 1;
+            assertThrows(InvalidKeyException.class, () -> decrypt(cipher, changed), "byte " + at);
+        }
+        // Dropping the last segment leaves a stream whose final segment is not marked as last
+        byte[] cut = Arrays.copyOf(sealed, AuthenticatedCipher.HEADER_SIZE + 2 * (SEGMENT
+                + AuthenticatedCipher.TAG_SIZE));
+        assertThrows(InvalidKeyException.class, () -> decrypt(cipher, cut));
+        assertThrows(IOException.class,
+                () -> decrypt(cipher, Arrays.copyOf(sealed, AuthenticatedCipher.HEADER_SIZE)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("ciphers")
+    void otherSegmentSizesInTheHeaderAreRejected(AuthenticatedCipher cipher) throws Exception {
+        byte[] sealed = encrypt(cipher, random(100));
+        for (int shift : new int[] { 10, 15, 17, 24, 30 }) {
+            byte[] changed = sealed.clone();
+            changed[6] = (byte) shift;
+            assertThrows(IOException.class, () -> decrypt(cipher, changed), "shift " + shift);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("ciphers")
+    void stringsAndReadersRoundTripText(AuthenticatedCipher cipher) throws Exception {
+        StringBuilder text = new StringBuilder();
+        while (text.length() < 3 * SEGMENT) {
+            text.append("Grüße, 東京 🔒 plain ASCII text. "); // includes a surrogate pair
+        }
+        String plain = text.toString();
+        assertEquals(plain, cipher.decrypt(cipher.encrypt(plain, 0), 0));
+        assertEquals("", cipher.decrypt(cipher.encrypt("", 0), 0));
+
+        StringWriter sealed = new StringWriter();
+        cipher.encrypt(new StringReader(plain), sealed, 0);
+        assertEquals(plain, cipher.decrypt(sealed.toString(), 0));
+        StringWriter opened = new StringWriter();
+        cipher.decrypt(new StringReader(sealed.toString()), opened, 0);
+        assertEquals(plain, opened.toString());
+    }
+
+    @ParameterizedTest
+    @MethodSource("ciphers")
+    void arraysAndBuffersTakeTheLongerOutput(AuthenticatedCipher cipher) throws Exception {
+        char[] text = "attack at dawn".toCharArray();
+        char[] sealed = new char[200];
+        int n = cipher.encryptInto(text, 0, text.length, sealed, 0, 0);
+        char[] opened = new char[text.length];
+        assertEquals(text.length, cipher.decryptInto(sealed, 0, n, opened, 0, 0));
+        assertArrayEquals(text, opened);
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> cipher.encryptInto(text, 0, text.length, new char[text.length], 0, 0));
+
+        CharBuffer src = CharBuffer.wrap(text);
+        CharBuffer small = CharBuffer.allocate(10);
+        assertThrows(BufferOverflowException.class, () -> cipher.encryptInto(src, small, 0));
+        assertEquals(0, src.position());
+
+        byte[] plain = random(SEGMENT + 1);
+        byte[] out = new byte[plain.length + 100];
+        int m = new ParallelCipher(cipher).encryptInto(plain, 0, plain.length, out, 0, 0);
+        ByteBuffer back = ByteBuffer.allocate(plain.length);
+        cipher.decryptInto(ByteBuffer.wrap(out, 0, m), back, 0);
+        assertArrayEquals(plain, back.array());
+        assertThrows(IllegalArgumentException.class,
+                () -> cipher.encryptInto(ByteBuffer.wrap(plain), ByteBuffer.allocate(out.length), 0, 5));
+    }
+}
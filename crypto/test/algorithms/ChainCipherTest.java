@@ -0,0 +1,99 @@
+package algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import exceptions.InvalidKeyException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ChainCipherTest {
+
+    private static final String MAPPING = "QWERTYUIOPASDFGHJKLZXCVBNM";
+
+    @ParameterizedTest
+    @ValueSource(strings = { "caesar:3", "caesar:3,substitution:" + MAPPING + ",xor:7",
+            "xor:9,repeating-xor:hex:0a1b2c3d4e,caesar:25", "repeating-xor:pad,repeating-xor:longer pad" })
+    void matchesTheStagesAppliedOneByOne(String key) throws Exception {
+        ChainCipher chain = (ChainCipher) CipherRegistry.get("chain", key);
+        String text = text(3 * Cipher.STREAM_CHUNK_SIZE + 11);
+        String expected = text;
+        for (ChainCipher.Stage stage : chain.getStages()) {
+            expected = stage.getCipher().encrypt(expected, stage.getKey());
+        }
+        assertEquals(expected, chain.encrypt(text, 0), key);
+        assertEquals(text, chain.decrypt(expected, 0), key);
+        assertEquals("", chain.encrypt("", 0));
+
+        byte[] bytes = new byte[10_000];
+        new Random(2).nextBytes(bytes);
+        byte[] expectedBytes = bytes.clone();
+        for (ChainCipher.Stage stage : chain.getStages()) {
+            stage.getCipher().encryptInto(expectedBytes, 0, expectedBytes.length, expectedBytes, 0, stage.getKey());
+        }
+        byte[] actual = new byte[bytes.length];
+        chain.encryptInto(bytes, 0, bytes.length, actual, 0, 0);
+        assertArrayEquals(expectedBytes, actual, key);
+
+        // A direct buffer at a position other than 0 takes the ByteBuffer path
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        chain.encryptInto(ByteBuffer.wrap(bytes, 0, 4000), direct, 0);
+        chain.encryptInto(ByteBuffer.wrap(bytes, 4000, bytes.length - 4000), direct, 0, 4000);
+        direct.flip();
+        byte[] buffered = new byte[bytes.length];
+        direct.get(buffered);
+        assertArrayEquals(expectedBytes, buffered, key);
+    }
+
+    @Test
+    void fusesAdjacentCharacterMapsIntoOnePass() throws Exception {
+        ChainCipher maps = (ChainCipher) CipherRegistry.get("chain", "caesar:3,substitution:" + MAPPING + ",xor:7");
+        assertEquals(3, maps.getStages().size());
+        assertEquals(1, maps.getPassCount());
+        assertTrue(maps.isCharacterMap());
+
+        ChainCipher mixed = (ChainCipher) CipherRegistry.get("chain", "caesar:3,xor:7,repeating-xor:pad,caesar:1");
+        assertEquals(3, mixed.getPassCount());
+        assertFalse(mixed.isCharacterMap());
+        assertTrue(mixed.isLengthPreserving());
+    }
+
+    @Test
+    void streamsRoundTripAcrossChunkBoundaries() throws Exception {
+        Cipher chain = CipherRegistry.get("chain", "repeating-xor:a seven,caesar:4");
+        String text = text(2 * Cipher.STREAM_CHUNK_SIZE + 5);
+        StringWriter encrypted = new StringWriter();
+        chain.encrypt(new StringReader(text), encrypted, 0);
+        assertEquals(chain.encrypt(text, 0), encrypted.toString());
+        StringWriter decrypted = new StringWriter();
+        chain.decrypt(new StringReader(encrypted.toString()), decrypted, 0);
+        assertEquals(text, decrypted.toString());
+    }
+
+    @Test
+    void rejectsMalformedStages() {
+        for (String key : new String[] { "", " ", "caesar", "caesar:x", "caesar:-1", "rot13:3", "chain:caesar:1",
+                "aes-gcm:password", "caesar:3,,xor:1" }) {
+            assertThrows(InvalidKeyException.class, () -> ChainCipher.parseStages(key), key);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new ChainCipher(Collections.emptyList()));
+    }
+
+    private static String text(int length) {
+        StringBuilder text = new StringBuilder(length);
+        Random random = new Random(length);
+        while (text.length() < length) {
+            text.append(random.nextInt(10) == 0 ? '\n' : (char) (' ' + random.nextInt(95)));
+        }
+        return text.append("ünïcödé €").toString();
+    }
+}
@@ -0,0 +1,59 @@
+package algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import exceptions.InvalidKeyException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CipherRegistryTest {
+
+    private static final String MAPPING = "QWERTYUIOPASDFGHJKLZXCVBNM";
+
+    @Test
+    void newBuiltInsComeAfterTheOriginalThree() {
+        List<String> ids = new ArrayList<>();
+        for (CipherProvider provider : CipherRegistry.providers()) {
+            ids.add(provider.getId());
+        }
+        assertEquals(Arrays.asList("caesar", "xor", "substitution", "repeating-xor", "aes-gcm",
+                "chacha20-poly1305", "chain"), ids);
+    }
+
+    @Test
+    void findsByIdOrNameIgnoringCase() {
+        assertEquals("substitution", CipherRegistry.find("Substitution Cipher").getId());
+        assertEquals("caesar", CipherRegistry.find("CAESAR").getId());
+        assertNull(CipherRegistry.find("rot13"));
+        assertThrows(IllegalArgumentException.class, () -> CipherRegistry.get("rot13", null));
+    }
+
+    @Test
+    void reusesPreparedCiphersForTheSameKey() throws Exception {
+        assertSame(CipherRegistry.get("substitution", MAPPING), CipherRegistry.get("Substitution Cipher", MAPPING));
+        assertNotSame(CipherRegistry.get("substitution", MAPPING),
+                CipherRegistry.get("substitution", "MNBVCXZLKJHGFDSAPOIUYTREWQ"));
+        assertSame(CipherRegistry.get("caesar", null), CipherRegistry.get("caesar", "ignored"));
+    }
+
+    @Test
+    void neverCachesPasswordKeyedCiphers() throws Exception {
+        assertNotSame(CipherRegistry.get("aes-gcm", "password"), CipherRegistry.get("aes-gcm", "password"));
+        assertNotSame(CipherRegistry.get("chacha20-poly1305", "password"),
+                CipherRegistry.get("chacha20-poly1305", "password"));
+    }
+
+    @Test
+    void rejectsInvalidTextKeys() {
+        assertThrows(InvalidKeyException.class, () -> CipherRegistry.get("substitution", "ABC"));
+        assertThrows(InvalidKeyException.class, () -> CipherRegistry.get("repeating-xor", ""));
+        assertThrows(InvalidKeyException.class, () -> CipherRegistry.get("aes-gcm", ""));
+        assertThrows(InvalidKeyException.class, () -> CipherRegistry.get("chain", "caesar:x"));
+    }
+}
@@ -0,0 +1,48 @@
+package algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class FingerprintTest {
+
+    private static final byte[] SALT = "0123456789abcdef".getBytes();
+
+    @Test
+    void textModeTellsXorKeysApartThatAgreeOnTheLowByte() throws Exception {
+        XORCipher xor = new XORCipher();
+        assertFalse(Arrays.equals(xor.fingerprint(SALT, 7, false), xor.fingerprint(SALT, 263, false)));
+        // Bytes are XORed with the low byte only, so the two keys really are the same there
+        assertArrayEquals(xor.fingerprint(SALT, 7, true), xor.fingerprint(SALT, 263, true));
+    }
+
+    @Test
+    void repeatingXorKeysDifferingPastFourKilobytes() throws Exception {
+        byte[] key = new byte[5000];
+        Arrays.fill(key, (byte) 'k');
+        byte[] other = key.clone();
+        other[4999] = 'x';
+        for (boolean binary : new boolean[] { false, true }) {
+            assertFalse(Arrays.equals(new RepeatingKeyXorCipher(key).fingerprint(SALT, 0, binary),
+                    new RepeatingKeyXorCipher(other).fingerprint(SALT, 0, binary)));
+        }
+    }
+
+    @Test
+    void chainCoversItsPositionalStages() throws Exception {
+        ChainCipher one = new ChainCipher(ChainCipher.parseStages("caesar:3,repeating-xor:secret"));
+        ChainCipher two = new ChainCipher(ChainCipher.parseStages("caesar:3,repeating-xor:secreT"));
+        assertFalse(Arrays.equals(one.fingerprint(SALT, 0, false), two.fingerprint(SALT, 0, false)));
+    }
+
+    @Test
+    void dependsOnSaltAndCipherButNotOnParallelWrapper() throws Exception {
+        CaesarCipher caesar = new CaesarCipher();
+        assertFalse(Arrays.equals(caesar.fingerprint(SALT, 3, false), caesar.fingerprint(new byte[16], 3, false)));
+        assertFalse(Arrays.equals(caesar.fingerprint(SALT, 3, false), caesar.fingerprint(SALT, 4, false)));
+        assertArrayEquals(caesar.fingerprint(SALT, 3, false),
+                new ParallelCipher(caesar).fingerprint(SALT, 3, false));
+    }
+}
@@ -0,0 +1,141 @@
+package algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import exceptions.InvalidKeyException;
+import java.lang.management.ManagementFactory;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class IntoBuffersTest {
+
+    static Stream<Cipher> ciphers() throws InvalidKeyException {
+        return Stream.of(new CaesarCipher(), new XORCipher(), new SubstitutionCipher("QWERTYUIOPASDFGHJKLZXCVBNM"),
+                new RepeatingKeyXorCipher("five!".getBytes()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("ciphers")
+    void arraysWriteOnlyTheGivenRange(Cipher cipher) throws Exception {
+        String text = text(1000);
+        char[] src = text.toCharArray();
+        char[] dst = new char[1200];
+        Arrays.fill(dst, '#');
+        assertEquals(500, cipher.encryptInto(src, 100, 500, dst, 50, 9));
+        assertEquals(cipher.encrypt(text.substring(100, 600), 9), new String(dst, 50, 500));
+        assertEquals('#', dst[49]);
+        assertEquals('#', dst[550]);
+
+        // In place
+        cipher.decryptInto(dst, 50, 500, dst, 50, 9);
+        assertEquals(text.substring(100, 600), new String(dst, 50, 500));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> cipher.encryptInto(src, -1, 10, dst, 0, 9));
+        assertThrows(IndexOutOfBoundsException.class, () -> cipher.encryptInto(src, 995, 10, dst, 0, 9));
+        assertThrows(IndexOutOfBoundsException.class, () -> cipher.encryptInto(src, 0, 10, dst, 1195, 9));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> cipher.encryptInto(new byte[10], 0, 11, new byte[20], 0, 9));
+    }
+
+    @ParameterizedTest
+    @MethodSource("ciphers")
+    void charBuffersWithoutArraysMatchTheArrayPath(Cipher cipher) throws Exception {
+        // Longer than the per-thread scratch array, so the copy loop runs several times
+        String text = text(10_000);
+        CharBuffer direct = ByteBuffer.allocateDirect(2 * 10_010).asCharBuffer();
+        direct.position(10);
+        CharBuffer source = CharBuffer.wrap(text); // read-only, not array-backed
+        assertEquals(10_000, cipher.encryptInto(source, direct, 4));
+        assertEquals(10_000, source.position());
+        assertEquals(10_010, direct.position());
+        direct.flip().position(10);
+        assertEquals(cipher.encrypt(text, 4), direct.toString());
+
+        CharBuffer heap = CharBuffer.allocate(10_000);
+        cipher.decryptInto(direct, heap, 4);
+        assertEquals(text, heap.flip().toString());
+    }
+
+    @ParameterizedTest
+    @MethodSource("ciphers")
+    void byteBuffersAtAPositionMatchOnePiece(Cipher cipher) throws Exception {
+        byte[] plain = new byte[5000];
+        new Random(4).nextBytes(plain);
+        byte[] whole = new byte[plain.length];
+        cipher.encryptInto(plain, 0, plain.length, whole, 0, 6);
+
+        ByteBuffer pieces = ByteBuffer.allocateDirect(plain.length);
+        cipher.encryptInto(ByteBuffer.wrap(plain, 0, 1234), pieces, 6, 0);
+        cipher.encryptInto(ByteBuffer.wrap(plain, 1234, plain.length - 1234), pieces, 6, 1234);
+        byte[] result = new byte[plain.length];
+        pieces.flip();
+        pieces.get(result);
+        assertArrayEquals(whole, result);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> cipher.encryptInto(ByteBuffer.wrap(plain), ByteBuffer.allocate(5000), 6, -1));
+    }
+
+    @ParameterizedTest
+    @MethodSource("ciphers")
+    void tooLittleRoomChangesNothing(Cipher cipher) {
+        CharBuffer src = CharBuffer.wrap("some text");
+        CharBuffer dst = CharBuffer.allocate(8);
+        assertThrows(BufferOverflowException.class, () -> cipher.encryptInto(src, dst, 1));
+        assertEquals(0, src.position());
+        assertEquals(0, dst.position());
+        ByteBuffer bytes = ByteBuffer.wrap(new byte[9]);
+        assertThrows(BufferOverflowException.class, () -> cipher.decryptInto(bytes, ByteBuffer.allocate(8), 1));
+        assertEquals(0, bytes.position());
+    }
+
+    @Test
+    void arrayCallsDoNotAllocate() throws Exception {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "needs per-thread allocation counters");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        char[] chars = text(4096).toCharArray();
+        byte[] bytes = new byte[4096];
+        Cipher[] ciphers = ciphers().toArray(Cipher[]::new);
+        long thread = Thread.currentThread().getId();
+        long least = Long.MAX_VALUE;
+        // Rounds before the JIT settles may allocate (boxed vectors while a kernel recompiles), so
+        // take the best of a few; one allocation per call would be hundreds of kilobytes every round
+        for (int round = 0; round < 10 && least >= 64 * 1024; round++) {
+            long before = threads.getThreadAllocatedBytes(thread);
+            for (int i = 0; i < 2000; i++) {
+                for (Cipher cipher : ciphers) {
+                    cipher.encryptInto(chars, 0, chars.length, chars, 0, 3);
+                    cipher.decryptInto(bytes, 0, bytes.length, bytes, 0, 3);
+                }
+            }
+            long allocated = threads.getThreadAllocatedBytes(thread) - before;
+            if (round > 0) {
+                least = Math.min(least, allocated);
+            }
+        }
+        assertTrue(least < 64 * 1024, "allocated " + least + " bytes");
+    }
+
+    private static String text(int length) {
+        Random random = new Random(length);
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append((char) (' ' + random.nextInt(95)));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,106 @@
+package algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import exceptions.InvalidKeyException;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+class LookupTableTest {
+
+    private static final String MAPPING = "QWERTYUIOPASDFGHJKLZXCVBNM";
+
+    @Test
+    void caesarMatchesTheLetterRuleForEveryCharacterAndKey() throws Exception {
+        Cipher cipher = new CaesarCipher();
+        char[] all = allChars();
+        for (int key : new int[] { 0, 1, 13, 25, 26, 27, 1_000_003 }) {
+            char[] encrypted = new char[all.length];
+            cipher.encryptInto(all, 0, all.length, encrypted, 0, key);
+            for (int c = 0; c < all.length; c++) {
+                assertEquals(shift((char) c, key % 26), encrypted[c], "char " + c + " key " + key);
+            }
+            char[] decrypted = new char[all.length];
+            cipher.decryptInto(encrypted, 0, encrypted.length, decrypted, 0, key);
+            assertArrayEquals(all, decrypted);
+        }
+        assertThrows(InvalidKeyException.class, () -> cipher.encrypt("abc", -1));
+    }
+
+    @Test
+    void substitutionKeepsCaseAndLeavesOtherCharactersAlone() throws Exception {
+        SubstitutionCipher cipher = new SubstitutionCipher(MAPPING.toLowerCase());
+        assertTrue(cipher.isValid());
+        assertEquals("Ztlz, 1 2 3 - üdsqxz €", cipher.encrypt("Test, 1 2 3 - ümlaut €", 0));
+        assertEquals("Hello, World", cipher.decrypt(cipher.encrypt("Hello, World", 0), 0));
+        char[] all = allChars();
+        char[] encrypted = new char[all.length];
+        cipher.encryptInto(all, 0, all.length, encrypted, 0, 0);
+        for (int c = 0; c < all.length; c++) {
+            char expected = c >= 'A' && c <= 'Z' ? MAPPING.charAt(c - 'A')
+                    : c >= 'a' && c <= 'z' ? Character.toLowerCase(MAPPING.charAt(c - 'a')) : (char) c;
+            assertEquals(expected, encrypted[c], "char " + c);
+        }
+    }
+
+    @Test
+    void invalidMappingsFailWhenUsed() {
+        String[] mappings = { null, "ABC", "QWERTYUIOPASDFGHJKLZXCVBNQ", "QWERTYUIOPASDFGHJKLZXCVB1M" };
+        for (String mapping : mappings) {
+            SubstitutionCipher cipher = new SubstitutionCipher(mapping);
+            assertFalse(cipher.isValid(), String.valueOf(mapping));
+            assertFalse(cipher.getErrorMessage().isEmpty());
+            assertThrows(InvalidKeyException.class, () -> cipher.encrypt("abc", 0));
+            assertThrows(InvalidKeyException.class, () -> cipher.decryptInto(new byte[1], 0, 1, new byte[1], 0, 0));
+        }
+    }
+
+    @Test
+    void bytesFollowTheAsciiTableAndPassTheRestThrough() {
+        LookupTable table = LookupTable.forLetters(MAPPING);
+        byte[] all = new byte[256];
+        for (int b = 0; b < 256; b++) {
+            all[b] = (byte) b;
+        }
+        byte[] mapped = new byte[256];
+        table.apply(all, 0, mapped, 0, 256);
+        char[] chars = new char[128];
+        for (int c = 0; c < 128; c++) {
+            chars[c] = (char) c;
+        }
+        table.apply(chars, 0, chars, 0, 128);
+        for (int b = 0; b < 256; b++) {
+            assertEquals(b < 128 ? (byte) chars[b] : (byte) b, mapped[b], "byte " + b);
+        }
+
+        // Direct buffers take the per-byte path, and the inverse undoes the table
+        ByteBuffer direct = ByteBuffer.allocateDirect(256);
+        table.apply(ByteBuffer.wrap(all), direct);
+        direct.flip();
+        ByteBuffer restored = ByteBuffer.allocate(256);
+        table.inverse().apply(direct, restored);
+        assertArrayEquals(all, restored.array());
+    }
+
+    private static char shift(char c, int shift) {
+        if (c >= 'A' && c <= 'Z') {
+            return (char) ('A' + (c - 'A' + shift) % 26);
+        }
+        if (c >= 'a' && c <= 'z') {
+            return (char) ('a' + (c - 'a' + shift) % 26);
+        }
+        return c;
+    }
+
+    private static char[] allChars() {
+        char[] chars = new char[Character.MAX_VALUE + 1];
+        for (int c = 0; c < chars.length; c++) {
+            chars[c] = (char) c;
+        }
+        return chars;
+    }
+}
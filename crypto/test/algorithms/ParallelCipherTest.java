@@ -0,0 +1,82 @@
+package algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import exceptions.InvalidKeyException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class ParallelCipherTest {
+
+    private static final int SIZE = 5 * ParallelCipher.MIN_CHUNK_SIZE + 123;
+
+    private static Cipher[] ciphers() throws InvalidKeyException {
+        return new Cipher[] { new CaesarCipher(), new XORCipher(),
+                new SubstitutionCipher("QWERTYUIOPASDFGHJKLZXCVBNM"),
+                new RepeatingKeyXorCipher("a key of 23 bytes......".getBytes()) };
+    }
+
+    @Test
+    void matchesTheWrappedCipherOnCharsAndBytes() throws Exception {
+        char[] text = new char[SIZE];
+        byte[] bytes = new byte[SIZE];
+        Random random = new Random(1);
+        for (int i = 0; i < SIZE; i++) {
+            text[i] = (char) (' ' + random.nextInt(95));
+            bytes[i] = (byte) random.nextInt();
+        }
+        for (Cipher cipher : ciphers()) {
+            try (ParallelCipher parallel = new ParallelCipher(cipher, 4)) {
+                char[] expected = new char[SIZE];
+                char[] actual = new char[SIZE];
+                cipher.encryptInto(text, 0, SIZE, expected, 0, 7);
+                parallel.encryptInto(text, 0, SIZE, actual, 0, 7);
+                assertArrayEquals(expected, actual, cipher.getName());
+                parallel.decryptInto(actual, 0, SIZE, actual, 0, 7);
+                assertArrayEquals(text, actual, cipher.getName());
+
+                ByteBuffer want = ByteBuffer.allocate(SIZE);
+                ByteBuffer got = ByteBuffer.allocateDirect(SIZE);
+                // A position part way into a longer input, as mapFile passes for later windows
+                cipher.encryptInto(ByteBuffer.wrap(bytes), want, 7, 1001);
+                parallel.encryptInto(ByteBuffer.wrap(bytes), got, 7, 1001);
+                want.flip();
+                got.flip();
+                assertEquals(want, got, cipher.getName());
+            }
+        }
+    }
+
+    @Test
+    void emptyInputAndBadKeys() throws Exception {
+        ParallelCipher parallel = new ParallelCipher(new CaesarCipher());
+        assertEquals(0, parallel.encryptInto(new char[0], 0, 0, new char[0], 0, 3));
+        assertEquals("", parallel.encrypt("", 3));
+        assertThrows(InvalidKeyException.class, () -> parallel.encrypt("abc", -1));
+    }
+
+    @Test
+    void closeShutsDownOnlyAnOwnedPool() throws Exception {
+        ParallelCipher owned = new ParallelCipher(new XORCipher(), 2);
+        owned.encrypt("warm up", 7);
+        owned.close();
+        assertThrows(RuntimeException.class, () -> owned.encryptInto(new byte[SIZE], 0, SIZE, new byte[SIZE], 0, 7));
+
+        ForkJoinPool shared = new ForkJoinPool(2);
+        try {
+            new ParallelCipher(new XORCipher(), shared).close();
+            assertFalse(shared.isShutdown());
+            new ParallelCipher(new XORCipher()).close();
+            assertFalse(ForkJoinPool.commonPool().isShutdown());
+        } finally {
+            shared.shutdown();
+        }
+        assertTrue(shared.isShutdown());
+    }
+}
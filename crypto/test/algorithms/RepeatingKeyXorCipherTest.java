@@ -0,0 +1,128 @@
+package algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import exceptions.InvalidKeyException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class RepeatingKeyXorCipherTest {
+
+    // Longer than the 16 K pad stride, so the hot loop wraps the pad several times
+    private static final int SIZE = 50_000;
+
+    // Key byte i mod n, straight from the definition
+    private static byte[] reference(byte[] input, byte[] key, long position) {
+        byte[] out = new byte[input.length];
+        for (int i = 0; i < input.length; i++) {
+            out[i] = (byte) (input[i] ^ key[(int) ((position + i) % key.length)]);
+        }
+        return out;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 3, 16, 17, 4099, 16 * 1024 + 1 })
+    void matchesTheDefinitionAtAnyPosition(int keyLength) throws Exception {
+        byte[] key = random(keyLength, 1);
+        byte[] input = random(SIZE, 2);
+        RepeatingKeyXorCipher cipher = new RepeatingKeyXorCipher(key);
+        assertEquals(keyLength, cipher.getKeyLength());
+
+        for (long position : new long[] { 0, 1, keyLength, 12_345_678_901L }) {
+            byte[] expected = reference(input, key, position);
+
+            byte[] array = new byte[SIZE];
+            cipher.encryptBytes(input, 0, array, 0, SIZE, 0, position);
+            assertArrayEquals(expected, array, "array, position " + position);
+
+            ByteBuffer direct = ByteBuffer.allocateDirect(SIZE);
+            cipher.encryptInto(ByteBuffer.wrap(input), direct, 0, position);
+            direct.flip();
+            assertEquals(ByteBuffer.wrap(expected), direct, "buffer, position " + position);
+
+            char[] chars = new char[SIZE];
+            char[] text = new char[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                text[i] = (char) (input[i] & 0xFF);
+            }
+            cipher.encryptChars(text, 0, chars, 0, SIZE, 0, position);
+            for (int i = 0; i < SIZE; i++) {
+                assertEquals(expected[i] & 0xFF, chars[i], "chars, position " + position);
+            }
+        }
+    }
+
+    @Test
+    void chunksEncryptedSeparatelyJoinUp() throws Exception {
+        RepeatingKeyXorCipher cipher = new RepeatingKeyXorCipher("seven b".getBytes(StandardCharsets.US_ASCII));
+        byte[] input = random(SIZE, 3);
+        byte[] whole = new byte[SIZE];
+        cipher.encryptInto(input, 0, SIZE, whole, 0, 0);
+        for (int split : new int[] { 1, 6, 7, 8, 16 * 1024, 16 * 1024 + 3, SIZE - 1 }) {
+            byte[] parts = new byte[SIZE];
+            cipher.encryptBytes(input, 0, parts, 0, split, 0, 0);
+            cipher.encryptBytes(input, split, parts, split, SIZE - split, 0, split);
+            assertArrayEquals(whole, parts, "split at " + split);
+        }
+        cipher.decryptInto(whole, 0, SIZE, whole, 0, 0);
+        assertArrayEquals(input, whole);
+    }
+
+    @Test
+    void textAndBytesAgreeOnAsciiAndHighCharactersRoundTrip() throws Exception {
+        RepeatingKeyXorCipher cipher = new RepeatingKeyXorCipher("k\u00e9y".getBytes(StandardCharsets.UTF_8));
+        String ascii = "Attack at dawn";
+        byte[] bytes = new byte[ascii.length()];
+        cipher.encryptInto(ascii.getBytes(StandardCharsets.US_ASCII), 0, bytes.length, bytes, 0, 0);
+        String encrypted = cipher.encrypt(ascii, 0);
+        for (int i = 0; i < bytes.length; i++) {
+            assertEquals(bytes[i] & 0xFF, encrypted.charAt(i));
+        }
+
+        String wide = "\u20ac \u4e2d\u6587 \ud83d\ude00";
+        assertEquals(wide, cipher.decrypt(cipher.encrypt(wide, 0), 0));
+        assertEquals("", cipher.encrypt("", 0));
+    }
+
+    @Test
+    void keyIsCopied() throws Exception {
+        byte[] key = { 1, 2, 3 };
+        RepeatingKeyXorCipher cipher = new RepeatingKeyXorCipher(key);
+        key[0] = 9;
+        assertEquals(new String(new char[] { 'a' ^ 1, 'b' ^ 2, 'c' ^ 3, 'd' ^ 1 }), cipher.encrypt("abcd", 0));
+    }
+
+    @Test
+    void parsesTextAndHexKeys() throws Exception {
+        assertArrayEquals("secret".getBytes(StandardCharsets.UTF_8), RepeatingKeyXorCipher.parseKey("secret"));
+        String accented = "\u00e9t\u00e9";
+        assertArrayEquals(accented.getBytes(StandardCharsets.UTF_8), RepeatingKeyXorCipher.parseKey(accented));
+        assertArrayEquals(new byte[] { 0x0a, 0x1b, (byte) 0xff }, RepeatingKeyXorCipher.parseKey("hex:0A1bfF"));
+        assertArrayEquals(new byte[] { 0x00 }, RepeatingKeyXorCipher.parseKey("HEX: 00 "));
+
+        for (String bad : new String[] { null, "", "hex:abc", "hex:zz", "hex:0g" }) {
+            assertThrows(InvalidKeyException.class, () -> RepeatingKeyXorCipher.parseKey(bad), bad);
+        }
+        assertThrows(InvalidKeyException.class,
+                () -> new RepeatingKeyXorCipher(RepeatingKeyXorCipher.parseKey("hex:")));
+        assertThrows(InvalidKeyException.class, () -> new RepeatingKeyXorCipher(null));
+    }
+
+    @Test
+    void registryBuildsItFromTheKeyText() throws Exception {
+        Cipher cipher = CipherRegistry.get("repeating-xor", "hex:010203");
+        assertEquals(new String(new char[] { 'a' ^ 1, 'b' ^ 2, 'c' ^ 3 }), cipher.encrypt("abc", 0));
+    }
+
+    private static byte[] random(int size, long seed) {
+        byte[] bytes = new byte[size];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,101 @@
+package algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import exceptions.InvalidKeyException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class StreamingTest {
+
+    private static final int CHUNK = Cipher.STREAM_CHUNK_SIZE;
+
+    static Stream<Arguments> cases() throws InvalidKeyException {
+        Cipher[] ciphers = { new CaesarCipher(), new XORCipher(), new SubstitutionCipher("QWERTYUIOPASDFGHJKLZXCVBNM"),
+                new RepeatingKeyXorCipher("odd length key".getBytes()) };
+        int[] sizes = { 0, 1, CHUNK - 1, CHUNK, CHUNK + 1, 3 * CHUNK + 7 };
+        Stream.Builder<Arguments> cases = Stream.builder();
+        for (Cipher cipher : ciphers) {
+            for (int size : sizes) {
+                cases.add(Arguments.of(cipher, size));
+            }
+        }
+        return cases.build();
+    }
+
+    @ParameterizedTest
+    @MethodSource("cases")
+    void readerStreamMatchesWholeStringAtEverySize(Cipher cipher, int size) throws Exception {
+        String text = text(size);
+        String expected = cipher.encrypt(text, 13);
+
+        StringWriter encrypted = new StringWriter();
+        cipher.encrypt(new TrickleReader(text), encrypted, 13);
+        assertEquals(expected, encrypted.toString());
+
+        StringWriter decrypted = new StringWriter();
+        cipher.decrypt(new StringReader(expected), decrypted, 13);
+        assertEquals(text, decrypted.toString());
+    }
+
+    @ParameterizedTest
+    @MethodSource("cases")
+    void channelStreamMatchesWholeArrayAtEverySize(Cipher cipher, int size) throws Exception {
+        byte[] plain = new byte[size];
+        new Random(size).nextBytes(plain);
+        byte[] expected = new byte[size];
+        cipher.encryptInto(plain, 0, size, expected, 0, 13);
+
+        ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+        cipher.encrypt(Channels.newChannel(new ByteArrayInputStream(plain)), Channels.newChannel(encrypted), 13);
+        assertArrayEquals(expected, encrypted.toByteArray());
+
+        ByteArrayOutputStream decrypted = new ByteArrayOutputStream();
+        cipher.decrypt(Channels.newChannel(new ByteArrayInputStream(expected)), Channels.newChannel(decrypted), 13);
+        assertArrayEquals(plain, decrypted.toByteArray());
+    }
+
+    private static String text(int size) {
+        Random random = new Random(size);
+        StringBuilder text = new StringBuilder(size);
+        for (int i = 0; i < size; i++) {
+            text.append(random.nextInt(20) == 0 ? '\n' : (char) (' ' + random.nextInt(95)));
+        }
+        return text.toString();
+    }
+
+    /** Returns fewer characters than asked for, like a slow pipe */
+    private static class TrickleReader extends Reader {
+        private final String text;
+        private int position;
+
+        TrickleReader(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public int read(char[] buffer, int off, int len) {
+            if (position == text.length()) {
+                return -1;
+            }
+            int n = Math.min(Math.min(len, 1000), text.length() - position);
+            text.getChars(position, position + n, buffer, off);
+            position += n;
+            return n;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
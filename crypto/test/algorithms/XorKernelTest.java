@@ -0,0 +1,128 @@
+package algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class XorKernelTest {
+
+    private static final int MAX_LENGTH = 150; // covers several vector widths and every tail length
+    private static final int MAX_OFFSET = 9;
+
+    static Stream<Arguments> kernels() {
+        // The kernel picked for this JVM, which is the vector one under the simd profile, and the scalar loops
+        XorKernel scalar = new XorKernel() {
+            @Override
+            public String getName() {
+                return "scalar";
+            }
+        };
+        return Stream.of(XorKernel.get(), scalar).map(kernel -> Arguments.of(Named.of(kernel.getName(), kernel)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("kernels")
+    void singleKeyMatchesAPlainLoopAtEveryLengthAndOffset(XorKernel kernel) {
+        Random random = new Random(1);
+        char charKey = (char) 0xBEEF;
+        byte byteKey = (byte) 0xA5;
+        for (int len = 0; len <= MAX_LENGTH; len++) {
+            for (int off = 0; off <= MAX_OFFSET; off += 3) {
+                char[] chars = randomChars(random, len + MAX_OFFSET);
+                char[] charsOut = new char[len + MAX_OFFSET];
+                kernel.xor(chars, off, charsOut, MAX_OFFSET - off, len, charKey);
+                for (int i = 0; i < len; i++) {
+                    assertEquals((char) (chars[off + i] ^ charKey), charsOut[MAX_OFFSET - off + i], kernel.getName());
+                }
+
+                byte[] bytes = randomBytes(random, len + MAX_OFFSET);
+                byte[] expected = bytes.clone();
+                for (int i = 0; i < len; i++) {
+                    expected[off + i] ^= byteKey;
+                }
+                kernel.xor(bytes, off, bytes, off, len, byteKey); // in place
+                assertArrayEquals(expected, bytes, kernel.getName() + " " + len + "@" + off);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("kernels")
+    void padMatchesAPlainLoopAtEveryLengthAndOffset(XorKernel kernel) {
+        Random random = new Random(2);
+        for (int len = 0; len <= MAX_LENGTH; len++) {
+            for (int off = 0; off <= MAX_OFFSET; off += 2) {
+                int padOff = (off * 5) % 7;
+                char[] chars = randomChars(random, len + off);
+                char[] charPad = randomChars(random, len + padOff);
+                char[] charsOut = new char[len];
+                kernel.xor(chars, off, charsOut, 0, len, charPad, padOff);
+                for (int i = 0; i < len; i++) {
+                    assertEquals((char) (chars[off + i] ^ charPad[padOff + i]), charsOut[i], kernel.getName());
+                }
+
+                byte[] bytes = randomBytes(random, len + off);
+                byte[] bytePad = randomBytes(random, len + padOff);
+                byte[] expected = new byte[len];
+                for (int i = 0; i < len; i++) {
+                    expected[i] = (byte) (bytes[off + i] ^ bytePad[padOff + i]);
+                }
+                byte[] bytesOut = new byte[len];
+                kernel.xor(bytes, off, bytesOut, 0, len, bytePad, padOff);
+                assertArrayEquals(expected, bytesOut, kernel.getName() + " " + len + "@" + off);
+
+                // Direct buffers take the word-at-a-time path
+                ByteBuffer source = ByteBuffer.allocateDirect(len + off);
+                source.put(bytes).position(off);
+                ByteBuffer target = ByteBuffer.allocateDirect(len + 3);
+                target.position(3);
+                kernel.xor(source, target, bytePad, padOff);
+                assertEquals(len + off, source.position());
+                assertEquals(len + 3, target.position());
+                byte[] fromBuffer = new byte[len];
+                target.position(3);
+                target.get(fromBuffer);
+                assertArrayEquals(expected, fromBuffer, kernel.getName() + " direct " + len + "@" + off);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("kernels")
+    void buffersWithASingleKeyAndTooLittleRoom(XorKernel kernel) {
+        byte[] bytes = randomBytes(new Random(3), 100);
+        ByteBuffer direct = ByteBuffer.allocateDirect(100);
+        kernel.xor(ByteBuffer.wrap(bytes).asReadOnlyBuffer(), direct, (byte) 0x3C);
+        direct.flip();
+        for (byte b : bytes) {
+            assertEquals((byte) (b ^ 0x3C), direct.get());
+        }
+        assertThrows(BufferOverflowException.class,
+                () -> kernel.xor(ByteBuffer.wrap(bytes), ByteBuffer.allocate(99), (byte) 1));
+        assertThrows(BufferOverflowException.class,
+                () -> kernel.xor(ByteBuffer.wrap(bytes), ByteBuffer.allocateDirect(99), new byte[100], 0));
+    }
+
+    private static char[] randomChars(Random random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) random.nextInt(Character.MAX_VALUE + 1);
+        }
+        return chars;
+    }
+
+    private static byte[] randomBytes(Random random, int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
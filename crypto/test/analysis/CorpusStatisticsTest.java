@@ -0,0 +1,96 @@
+package analysis;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CorpusStatisticsTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void countsSymbolsLettersAndBigrams() throws Exception {
+        CorpusStatistics stats = CorpusStatistics.scan(new StringReader("Abba, ab!"));
+        assertFalse(stats.isBinary());
+        assertEquals(9, stats.getTotal());
+        assertEquals(3, stats.getLetterCount(0));
+        assertEquals(3, stats.getLetterCount(1));
+        assertEquals(6, stats.getLetterTotal());
+        // Only directly adjacent letters pair up: AB BB BA, then AB
+        assertEquals(2, stats.getBigramCount(0, 1));
+        assertEquals(0, stats.getBigramCount(0, 0));
+        assertEquals(4, stats.getBigramTotal());
+        assertEquals(12.0 / 30, stats.getIndexOfCoincidence(), 1e-12);
+        assertEquals(1.0, stats.getLetterEntropy(), 1e-12);
+        assertArrayEquals(new int[] { 1 }, stats.topBigrams(1));
+    }
+
+    @Test
+    void emptyInputGivesZeroes() throws Exception {
+        Path empty = Files.createFile(dir.resolve("empty"));
+        for (CorpusStatistics stats : new CorpusStatistics[] { CorpusStatistics.scan(empty, StandardCharsets.UTF_8),
+                CorpusStatistics.scanBytes(empty), CorpusStatistics.scan(new StringReader("")) }) {
+            assertEquals(0, stats.getTotal());
+            assertEquals(0, stats.getDistinct());
+            assertEquals(0, stats.getIndexOfCoincidence(), 0);
+            assertEquals(0, stats.getEntropy(), 0);
+            assertEquals(0, stats.topSymbols(5).length);
+        }
+    }
+
+    @Test
+    void parallelFileScanMatchesSequentialScan() throws Exception {
+        // Larger than two ranges, with multi-byte characters that can land on a range boundary
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < 40; i++) {
+            line.append("naïve café – ").append(i).append(" déjà vu € ");
+        }
+        line.append('\n');
+        StringBuilder text = new StringBuilder();
+        while (text.length() < 9 * 1024 * 1024) {
+            text.append(line);
+        }
+        Path file = dir.resolve("text");
+        Files.write(file, text.toString().getBytes(StandardCharsets.UTF_8));
+
+        assertSame(CorpusStatistics.scan(new StringReader(text.toString())),
+                CorpusStatistics.scan(file, StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(file)) {
+            CorpusStatistics bytes = CorpusStatistics.scanBytes(file);
+            assertTrue(bytes.isBinary());
+            assertSame(CorpusStatistics.scanBytes(channel), bytes);
+        }
+    }
+
+    @Test
+    void englishTextIsNearTheEnglishIndexOfCoincidence() throws Exception {
+        String text = "When the storm finally passed, the village woke to a strange quiet. The river had risen "
+                + "over its banks during the night, and the low fields near the mill were covered with brown "
+                + "water that shone in the early light. Children ran down to the bridge to see how high it had "
+                + "come, while their parents walked more slowly behind them, counting the fences that were gone.";
+        double index = CorpusStatistics.scan(new StringReader(text)).getIndexOfCoincidence();
+        assertEquals(CorpusStatistics.ENGLISH_INDEX_OF_COINCIDENCE, index, 0.01);
+    }
+
+    private static void assertSame(CorpusStatistics expected, CorpusStatistics actual) {
+        assertEquals(expected.getTotal(), actual.getTotal());
+        assertEquals(expected.getDistinct(), actual.getDistinct());
+        assertArrayEquals(expected.topSymbols(Integer.MAX_VALUE), actual.topSymbols(Integer.MAX_VALUE));
+        for (int symbol : expected.topSymbols(Integer.MAX_VALUE)) {
+            assertEquals(expected.getCount(symbol), actual.getCount(symbol));
+        }
+        assertEquals(expected.getBigramTotal(), actual.getBigramTotal());
+        assertArrayEquals(expected.topBigrams(26 * 26), actual.topBigrams(26 * 26));
+        assertEquals(expected.getEntropy(), actual.getEntropy(), 1e-9);
+    }
+}
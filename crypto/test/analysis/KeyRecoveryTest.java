@@ -0,0 +1,89 @@
+package analysis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import algorithms.CaesarCipher;
+import algorithms.Cipher;
+import algorithms.ParallelCipher;
+import algorithms.SubstitutionCipher;
+import algorithms.XORCipher;
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class KeyRecoveryTest {
+
+    private static final String PLAIN;
+
+    static {
+        StringBuilder text = new StringBuilder();
+        while (text.length() < 20_000) {
+            text.append("In the afternoon the sun came out and the men began to clear the roads. ")
+                    .append("Some of them carried tools from the farm, others brought horses to drag ")
+                    .append("the heavy branches away. Nobody asked for payment.\n");
+        }
+        PLAIN = text.toString();
+    }
+
+    @Test
+    void recoversCaesarShift() throws Exception {
+        Cipher cipher = new CaesarCipher();
+        KeyRecovery.Result result = new KeyRecovery(cipher).recover(cipher.encrypt(PLAIN, 11), 3);
+        assertEquals(11, result.getBest().getKey());
+        assertEquals(3, result.getCandidates().size());
+        assertTrue(result.isDecisive());
+        assertTrue(result.getBest().getPreview().startsWith("In the afternoon"));
+    }
+
+    @Test
+    void recoversXorCharKeyAndStopsEarly() throws Exception {
+        Cipher cipher = new XORCipher();
+        KeyRecovery.Result result;
+        try (ParallelCipher parallel = new ParallelCipher(cipher, 2)) {
+            result = new KeyRecovery(parallel).recover(cipher.encrypt(PLAIN, 0x4e21), 1);
+        }
+        assertEquals(0x4e21, result.getBest().getKey());
+        assertTrue(result.isDecisive());
+        assertTrue(result.getSampled() < PLAIN.length(), "a decisive lead ends sampling");
+    }
+
+    @Test
+    void recoversXorByteKeyInBinaryMode() throws Exception {
+        Cipher cipher = new XORCipher();
+        byte[] plain = PLAIN.getBytes(StandardCharsets.US_ASCII);
+        byte[] encrypted = new byte[plain.length];
+        cipher.encryptInto(plain, 0, plain.length, encrypted, 0, 0x1a7);
+        KeyRecovery.Result result = new KeyRecovery(cipher)
+                .recover(Channels.newChannel(new ByteArrayInputStream(encrypted)), 2);
+        assertEquals(0xa7, result.getBest().getKey(), "only the low eight bits act on bytes");
+        assertTrue(result.getBest().getPreview().startsWith("In the afternoon"));
+    }
+
+    @Test
+    void honoursTheSampleLimit() throws Exception {
+        Cipher cipher = new CaesarCipher();
+        KeyRecovery.Result result = new KeyRecovery(cipher, 1500).recover(cipher.encrypt(PLAIN, 5), 1);
+        assertTrue(result.getSampled() <= 1500);
+        assertEquals(5, result.getBest().getKey());
+    }
+
+    @Test
+    void emptyInputIsNeverDecisive() {
+        KeyRecovery.Result result = new KeyRecovery(new CaesarCipher()).recover("", 2);
+        assertEquals(0, result.getSampled());
+        assertFalse(result.isDecisive());
+        assertEquals(2, result.getCandidates().size());
+    }
+
+    @Test
+    void rejectsBadArguments() throws Exception {
+        assertThrows(IllegalArgumentException.class,
+                () -> new KeyRecovery(new SubstitutionCipher("QWERTYUIOPASDFGHJKLZXCVBNM")));
+        assertThrows(IllegalArgumentException.class, () -> new KeyRecovery(new CaesarCipher(), 0));
+        assertThrows(IllegalArgumentException.class, () -> new KeyRecovery(new CaesarCipher()).recover(PLAIN, 0));
+    }
+}
@@ -0,0 +1,70 @@
+package analysis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import algorithms.SubstitutionCipher;
+import java.io.StringReader;
+import org.junit.jupiter.api.Test;
+
+class SubstitutionSolverTest {
+
+    // Ordinary narrative prose, not taken from the text the built-in table was counted from
+    private static final String PLAIN = "When the storm finally passed, the village woke to a strange quiet. "
+            + "The river had risen over its banks during the night, and the low fields near the mill were "
+            + "covered with brown water that shone in the early light. Children ran down to the bridge to see "
+            + "how high it had come, while their parents walked more slowly behind them, counting the fences "
+            + "that were gone and the trees that had fallen across the road. Margaret had lived in the house "
+            + "by the church for almost forty years, and she could not remember a flood like this one.";
+
+    private static final String KEY = "QWERTYUIOPASDFGHJKLZXCVBNM";
+
+    @Test
+    void recoversTheKeyOfOrdinaryEnglish() throws Exception {
+        String cipherText = new SubstitutionCipher(KEY).encrypt(PLAIN, 0);
+        SubstitutionSolver solver = new SubstitutionSolver(QuadgramModel.english(), 8, 16 * 1024, 42);
+        SubstitutionSolver.Result result = solver.solve(cipherText, 3);
+        String decrypted = new SubstitutionCipher(result.getBest().getMapping()).decrypt(cipherText, 0);
+        assertEquals(PLAIN, decrypted);
+        assertTrue(result.getCandidates().size() <= 3);
+    }
+
+    @Test
+    void englishModelPrefersGeneralEnglish() {
+        QuadgramModel english = QuadgramModel.english();
+        assertTrue(english.fitness(PLAIN) > english.fitness(new StringBuilder(PLAIN).reverse()));
+        // Everyday quadgrams outrank the vocabulary of technical manuals
+        assertTrue(score(english, "THER") > score(english, "FILE"));
+        assertTrue(score(english, "WITH") > score(english, "RETU"));
+        assertTrue(score(english, "HAVE") > score(english, "STRI"));
+        assertEquals(english.getFloor(), score(english, "QZQZ"), 0f);
+    }
+
+    @Test
+    void trainedModelScoresItsOwnLanguageHigher() throws Exception {
+        QuadgramModel model = QuadgramModel.train(new StringReader(PLAIN));
+        assertTrue(model.fitness("the river had risen") > model.fitness("xq zvj kwpf yy"));
+        assertEquals(model.getFloor(), model.fitness("abc"), 0.0);
+        assertThrows(IllegalArgumentException.class, () -> QuadgramModel.train(new StringReader("ab, c!")));
+    }
+
+    @Test
+    void rejectsBadArguments() {
+        SubstitutionSolver solver = new SubstitutionSolver(QuadgramModel.english(), 1, 1024, 1);
+        assertThrows(IllegalArgumentException.class, () -> solver.solve("abc", 1));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(PLAIN, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SubstitutionSolver(QuadgramModel.english(), 0, 1024, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SubstitutionSolver(QuadgramModel.english(), 1, 0, 1));
+    }
+
+    private static float score(QuadgramModel model, String quadgram) {
+        int[] l = new int[4];
+        for (int i = 0; i < 4; i++) {
+            l[i] = quadgram.charAt(i) - 'A';
+        }
+        return model.score(QuadgramModel.index(l[0], l[1], l[2], l[3]));
+    }
+}
@@ -0,0 +1,141 @@
+package io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import algorithms.Cipher;
+import algorithms.CipherRegistry;
+import algorithms.XORCipher;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BatchProcessorTest {
+
+    @TempDir
+    Path dir;
+
+    private Path source() throws IOException {
+        Path source = Files.createDirectories(dir.resolve("source"));
+        Files.write(source.resolve("a.txt"), "alpha".getBytes(StandardCharsets.UTF_8));
+        Files.createDirectories(source.resolve("sub"));
+        Files.write(source.resolve("sub/b.txt"), "beta".getBytes(StandardCharsets.UTF_8));
+        return source;
+    }
+
+    private static BatchProcessor incremental(Cipher cipher, int key) {
+        return new BatchProcessor(cipher, key, true, Collections.<String>emptyList(),
+                Collections.<String>emptyList(), 4, false, true);
+    }
+
+    @Test
+    void includesAndExcludesMatchNamesOrRelativePaths() throws Exception {
+        Path source = source();
+        Files.write(source.resolve("sub/c.log"), "gamma".getBytes(StandardCharsets.UTF_8));
+        Path target = dir.resolve("target");
+        BatchProcessor batch = new BatchProcessor(new XORCipher(), 7, true, Arrays.asList("*.txt", "sub/*.log"),
+                Arrays.asList("sub/b.*"), 2);
+        BatchProcessor.Summary summary = batch.run(source, target);
+        assertEquals(2, summary.getFiles());
+        assertEquals(1, summary.getSkipped());
+        assertTrue(Files.exists(target.resolve("a.txt")));
+        assertTrue(Files.exists(target.resolve("sub/c.log")));
+        assertTrue(Files.notExists(target.resolve("sub/b.txt")));
+    }
+
+    @Test
+    void binaryRunRoundTripsAndReportsFilesThatFail() throws Exception {
+        Path source = source();
+        byte[] binary = new byte[100_000];
+        new Random(1).nextBytes(binary);
+        Files.write(source.resolve("sub/data.bin"), binary);
+        Cipher cipher = CipherRegistry.get("aes-gcm", "batch password");
+        Path sealed = dir.resolve("sealed");
+        Path opened = dir.resolve("opened");
+
+        BatchProcessor.Summary encrypted = new BatchProcessor(cipher, 0, true, Collections.<String>emptyList(),
+                Collections.<String>emptyList(), 3, true).run(source, sealed);
+        assertEquals(3, encrypted.getFiles());
+        assertEquals(5 + 4 + binary.length, encrypted.getBytes());
+
+        // One file that was never encrypted fails on its own; the others still decrypt
+        Files.write(sealed.resolve("stray.txt"), "not sealed".getBytes(StandardCharsets.UTF_8));
+        BatchProcessor.Summary decrypted = new BatchProcessor(cipher, 0, false, Collections.<String>emptyList(),
+                Collections.<String>emptyList(), 3, true).run(sealed, opened);
+        assertEquals(3, decrypted.getFiles());
+        assertEquals(1, decrypted.getFailures().size());
+        assertTrue(decrypted.getFailures().get(0).contains("stray.txt"), decrypted.getFailures().toString());
+        assertArrayEquals(binary, Files.readAllBytes(opened.resolve("sub/data.bin")));
+        assertEquals("alpha", new String(Files.readAllBytes(opened.resolve("a.txt")), StandardCharsets.UTF_8));
+        assertTrue(Files.notExists(opened.resolve("stray.txt")));
+    }
+
+    @Test
+    void rejectsBadArguments() throws Exception {
+        Path source = source();
+        assertThrows(IllegalArgumentException.class, () -> new BatchProcessor(new XORCipher(), 7, true,
+                Collections.<String>emptyList(), Collections.<String>emptyList(), 0));
+        BatchProcessor batch = incremental(new XORCipher(), 7);
+        assertThrows(IOException.class, () -> batch.run(source.resolve("a.txt"), dir.resolve("target")));
+        assertThrows(IOException.class, () -> batch.run(source, source.resolve("sub")));
+    }
+
+    @Test
+    void secondRunSkipsUnchangedFiles() throws Exception {
+        Path source = source();
+        Path target = dir.resolve("target");
+        assertEquals(2, incremental(new XORCipher(), 7).run(source, target).getFiles());
+        Files.write(source.resolve("a.txt"), "alphabet".getBytes(StandardCharsets.UTF_8));
+
+        BatchProcessor.Summary second = incremental(new XORCipher(), 7).run(source, target);
+        assertEquals(1, second.getFiles());
+        assertEquals(1, second.getUnchanged());
+        assertEquals("alphabet", new XORCipher().decrypt(
+                new String(Files.readAllBytes(target.resolve("a.txt")), StandardCharsets.UTF_8), 7));
+    }
+
+    @Test
+    void keyChangeReprocessesEverything() throws Exception {
+        Path source = source();
+        Path target = dir.resolve("target");
+        incremental(new XORCipher(), 7).run(source, target);
+        // 263 XORs text differently although its low byte is also 7
+        BatchProcessor.Summary second = incremental(new XORCipher(), 263).run(source, target);
+        assertEquals(2, second.getFiles());
+        assertEquals(0, second.getUnchanged());
+    }
+
+    @Test
+    void inPlaceRunTransformsEveryFileOnce() throws Exception {
+        Path source = source();
+        for (int i = 0; i < 50; i++) {
+            Files.write(source.resolve("sub/f" + i + ".txt"), ("file " + i).getBytes(StandardCharsets.UTF_8));
+        }
+        BatchProcessor batch = new BatchProcessor(new XORCipher(), 7, true, Collections.<String>emptyList(),
+                Collections.<String>emptyList(), 4);
+        BatchProcessor.Summary summary = batch.run(source, source);
+        assertEquals(52, summary.getFiles());
+        assertTrue(summary.getFailures().isEmpty());
+        try (Stream<Path> files = Files.walk(source)) {
+            assertEquals(0, files.filter(file -> file.toString().endsWith(".tmp")).count());
+        }
+        assertEquals("file 7", new XORCipher().decrypt(
+                new String(Files.readAllBytes(source.resolve("sub/f7.txt")), StandardCharsets.UTF_8), 7));
+    }
+
+    @Test
+    void incrementalRunInPlaceIsRejected() throws Exception {
+        Path source = source();
+        assertThrows(IOException.class, () -> incremental(new XORCipher(), 7).run(source, source));
+        assertTrue(Files.notExists(source.resolve(BatchManifest.FILE_NAME)));
+    }
+}
@@ -0,0 +1,157 @@
+package io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import algorithms.CaesarCipher;
+import algorithms.Cipher;
+import algorithms.CipherRegistry;
+import algorithms.RepeatingKeyXorCipher;
+import algorithms.XORCipher;
+import exceptions.InvalidKeyException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class CipherContainerTest {
+
+    private static final int CHUNK = 1024;
+
+    @TempDir
+    Path dir;
+
+    static Stream<Arguments> ciphers() throws InvalidKeyException {
+        return Stream.of(Arguments.of(new CaesarCipher(), 5), Arguments.of(new XORCipher(), 0x5a),
+                Arguments.of(new RepeatingKeyXorCipher("seven b".getBytes()), 0),
+                Arguments.of(CipherRegistry.get("aes-gcm", "a container password"), 0));
+    }
+
+    @ParameterizedTest
+    @MethodSource("ciphers")
+    void roundTripsAndReadsRangesAcrossChunkBoundaries(Cipher cipher, int key) throws Exception {
+        for (int size : new int[] { 0, 1, CHUNK - 1, CHUNK, CHUNK + 1, 3 * CHUNK + 17 }) {
+            byte[] plain = random(size);
+            Path file = write(plain, cipher, key, Compression.NONE);
+            try (FileChannel channel = FileChannel.open(file)) {
+                CipherContainer container = CipherContainer.open(channel);
+                assertEquals(cipher.getName(), container.getCipherName());
+                assertEquals(size, container.getLength());
+                assertEquals((size + CHUNK - 1) / CHUNK, container.getChunkCount());
+
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                container.decrypt(channel, Channels.newChannel(out), cipher, key, null);
+                assertArrayEquals(plain, out.toByteArray(), cipher.getName() + " " + size);
+
+                for (int offset : new int[] { 0, 1, CHUNK - 3, CHUNK, 2 * CHUNK + 5, size - 1, size, size + 10 }) {
+                    if (offset < 0) {
+                        continue;
+                    }
+                    for (int length : new int[] { 0, 1, 7, CHUNK + 2, Integer.MAX_VALUE }) {
+                        int from = Math.min(offset, size);
+                        int to = (int) Math.min((long) offset + length, size);
+                        assertArrayEquals(Arrays.copyOfRange(plain, from, Math.max(from, to)),
+                                container.decryptRange(channel, offset, length, cipher, key),
+                                cipher.getName() + " " + size + " @" + offset + "+" + length);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void lengthPreservingChunksHoldThePlainEncryptedFile() throws Exception {
+        Cipher cipher = new XORCipher();
+        byte[] plain = random(2 * CHUNK + 100);
+        byte[] expected = new byte[plain.length];
+        cipher.encryptInto(plain, 0, plain.length, expected, 0, 9);
+        byte[] stored = Files.readAllBytes(write(plain, cipher, 9, Compression.NONE));
+        int header = 12 + cipher.getName().length();
+        assertArrayEquals(expected, Arrays.copyOfRange(stored, header, header + plain.length));
+    }
+
+    @Test
+    void rejectsOtherFilesWrongCiphersAndBadArguments() throws Exception {
+        Path other = Files.write(dir.resolve("other"), random(500));
+        try (FileChannel channel = FileChannel.open(other)) {
+            assertNull(CipherContainer.open(channel));
+        }
+        Path file = write(random(3000), new XORCipher(), 3, Compression.NONE);
+        try (FileChannel channel = FileChannel.open(file)) {
+            CipherContainer container = CipherContainer.open(channel);
+            assertThrows(IOException.class, () -> container.decryptRange(channel, 0, 10, new CaesarCipher(), 3));
+            assertThrows(IllegalArgumentException.class,
+                    () -> container.decryptRange(channel, -1, 10, new XORCipher(), 3));
+        }
+        assertThrows(IllegalArgumentException.class, () -> CipherContainer.write(
+                Channels.newChannel(new ByteArrayInputStream(new byte[0])),
+                Channels.newChannel(new ByteArrayOutputStream()), new XORCipher(), 3, 1023, Compression.NONE));
+    }
+
+    @Test
+    void damagedIndexIsReported() throws Exception {
+        Path file = write(random(3000), new XORCipher(), 3, Compression.NONE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            // Chunk count in the trailer, which no longer matches the plain length
+            channel.write(ByteBuffer.allocate(4).putInt(0, 7), channel.size() - 16);
+        }
+        try (FileChannel channel = FileChannel.open(file)) {
+            assertThrows(IOException.class, () -> CipherContainer.open(channel));
+        }
+    }
+
+    @Test
+    void authenticatedChunksDetectWrongKeysAndTampering() throws Exception {
+        Cipher cipher = CipherRegistry.get("aes-gcm", "a container password");
+        Cipher wrong = CipherRegistry.get("aes-gcm", "another password");
+        byte[] plain = random(3 * CHUNK);
+        Path file = write(plain, cipher, 0, Compression.NONE);
+        try (FileChannel channel = FileChannel.open(file)) {
+            CipherContainer container = CipherContainer.open(channel);
+            assertThrows(InvalidKeyException.class, () -> container.decryptRange(channel, 0, 10, wrong, 0));
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            CipherContainer container = CipherContainer.open(channel);
+            long inSecondChunk = channel.size() / 2;
+            ByteBuffer one = ByteBuffer.allocate(1);
+            channel.read(one, inSecondChunk);
+            one.put(0, (byte) (one.get(0) ^ 1));
+            one.rewind();
+            channel.write(one, inSecondChunk);
+            // The first chunk still opens; the changed one does not
+            assertArrayEquals(Arrays.copyOf(plain, 10), container.decryptRange(channel, 0, 10, cipher, 0));
+            assertThrows(InvalidKeyException.class,
+                    () -> container.decryptRange(channel, 0, plain.length, cipher, 0));
+        }
+    }
+
+    private Path write(byte[] plain, Cipher cipher, int key, Compression compression) throws Exception {
+        Path file = Files.createTempFile(dir, "container", ".cgc");
+        try (FileChannel out = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            CipherContainer.write(Channels.newChannel(new ByteArrayInputStream(plain)), out, cipher, key, CHUNK,
+                    compression);
+        }
+        return file;
+    }
+
+    private static byte[] random(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
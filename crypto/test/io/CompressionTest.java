@@ -0,0 +1,128 @@
+package io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import algorithms.Cipher;
+import algorithms.CipherRegistry;
+import algorithms.XORCipher;
+import exceptions.InvalidKeyException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class CompressionTest {
+
+    private static final int CHUNK = 4096;
+
+    @TempDir
+    Path dir;
+
+    @ParameterizedTest
+    @EnumSource(value = Compression.class, names = { "DEFLATE", "GZIP" })
+    void chunksRoundTripIncludingEmptyAndIncompressible(Compression compression) throws Exception {
+        Random random = new Random(7);
+        for (int size : new int[] { 0, 1, 1000, 70_000 }) {
+            byte[] noise = new byte[size];
+            random.nextBytes(noise);
+            for (byte[] plain : new byte[][] { text(size), noise }) {
+                byte[] packed = compression.compress(plain, 0, plain.length);
+                byte[] restored = new byte[plain.length];
+                compression.decompress(packed, packed.length, restored);
+                assertArrayEquals(plain, restored, compression + " " + size);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Compression.class, names = { "DEFLATE", "GZIP" })
+    void damagedOrShortChunksAreRejected(Compression compression) {
+        byte[] plain = text(10_000);
+        byte[] packed = compression.compress(plain, 0, plain.length);
+        byte[] changed = packed.clone();
+        changed[changed.length / 2] ^= 0x20;
+        assertThrows(InvalidKeyException.class,
+                () -> compression.decompress(changed, changed.length, new byte[10_000]));
+        assertThrows(InvalidKeyException.class,
+                () -> compression.decompress(packed, packed.length - 5, new byte[10_000]));
+        assertThrows(InvalidKeyException.class,
+                () -> compression.decompress(packed, packed.length, new byte[9_999]));
+        assertThrows(InvalidKeyException.class,
+                () -> compression.decompress(packed, packed.length, new byte[10_001]));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Compression.class, names = { "DEFLATE", "GZIP" })
+    void compressedContainerIsSmallerAndReadsRanges(Compression compression) throws Exception {
+        Cipher cipher = new XORCipher();
+        byte[] plain = text(10 * CHUNK + 123);
+        Path file = dir.resolve(compression + ".cgc");
+        CipherContainer.Summary summary;
+        try (FileChannel out = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            summary = CipherContainer.write(Channels.newChannel(new ByteArrayInputStream(plain)), out, cipher, 11,
+                    CHUNK, compression);
+        }
+        assertEquals(plain.length, summary.getPlainBytes());
+        assertTrue(summary.getStoredBytes() < plain.length / 2, "text compresses: " + summary);
+        assertTrue(Files.size(file) < plain.length / 2);
+
+        try (FileChannel channel = FileChannel.open(file)) {
+            CipherContainer container = CipherContainer.open(channel);
+            assertEquals(compression, container.getCompression());
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            container.decrypt(channel, Channels.newChannel(out), cipher, 11, null);
+            assertArrayEquals(plain, out.toByteArray());
+            for (int offset : new int[] { 0, CHUNK - 1, 5 * CHUNK + 9, plain.length - 3 }) {
+                assertArrayEquals(Arrays.copyOfRange(plain, offset, Math.min(plain.length, offset + CHUNK + 2)),
+                        container.decryptRange(channel, offset, CHUNK + 2, cipher, 11));
+            }
+            // The checksum catches a wrong key of a classical cipher
+            assertThrows(InvalidKeyException.class, () -> container.decryptRange(channel, 0, 10, cipher, 12));
+        }
+    }
+
+    @Test
+    void compressesBeforeAuthenticatedEncryption() throws Exception {
+        Cipher cipher = CipherRegistry.get("chacha20-poly1305", "compressed secrets");
+        byte[] plain = text(5 * CHUNK);
+        Path file = dir.resolve("sealed.cgc");
+        try (FileChannel out = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            CipherContainer.write(Channels.newChannel(new ByteArrayInputStream(plain)), out, cipher, 0, CHUNK,
+                    Compression.GZIP);
+        }
+        assertTrue(Files.size(file) < plain.length / 2);
+        try (FileChannel channel = FileChannel.open(file)) {
+            assertArrayEquals(Arrays.copyOfRange(plain, 2 * CHUNK - 4, 2 * CHUNK + 4),
+                    CipherContainer.open(channel).decryptRange(channel, 2 * CHUNK - 4, 8, cipher, 0));
+        }
+    }
+
+    @Test
+    void parsesNamesIgnoringCase() {
+        assertEquals(Compression.NONE, Compression.parse("none"));
+        assertEquals(Compression.DEFLATE, Compression.parse(" Deflate "));
+        assertEquals(Compression.GZIP, Compression.parse("GZIP"));
+        assertThrows(IllegalArgumentException.class, () -> Compression.parse("zstd"));
+    }
+
+    private static byte[] text(int size) {
+        StringBuilder text = new StringBuilder(size + 64);
+        for (int line = 0; text.length() < size; line++) {
+            text.append("line ").append(line).append(": the quick brown fox jumps over the lazy dog\n");
+        }
+        return Arrays.copyOf(text.toString().getBytes(StandardCharsets.US_ASCII), size);
+    }
+}
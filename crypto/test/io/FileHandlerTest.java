@@ -0,0 +1,254 @@
+package io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import algorithms.CaesarCipher;
+import algorithms.Cipher;
+import algorithms.CipherRegistry;
+import algorithms.RepeatingKeyXorCipher;
+import algorithms.SubstitutionCipher;
+import algorithms.XORCipher;
+import exceptions.InvalidKeyException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileHandlerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void processFileStreamsTextLargerThanOneChunk() throws Exception {
+        Cipher cipher = new SubstitutionCipher("QWERTYUIOPASDFGHJKLZXCVBNM");
+        String text = text(3 * Cipher.STREAM_CHUNK_SIZE + 5);
+        Path plain = Files.write(dir.resolve("plain.txt"), text.getBytes(StandardCharsets.US_ASCII));
+        Path encrypted = dir.resolve("encrypted.txt");
+        Path decrypted = dir.resolve("decrypted.txt");
+
+        FileHandler.processFile(plain.toString(), encrypted.toString(), cipher, 0, true);
+        assertEquals(cipher.encrypt(text, 0), new String(Files.readAllBytes(encrypted), StandardCharsets.US_ASCII));
+        FileHandler.processFile(encrypted.toString(), decrypted.toString(), cipher, 0, false);
+        assertArrayEquals(Files.readAllBytes(plain), Files.readAllBytes(decrypted));
+    }
+
+    @Test
+    void processFileHandlesEmptyFilesAndWorksInPlace() throws Exception {
+        Cipher cipher = new CaesarCipher();
+        Path empty = Files.createFile(dir.resolve("empty.txt"));
+        Path out = dir.resolve("empty.out");
+        FileHandler.processFile(empty.toString(), out.toString(), cipher, 4, true);
+        assertEquals(0, Files.size(out));
+
+        String text = text(100_000);
+        Path file = Files.write(dir.resolve("same.txt"), text.getBytes(StandardCharsets.US_ASCII));
+        FileHandler.processFile(file.toString(), file.toString(), cipher, 4, true);
+        assertEquals(cipher.encrypt(text, 4), new String(Files.readAllBytes(file), StandardCharsets.US_ASCII));
+        FileHandler.processFile(file.toString(), file.toString(), cipher, 4, false);
+        assertEquals(text, new String(Files.readAllBytes(file), StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void mapFileMatchesTheArrayPathAndTruncatesOldOutput() throws Exception {
+        Cipher cipher = new RepeatingKeyXorCipher("mapped key".getBytes(StandardCharsets.US_ASCII));
+        for (int size : new int[] { 0, 1, 4095, 1_000_003 }) {
+            byte[] plain = random(size);
+            byte[] expected = new byte[size];
+            cipher.encryptInto(plain, 0, size, expected, 0, 0);
+            Path in = Files.write(dir.resolve("map.in"), plain);
+            Path out = Files.write(dir.resolve("map.out"), random(size + 500)); // longer than the result
+            FileHandler.mapFile(in.toString(), out.toString(), cipher, 0, true);
+            assertArrayEquals(expected, Files.readAllBytes(out), "size " + size);
+
+            FileHandler.mapFile(out.toString(), out.toString(), cipher, 0, false);
+            assertArrayEquals(plain, Files.readAllBytes(out), "in place, size " + size);
+        }
+    }
+
+    @Test
+    void mapFileStreamsCiphersThatAreNotLengthPreserving() throws Exception {
+        Cipher cipher = CipherRegistry.get("aes-gcm", "mapped password");
+        byte[] plain = random(300_000);
+        Path in = Files.write(dir.resolve("sealed.in"), plain);
+        Path sealed = dir.resolve("sealed.out");
+        Path opened = dir.resolve("sealed.plain");
+        FileHandler.mapFile(in.toString(), sealed.toString(), cipher, 0, true);
+        FileHandler.mapFile(sealed.toString(), opened.toString(), cipher, 0, false);
+        assertArrayEquals(plain, Files.readAllBytes(opened));
+    }
+
+    @Test
+    void processBinaryFileRoundTripsBytesThatAreNotText() throws Exception {
+        Cipher[] ciphers = { new CaesarCipher(), new XORCipher(), new SubstitutionCipher("QWERTYUIOPASDFGHJKLZXCVBNM"),
+                new RepeatingKeyXorCipher("binary key".getBytes(StandardCharsets.US_ASCII)) };
+        for (Cipher cipher : ciphers) {
+            for (int size : new int[] { 0, 1, 3 * Cipher.STREAM_CHUNK_SIZE + 7 }) {
+                byte[] plain = random(size);
+                if (size > 0) {
+                    plain[0] = (byte) 0xC3; // a lead byte without its continuation, invalid in UTF-8
+                }
+                byte[] expected = new byte[size];
+                cipher.encryptInto(plain, 0, size, expected, 0, 77);
+                Path in = Files.write(dir.resolve("binary.in"), plain);
+                Path out = dir.resolve("binary.out");
+                String name = cipher.getName() + ", size " + size;
+
+                FileHandler.processBinaryFile(in.toString(), out.toString(), cipher, 77, true);
+                assertArrayEquals(expected, FileHandler.readBytes(out.toString()), name);
+                FileHandler.processBinaryFile(out.toString(), out.toString(), cipher, 77, false);
+                assertArrayEquals(plain, FileHandler.readBytes(out.toString()), "in place, " + name);
+            }
+        }
+    }
+
+    @Test
+    void processBinaryFileUnpacksContainersAndRejectsAWrongKey() throws Exception {
+        byte[] plain = random(500_000);
+        Path in = Files.write(dir.resolve("packed.in"), plain);
+        Path packed = dir.resolve("packed.cgc");
+        Path out = dir.resolve("packed.out");
+        FileHandler.encryptToContainer(in.toString(), packed.toString(), new CaesarCipher(), 5);
+        FileHandler.processBinaryFile(packed.toString(), out.toString(), new CaesarCipher(), 5, false);
+        assertArrayEquals(plain, Files.readAllBytes(out));
+
+        Files.delete(out);
+        Path sealed = dir.resolve("sealed.bin");
+        FileHandler.processBinaryFile(in.toString(), sealed.toString(), CipherRegistry.get("aes-gcm", "right"), 0,
+                true);
+        assertThrows(InvalidKeyException.class, () -> FileHandler.processBinaryFile(sealed.toString(),
+                out.toString(), CipherRegistry.get("aes-gcm", "wrong"), 0, false));
+        assertFalse(Files.exists(out));
+        // Input that was never encrypted
+        assertThrows(IOException.class, () -> FileHandler.processBinaryFile(in.toString(), out.toString(),
+                CipherRegistry.get("aes-gcm", "right"), 0, false));
+        assertFalse(Files.exists(out));
+    }
+
+    @Test
+    void progressIncreasesUpToTheInputSize() throws Exception {
+        byte[] content = text(3 * Cipher.STREAM_CHUNK_SIZE + 5).getBytes(StandardCharsets.US_ASCII);
+        Path in = Files.write(dir.resolve("progress.in"), content);
+        Path out = dir.resolve("progress.out");
+        for (boolean binary : new boolean[] { false, true }) {
+            List<long[]> updates = new ArrayList<>();
+            ProgressListener listener = (done, total) -> updates.add(new long[] { done, total });
+            if (binary) {
+                FileHandler.processBinaryFile(in.toString(), out.toString(), new CaesarCipher(), 3, true, listener);
+            } else {
+                FileHandler.processFile(in.toString(), out.toString(), new CaesarCipher(), 3, true, listener);
+            }
+
+            assertTrue(updates.size() > 1, "binary " + binary);
+            long previous = 0;
+            for (long[] update : updates) {
+                assertTrue(update[0] > previous, "binary " + binary);
+                assertEquals(content.length, update[1]);
+                previous = update[0];
+            }
+            assertEquals(content.length, previous, "binary " + binary);
+        }
+    }
+
+    @Test
+    void interruptingCancelsAndRemovesPartialOutput() throws Exception {
+        byte[] content = text(3 * Cipher.STREAM_CHUNK_SIZE + 5).getBytes(StandardCharsets.US_ASCII);
+        Path in = Files.write(dir.resolve("cancel.in"), content);
+        Path out = dir.resolve("cancel.out");
+        ProgressListener cancel = (done, total) -> Thread.currentThread().interrupt();
+        try {
+            assertThrows(InterruptedIOException.class, () -> FileHandler.processFile(in.toString(), out.toString(),
+                    new CaesarCipher(), 3, true, cancel));
+            assertFalse(Files.exists(out));
+            Thread.interrupted();
+
+            assertThrows(InterruptedIOException.class, () -> FileHandler.processBinaryFile(in.toString(),
+                    out.toString(), new CaesarCipher(), 3, true, cancel));
+            assertFalse(Files.exists(out));
+            Thread.interrupted();
+
+            assertThrows(InterruptedIOException.class, () -> FileHandler.encryptToContainer(in.toString(),
+                    out.toString(), new CaesarCipher(), 3, Compression.NONE, cancel));
+            assertFalse(Files.exists(out));
+            Thread.interrupted();
+
+            // In place, the input is left as it was
+            assertThrows(InterruptedIOException.class, () -> FileHandler.processBinaryFile(in.toString(),
+                    in.toString(), new CaesarCipher(), 3, true, cancel));
+            assertArrayEquals(content, Files.readAllBytes(in));
+            try (Stream<Path> files = Files.list(dir)) {
+                assertEquals(1, files.count());
+            }
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void readPageSplitsAFileIntoConsecutivePages() throws Exception {
+        String text = text(10_000);
+        Path file = Files.write(dir.resolve("pages.txt"), text.getBytes(StandardCharsets.US_ASCII));
+        StringBuilder joined = new StringBuilder();
+        for (long offset = 0; offset < text.length(); offset += 999) {
+            String page = FileHandler.readPage(file.toString(), offset, 999);
+            assertEquals(text.substring((int) offset, (int) Math.min(offset + 999, text.length())), page);
+            joined.append(page);
+        }
+        assertEquals(text, joined.toString());
+
+        assertEquals("", FileHandler.readPage(file.toString(), text.length(), 999));
+        assertEquals("", FileHandler.readPage(file.toString(), text.length() + 5_000, 999));
+        Path empty = Files.createFile(dir.resolve("empty.txt"));
+        assertEquals("", FileHandler.readPage(empty.toString(), 0, 999));
+    }
+
+    @Test
+    void readPageNeverSplitsAUtf8Character() throws Exception {
+        assumeTrue(Charset.defaultCharset().equals(StandardCharsets.UTF_8), "pages only align in UTF-8");
+        // One, two, three and four byte characters
+        String text = "a\u00e9\u20ac\ud83d\ude00";
+        StringBuilder repeated = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            repeated.append(text);
+        }
+        Path file = Files.write(dir.resolve("utf8.txt"), repeated.toString().getBytes(StandardCharsets.UTF_8));
+        long size = Files.size(file);
+        for (int pageBytes : new int[] { 1, 2, 3, 5, 64 }) {
+            StringBuilder joined = new StringBuilder();
+            for (long offset = 0; offset < size; offset += pageBytes) {
+                String page = FileHandler.readPage(file.toString(), offset, pageBytes);
+                assertFalse(page.contains("\ufffd"), "page size " + pageBytes + ", offset " + offset);
+                joined.append(page);
+            }
+            assertEquals(repeated.toString(), joined.toString(), "page size " + pageBytes);
+        }
+    }
+
+    private static byte[] random(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    // ASCII, so the result does not depend on the platform charset
+    private static String text(int size) {
+        StringBuilder text = new StringBuilder(size + 64);
+        for (int line = 0; text.length() < size; line++) {
+            text.append("Line ").append(line).append(": Pack my box with five dozen liquor jugs.\n");
+        }
+        return text.substring(0, size);
+    }
+}
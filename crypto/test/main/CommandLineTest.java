@@ -0,0 +1,139 @@
+package main;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CommandLineTest {
+
+    @TempDir
+    Path dir;
+
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private PrintStream originalErr;
+    private InputStream originalIn;
+
+    @BeforeEach
+    void captureStderr() {
+        originalErr = System.err;
+        originalIn = System.in;
+        System.setErr(new PrintStream(err, true));
+    }
+
+    @AfterEach
+    void restoreStreams() {
+        System.setErr(originalErr);
+        System.setIn(originalIn);
+    }
+
+    @Test
+    void textCiphersRoundTripThroughFiles() throws Exception {
+        byte[] text = "Attack at dawn, then regroup by the river.\n".getBytes(StandardCharsets.UTF_8);
+        Path plain = write("plain.txt", text);
+        String[][] ciphers = { { "caesar", "3" }, { "xor", "77" },
+                { "substitution", "QWERTYUIOPASDFGHJKLZXCVBNM" }, { "chain", "caesar:3,xor:7" } };
+        for (String[] cipher : ciphers) {
+            Path encrypted = dir.resolve(cipher[0] + ".enc");
+            Path decrypted = dir.resolve(cipher[0] + ".dec");
+            assertEquals(0, run("encrypt", "--cipher", cipher[0], "--key", cipher[1], "--in", plain.toString(),
+                    "--out", encrypted.toString()), cipher[0]);
+            assertEquals(0, run("decrypt", "--cipher", cipher[0], "--key", cipher[1], "--in", encrypted.toString(),
+                    "--out", decrypted.toString()), cipher[0]);
+            assertArrayEquals(Files.readAllBytes(plain), Files.readAllBytes(decrypted), cipher[0]);
+        }
+    }
+
+    @Test
+    void authenticatedCipherRejectsWrongPasswordAndHandlesEmptyInput() throws Exception {
+        for (byte[] content : new byte[][] { new byte[0], random(100_000) }) {
+            Path plain = write("plain.bin", content);
+            Path encrypted = dir.resolve("plain.enc");
+            Path decrypted = dir.resolve("plain.dec");
+            assertEquals(0, run("encrypt", "--cipher", "aes-gcm", "--key", "correct horse", "--in", plain.toString(),
+                    "--out", encrypted.toString()));
+            assertEquals(0, run("decrypt", "--cipher", "aes-gcm", "--key", "correct horse", "--in",
+                    encrypted.toString(), "--out", decrypted.toString()));
+            assertArrayEquals(content, Files.readAllBytes(decrypted));
+            assertEquals(1, run("decrypt", "--cipher", "aes-gcm", "--key", "wrong horse", "--in",
+                    encrypted.toString(), "--out", decrypted.toString()));
+        }
+    }
+
+    @Test
+    void containerDecryptsRangesWithoutCipherOption() throws Exception {
+        byte[] content = new byte[3_000_000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) ('a' + i % 26);
+        }
+        Path plain = write("plain.bin", content);
+        Path container = dir.resolve("plain.cgc");
+        assertEquals(0, run("encrypt", "--cipher", "xor", "--key", "42", "--compress", "deflate", "--in",
+                plain.toString(), "--out", container.toString()));
+        for (long[] range : new long[][] { { 0, 10 }, { 1_048_570, 20 }, { 2_999_990, 100 }, { 5_000_000, 5 } }) {
+            Path slice = dir.resolve("slice");
+            assertEquals(0, run("decrypt", "--key", "42", "--in", container.toString(), "--out", slice.toString(),
+                    "--offset", Long.toString(range[0]), "--length", Long.toString(range[1])));
+            int from = (int) Math.min(range[0], content.length);
+            int to = (int) Math.min(range[0] + range[1], content.length);
+            assertArrayEquals(Arrays.copyOfRange(content, from, to), Files.readAllBytes(slice));
+        }
+    }
+
+    @Test
+    void badArgumentsPrintUsage() {
+        assertEquals(2, run("encrypt", "--cipher", "caesar", "--key", "3", "--bogus"));
+        assertTrue(err.toString().contains("Unknown option: --bogus"));
+        assertTrue(err.toString().contains("  chain"), "the usage lists every registered cipher");
+        assertEquals(2, run("encrypt", "--cipher", "rot13", "--key", "3", "--in", "x", "--out", "y"));
+        assertEquals(2, run("encrypt", "--cipher", "caesar"));
+        assertEquals(2, run("nonsense"));
+    }
+
+    @Test
+    void unexpectedRuntimeExceptionIsOneLineAndFails() {
+        System.setIn(new InputStream() {
+            @Override
+            public int read() {
+                throw new IllegalStateException("stdin went away");
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                throw new IllegalStateException("stdin went away");
+            }
+        });
+        assertEquals(1, run("encrypt", "--cipher", "caesar", "--key", "3", "--out", dir.resolve("out").toString()));
+        String message = err.toString().trim();
+        assertEquals("Error: stdin went away", message);
+        assertFalse(message.contains("\tat "));
+    }
+
+    private int run(String... args) {
+        err.reset();
+        return CommandLine.run(args);
+    }
+
+    private Path write(String name, byte[] content) throws Exception {
+        return Files.write(dir.resolve(name), content);
+    }
+
+    private static byte[] random(int size) {
+        byte[] bytes = new byte[size];
+        new Random(3).nextBytes(bytes);
+        return bytes;
+    }
+}
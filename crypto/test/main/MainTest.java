@@ -0,0 +1,77 @@
+package main;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Runs Main in a fresh JVM, since which classes start-up loads is only visible there
+ */
+class MainTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void commandLineRunLoadsNoDesktopOrJmxClasses() throws Exception {
+        List<String> out = runMain("hello\n", "encrypt", "--cipher", "caesar", "--key", "3");
+        assertTrue(out.contains("khoor"), out.toString());
+        assertNoneLoaded(out);
+    }
+
+    @Test
+    void noArgumentsWithoutDisplayFallsBackToConsoleApp() throws Exception {
+        List<String> out = runMain("8\n");
+        assertTrue(out.stream().anyMatch(line -> line.contains("Goodbye")), out.toString());
+        assertNoneLoaded(out);
+    }
+
+    // -verbose:class names every loaded class on stdout; MBean helpers may load, the server must not start
+    private static void assertNoneLoaded(List<String> out) {
+        List<String> unwanted = out.stream()
+                .filter(line -> line.contains("java.awt.") || line.contains("javax.swing.")
+                        || line.contains("com.sun.jmx.mbeanserver.JmxMBeanServer "))
+                .collect(Collectors.toList());
+        assertEquals(Collections.emptyList(), unwanted);
+    }
+
+    // Runs main.Main headless with the given stdin and returns its output lines
+    private List<String> runMain(String stdin, String... args) throws Exception {
+        Path classes = Paths.get(Main.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        List<String> command = new ArrayList<>(Arrays.asList(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-verbose:class",
+                "-Djava.awt.headless=true",
+                "-Dcipherguard.log=" + dir.resolve("activity.log"),
+                "-cp", classes.toString(), "main.Main"));
+        command.addAll(Arrays.asList(args));
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        try (OutputStream in = process.getOutputStream()) {
+            in.write(stdin.getBytes());
+        }
+        List<String> out = new ArrayList<>();
+        try (BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = output.readLine()) != null) {
+                out.add(line);
+            }
+        }
+        assertTrue(process.waitFor(30, TimeUnit.SECONDS));
+        assertEquals(0, process.exitValue(), out.toString());
+        return out;
+    }
+}
@@ -0,0 +1,65 @@
+package util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void emptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    void smallValuesAreExactAndLargeOnesWithinABucket() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 1; value <= 20; value++) {
+            histogram.record(value);
+        }
+        histogram.record(-5); // counts as 0
+        assertEquals(21, histogram.getCount());
+        assertEquals(10, histogram.getValueAtPercentile(50));
+        assertEquals(20, histogram.getMax());
+
+        histogram.record(1_000_000);
+        long max = histogram.getMax();
+        assertTrue(max >= 1_000_000 && max < 1_070_000, "within about 6%: " + max);
+        assertEquals(max, histogram.getValueAtPercentile(100));
+        assertEquals(Long.MAX_VALUE, recordOne(Long.MAX_VALUE).getMax());
+    }
+
+    @Test
+    void concurrentRecordingLosesNothing() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    histogram.record(1000 + i % 64); // a handful of hot buckets
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        assertEquals(400_000, histogram.getCount());
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        histogram.record(7);
+        assertEquals(7, histogram.getMax());
+    }
+
+    private static LatencyHistogram recordOne(long value) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(value);
+        return histogram;
+    }
+}
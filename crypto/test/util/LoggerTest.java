@@ -0,0 +1,163 @@
+package util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LoggerTest {
+
+    @TempDir
+    Path dir;
+
+    private static final Path LOG_FILE = Paths.get(System.getProperty("cipherguard.log", "activity.log"));
+
+    // Other tests share the log file, so each test tags its lines with a unique marker
+    private static long linesContaining(String marker) throws Exception {
+        if (!Files.exists(LOG_FILE)) {
+            return 0;
+        }
+        return Files.readAllLines(LOG_FILE).stream().filter(line -> line.contains(marker)).count();
+    }
+
+    @Test
+    void flushWritesTimestampedEntries() throws Exception {
+        String marker = "loggerTest-" + UUID.randomUUID();
+        Logger.log(marker + " one");
+        Logger.log(marker + " two");
+        Logger.flush();
+
+        List<String> lines = new ArrayList<>();
+        for (String line : Files.readAllLines(LOG_FILE)) {
+            if (line.contains(marker)) {
+                lines.add(line);
+            }
+        }
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).matches("\\[\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}] " + marker + " one"),
+                lines.get(0));
+        assertTrue(lines.get(1).endsWith(marker + " two"));
+    }
+
+    @Test
+    void concurrentLoggingLosesNothing() throws Exception {
+        String marker = "loggerTest-" + UUID.randomUUID();
+        int threads = 8;
+        int perThread = 5_000; // more than the queue holds in total, so writers wait on the appender
+        long droppedBefore = Logger.getDroppedCount();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        Logger.log(marker + " " + thread + "/" + i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        Logger.flush();
+
+        assertEquals(droppedBefore, Logger.getDroppedCount());
+        assertEquals((long) threads * perThread, linesContaining(marker));
+    }
+
+    @Test
+    void logsEntriesLargerThanOneBatch() throws Exception {
+        String marker = "loggerTest-" + UUID.randomUUID();
+        StringBuilder big = new StringBuilder(marker);
+        while (big.length() < 100 * 1024) {
+            big.append(" padding");
+        }
+        Logger.log(big.toString());
+        Logger.flush();
+
+        String content = new String(Files.readAllBytes(LOG_FILE));
+        assertTrue(content.contains(big + "\n"));
+    }
+
+    @Test
+    void mistypedOverflowPolicyFallsBackToBlock() throws Exception {
+        Path log = dir.resolve("policy.log");
+        List<String> out = runJvm(log, "-Dcipherguard.log.overflow=discard");
+        assertTrue(out.stream().anyMatch(line -> line.contains("cipherguard.log.overflow")), out.toString());
+        assertEquals(ShutdownLogging.ENTRIES + 1, Files.readAllLines(log).size());
+    }
+
+    @Test
+    void entriesLoggedDuringShutdownAreWritten() throws Exception {
+        Path log = dir.resolve("shutdown.log");
+        for (int run = 0; run < 5; run++) {
+            Files.deleteIfExists(log);
+            runJvm(log);
+            assertEquals(ShutdownLogging.ENTRIES + 1, Files.readAllLines(log).size(), "run " + run);
+        }
+    }
+
+    // Runs ShutdownLogging in a fresh JVM, which shuts down while its hook is still logging
+    private static List<String> runJvm(Path log, String... options) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(Arrays.asList(options));
+        command.add("-Dcipherguard.log=" + log);
+        command.add("-Dcipherguard.jmx=false");
+        command.add("-cp");
+        command.add(location(Logger.class) + File.pathSeparator + location(LoggerTest.class));
+        command.add(ShutdownLogging.class.getName());
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        List<String> out = new ArrayList<>();
+        try (BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = output.readLine()) != null) {
+                out.add(line);
+            }
+        }
+        assertTrue(process.waitFor(30, TimeUnit.SECONDS));
+        assertEquals(0, process.exitValue(), out.toString());
+        return out;
+    }
+
+    private static String location(Class<?> type) throws Exception {
+        return Paths.get(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+    }
+
+    /** Logs from shutdown hooks that run alongside the logger's own */
+    static class ShutdownLogging {
+        static final int HOOKS = 8;
+        static final int ENTRIES = HOOKS * 5_000;
+
+        public static void main(String[] args) {
+            Logger.log("started");
+            for (int hook = 0; hook < HOOKS; hook++) {
+                int id = hook;
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                    for (int i = 0; i < ENTRIES / HOOKS; i++) {
+                        Logger.log("entry " + id + "/" + i);
+                    }
+                }));
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.Test;
+
+class MetricsTest {
+
+    @Test
+    void statsAreSharedPerNameAndRecordOperations() {
+        OperationStats stats = Metrics.io("metricsTest");
+        assertSame(stats, Metrics.io("metricsTest"));
+        stats.reset();
+        stats.record(100, 40, System.nanoTime());
+        stats.recordFailure();
+        assertEquals(1, stats.getOperations());
+        assertEquals(1, stats.getFailures());
+        assertEquals(100, stats.getBytesIn());
+        assertEquals(40, stats.getBytesOut());
+        assertTrue(stats.getMaxLatencyMicros() >= stats.getLatencyP50Micros());
+    }
+
+    @Test
+    void registrationFailuresGoToStderr() throws Exception {
+        PrintStream originalOut = System.out;
+        PrintStream originalErr = System.err;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(out, true));
+        System.setErr(new PrintStream(err, true));
+        try {
+            Metrics.register("type=Test,name=ok", new OperationStats(), OperationStatsMBean.class);
+            Metrics.register("not a property list", new OperationStats(), OperationStatsMBean.class);
+            ObjectName name = new ObjectName("cipherguard:type=Test,name=ok");
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (!(err.toString().contains("Metrics registration failed")
+                    && ManagementFactory.getPlatformMBeanServer().isRegistered(name))
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+        } finally {
+            System.setOut(originalOut);
+            System.setErr(originalErr);
+        }
+        assertTrue(err.toString().contains("Metrics registration failed"));
+        assertFalse(out.toString().contains("Metrics registration failed"));
+    }
+}
@@ -0,0 +1,125 @@
+package util;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with log-linear buckets, in the spirit of
+ * HdrHistogram: every power-of-two range is split into a fixed number of
+ * linear sub-buckets, so recorded values keep about two significant digits of
+ * precision from nanoseconds up to minutes while using a small fixed array.
+ *
+ * Each bucket is a {@link LongAdder}, so threads recording similar latencies
+ * do not contend on one counter. A bucket's adder is created the first time a
+ * value lands in it; most buckets of a histogram are never used.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5; // values below 32 are exact, larger ones within ~6%
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAGNITUDES = 64 - SUB_BUCKET_BITS;
+
+    private final AtomicReferenceArray<LongAdder> counts = new AtomicReferenceArray<>((MAGNITUDES + 1) * SUB_BUCKETS);
+
+    /**
+     * Records one value
+     *
+     * @param value the value, usually a duration in nanoseconds; negative values count as 0
+     */
+    public void record(long value) {
+        int index = indexOf(Math.max(0, value));
+        LongAdder count = counts.get(index);
+        if (count == null) {
+            counts.compareAndSet(index, null, new LongAdder());
+            count = counts.get(index);
+        }
+        count.increment();
+    }
+
+    /**
+     * @return total number of recorded values
+     */
+    public long getCount() {
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += count(i);
+        }
+        return total;
+    }
+
+    /**
+     * Returns the value at the given percentile, accurate to the bucket width
+     *
+     * @param percentile between 0 and 100
+     * @return upper bound of the bucket holding that percentile, or 0 if empty
+     */
+    public long getValueAtPercentile(double percentile) {
+        long[] snapshot = new long[counts.length()];
+        long total = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = count(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return highestValueIn(i);
+            }
+        }
+        return highestValueIn(snapshot.length - 1);
+    }
+
+    /**
+     * @return upper bound of the highest non-empty bucket, or 0 if empty
+     */
+    public long getMax() {
+        for (int i = counts.length() - 1; i >= 0; i--) {
+            if (count(i) > 0) {
+                return highestValueIn(i);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Clears all recorded values
+     */
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            LongAdder count = counts.get(i);
+            if (count != null) {
+                count.reset();
+            }
+        }
+    }
+
+    private long count(int index) {
+        LongAdder count = counts.get(index);
+        return count == null ? 0 : count.sum();
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value; // first range is exact
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS + 1;
+        int subBucket = (int) (value >>> magnitude) & (SUB_BUCKETS - 1);
+        return magnitude * SUB_BUCKETS + subBucket;
+    }
+
+    private static long highestValueIn(int index) {
+        int magnitude = index / SUB_BUCKETS;
+        long subBucket = index % SUB_BUCKETS;
+        if (magnitude == 0) {
+            return subBucket;
+        }
+        long lowest = subBucket << magnitude;
+        return lowest + (1L << magnitude) - 1;
+    }
+}
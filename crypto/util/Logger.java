@@ -1,33 +1,276 @@
 package util;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Logger class to track encryption/decryption activity
+ *
+ * Entries are handed to a background appender through a bounded lock-free
+ * queue and written in batches over a single long-lived FileChannel, so callers
+ * never wait on file I/O. Pending entries are flushed on JVM shutdown.
+ *
+ * Tunable through system properties:
+ * cipherguard.log (file name), cipherguard.log.capacity (queue size),
+ * cipherguard.log.overflow (BLOCK or DROP when the queue is full),
+ * cipherguard.log.flushMillis (maximum delay before a batch is written).
  */
 public class Logger {
 
-    private static final String LOG_FILE = "activity.log"; // log file name
+    /** What {@link #log(String)} does when the queue is full */
+    public enum OverflowPolicy {
+        /** Wait for the appender to make room */
+        BLOCK,
+        /** Discard the entry and count it as dropped */
+        DROP
+    }
+
+    private static final String LOG_FILE = System.getProperty("cipherguard.log", "activity.log"); // log file name
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final int CAPACITY = Integer.getInteger("cipherguard.log.capacity", 8192);
+    private static final long FLUSH_NANOS = TimeUnit.MILLISECONDS
+            .toNanos(Long.getLong("cipherguard.log.flushMillis", 200L));
+    private static final int BATCH_BYTES = 64 * 1024; // largest single write
+    private static final int BATCH_ENTRIES = 256; // wake the appender early once this many are pending
+
+    private static volatile OverflowPolicy overflowPolicy = parsePolicy(
+            System.getProperty("cipherguard.log.overflow", "BLOCK"));
+
+    private static final Queue<String> QUEUE = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger PENDING = new AtomicInteger();
+    private static final AtomicLong ENQUEUED = new AtomicLong();
+    private static final AtomicLong WRITTEN = new AtomicLong();
+    private static final AtomicLong DROPPED = new AtomicLong();
+
+    private static volatile boolean closed;
+    private static final Thread APPENDER = new Thread(Logger::runAppender, "cipherguard-logger");
+
+    static {
+        APPENDER.setDaemon(true);
+        APPENDER.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(Logger::close, "cipherguard-logger-shutdown"));
+        Metrics.register("type=Logger", new LoggerStats(), LoggerStatsMBean.class);
+    }
 
     /**
      * Logs a message with timestamp to the log file
-     * 
+     *
      * @param message The message to log
      */
     public static void log(String message) {
         // Get current timestamp
-        String timeStamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+        String timeStamp = LocalDateTime.now().format(TIMESTAMP);
         String logEntry = "[" + timeStamp + "] " + message + "\n";
 
+        if (closed) {
+            // Appender already stopped (e.g. logging from another shutdown hook)
+            writeDirectly(logEntry);
+            return;
+        }
+
+        // Reserve a slot first so the queue never grows past its capacity
+        while (true) {
+            int pending = PENDING.get();
+            if (pending < CAPACITY) {
+                if (PENDING.compareAndSet(pending, pending + 1)) {
+                    if (pending + 1 == BATCH_ENTRIES) {
+                        LockSupport.unpark(APPENDER);
+                    }
+                    break;
+                }
+            } else if (overflowPolicy == OverflowPolicy.DROP || closed) {
+                DROPPED.incrementAndGet();
+                return;
+            } else {
+                LockSupport.unpark(APPENDER);
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+            }
+        }
+        QUEUE.offer(logEntry);
+        ENQUEUED.incrementAndGet();
+
+        if (closed) {
+            // The appender may have made its last pass before the entry arrived
+            joinAppender();
+            if (!APPENDER.isAlive()) {
+                drainDirectly();
+            }
+        }
+    }
+
+    /**
+     * Waits until every entry logged before this call has been written
+     */
+    public static void flush() {
+        long target = ENQUEUED.get();
+        while (WRITTEN.get() < target && APPENDER.isAlive()) {
+            LockSupport.unpark(APPENDER);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    /**
+     * Changes what happens when the queue is full
+     *
+     * @param policy BLOCK to wait for room, DROP to discard the entry
+     */
+    public static void setOverflowPolicy(OverflowPolicy policy) {
+        overflowPolicy = policy;
+    }
+
+    /**
+     * @return number of entries discarded because the queue was full
+     */
+    public static long getDroppedCount() {
+        return DROPPED.get();
+    }
+
+    /** JMX view of the queue counters */
+    private static class LoggerStats implements LoggerStatsMBean {
+        @Override
+        public long getEntriesLogged() {
+            return ENQUEUED.get();
+        }
+
+        @Override
+        public long getEntriesWritten() {
+            return WRITTEN.get();
+        }
+
+        @Override
+        public long getEntriesDropped() {
+            return DROPPED.get();
+        }
+
+        @Override
+        public int getPendingEntries() {
+            return PENDING.get();
+        }
+    }
+
+    // Falls back to BLOCK on a mistyped value rather than failing class initialisation
+    private static OverflowPolicy parsePolicy(String value) {
+        try {
+            return OverflowPolicy.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown cipherguard.log.overflow value \"" + value + "\", using BLOCK");
+            return OverflowPolicy.BLOCK;
+        }
+    }
+
+    private static void close() {
+        closed = true;
+        joinAppender();
+        if (!APPENDER.isAlive()) {
+            drainDirectly();
+        }
+    }
+
+    private static void joinAppender() {
+        LockSupport.unpark(APPENDER);
+        try {
+            APPENDER.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Writes entries queued after the appender's final pass
+    private static void drainDirectly() {
+        String entry;
+        while ((entry = QUEUE.poll()) != null) {
+            writeDirectly(entry);
+            PENDING.decrementAndGet();
+            WRITTEN.incrementAndGet();
+        }
+    }
+
+    private static void runAppender() {
+        ByteBuffer batch = ByteBuffer.allocate(BATCH_BYTES);
+        FileChannel channel = null;
+        try {
+            while (true) {
+                boolean closing = closed; // read before draining so nothing queued earlier is missed
+                long written = 0;
+                String entry;
+                while ((entry = QUEUE.poll()) != null) {
+                    byte[] bytes = entry.getBytes();
+                    if (bytes.length > batch.remaining()) {
+                        channel = writeBatch(channel, batch);
+                    }
+                    if (bytes.length > batch.capacity()) {
+                        channel = write(channel, ByteBuffer.wrap(bytes));
+                    } else {
+                        batch.put(bytes);
+                    }
+                    written++;
+                    PENDING.decrementAndGet();
+                }
+                channel = writeBatch(channel, batch);
+                WRITTEN.addAndGet(written);
+
+                if (closing) {
+                    break;
+                }
+                LockSupport.parkNanos(FLUSH_NANOS);
+            }
+        } finally {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    System.out.println("Logging failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static FileChannel writeBatch(FileChannel channel, ByteBuffer batch) {
+        batch.flip();
+        channel = write(channel, batch);
+        batch.clear();
+        return channel;
+    }
+
+    // Writes all remaining bytes, opening the log file on first use
+    private static FileChannel write(FileChannel channel, ByteBuffer data) {
+        if (!data.hasRemaining()) {
+            return channel;
+        }
+        try {
+            if (channel == null) {
+                channel = FileChannel.open(Paths.get(LOG_FILE), StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+        } catch (IOException e) {
+            // If logging fails, print error to console
+            System.out.println("Logging failed: " + e.getMessage());
+        }
+        return channel;
+    }
+
+    private static void writeDirectly(String logEntry) {
         try {
             // Append log entry to the log file
             Files.write(Paths.get(LOG_FILE), logEntry.getBytes(),
-                    java.nio.file.StandardOpenOption.APPEND,
-                    java.nio.file.StandardOpenOption.CREATE);
+                    StandardOpenOption.APPEND, StandardOpenOption.CREATE);
         } catch (IOException e) {
             // If logging fails, print error to console
             System.out.println("Logging failed: " + e.getMessage());
@@ -0,0 +1,15 @@
+package util;
+
+/**
+ * JMX view of the activity logger's queue
+ */
+public interface LoggerStatsMBean {
+
+    long getEntriesLogged();
+
+    long getEntriesWritten();
+
+    long getEntriesDropped();
+
+    int getPendingEntries();
+}
@@ -0,0 +1,147 @@
+package util;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+/**
+ * Registry of operation statistics, exposed as MBeans under the
+ * {@code cipherguard} JMX domain:
+ * {@code cipherguard:type=Cipher,name=<cipher>},
+ * {@code cipherguard:type=FileHandler,name=<operation>} and
+ * {@code cipherguard:type=Logger}.
+ *
+ * Statistics are always collected. Starting the platform MBean server costs
+ * more than a short command line run itself, so registration happens on a
+ * background thread once the JVM has been up for
+ * {@code cipherguard.jmx.delayMillis} (default 1000); runs that finish sooner
+ * never pay for it. Registration can be turned off with
+ * {@code -Dcipherguard.jmx=false}.
+ */
+public class Metrics {
+
+    private static final boolean JMX_ENABLED = !"false".equals(System.getProperty("cipherguard.jmx"));
+
+    private static final long DELAY_MILLIS = Long.getLong("cipherguard.jmx.delayMillis", 1000L);
+
+    private static final ConcurrentMap<String, OperationStats> STATS = new ConcurrentHashMap<>();
+
+    // Registrations waiting for the MBean server; guarded by itself
+    private static final List<Registration<?>> DEFERRED = new ArrayList<>();
+    private static boolean serverStarted;
+    private static Thread registrar;
+
+    /**
+     * @param cipherName name as returned by {@code Cipher.getName()}
+     * @return statistics for that cipher, created and registered on first use
+     */
+    public static OperationStats cipher(String cipherName) {
+        return stats("Cipher", cipherName);
+    }
+
+    /**
+     * @param operation FileHandler method name, e.g. "readFile"
+     * @return statistics for that file operation, created and registered on first use
+     */
+    public static OperationStats io(String operation) {
+        return stats("FileHandler", operation);
+    }
+
+    /**
+     * Registers an MBean under the cipherguard domain, unless JMX is disabled.
+     * Until the background registration has started the MBean server the bean
+     * is queued.
+     *
+     * @param properties     key properties, e.g. "type=Logger"
+     * @param implementation object providing the attributes
+     * @param mbeanInterface management interface exposed over JMX
+     */
+    public static <T> void register(String properties, T implementation, Class<T> mbeanInterface) {
+        if (!JMX_ENABLED) {
+            return;
+        }
+        Registration<T> registration = new Registration<>(properties, implementation, mbeanInterface);
+        synchronized (DEFERRED) {
+            if (!serverStarted) {
+                DEFERRED.add(registration);
+                if (registrar == null) {
+                    // Not a method reference: bootstrapping the first lambda costs milliseconds at start-up
+                    registrar = new Thread("cipherguard-metrics") {
+                        @Override
+                        public void run() {
+                            registerDeferred();
+                        }
+                    };
+                    registrar.setDaemon(true);
+                    registrar.start();
+                }
+                return;
+            }
+        }
+        registration.register();
+    }
+
+    private static void registerDeferred() {
+        try {
+            Thread.sleep(DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            return;
+        }
+        ManagementFactory.getPlatformMBeanServer(); // the expensive part, done before anyone waits on it
+        List<Registration<?>> pending;
+        synchronized (DEFERRED) {
+            pending = new ArrayList<>(DEFERRED);
+            DEFERRED.clear();
+            serverStarted = true;
+        }
+        for (Registration<?> registration : pending) {
+            registration.register();
+        }
+    }
+
+    /** An MBean waiting to be registered */
+    private static class Registration<T> {
+        private final String properties;
+        private final T implementation;
+        private final Class<T> mbeanInterface;
+
+        Registration(String properties, T implementation, Class<T> mbeanInterface) {
+            this.properties = properties;
+            this.implementation = implementation;
+            this.mbeanInterface = mbeanInterface;
+        }
+
+        void register() {
+            try {
+                MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+                ObjectName name = new ObjectName("cipherguard:" + properties);
+                if (!server.isRegistered(name)) {
+                    server.registerMBean(new StandardMBean(implementation, mbeanInterface), name);
+                }
+            } catch (Exception e) {
+                // Metrics must never break the actual work
+                System.err.println("Metrics registration failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private static OperationStats stats(String type, String name) {
+        String key = type + "/" + name;
+        OperationStats stats = STATS.get(key);
+        if (stats != null) {
+            return stats;
+        }
+        OperationStats created = new OperationStats();
+        stats = STATS.putIfAbsent(key, created);
+        if (stats == null) {
+            register("type=" + type + ",name=" + ObjectName.quote(name), created, OperationStatsMBean.class);
+            stats = created;
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,97 @@
+package util;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and a latency histogram for one kind of operation, such as a
+ * cipher or a FileHandler call. Recording is lock-free and cheap enough to
+ * stay on in production; {@link Metrics} exposes each instance as an MBean.
+ */
+public class OperationStats implements OperationStatsMBean {
+
+    private final LongAdder operations = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * Records a completed operation
+     *
+     * @param in         bytes (or characters, for text APIs) consumed
+     * @param out        bytes (or characters, for text APIs) produced
+     * @param startNanos {@link System#nanoTime()} taken when the operation started
+     */
+    public void record(long in, long out, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        operations.increment();
+        bytesIn.add(in);
+        bytesOut.add(out);
+        totalNanos.add(elapsed);
+        latency.record(elapsed);
+    }
+
+    /**
+     * Records an operation that ended with an exception
+     */
+    public void recordFailure() {
+        failures.increment();
+    }
+
+    @Override
+    public long getOperations() {
+        return operations.sum();
+    }
+
+    @Override
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    @Override
+    public long getBytesIn() {
+        return bytesIn.sum();
+    }
+
+    @Override
+    public long getBytesOut() {
+        return bytesOut.sum();
+    }
+
+    @Override
+    public double getMeanLatencyMicros() {
+        long count = operations.sum();
+        return count == 0 ? 0 : totalNanos.sum() / 1000.0 / count;
+    }
+
+    @Override
+    public double getLatencyP50Micros() {
+        return latency.getValueAtPercentile(50) / 1000.0;
+    }
+
+    @Override
+    public double getLatencyP99Micros() {
+        return latency.getValueAtPercentile(99) / 1000.0;
+    }
+
+    @Override
+    public double getLatencyP999Micros() {
+        return latency.getValueAtPercentile(99.9) / 1000.0;
+    }
+
+    @Override
+    public double getMaxLatencyMicros() {
+        return latency.getMax() / 1000.0;
+    }
+
+    @Override
+    public void reset() {
+        operations.reset();
+        failures.reset();
+        bytesIn.reset();
+        bytesOut.reset();
+        totalNanos.reset();
+        latency.reset();
+    }
+}
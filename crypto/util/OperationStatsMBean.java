@@ -0,0 +1,27 @@
+package util;
+
+/**
+ * JMX view of the counters and latencies collected for one kind of operation
+ */
+public interface OperationStatsMBean {
+
+    long getOperations();
+
+    long getFailures();
+
+    long getBytesIn();
+
+    long getBytesOut();
+
+    double getMeanLatencyMicros();
+
+    double getLatencyP50Micros();
+
+    double getLatencyP99Micros();
+
+    double getLatencyP999Micros();
+
+    double getMaxLatencyMicros();
+
+    void reset();
+}
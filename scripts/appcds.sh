@@ -0,0 +1,35 @@
+#!/bin/sh
+# Builds an AppCDS archive for the headless command line (JDK 13+).
+#
+# Class-data sharing only archives classes loaded from JAR files, so the
+# compiled classes in bin/ are packaged into build/cipherguard.jar first. The
+# archive is then recorded from one JVM that runs every command line path
+# (bench.StartupBenchmark --train) and written to build/cipherguard.jsa, where
+# scripts/cipherguard picks it up. Re-run after recompiling.
+#
+# Usage: scripts/appcds.sh [classes-dir]   (default: bin)
+set -e
+
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+CLASSES=${1:-$ROOT/bin}
+BUILD=$ROOT/build
+JAR=$BUILD/cipherguard.jar
+ARCHIVE=$BUILD/cipherguard.jsa
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+JARTOOL=${JAVA_HOME:+$JAVA_HOME/bin/}jar
+
+if [ ! -f "$CLASSES/main/Main.class" ] || [ ! -f "$CLASSES/bench/StartupBenchmark.class" ]; then
+    echo "Compile the application and the bench package into $CLASSES first" >&2
+    exit 1
+fi
+
+mkdir -p "$BUILD"
+rm -f "$JAR" "$ARCHIVE"
+"$JARTOOL" cf "$JAR" -C "$CLASSES" .
+
+TRAINING_LOG=$(mktemp)
+"$JAVA" -XX:ArchiveClassesAtExit="$ARCHIVE" -Dcipherguard.log="$TRAINING_LOG" \
+    -cp "$JAR" bench.StartupBenchmark --train > /dev/null
+rm -f "$TRAINING_LOG"
+
+echo "Wrote $ARCHIVE"